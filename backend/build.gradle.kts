@@ -2,6 +2,7 @@ plugins {
     java
     id("org.springframework.boot") version "3.5.3"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "coffeeshout"
@@ -23,6 +24,15 @@ repositories {
     mavenCentral()
 }
 
+val simulation: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations[simulation.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[simulation.compileOnlyConfigurationName].extendsFrom(configurations.compileOnly.get())
+configurations[simulation.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+
 dependencies {
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springframework.boot:spring-boot-starter-validation")
@@ -30,6 +40,7 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-aop")
     implementation("org.springframework.boot:spring-boot-starter-actuator")
     implementation("org.springframework.boot:spring-boot-starter-data-redis")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile")
     implementation("org.redisson:redisson-spring-boot-starter:3.27.2")
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
     implementation("org.flywaydb:flyway-core")
@@ -87,3 +98,35 @@ tasks.named<org.springframework.boot.gradle.tasks.run.BootRun>("bootRun") {
 tasks.withType<Test> {
     useJUnitPlatform()
 }
+
+tasks.named<Test>("test") {
+    useJUnitPlatform {
+        excludeTags("slow")
+    }
+}
+
+tasks.register<Test>("slowTest") {
+    group = "verification"
+    description = "오래 걸리는 통계 검증 테스트(@Tag(\"slow\"))만 실행한다."
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("slow")
+    }
+}
+
+tasks.register<JavaExec>("simulate") {
+    group = "verification"
+    description = "도메인 계층만으로 게임 세션을 대량 시뮬레이션한다. 예) ./gradlew simulate --args=\"sessions=1000000 players=5\""
+    classpath = simulation.runtimeClasspath
+    mainClass = "coffeeshout.simulation.GameSimulator"
+    jvmArgs = listOf("-XX:+UseParallelGC")
+}
+
+jmh {
+    jmhVersion = "1.37"
+    includeTests = true
+    fork = 1
+    warmupIterations = 3
+    iterations = 5
+}
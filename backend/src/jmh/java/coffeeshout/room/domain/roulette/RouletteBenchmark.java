@@ -0,0 +1,54 @@
+package coffeeshout.room.domain.roulette;
+
+import coffeeshout.fixture.PlayersFixture;
+import coffeeshout.room.domain.player.Player;
+import coffeeshout.room.domain.player.Players;
+import coffeeshout.room.domain.player.Winner;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/*
+    - ./gradlew jmh 로 실행한다.
+    - spin: 누적 배열 생성 + 이진 탐색까지 포함한 한 번의 룰렛 (실제 요청 경로)
+    - pick: 이미 만든 누적 배열에서 숫자를 뽑아 플레이어를 찾는 비용만 측정
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class RouletteBenchmark {
+
+    @Param({"2", "5", "9"})
+    private int playerCount;
+
+    private Players players;
+    private Roulette roulette;
+    private RouletteRanges rouletteRanges;
+    private RoulettePicker picker;
+
+    @Setup
+    public void setUp() {
+        players = PlayersFixture.확률_조정된_플레이어들(playerCount, 3);
+        picker = new RoulettePicker();
+        roulette = new Roulette(picker);
+        rouletteRanges = new RouletteRanges(players);
+    }
+
+    @Benchmark
+    public Winner spin() {
+        return roulette.spin(players);
+    }
+
+    @Benchmark
+    public Player pick() {
+        return rouletteRanges.pickPlayer(picker.nextInt(1, rouletteRanges.endValue()));
+    }
+}
@@ -3,6 +3,9 @@ package coffeeshout.cardgame.application;
 import coffeeshout.cardgame.domain.CardGame;
 import coffeeshout.cardgame.domain.CardGameTaskType;
 import coffeeshout.cardgame.domain.service.CardGameCommandService;
+import coffeeshout.global.cluster.RoomOwnership;
+import coffeeshout.global.mailbox.RoomBoundTaskScheduler;
+import coffeeshout.global.mailbox.RoomMailboxExecutor;
 import coffeeshout.global.metric.GameDurationMetricService;
 import coffeeshout.minigame.domain.MiniGameService;
 import coffeeshout.minigame.domain.MiniGameType;
@@ -25,31 +28,43 @@ public class CardGameService implements MiniGameService {
     private final TaskScheduler taskScheduler;
     private final GameDurationMetricService gameDurationMetricService;
     private final ApplicationEventPublisher eventPublisher;
+    private final RoomOwnership roomOwnership;
+    private final RoomMailboxExecutor roomMailboxExecutor;
 
     public CardGameService(
             RoomQueryService roomQueryService,
             CardGameCommandService cardGameCommandService,
             @Qualifier("cardGameTaskScheduler") TaskScheduler taskScheduler,
             GameDurationMetricService gameDurationMetricService,
-            ApplicationEventPublisher eventPublisher
+            ApplicationEventPublisher eventPublisher,
+            RoomOwnership roomOwnership,
+            RoomMailboxExecutor roomMailboxExecutor
     ) {
         this.roomQueryService = roomQueryService;
         this.cardGameCommandService = cardGameCommandService;
         this.taskScheduler = taskScheduler;
         this.gameDurationMetricService = gameDurationMetricService;
         this.eventPublisher = eventPublisher;
+        this.roomOwnership = roomOwnership;
+        this.roomMailboxExecutor = roomMailboxExecutor;
     }
 
     @Override
     public void start(String joinCode, String hostName) {
-        final Room room = roomQueryService.getByJoinCode(new JoinCode(joinCode));
+        if (!roomOwnership.isOwner(joinCode)) {
+            log.info("소유 노드가 아니므로 카드게임 진행을 건너뜁니다: joinCode={}", joinCode);
+            return;
+        }
+        final Room room = roomQueryService.getByJoinCode(JoinCode.of(joinCode));
         final CardGame cardGame = getCardGame(room);
-        CardGameTaskType.getFirstTask().processTask(cardGame, room, taskScheduler, eventPublisher);
+        roomOwnership.pinLoop(joinCode);
+        final TaskScheduler roomTaskScheduler = new RoomBoundTaskScheduler(taskScheduler, roomMailboxExecutor, joinCode);
+        CardGameTaskType.getFirstTask().processTask(cardGame, room, roomTaskScheduler, eventPublisher);
         gameDurationMetricService.startGameTimer(joinCode);
     }
 
     public void selectCard(String joinCode, String playerName, Integer cardIndex) {
-        cardGameCommandService.selectCard(new JoinCode(joinCode), new PlayerName(playerName), cardIndex);
+        cardGameCommandService.selectCard(JoinCode.of(joinCode), new PlayerName(playerName), cardIndex);
     }
 
     @Override
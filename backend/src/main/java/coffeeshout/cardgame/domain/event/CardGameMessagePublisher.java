@@ -3,6 +3,7 @@ package coffeeshout.cardgame.domain.event;
 import coffeeshout.cardgame.domain.CardGame;
 import coffeeshout.cardgame.domain.event.dto.CardGameStateChangedEvent;
 import coffeeshout.cardgame.domain.event.dto.MiniGameStartedEvent;
+import coffeeshout.global.cluster.RoomBroadcastRelay;
 import coffeeshout.global.ui.WebSocketResponse;
 import coffeeshout.global.websocket.LoggingSimpMessagingTemplate;
 import coffeeshout.minigame.domain.MiniGameType;
@@ -26,9 +27,14 @@ public class CardGameMessagePublisher {
     private static final String GAME_START_DESTINATION_FORMAT = "/topic/room/%s/round";
 
     private final LoggingSimpMessagingTemplate messagingTemplate;
+    private final RoomBroadcastRelay roomBroadcastRelay;
 
-    public CardGameMessagePublisher(LoggingSimpMessagingTemplate messagingTemplate) {
+    public CardGameMessagePublisher(
+            LoggingSimpMessagingTemplate messagingTemplate,
+            RoomBroadcastRelay roomBroadcastRelay
+    ) {
         this.messagingTemplate = messagingTemplate;
+        this.roomBroadcastRelay = roomBroadcastRelay;
     }
 
     @EventListener
@@ -59,6 +65,6 @@ public class CardGameMessagePublisher {
     private void sendCardGameState(CardGame cardGame, JoinCode joinCode) {
         final MiniGameStateMessage message = MiniGameStateMessage.from(cardGame);
         final String destination = String.format(CARD_GAME_STATE_DESTINATION_FORMAT, joinCode.getValue());
-        messagingTemplate.convertAndSend(destination, WebSocketResponse.success(message));
+        roomBroadcastRelay.broadcast(destination, WebSocketResponse.success(message));
     }
 }
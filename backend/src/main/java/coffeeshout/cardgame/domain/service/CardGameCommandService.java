@@ -2,6 +2,7 @@ package coffeeshout.cardgame.domain.service;
 
 
 import coffeeshout.cardgame.domain.CardGame;
+import coffeeshout.global.mailbox.RoomMailboxExecutor;
 import coffeeshout.minigame.domain.MiniGameType;
 import coffeeshout.minigame.event.dto.CardSelectedEvent;
 import coffeeshout.room.domain.JoinCode;
@@ -22,16 +23,19 @@ public class CardGameCommandService {
 
     private final RoomQueryService roomQueryService;
     private final ApplicationEventPublisher eventPublisher;
+    private final RoomMailboxExecutor roomMailboxExecutor;
 
     public void selectCard(JoinCode joinCode, PlayerName playerName, int cardIndex) {
         log.info("카드 선택 처리 시작: joinCode={}, playerName={}, cardIndex={}",
                 joinCode, playerName, cardIndex);
 
-        final CardGame cardGame = getCardGame(joinCode);
-        final Player player = cardGame.findPlayerByName(playerName);
-        cardGame.selectCard(player, cardIndex, 8080);
+        roomMailboxExecutor.run(joinCode.getValue(), () -> {
+            final CardGame cardGame = getCardGame(joinCode);
+            final Player player = cardGame.findPlayerByName(playerName);
+            cardGame.selectCard(player, cardIndex, 8080);
 
-        eventPublisher.publishEvent(new CardSelectedEvent(joinCode, cardGame));
+            eventPublisher.publishEvent(new CardSelectedEvent(joinCode, cardGame));
+        });
     }
 
     private CardGame getCardGame(JoinCode joinCode) {
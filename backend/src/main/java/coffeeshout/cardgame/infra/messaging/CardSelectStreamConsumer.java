@@ -2,61 +2,102 @@ package coffeeshout.cardgame.infra.messaging;
 
 import coffeeshout.cardgame.domain.event.SelectCardCommandEvent;
 import coffeeshout.cardgame.domain.service.CardGameCommandService;
+import coffeeshout.global.cluster.RoomOwnership;
 import coffeeshout.global.config.properties.RedisStreamProperties;
 import coffeeshout.global.exception.custom.InvalidArgumentException;
 import coffeeshout.global.exception.custom.InvalidStateException;
+import coffeeshout.global.messaging.StreamCheckpointStore;
+import coffeeshout.room.application.RoomSnapshotService;
 import coffeeshout.room.domain.JoinCode;
 import coffeeshout.room.domain.player.PlayerName;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.SmartLifecycle;
 import org.springframework.data.redis.connection.stream.ObjectRecord;
 import org.springframework.data.redis.connection.stream.StreamOffset;
 import org.springframework.data.redis.stream.StreamListener;
 import org.springframework.data.redis.stream.StreamMessageListenerContainer;
+import org.springframework.data.redis.stream.Subscription;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
-public class CardSelectStreamConsumer implements StreamListener<String, ObjectRecord<String, String>> {
+public class CardSelectStreamConsumer implements StreamListener<String, ObjectRecord<String, String>>, SmartLifecycle {
 
     private final CardGameCommandService cardGameCommandService;
     private final StreamMessageListenerContainer<String, ObjectRecord<String, String>> cardSelectStreamContainer;
     private final RedisStreamProperties redisStreamProperties;
     private final ObjectMapper objectMapper;
+    private final RoomOwnership roomOwnership;
+    private final StreamCheckpointStore streamCheckpointStore;
+    private final List<Subscription> subscriptions = new ArrayList<>();
 
     public CardSelectStreamConsumer(
             CardGameCommandService cardGameCommandService,
             @Qualifier("cardSelectStreamContainer") StreamMessageListenerContainer<String, ObjectRecord<String, String>> cardSelectStreamContainer,
-            RedisStreamProperties redisStreamProperties, ObjectMapper objectMapper
+            RedisStreamProperties redisStreamProperties, ObjectMapper objectMapper,
+            RoomOwnership roomOwnership, StreamCheckpointStore streamCheckpointStore
     ) {
         this.cardGameCommandService = cardGameCommandService;
         this.cardSelectStreamContainer = cardSelectStreamContainer;
         this.redisStreamProperties = redisStreamProperties;
         this.objectMapper = objectMapper;
+        this.roomOwnership = roomOwnership;
+        this.streamCheckpointStore = streamCheckpointStore;
     }
 
-    @PostConstruct
-    public void registerListener() {
+    // 방 스냅샷 복원(RoomSnapshotService) 뒤에 구독해야 체크포인트 이후 레코드가 복원된 방에 반영된다.
+    @Override
+    public synchronized void start() {
         // 단독 소비자 패턴으로 스트림 리스너 등록
-        cardSelectStreamContainer.receive(
-                StreamOffset.fromStart(redisStreamProperties.cardGameSelectKey()),
+        redisStreamProperties.cardGameSelectKeys().forEach(key -> subscriptions.add(cardSelectStreamContainer.receive(
+                StreamOffset.create(key, streamCheckpointStore.startOffset(key)),
                 this
-        );
+        )));
+
+        log.info("카드 선택 스트림 리스너 등록 완료: {} (shards={})",
+                redisStreamProperties.cardGameSelectKey(), redisStreamProperties.shards());
+    }
+
+    @Override
+    public synchronized void stop() {
+        subscriptions.forEach(Subscription::cancel);
+        subscriptions.clear();
+    }
 
-        log.info("카드 선택 스트림 리스너 등록 완료: {}", redisStreamProperties.cardGameSelectKey());
+    @Override
+    public synchronized boolean isRunning() {
+        return !subscriptions.isEmpty();
+    }
+
+    @Override
+    public int getPhase() {
+        return RoomSnapshotService.RESTORE_PHASE + 1;
     }
 
     @Override
     public void onMessage(ObjectRecord<String, String> message) {
+        try {
+            process(message);
+        } finally {
+            streamCheckpointStore.record(message.getStream(), message.getId());
+        }
+    }
+
+    private void process(ObjectRecord<String, String> message) {
         final SelectCardCommandEvent event = parseEvent(message);
+        if (!roomOwnership.isOwner(event.joinCode())) {
+            return;
+        }
         log.info("카드 선택 메시지 수신: messageId={}, joinCode={}, playerName={}, cardIndex={}",
                 message.getId(), event.joinCode(), event.playerName(), event.cardIndex());
 
         try {
-            final JoinCode joinCode = new JoinCode(event.joinCode());
+            final JoinCode joinCode = JoinCode.of(event.joinCode());
             final PlayerName playerName = new PlayerName(event.playerName());
 
             cardGameCommandService.selectCard(joinCode, playerName, event.cardIndex());
@@ -2,14 +2,11 @@ package coffeeshout.cardgame.infra.messaging;
 
 import coffeeshout.cardgame.domain.event.SelectCardCommandEvent;
 import coffeeshout.global.config.properties.RedisStreamProperties;
+import coffeeshout.global.messaging.PipelinedStreamProducer;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
-import org.springframework.data.redis.connection.stream.Record;
-import org.springframework.data.redis.connection.stream.StreamRecords;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -17,7 +14,7 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class CardSelectStreamProducer {
 
-    private final StringRedisTemplate stringRedisTemplate;
+    private final PipelinedStreamProducer pipelinedStreamProducer;
     private final RedisStreamProperties redisStreamProperties;
     private final ObjectMapper objectMapper;
 
@@ -25,20 +22,13 @@ public class CardSelectStreamProducer {
         log.info("카드 선택 이벤트 발송 시작: eventId={}, joinCode={}, playerName={}, cardIndex={}",
                 event.eventId(), event.joinCode(), event.playerName(), event.cardIndex());
 
+        final String streamKey = redisStreamProperties.cardGameSelectKey(event.joinCode());
         try {
             final String value = objectMapper.writeValueAsString(event);
 
-            final Record<String, Object> objectRecord = StreamRecords.newRecord()
-                    .in(redisStreamProperties.cardGameSelectKey())
-                    .ofObject(value);
-
-            final var recordId = stringRedisTemplate.opsForStream().add(
-                    objectRecord,
-                    XAddOptions.maxlen(redisStreamProperties.maxLength()).approximateTrimming(true)
-            );
-
-            log.info("카드 선택 이벤트 발송 성공: eventId={}, recordId={}, streamKey={}",
-                    event.eventId(), recordId, redisStreamProperties.cardGameSelectKey());
+            pipelinedStreamProducer.add(redisStreamProperties.cardGameSelectKey(), streamKey, value)
+                    .thenAccept(recordId -> log.info("카드 선택 이벤트 발송 성공: eventId={}, recordId={}, streamKey={}",
+                            event.eventId(), recordId, streamKey));
         } catch (JsonProcessingException e) {
             log.error("이벤트 직렬화 실패: eventId={}, joinCode={}, playerName={}, cardIndex={}",
                     event.eventId(), event.joinCode(), event.playerName(), event.cardIndex(), e);
@@ -0,0 +1,108 @@
+package coffeeshout.global.cluster;
+
+import coffeeshout.global.config.properties.ClusterProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/*
+    - 각 노드는 heartbeatInterval마다 Redis ZSET(cluster:nodes)에 현재 시각을 score로 기록한다.
+    - nodeTtl 동안 heartbeat가 없는 노드는 제거되고, 살아있는 노드 목록으로 해시 링을 다시 만든다.
+    - Redis 조회에 실패하면 직전 링을 그대로 유지한다.
+    - 시작할 때 첫 heartbeat를 동기로 실행해 살아있는 노드 목록을 읽는다.
+      첫 조회가 성공하기 전(isReady()가 false)에는 자기 자신만 있는 링이므로 소유권 판단에 쓰지 않는다.
+ */
+@Slf4j
+@Component
+public class ClusterMembership {
+
+    private static final String NODES_KEY = "cluster:nodes";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ClusterNode clusterNode;
+    private final ClusterProperties clusterProperties;
+
+    private volatile ConsistentHashRing ring;
+    private volatile boolean ready;
+    private ScheduledExecutorService heartbeatScheduler;
+
+    public ClusterMembership(
+            StringRedisTemplate stringRedisTemplate,
+            ClusterNode clusterNode,
+            ClusterProperties clusterProperties
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.clusterNode = clusterNode;
+        this.clusterProperties = clusterProperties;
+        this.ring = new ConsistentHashRing(List.of(clusterNode.getId()), clusterProperties.virtualNodes());
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!clusterProperties.ownershipEnabled()) {
+            return;
+        }
+        heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "cluster-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeat();
+        final long intervalMillis = clusterProperties.heartbeatInterval().toMillis();
+        heartbeatScheduler.scheduleAtFixedRate(this::heartbeat, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        log.info("클러스터 멤버십 시작: nodeId={}, heartbeatInterval={}ms", clusterNode.getId(), intervalMillis);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (heartbeatScheduler == null) {
+            return;
+        }
+        heartbeatScheduler.shutdownNow();
+        try {
+            stringRedisTemplate.opsForZSet().remove(NODES_KEY, clusterNode.getId());
+            log.info("클러스터 멤버십 종료: nodeId={}", clusterNode.getId());
+        } catch (Exception e) {
+            log.warn("클러스터 노드 제거 실패: nodeId={}", clusterNode.getId(), e);
+        }
+    }
+
+    public ConsistentHashRing getRing() {
+        return ring;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    void heartbeat() {
+        try {
+            final long now = System.currentTimeMillis();
+            final long expiredBefore = now - clusterProperties.nodeTtl().toMillis();
+
+            stringRedisTemplate.opsForZSet().add(NODES_KEY, clusterNode.getId(), now);
+            stringRedisTemplate.opsForZSet().removeRangeByScore(NODES_KEY, Double.NEGATIVE_INFINITY, expiredBefore);
+            final Set<String> aliveNodes = stringRedisTemplate.opsForZSet().range(NODES_KEY, 0, -1);
+
+            refreshRing(aliveNodes);
+            ready = true;
+        } catch (Exception e) {
+            log.warn("클러스터 heartbeat 실패: nodeId={}", clusterNode.getId(), e);
+        }
+    }
+
+    private void refreshRing(Set<String> aliveNodes) {
+        if (aliveNodes == null || aliveNodes.isEmpty() || ring.hasSameNodes(aliveNodes)) {
+            return;
+        }
+        ring = new ConsistentHashRing(aliveNodes, clusterProperties.virtualNodes());
+        log.info("클러스터 노드 변경: nodes={}", aliveNodes);
+    }
+}
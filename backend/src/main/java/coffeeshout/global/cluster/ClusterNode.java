@@ -0,0 +1,46 @@
+package coffeeshout.global.cluster;
+
+import coffeeshout.global.config.properties.ClusterProperties;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.UUID;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+/*
+    - 현재 애플리케이션 인스턴스를 식별한다.
+    - 같은 호스트에서 여러 인스턴스가 떠도 겹치지 않도록 임의 접미사를 붙인다.
+    - cluster.node-id를 지정하면 그 값을 쓴다. 재시작해도 같은 id이므로 노드별 스트림 체크포인트를 이어서 쓸 수 있다.
+      동시에 떠 있는 인스턴스끼리는 겹치지 않아야 한다.
+    - 지정하지 않으면 실행할 때마다 id가 바뀐다. (isStable()이 false)
+ */
+@Getter
+@Component
+public class ClusterNode {
+
+    private final String id;
+    private final boolean stable;
+
+    public ClusterNode(ClusterProperties clusterProperties) {
+        final String configuredId = clusterProperties.nodeId();
+        if (configuredId != null && !configuredId.isBlank()) {
+            this.id = configuredId;
+            this.stable = true;
+            return;
+        }
+        this.id = resolveHostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+        this.stable = false;
+    }
+
+    public boolean isSelf(String nodeId) {
+        return id.equals(nodeId);
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
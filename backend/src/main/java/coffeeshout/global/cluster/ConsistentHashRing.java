@@ -0,0 +1,70 @@
+package coffeeshout.global.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/*
+    - 노드마다 virtualNodes개의 가상 노드를 링 위에 배치한다.
+    - 키의 해시값 이상인 첫 번째 가상 노드가 키의 소유자가 된다. (없으면 링의 처음으로 돌아간다)
+    - 노드가 추가/제거되어도 해당 노드 구간의 키만 재배치된다.
+ */
+public class ConsistentHashRing {
+
+    private static final int FNV_OFFSET_BASIS = 0x811c9dc5;
+    private static final int FNV_PRIME = 0x01000193;
+
+    private final TreeMap<Integer, String> ring;
+    private final Set<String> nodes;
+
+    public ConsistentHashRing(Collection<String> nodes, int virtualNodes) {
+        if (virtualNodes <= 0) {
+            throw new IllegalArgumentException("가상 노드 수는 양수여야 합니다.");
+        }
+        this.ring = new TreeMap<>();
+        this.nodes = new TreeSet<>(nodes);
+        for (String node : this.nodes) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.put(hash(node + "#" + i), node);
+            }
+        }
+    }
+
+    public Optional<String> ownerOf(String key) {
+        if (ring.isEmpty()) {
+            return Optional.empty();
+        }
+        final Map.Entry<Integer, String> entry = ring.ceilingEntry(hash(key));
+        if (entry == null) {
+            return Optional.of(ring.firstEntry().getValue());
+        }
+        return Optional.of(entry.getValue());
+    }
+
+    public Set<String> getNodes() {
+        return Set.copyOf(nodes);
+    }
+
+    public boolean hasSameNodes(Collection<String> other) {
+        return nodes.equals(new TreeSet<>(other));
+    }
+
+    // FNV-1a 결과를 한 번 더 섞어 짧은 키(4자리 참여 코드)도 링 전체에 고르게 퍼지도록 한다.
+    static int hash(String key) {
+        int hash = FNV_OFFSET_BASIS;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+}
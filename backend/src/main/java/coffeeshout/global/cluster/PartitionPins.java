@@ -0,0 +1,198 @@
+package coffeeshout.global.cluster;
+
+import coffeeshout.global.config.properties.ClusterProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/*
+    - 게임 루프를 실행 중인 노드가 그 방의 파티션을 붙잡아 두는 고정(pin)이다.
+      노드 구성이 바뀌어 해시 링의 소유자가 달라져도, 고정이 풀릴 때까지 파티션 소유권과 스트림 소비는 루프를 실행하는 노드에 남는다.
+    - 고정은 Redis 키(cluster:partition:pin:{partition})에 노드 id로 기록하고 nodeTtl 동안 유지된다.
+      heartbeatInterval마다 자기 고정을 연장하고 모든 파티션의 고정을 읽어 로컬에 둔다. (소유권 판단 시 Redis를 조회하지 않는다)
+    - 노드가 죽으면 연장이 멈추고 nodeTtl 뒤에 고정이 풀린다. 끝나지 않은 루프도 MAX_PIN_DURATION이 지나면 고정을 푼다.
+    - 첫 조회가 끝나기 전(isReady()가 false)에는 다른 노드의 고정을 모르므로 소유권 판단에 쓰지 않는다.
+ */
+@Slf4j
+@Component
+public class PartitionPins {
+
+    private static final String PIN_KEY_PREFIX = "cluster:partition:pin:";
+    private static final Duration MAX_PIN_DURATION = Duration.ofMinutes(10);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ClusterNode clusterNode;
+    private final ClusterProperties clusterProperties;
+    private final RoomPartitions roomPartitions;
+    private final Map<String, PinnedRoom> pinnedRooms = new ConcurrentHashMap<>();
+
+    private volatile Map<Integer, String> holders = Map.of();
+    private volatile boolean ready;
+    private ScheduledExecutorService refreshScheduler;
+
+    public PartitionPins(
+            StringRedisTemplate stringRedisTemplate,
+            ClusterNode clusterNode,
+            ClusterProperties clusterProperties,
+            RoomPartitions roomPartitions
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.clusterNode = clusterNode;
+        this.clusterProperties = clusterProperties;
+        this.roomPartitions = roomPartitions;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!clusterProperties.ownershipEnabled()) {
+            return;
+        }
+        refreshScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "partition-pin-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        refresh();
+        final long intervalMillis = clusterProperties.heartbeatInterval().toMillis();
+        refreshScheduler.scheduleAtFixedRate(this::refresh, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (refreshScheduler != null) {
+            refreshScheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * 이 노드에서 방의 게임 루프를 시작할 때 호출한다.
+     */
+    public void pin(String joinCode) {
+        if (!clusterProperties.ownershipEnabled()) {
+            return;
+        }
+        final int partition = roomPartitions.partitionOf(joinCode);
+        pinnedRooms.put(joinCode, new PinnedRoom(partition, System.currentTimeMillis()));
+        try {
+            holdPartition(partition);
+        } catch (Exception e) {
+            log.warn("파티션 고정 실패: joinCode={}, partition={}", joinCode, partition, e);
+        }
+    }
+
+    /**
+     * 게임 루프가 끝나면 호출한다. 같은 파티션에 실행 중인 다른 루프가 없으면 고정을 푼다.
+     */
+    public void unpin(String joinCode) {
+        final PinnedRoom removed = pinnedRooms.remove(joinCode);
+        if (removed == null || isPinnedLocally(removed.partition())) {
+            return;
+        }
+        try {
+            releasePartition(removed.partition());
+        } catch (Exception e) {
+            log.warn("파티션 고정 해제 실패: joinCode={}, partition={}", joinCode, removed.partition(), e);
+        }
+    }
+
+    public Optional<String> holderOf(int partition) {
+        return Optional.ofNullable(holders.get(partition));
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    void refresh() {
+        try {
+            final long expiredBefore = System.currentTimeMillis() - MAX_PIN_DURATION.toMillis();
+            pinnedRooms.values().removeIf(pinned -> pinned.pinnedAt() < expiredBefore);
+            final Set<Integer> localPartitions = pinnedRooms.values().stream()
+                    .map(PinnedRoom::partition)
+                    .collect(Collectors.toSet());
+            localPartitions.forEach(this::holdPartition);
+            holders.forEach((partition, holder) -> {
+                if (clusterNode.isSelf(holder) && !localPartitions.contains(partition)) {
+                    releasePartition(partition);
+                }
+            });
+            loadHolders();
+            ready = true;
+        } catch (Exception e) {
+            log.warn("파티션 고정 갱신 실패: nodeId={}", clusterNode.getId(), e);
+        }
+    }
+
+    private void holdPartition(int partition) {
+        final String key = pinKey(partition);
+        final Duration ttl = clusterProperties.nodeTtl();
+        final boolean acquired = Boolean.TRUE.equals(
+                stringRedisTemplate.opsForValue().setIfAbsent(key, clusterNode.getId(), ttl));
+        if (acquired) {
+            updateHolder(partition, clusterNode.getId());
+            return;
+        }
+        final String holder = stringRedisTemplate.opsForValue().get(key);
+        if (clusterNode.isSelf(holder)) {
+            stringRedisTemplate.expire(key, ttl);
+            return;
+        }
+        log.warn("다른 노드가 고정한 파티션에서 루프를 시작함: partition={}, holder={}", partition, holder);
+    }
+
+    // 조회와 삭제 사이에 고정이 만료되어 다른 노드가 잡는 경우는 nodeTtl 안에 그 노드가 다시 잡는다.
+    private void releasePartition(int partition) {
+        final String key = pinKey(partition);
+        if (clusterNode.isSelf(stringRedisTemplate.opsForValue().get(key))) {
+            stringRedisTemplate.delete(key);
+        }
+        updateHolder(partition, null);
+    }
+
+    private void loadHolders() {
+        final List<Integer> partitions = roomPartitions.all().boxed().toList();
+        final List<String> values = stringRedisTemplate.opsForValue()
+                .multiGet(partitions.stream().map(PartitionPins::pinKey).toList());
+        final Map<Integer, String> loaded = new HashMap<>();
+        for (int i = 0; i < partitions.size(); i++) {
+            if (values != null && values.get(i) != null) {
+                loaded.put(partitions.get(i), values.get(i));
+            }
+        }
+        holders = Map.copyOf(loaded);
+    }
+
+    private synchronized void updateHolder(int partition, String holder) {
+        final Map<Integer, String> updated = new HashMap<>(holders);
+        if (holder == null) {
+            updated.remove(partition);
+        } else {
+            updated.put(partition, holder);
+        }
+        holders = Map.copyOf(updated);
+    }
+
+    private boolean isPinnedLocally(int partition) {
+        return pinnedRooms.values().stream().anyMatch(pinned -> pinned.partition() == partition);
+    }
+
+    private static String pinKey(int partition) {
+        return PIN_KEY_PREFIX + partition;
+    }
+
+    private record PinnedRoom(int partition, long pinnedAt) {
+    }
+}
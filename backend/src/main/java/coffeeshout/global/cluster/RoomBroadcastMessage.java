@@ -0,0 +1,61 @@
+package coffeeshout.global.cluster;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/*
+    - 중계 메시지 바이너리 형식: [magic 1B][origin 길이 1B][origin][destination 길이 2B][destination][payload]
+    - payload는 발행 노드가 한 번 직렬화한 JSON 바이트 그대로다. 받는 쪽은 파싱하지 않고 잘라서 브로커로 보낸다.
+    - origin은 payload보다 앞에 있으므로 자기가 보낸 메시지는 헤더만 읽고 걸러낸다.
+    - 롤링 배포 중 이전 버전 노드가 보낸 JSON 메시지('{'로 시작)는 isBinary()로 구분한다.
+ */
+public record RoomBroadcastMessage(
+        String originNodeId,
+        String destination,
+        byte[] payload
+) {
+
+    private static final byte MAGIC = (byte) 0xCB;
+    private static final int MAX_ORIGIN_LENGTH = 255;
+    private static final int MAX_DESTINATION_LENGTH = 0xFFFF;
+
+    public byte[] encode() {
+        final byte[] origin = originNodeId.getBytes(StandardCharsets.UTF_8);
+        final byte[] destinationBytes = destination.getBytes(StandardCharsets.UTF_8);
+        if (origin.length > MAX_ORIGIN_LENGTH || destinationBytes.length > MAX_DESTINATION_LENGTH) {
+            throw new IllegalArgumentException("중계 메시지 헤더가 너무 깁니다: destination=" + destination);
+        }
+        return ByteBuffer.allocate(1 + 1 + origin.length + 2 + destinationBytes.length + payload.length)
+                .put(MAGIC)
+                .put((byte) origin.length)
+                .put(origin)
+                .putShort((short) destinationBytes.length)
+                .put(destinationBytes)
+                .put(payload)
+                .array();
+    }
+
+    public static boolean isBinary(byte[] body) {
+        return body.length > 0 && body[0] == MAGIC;
+    }
+
+    public static String originOf(byte[] body) {
+        final int originLength = Byte.toUnsignedInt(body[1]);
+        return new String(body, 2, originLength, StandardCharsets.UTF_8);
+    }
+
+    public static RoomBroadcastMessage decode(byte[] body) {
+        final ByteBuffer buffer = ByteBuffer.wrap(body);
+        buffer.get();
+        final String origin = readString(buffer, Byte.toUnsignedInt(buffer.get()));
+        final String destination = readString(buffer, Short.toUnsignedInt(buffer.getShort()));
+        return new RoomBroadcastMessage(origin, destination, Arrays.copyOfRange(body, buffer.position(), body.length));
+    }
+
+    private static String readString(ByteBuffer buffer, int length) {
+        final String value = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+}
@@ -0,0 +1,57 @@
+package coffeeshout.global.cluster;
+
+import coffeeshout.global.websocket.LoggingSimpMessagingTemplate;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.stereotype.Component;
+
+/*
+    - 소유 노드에서만 만들어지는 게임 화면 메시지를 다른 노드에 접속한 클라이언트에게도 전달한다.
+    - 로컬 구독자에게는 바로 보내고, 소유권 분산이 켜져 있으면 Redis 채널로 한 번 더 발행한다.
+    - payload는 발행마다 한 번만 JSON으로 직렬화하고, 로컬 브로커와 중계 메시지가 같은 결과를 쓴다.
+      중계 메시지는 그 바이트를 바이너리 봉투(RoomBroadcastMessage)에 그대로 실으므로 받는 노드도 다시 파싱/직렬화하지 않는다.
+    - STOMP MESSAGE 프레임은 구독마다 subscription/message-id 헤더가 달라 세션 간에 공유할 수 없다. 공유하는 것은 본문 byte[]다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomBroadcastRelay {
+
+    private final LoggingSimpMessagingTemplate messagingTemplate;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ChannelTopic roomBroadcastRelayTopic;
+    private final ClusterNode clusterNode;
+    private final RoomOwnership roomOwnership;
+    private final ObjectMapper objectMapper;
+
+    public void broadcast(String destination, Object payload) {
+        final byte[] json = serialize(destination, payload);
+        messagingTemplate.sendSerialized(destination, json);
+
+        if (!roomOwnership.isEnabled()) {
+            return;
+        }
+        try {
+            final byte[] channel = roomBroadcastRelayTopic.getTopic().getBytes(StandardCharsets.UTF_8);
+            final byte[] body = new RoomBroadcastMessage(clusterNode.getId(), destination, json).encode();
+            redisTemplate.execute((RedisCallback<Long>) connection -> connection.publish(channel, body));
+        } catch (Exception e) {
+            log.error("브로드캐스트 중계 발행 실패: destination={}", destination, e);
+        }
+    }
+
+    private byte[] serialize(String destination, Object payload) {
+        try {
+            return objectMapper.writeValueAsBytes(payload);
+        } catch (JsonProcessingException e) {
+            throw new MessageConversionException("브로드캐스트 메시지 직렬화 실패: destination=" + destination, e);
+        }
+    }
+}
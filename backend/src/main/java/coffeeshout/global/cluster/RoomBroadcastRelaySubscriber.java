@@ -0,0 +1,65 @@
+package coffeeshout.global.cluster;
+
+import coffeeshout.global.websocket.LoggingSimpMessagingTemplate;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomBroadcastRelaySubscriber implements MessageListener {
+
+    private final ObjectMapper objectMapper;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ChannelTopic roomBroadcastRelayTopic;
+    private final LoggingSimpMessagingTemplate messagingTemplate;
+    private final ClusterNode clusterNode;
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, roomBroadcastRelayTopic);
+        log.info("브로드캐스트 중계 구독 시작: topic={}", roomBroadcastRelayTopic.getTopic());
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        final byte[] body = message.getBody();
+        try {
+            if (RoomBroadcastMessage.isBinary(body)) {
+                relay(body);
+                return;
+            }
+            relayLegacy(body);
+        } catch (Exception e) {
+            log.error("브로드캐스트 중계 처리 실패: bytes={}", body.length, e);
+        }
+    }
+
+    // payload는 발행 노드가 직렬화한 JSON 바이트를 잘라 그대로 보낸다.
+    private void relay(byte[] body) {
+        if (clusterNode.isSelf(RoomBroadcastMessage.originOf(body))) {
+            return;
+        }
+        final RoomBroadcastMessage relayed = RoomBroadcastMessage.decode(body);
+        messagingTemplate.sendSerialized(relayed.destination(), relayed.payload());
+    }
+
+    // 롤링 배포 중 이전 버전 노드가 보낸 JSON 중계 메시지
+    private void relayLegacy(byte[] body) throws IOException {
+        final JsonNode jsonNode = objectMapper.readTree(body);
+        if (clusterNode.isSelf(jsonNode.get("originNodeId").asText())) {
+            return;
+        }
+        final String destination = jsonNode.get("destination").asText();
+        messagingTemplate.sendSerialized(destination, objectMapper.writeValueAsBytes(jsonNode.get("payload")));
+    }
+}
@@ -0,0 +1,71 @@
+package coffeeshout.global.cluster;
+
+import coffeeshout.global.config.properties.ClusterProperties;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/*
+    - 방(JoinCode)마다 해시 링 위의 한 노드만 게임 루프(타이머, 틱, 입력 처리)를 실행한다.
+    - 링은 방이 아니라 방이 속한 파티션(RoomPartitions)의 소유자를 정한다.
+    - 소유권 분산이 꺼져 있으면 모든 노드가 소유자로 동작한다. (기존 동작)
+    - 노드 목록을 처음 읽기 전에는 어떤 파티션도 소유하지 않는다. (부팅 중인 노드가 모든 방을 소유한다고 판단하지 않도록)
+    - 이미 시작된 게임 루프는 노드 구성이 바뀌어도 시작한 노드에서 끝까지 실행된다.
+      루프를 시작한 노드가 파티션을 고정(PartitionPins)하고, 고정된 파티션은 링과 관계없이 고정한 노드가 소유한다.
+      그래서 탭 같은 입력도 루프가 끝날 때까지 루프를 실행하는 노드로 간다.
+      고정한 노드가 링에 없으면(죽은 노드) 고정을 무시한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RoomOwnership {
+
+    private final ClusterMembership clusterMembership;
+    private final ClusterNode clusterNode;
+    private final ClusterProperties clusterProperties;
+    private final RoomPartitions roomPartitions;
+    private final PartitionPins partitionPins;
+
+    public boolean isOwner(String joinCode) {
+        return isPartitionOwner(roomPartitions.partitionOf(joinCode));
+    }
+
+    public boolean isPartitionOwner(int partition) {
+        if (!clusterProperties.ownershipEnabled()) {
+            return true;
+        }
+        if (!clusterMembership.isReady() || !partitionPins.isReady()) {
+            return false;
+        }
+        final ConsistentHashRing ring = clusterMembership.getRing();
+        final Optional<String> pinned = partitionPins.holderOf(partition)
+                .filter(holder -> ring.getNodes().contains(holder));
+        if (pinned.isPresent()) {
+            return clusterNode.isSelf(pinned.get());
+        }
+        return ring.ownerOf(RoomPartitions.ringKey(partition))
+                .map(clusterNode::isSelf)
+                .orElse(true);
+    }
+
+    public Set<Integer> ownedPartitions() {
+        return roomPartitions.all()
+                .filter(this::isPartitionOwner)
+                .boxed()
+                .collect(Collectors.toSet());
+    }
+
+    // 게임 루프를 시작/종료할 때 호출한다.
+    public void pinLoop(String joinCode) {
+        partitionPins.pin(joinCode);
+    }
+
+    public void unpinLoop(String joinCode) {
+        partitionPins.unpin(joinCode);
+    }
+
+    public boolean isEnabled() {
+        return clusterProperties.ownershipEnabled();
+    }
+}
@@ -0,0 +1,50 @@
+package coffeeshout.global.cluster;
+
+import coffeeshout.global.config.properties.ClusterProperties;
+import java.util.stream.IntStream;
+import org.springframework.stereotype.Component;
+
+/*
+    - joinCode를 고정된 개수(cluster.partitions)의 파티션으로 나눈다. 해시 링은 방이 아니라 파티션 단위로 소유자를 정한다.
+    - 방 소유권(RoomOwnership)과 스트림 파티션(racingGame:broadcast:{partition})이 같은 매핑을 쓰므로,
+      파티션을 소비하는 노드가 곧 그 파티션에 속한 방들의 게임 루프를 실행하는 노드다.
+    - 파티션 수를 바꾸면 방과 스트림 키의 매핑이 모두 바뀌므로 전체 재배포가 필요하다.
+ */
+@Component
+public class RoomPartitions {
+
+    private static final String PARTITION_KEY_PREFIX = "partition-";
+
+    private final int partitionCount;
+
+    public RoomPartitions(ClusterProperties clusterProperties) {
+        this(clusterProperties.partitions());
+    }
+
+    RoomPartitions(int partitionCount) {
+        if (partitionCount <= 0) {
+            throw new IllegalArgumentException("파티션 수는 양수여야 합니다: " + partitionCount);
+        }
+        this.partitionCount = partitionCount;
+    }
+
+    public int partitionOf(String joinCode) {
+        return Math.floorMod(joinCode.hashCode(), partitionCount);
+    }
+
+    public int count() {
+        return partitionCount;
+    }
+
+    public IntStream all() {
+        return IntStream.range(0, partitionCount);
+    }
+
+    public static String ringKey(int partition) {
+        return PARTITION_KEY_PREFIX + partition;
+    }
+
+    public static String streamKey(String baseKey, int partition) {
+        return baseKey + ":" + partition;
+    }
+}
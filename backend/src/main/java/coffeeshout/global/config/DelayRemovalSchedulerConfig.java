@@ -1,6 +1,12 @@
 package coffeeshout.global.config;
 
+import coffeeshout.global.timer.HashedTimingWheel;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
@@ -13,6 +19,9 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 @Slf4j
 public class DelayRemovalSchedulerConfig {
 
+    private static final Duration WHEEL_TICK = Duration.ofSeconds(1);
+    private static final int WHEEL_SIZE = 512;
+
     @Bean(name = "delayRemovalScheduler")
     @Profile("!test")
     public TaskScheduler delayRemovalScheduler() {
@@ -30,4 +39,28 @@ public class DelayRemovalSchedulerConfig {
         scheduler.initialize();
         return scheduler;
     }
+
+    @Bean(name = "delayRemovalTimingWheel", destroyMethod = "stop")
+    public HashedTimingWheel delayRemovalTimingWheel(
+            @Qualifier("delayRemovalScheduler") TaskScheduler delayRemovalScheduler,
+            MeterRegistry meterRegistry
+    ) {
+        final HashedTimingWheel timingWheel = new HashedTimingWheel("delay-removal", WHEEL_TICK, WHEEL_SIZE);
+        Gauge.builder("timingWheel.pending", timingWheel, HashedTimingWheel::pendingCount)
+                .tag("wheel", "delay-removal")
+                .description("타이밍 휠에 등록되어 만료를 기다리는 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("timingWheel.bucket.max", timingWheel, HashedTimingWheel::largestBucketSize)
+                .tag("wheel", "delay-removal")
+                .description("타이밍 휠 버킷 중 가장 많은 작업이 걸린 버킷의 작업 수")
+                .register(meterRegistry);
+        final DistributionSummary bucketOccupancy = DistributionSummary.builder("timingWheel.bucket.occupancy")
+                .tag("wheel", "delay-removal")
+                .description("tick마다 도는 버킷에 걸린 작업 수의 분포")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        timingWheel.setOccupancyRecorder(bucketOccupancy::record);
+        timingWheel.start(delayRemovalScheduler);
+        return timingWheel;
+    }
 }
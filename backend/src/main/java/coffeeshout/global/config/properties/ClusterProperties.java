@@ -0,0 +1,19 @@
+package coffeeshout.global.config.properties;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "cluster")
+public record ClusterProperties(
+        String nodeId,
+        boolean ownershipEnabled,
+        @Positive int virtualNodes,
+        @Positive int partitions,
+        @NotNull Duration heartbeatInterval,
+        @NotNull Duration nodeTtl
+) {
+}
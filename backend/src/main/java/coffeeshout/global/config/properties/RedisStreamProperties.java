@@ -1,16 +1,85 @@
 package coffeeshout.global.config.properties;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
+/*
+    - 방 입장, 카드 선택 스트림은 논리 스트림 하나를 shards개의 키({key}:{shard})로 나눈다.
+    - 샤드는 joinCode 해시로 고르므로 같은 방의 메시지는 항상 같은 샤드에 순서대로 쌓인다.
+    - 샤드 키는 해시 태그를 쓰지 않으므로 Redis Cluster에서는 서로 다른 슬롯에 흩어진다.
+ */
 @Validated
 @ConfigurationProperties(prefix = "spring.data.redis.stream")
 public record RedisStreamProperties(
         @NotBlank String roomJoinKey,
         @NotBlank String cardGameSelectKey,
         @NotBlank String racingGameKey,
-        @Positive int maxLength
+        @Positive int maxLength,
+        @Positive int shards,
+        @Valid @NotNull Producer producer,
+        @Valid @NotNull Checkpoint checkpoint
 ) {
+
+    /*
+        - connections: XADD 전용 커넥션 수, ioThreads: 전용 Lettuce 이벤트 루프 스레드 수
+        - 커넥션마다 flushBatchSize개가 쌓이거나 flushInterval이 지나면 한 번에 내보낸다.
+        - 응답을 기다리는 XADD가 maxInFlight개를 넘으면 acquireTimeout까지 기다렸다가 거절한다.
+     */
+    public record Producer(
+            @Positive int connections,
+            @Positive int ioThreads,
+            @Positive int flushBatchSize,
+            @NotNull Duration flushInterval,
+            @Positive int maxInFlight,
+            @NotNull Duration acquireTimeout
+    ) {
+    }
+
+    /*
+        - 노드별로 마지막으로 처리한 레코드 id를 interval마다 기록하고, ttl 동안 갱신이 없으면 버린다.
+        - 체크포인트는 node-id로 찾으므로 켜려면 재시작해도 바뀌지 않는 cluster.node-id가 필요하다.
+     */
+    public record Checkpoint(
+            boolean enabled,
+            @NotNull Duration interval,
+            @NotNull Duration ttl
+    ) {
+    }
+
+    public String roomJoinKey(String joinCode) {
+        return shardKey(roomJoinKey, shardOf(joinCode));
+    }
+
+    public String cardGameSelectKey(String joinCode) {
+        return shardKey(cardGameSelectKey, shardOf(joinCode));
+    }
+
+    public List<String> roomJoinKeys() {
+        return shardKeys(roomJoinKey);
+    }
+
+    public List<String> cardGameSelectKeys() {
+        return shardKeys(cardGameSelectKey);
+    }
+
+    public int shardOf(String joinCode) {
+        return Math.floorMod(joinCode.hashCode(), shards);
+    }
+
+    private List<String> shardKeys(String baseKey) {
+        return IntStream.range(0, shards)
+                .mapToObj(shard -> shardKey(baseKey, shard))
+                .toList();
+    }
+
+    private static String shardKey(String baseKey, int shard) {
+        return baseKey + ":" + shard;
+    }
 }
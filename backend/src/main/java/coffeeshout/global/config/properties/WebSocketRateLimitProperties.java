@@ -0,0 +1,29 @@
+package coffeeshout.global.config.properties;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/*
+    - STOMP SEND 프레임을 세션별, 방별 토큰 버킷으로 제한한다.
+    - capacity만큼 한 번에 몰아서 보낼 수 있고, 이후에는 초당 refillPerSecond개씩 다시 채워진다.
+    - idleTtl 동안 쓰지 않은 버킷은 버린다.
+ */
+@Validated
+@ConfigurationProperties(prefix = "websocket.rate-limit")
+public record WebSocketRateLimitProperties(
+        boolean enabled,
+        @Valid @NotNull Bucket session,
+        @Valid @NotNull Bucket room,
+        @NotNull Duration idleTtl
+) {
+
+    public record Bucket(
+            @Positive int capacity,
+            @Positive int refillPerSecond
+    ) {
+    }
+}
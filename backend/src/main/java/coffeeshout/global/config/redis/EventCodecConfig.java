@@ -0,0 +1,78 @@
+package coffeeshout.global.config.redis;
+
+import coffeeshout.cardgame.domain.event.SelectCardCommandEvent;
+import coffeeshout.global.messaging.BinaryEventCodec;
+import coffeeshout.global.websocket.event.player.PlayerBaseEvent;
+import coffeeshout.global.websocket.event.player.PlayerDisconnectedEvent;
+import coffeeshout.global.websocket.event.player.PlayerEventType;
+import coffeeshout.global.websocket.event.player.PlayerReconnectedEvent;
+import coffeeshout.global.websocket.event.session.SessionBaseEvent;
+import coffeeshout.global.websocket.event.session.SessionEventType;
+import coffeeshout.global.websocket.event.session.SessionRegisteredEvent;
+import coffeeshout.global.websocket.event.session.SessionRemovedEvent;
+import coffeeshout.minigame.event.MiniGameBaseEvent;
+import coffeeshout.minigame.event.MiniGameEventType;
+import coffeeshout.minigame.event.StartMiniGameCommandEvent;
+import coffeeshout.room.domain.event.MiniGameSelectEvent;
+import coffeeshout.room.domain.event.PlayerKickEvent;
+import coffeeshout.room.domain.event.PlayerListUpdateEvent;
+import coffeeshout.room.domain.event.PlayerReadyEvent;
+import coffeeshout.room.domain.event.ProbabilitySyncEvent;
+import coffeeshout.room.domain.event.QrCodeStatusEvent;
+import coffeeshout.room.domain.event.RoomBaseEvent;
+import coffeeshout.room.domain.event.RoomCreateEvent;
+import coffeeshout.room.domain.event.RoomEventType;
+import coffeeshout.room.domain.event.RoomJoinEvent;
+import coffeeshout.room.domain.event.RouletteShowEvent;
+import coffeeshout.room.domain.event.RouletteSpinEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/*
+    - pub/sub 채널별 이벤트 타입 태그 등록부
+    - 태그 번호는 노드 간 계약이다. 새 타입은 새 번호로 추가하고, 지운 타입의 번호는 재사용하지 않는다.
+ */
+@Configuration
+public class EventCodecConfig {
+
+    @Bean
+    public BinaryEventCodec<RoomEventType, RoomBaseEvent> roomEventCodec(ObjectMapper objectMapper) {
+        return new BinaryEventCodec<RoomEventType, RoomBaseEvent>(objectMapper, RoomEventType.class,
+                RoomBaseEvent::eventType)
+                .register(1, RoomEventType.ROOM_CREATE, RoomCreateEvent.class)
+                .register(2, RoomEventType.ROOM_JOIN, RoomJoinEvent.class)
+                .register(3, RoomEventType.PLAYER_READY, PlayerReadyEvent.class)
+                .register(4, RoomEventType.PLAYER_LIST_UPDATE, PlayerListUpdateEvent.class)
+                .register(5, RoomEventType.PLAYER_KICK, PlayerKickEvent.class)
+                .register(6, RoomEventType.MINI_GAME_SELECT, MiniGameSelectEvent.class)
+                .register(7, RoomEventType.ROULETTE_SHOW, RouletteShowEvent.class)
+                .register(8, RoomEventType.ROULETTE_SPIN, RouletteSpinEvent.class)
+                .register(9, RoomEventType.QR_CODE_COMPLETE, QrCodeStatusEvent.class)
+                .register(10, RoomEventType.PROBABILITY_SYNC, ProbabilitySyncEvent.class);
+    }
+
+    @Bean
+    public BinaryEventCodec<MiniGameEventType, MiniGameBaseEvent> miniGameEventCodec(ObjectMapper objectMapper) {
+        return new BinaryEventCodec<MiniGameEventType, MiniGameBaseEvent>(objectMapper, MiniGameEventType.class,
+                MiniGameBaseEvent::eventType)
+                .register(1, MiniGameEventType.START_MINIGAME_COMMAND, StartMiniGameCommandEvent.class)
+                .register(2, MiniGameEventType.SELECT_CARD_COMMAND, SelectCardCommandEvent.class);
+    }
+
+    @Bean
+    public BinaryEventCodec<PlayerEventType, PlayerBaseEvent> playerEventCodec(ObjectMapper objectMapper) {
+        return new BinaryEventCodec<PlayerEventType, PlayerBaseEvent>(objectMapper, PlayerEventType.class,
+                PlayerBaseEvent::eventType)
+                .register(1, PlayerEventType.PLAYER_DISCONNECTED, PlayerDisconnectedEvent.class)
+                .register(2, PlayerEventType.PLAYER_RECONNECTED, PlayerReconnectedEvent.class);
+    }
+
+    @Bean
+    public BinaryEventCodec<SessionEventType, SessionBaseEvent> sessionEventCodec(ObjectMapper objectMapper) {
+        return new BinaryEventCodec<SessionEventType, SessionBaseEvent>(objectMapper, SessionEventType.class,
+                SessionBaseEvent::eventType)
+                .register(1, SessionEventType.SESSION_REGISTERED, SessionRegisteredEvent.class)
+                .register(2, SessionEventType.SESSION_REMOVED, SessionRemovedEvent.class);
+    }
+}
@@ -119,4 +119,14 @@ public class RedisConfig {
         return new ChannelTopic("session.events");
     }
 
+    @Bean
+    public ChannelTopic roomBroadcastRelayTopic() {
+        return new ChannelTopic("room.broadcast.relay");
+    }
+
+    @Bean
+    public ChannelTopic roomSnapshotInvalidationTopic() {
+        return new ChannelTopic("room.snapshot.invalidation");
+    }
+
 }
@@ -1,5 +1,7 @@
 package coffeeshout.global.config.redis;
 
+import coffeeshout.global.cluster.RoomPartitions;
+import coffeeshout.global.config.properties.RedisStreamProperties;
 import java.time.Duration;
 import java.util.concurrent.Executor;
 import org.springframework.context.annotation.Bean;
@@ -23,16 +25,26 @@ public class RedisContainerConfig {
 
     @Bean(destroyMethod = "stop")
     @DependsOn("redisStreamInit")
-    public StreamMessageListenerContainer<String, ObjectRecord<String, String>> roomEnterStreamContainer(
-            RedisConnectionFactory redisConnectionFactory) {
-        return getListenerContainer(redisConnectionFactory, roomEnterThreadExecutor());
+    public StreamMessageListenerContainer<String, MapRecord<String, String, String>> roomEnterStreamContainer(
+            RedisConnectionFactory redisConnectionFactory, RedisStreamProperties redisStreamProperties) {
+        final StreamMessageListenerContainerOptions<String, MapRecord<String, String, String>> options =
+                StreamMessageListenerContainerOptions.builder()
+                        .batchSize(10)
+                        .executor(roomEnterThreadExecutor(redisStreamProperties.shards()))
+                        .pollTimeout(Duration.ofSeconds(2))
+                        .build();
+
+        final StreamMessageListenerContainer<String, MapRecord<String, String, String>> container =
+                StreamMessageListenerContainer.create(redisConnectionFactory, options);
+        container.start();
+        return container;
     }
 
     @Bean(destroyMethod = "stop")
     @DependsOn("redisStreamInit")
     public StreamMessageListenerContainer<String, ObjectRecord<String, String>> cardSelectStreamContainer(
-            RedisConnectionFactory redisConnectionFactory) {
-        return getListenerContainer(redisConnectionFactory, cardSelectThreadExecutor());
+            RedisConnectionFactory redisConnectionFactory, RedisStreamProperties redisStreamProperties) {
+        return getListenerContainer(redisConnectionFactory, cardSelectThreadExecutor(redisStreamProperties.shards()));
     }
 
     @Bean(destroyMethod = "stop")
@@ -45,11 +57,11 @@ public class RedisContainerConfig {
     @Bean(destroyMethod = "stop")
     @DependsOn("redisStreamInit")
     public StreamMessageListenerContainer<String, MapRecord<String, String, String>> racingGameStreamContainer(
-            RedisConnectionFactory redisConnectionFactory) {
+            RedisConnectionFactory redisConnectionFactory, RoomPartitions roomPartitions) {
         final StreamMessageListenerContainerOptions<String, MapRecord<String, String, String>> options =
                 StreamMessageListenerContainerOptions.builder()
                         .batchSize(100)
-                        .executor(racingGameThreadExecutor())
+                        .executor(racingGameThreadExecutor(roomPartitions.count()))
                         .pollTimeout(Duration.ofMillis(50))
                         .build();
 
@@ -76,11 +88,12 @@ public class RedisContainerConfig {
         return container;
     }
 
-    private ThreadPoolTaskExecutor roomEnterThreadExecutor() {
+    private ThreadPoolTaskExecutor roomEnterThreadExecutor(int shards) {
         ThreadPoolTaskExecutor ex = new ThreadPoolTaskExecutor();
 
-        ex.setCorePoolSize(1); // 순서 보장을 위해 단일 스레드
-        ex.setMaxPoolSize(1);
+        // 샤드마다 폴링 스레드 하나. 같은 방은 같은 샤드에 있으므로 방 단위 순서는 유지된다.
+        ex.setCorePoolSize(shards);
+        ex.setMaxPoolSize(shards);
         ex.setQueueCapacity(100);
         ex.setThreadNamePrefix("redis-room-enter-");
         ex.setWaitForTasksToCompleteOnShutdown(true);
@@ -90,11 +103,12 @@ public class RedisContainerConfig {
         return ex;
     }
 
-    private ThreadPoolTaskExecutor cardSelectThreadExecutor() {
+    private ThreadPoolTaskExecutor cardSelectThreadExecutor(int shards) {
         ThreadPoolTaskExecutor ex = new ThreadPoolTaskExecutor();
 
-        ex.setCorePoolSize(1); // 순서 보장을 위해 단일 스레드
-        ex.setMaxPoolSize(1);
+        // 샤드마다 폴링 스레드 하나. 같은 방은 같은 샤드에 있으므로 방 단위 순서는 유지된다.
+        ex.setCorePoolSize(shards);
+        ex.setMaxPoolSize(shards);
         ex.setQueueCapacity(100);
         ex.setThreadNamePrefix("redis-card-select-");
         ex.setWaitForTasksToCompleteOnShutdown(true);
@@ -104,11 +118,11 @@ public class RedisContainerConfig {
         return ex;
     }
 
-    private ThreadPoolTaskExecutor racingGameThreadExecutor() {
+    private ThreadPoolTaskExecutor racingGameThreadExecutor(int partitionCount) {
         ThreadPoolTaskExecutor ex = new ThreadPoolTaskExecutor();
 
-        ex.setCorePoolSize(4);
-        ex.setMaxPoolSize(8);
+        ex.setCorePoolSize(partitionCount); // 파티션 구독 하나가 폴링 스레드 하나를 계속 점유한다
+        ex.setMaxPoolSize(partitionCount);
         ex.setQueueCapacity(100);
         ex.setThreadNamePrefix("redis-racing-");
         ex.setWaitForTasksToCompleteOnShutdown(true);
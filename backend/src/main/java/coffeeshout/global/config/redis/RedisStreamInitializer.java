@@ -1,8 +1,10 @@
 package coffeeshout.global.config.redis;
 
+import coffeeshout.global.cluster.RoomPartitions;
 import coffeeshout.global.config.properties.RedisStreamProperties;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.stream.ReadOffset;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
@@ -10,14 +12,20 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class RedisStreamInitializer {
 
+    public static final String RACING_GAME_GROUP = "racing-game-group";
+
     private final StringRedisTemplate stringRedisTemplate;
     private final RedisStreamProperties streamProperties;
+    private final RoomPartitions roomPartitions;
 
     public void initialize() {
-        createStreamIfAbsent(streamProperties.roomJoinKey());
-        createStreamIfAbsent(streamProperties.cardGameSelectKey());
-        createStreamIfAbsent(streamProperties.racingGameKey());
-        createConsumerGroupIfAbsent(streamProperties.racingGameKey(), "racing-game-group");
+        streamProperties.roomJoinKeys().forEach(this::createStreamIfAbsent);
+        streamProperties.cardGameSelectKeys().forEach(this::createStreamIfAbsent);
+        roomPartitions.all().forEach(partition -> {
+            final String key = RoomPartitions.streamKey(streamProperties.racingGameKey(), partition);
+            createStreamIfAbsent(key);
+            createConsumerGroupIfAbsent(key, RACING_GAME_GROUP);
+        });
     }
 
     private void createStreamIfAbsent(final String key) {
@@ -30,7 +38,7 @@ public class RedisStreamInitializer {
 
     private void createConsumerGroupIfAbsent(final String key, final String group) {
         try {
-            stringRedisTemplate.opsForStream().createGroup(key, group);
+            stringRedisTemplate.opsForStream().createGroup(key, ReadOffset.latest(), group);
         } catch (final Exception e) {
             // BUSYGROUP: 이미 존재하는 그룹이면 무시
         }
@@ -0,0 +1,44 @@
+package coffeeshout.global.config.redis;
+
+import coffeeshout.global.config.properties.RedisProperties;
+import coffeeshout.global.config.properties.RedisStreamProperties;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.resource.ClientResources;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/*
+    - 스트림 XADD 전용 Lettuce 클라이언트
+    - 자동 flush를 끈 커넥션은 StringRedisTemplate이 쓰는 공유 커넥션과 섞을 수 없으므로 클라이언트를 분리한다.
+ */
+@Configuration
+public class StreamProducerClientConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ClientResources streamProducerClientResources(RedisStreamProperties redisStreamProperties) {
+        final int ioThreads = redisStreamProperties.producer().ioThreads();
+
+        return ClientResources.builder()
+                .ioThreadPoolSize(ioThreads)
+                .computationThreadPoolSize(ioThreads)
+                .build();
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public RedisClient streamProducerRedisClient(
+            @Qualifier("streamProducerClientResources") ClientResources streamProducerClientResources,
+            RedisProperties redisProperties
+    ) {
+        final RedisURI.Builder uriBuilder = RedisURI.builder()
+                .withHost(redisProperties.host())
+                .withPort(redisProperties.port());
+
+        if (redisProperties.ssl().enabled()) {
+            uriBuilder.withSsl(true);
+        }
+
+        return RedisClient.create(streamProducerClientResources, uriBuilder.build());
+    }
+}
@@ -0,0 +1,17 @@
+package coffeeshout.global.lock;
+
+/**
+ * {@link RedisLock} 동작 방식
+ */
+public enum LockMode {
+
+    /**
+     * 완료 키 확인 → Redisson 락 획득 → 실행 → 완료 마킹 → 락 해제 (4~6 왕복)
+     */
+    REDISSON,
+
+    /**
+     * Lua 스크립트로 완료 여부 확인과 임대(lease) 획득을 한 번에 처리하고, 실행 후 한 번 더 호출해 완료로 바꾼다 (2 왕복)
+     */
+    CLAIM
+}
@@ -0,0 +1,59 @@
+package coffeeshout.global.lock;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 한 번만 실행해야 하는 작업의 Redis 선점 키
+ * <p>
+ * 키 하나에 상태를 담는다. 값이 없으면 미처리, 토큰이면 누군가 leaseTime 동안 처리 중, "done"이면 처리 완료다. 선점은 SET NX PX 한 번으로,
+ * 완료와 선점 해제는 Lua 스크립트 한 번으로 원자적으로 처리한다. 완료와 해제는 자신이 선점한 토큰일 때만 반영한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisClaim {
+
+    static final String DONE = "done";
+
+    private static final RedisScript<Long> COMPLETE_SCRIPT = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 선점에 성공하면 토큰을 돌려준다. 이미 처리됐거나 다른 곳에서 처리 중이면 비어 있다.
+     */
+    public Optional<String> claim(String key, Duration leaseTime) {
+        final String token = UUID.randomUUID().toString();
+        final Boolean claimed = stringRedisTemplate.opsForValue().setIfAbsent(key, token, leaseTime);
+        return Boolean.TRUE.equals(claimed) ? Optional.of(token) : Optional.empty();
+    }
+
+    public boolean complete(String key, String token, Duration doneTtl) {
+        final Long completed = stringRedisTemplate.execute(
+                COMPLETE_SCRIPT, List.of(key), token, DONE, String.valueOf(doneTtl.toMillis()));
+        return Long.valueOf(1L).equals(completed);
+    }
+
+    public void release(String key, String token) {
+        stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(key), token);
+    }
+}
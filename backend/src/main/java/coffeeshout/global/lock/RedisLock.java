@@ -47,4 +47,11 @@ public @interface RedisLock {
      * 처리 완료 마킹 TTL (밀리초) 기본값: 600000 (10분)
      */
     long doneTtl() default 600000;
+
+    /**
+     * 락 동작 방식 기본값: REDISSON
+     * <p>
+     * CLAIM이면 lockPrefix를 쓰지 않고 donePrefix 키 하나로 선점과 완료 마킹을 처리하며, waitTime은 무시한다. (즉시 포기)
+     */
+    LockMode mode() default LockMode.REDISSON;
 }
@@ -2,6 +2,9 @@ package coffeeshout.global.lock;
 
 import java.lang.reflect.Method;
 import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,6 +18,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
@@ -24,6 +28,8 @@ import org.springframework.stereotype.Component;
  * Redis 분산 락 AOP (Redisson 사용)
  *
  * @RedisLock 어노테이션이 붙은 메서드 실행 전에 락을 획득하고, 실행 후 락을 해제함
+ * <p>
+ * mode가 CLAIM이면 Redisson 락 대신 {@link RedisClaim}으로 선점(1 왕복)과 완료 마킹(1 왕복)만 한다. SpEL 키 표현식은 한 번만 파싱해 캐싱한다.
  */
 @Slf4j
 @Aspect
@@ -35,16 +41,24 @@ public class RedisLockAspect {
 
     private final RedissonClient redissonClient;
     private final RedisTemplate<String, String> redisTemplate;
+    private final RedisClaim redisClaim;
     private final ExpressionParser parser = new SpelExpressionParser();
+    private final Map<String, Expression> expressionCache = new ConcurrentHashMap<>();
 
     @Around("@annotation(coffeeshout.global.lock.RedisLock)")
     public Object lock(ProceedingJoinPoint joinPoint) throws Throwable {
         final MethodSignature signature = (MethodSignature) joinPoint.getSignature();
         final Method method = signature.getMethod();
         final RedisLock redisLock = method.getAnnotation(RedisLock.class);
-        
-        final String lockKey = getLockKey(joinPoint, redisLock);
-        final String doneKey = getDoneKey(joinPoint, redisLock);
+
+        final String dynamicKey = parseSpel(joinPoint, redisLock.key());
+        final String doneKey = redisLock.donePrefix() + dynamicKey;
+
+        if (redisLock.mode() == LockMode.CLAIM) {
+            return claimAndProceed(joinPoint, redisLock, doneKey);
+        }
+
+        final String lockKey = redisLock.lockPrefix() + dynamicKey;
 
         // 이미 처리된 이벤트인지 확인
         if (isAlreadyProcessed(doneKey)) {
@@ -91,19 +105,31 @@ public class RedisLockAspect {
         }
     }
 
-    private String getLockKey(ProceedingJoinPoint joinPoint, RedisLock redisLock) {
-        final String dynamicKey = parseSpel(joinPoint, redisLock.key());
-        return redisLock.lockPrefix() + dynamicKey;
-    }
+    private Object claimAndProceed(ProceedingJoinPoint joinPoint, RedisLock redisLock, String doneKey)
+            throws Throwable {
+        final Optional<String> token = redisClaim.claim(doneKey, Duration.ofMillis(redisLock.leaseTime()));
+        if (token.isEmpty()) {
+            log.debug("이미 처리됐거나 처리 중인 이벤트 (스킵): doneKey={}", doneKey);
+            return null;
+        }
 
-    private String getDoneKey(ProceedingJoinPoint joinPoint, RedisLock redisLock) {
-        final String dynamicKey = parseSpel(joinPoint, redisLock.key());
-        return redisLock.donePrefix() + dynamicKey;
+        final Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            // 다른 노드가 곧바로 다시 처리할 수 있도록 선점을 푼다.
+            redisClaim.release(doneKey, token.get());
+            throw e;
+        }
+
+        if (!redisClaim.complete(doneKey, token.get(), Duration.ofMillis(redisLock.doneTtl()))) {
+            log.warn("선점 시간이 지난 뒤 처리 완료 (중복 처리 가능): doneKey={}", doneKey);
+        }
+        return result;
     }
 
     private String parseSpel(ProceedingJoinPoint joinPoint, String spelExpression) {
         final MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        final Method method = signature.getMethod();
         final Object[] args = joinPoint.getArgs();
         final String[] parameterNames = signature.getParameterNames();
 
@@ -112,7 +138,8 @@ public class RedisLockAspect {
             context.setVariable(parameterNames[i], args[i]);
         }
 
-        return parser.parseExpression(spelExpression).getValue(context, String.class);
+        return expressionCache.computeIfAbsent(spelExpression, parser::parseExpression)
+                .getValue(context, String.class);
     }
 
     private boolean isAlreadyProcessed(String doneKey) {
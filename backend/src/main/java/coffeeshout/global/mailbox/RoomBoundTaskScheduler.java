@@ -0,0 +1,70 @@
+package coffeeshout.global.mailbox;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.Trigger;
+
+/*
+    - 예약 시각이 되면 작업을 해당 방의 메일박스에서 실행하도록 감싸는 TaskScheduler다.
+    - 타이머 스레드는 메일박스에 넣기만 하고 기다리지 않는다. (여러 방이 공유하는 스케줄러 스레드를 막지 않는다)
+    - 같은 예약 작업이 아직 메일박스에서 실행되지 않았으면 다음 주기 실행은 건너뛴다. (느린 방에서 틱이 쌓이지 않는다)
+    - 예약 작업의 예외는 메일박스가 기록하고, 반복 예약은 취소되지 않는다.
+ */
+public class RoomBoundTaskScheduler implements TaskScheduler {
+
+    private final TaskScheduler delegate;
+    private final RoomMailboxExecutor mailboxExecutor;
+    private final String joinCode;
+
+    public RoomBoundTaskScheduler(TaskScheduler delegate, RoomMailboxExecutor mailboxExecutor, String joinCode) {
+        this.delegate = delegate;
+        this.mailboxExecutor = mailboxExecutor;
+        this.joinCode = joinCode;
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable task, Trigger trigger) {
+        return delegate.schedule(bind(task), trigger);
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable task, Instant startTime) {
+        return delegate.schedule(bind(task), startTime);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Instant startTime, Duration period) {
+        return delegate.scheduleAtFixedRate(bind(task), startTime, period);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Duration period) {
+        return delegate.scheduleAtFixedRate(bind(task), period);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Instant startTime, Duration delay) {
+        return delegate.scheduleWithFixedDelay(bind(task), startTime, delay);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Duration delay) {
+        return delegate.scheduleWithFixedDelay(bind(task), delay);
+    }
+
+    private Runnable bind(Runnable task) {
+        final AtomicBoolean queued = new AtomicBoolean(false);
+        return () -> {
+            if (!queued.compareAndSet(false, true)) {
+                return;
+            }
+            mailboxExecutor.execute(joinCode, () -> {
+                queued.set(false);
+                task.run();
+            });
+        };
+    }
+}
@@ -0,0 +1,153 @@
+package coffeeshout.global.mailbox;
+
+import io.micrometer.context.ContextSnapshotFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/*
+    - 방(JoinCode)마다 하나의 메일박스(직렬 큐)를 두고, 해당 방의 명령을 한 번에 하나씩 가상 스레드에서 실행한다.
+    - 같은 방의 명령은 들어온 순서대로 실행되므로 도메인 객체에 락이 필요 없다.
+    - 서로 다른 방의 명령은 독립적으로 실행되어 경합이 방을 넘지 않는다.
+    - 메일박스 안에서 같은 방으로 call/run을 다시 호출하면 즉시 실행한다. (재진입)
+    - 명령은 mailboxes.compute 안에서 큐에 넣는다. release도 같은 키로 compute 하므로,
+      비어 있는 메일박스를 지우는 순간 끼어든 명령이 버려진 메일박스에 들어가 같은 방이 두 메일박스에서 실행되는 일이 없다.
+ */
+@Slf4j
+@Component
+public class RoomMailboxExecutor {
+
+    private static final int MAX_BATCH_SIZE = 64;
+    private static final ThreadLocal<String> CURRENT_ROOM = new ThreadLocal<>();
+
+    private final ExecutorService carrier;
+    private final ContextSnapshotFactory snapshotFactory;
+    private final Map<String, Mailbox> mailboxes;
+
+    public RoomMailboxExecutor(
+            @Qualifier("virtualThreadExecutor") ExecutorService carrier,
+            ContextSnapshotFactory snapshotFactory,
+            MeterRegistry meterRegistry
+    ) {
+        this.carrier = carrier;
+        this.snapshotFactory = snapshotFactory;
+        this.mailboxes = new ConcurrentHashMap<>();
+        Gauge.builder("room.mailbox.count", mailboxes, Map::size)
+                .description("활성 방 메일박스 수")
+                .register(meterRegistry);
+    }
+
+    public void execute(String joinCode, Runnable command) {
+        final Runnable wrapped = snapshotFactory.captureAll().wrap(command);
+        final Mailbox mailbox = mailboxes.compute(joinCode, (key, existing) -> {
+            final Mailbox target = existing == null ? new Mailbox(key) : existing;
+            target.queue.add(wrapped);
+            return target;
+        });
+        mailbox.trySchedule();
+    }
+
+    public <T> T call(String joinCode, Supplier<T> command) {
+        if (joinCode.equals(CURRENT_ROOM.get())) {
+            return command.get();
+        }
+        try {
+            return submit(joinCode, command).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    // 결과를 기다리지 않고 여러 방에 한꺼번에 맡길 때 쓴다. 같은 방 메일박스 안에서 join하면 교착된다.
+    public <T> CompletableFuture<T> submit(String joinCode, Supplier<T> command) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        execute(joinCode, () -> {
+            try {
+                future.complete(command.get());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+        return future;
+    }
+
+    public void run(String joinCode, Runnable command) {
+        call(joinCode, () -> {
+            command.run();
+            return null;
+        });
+    }
+
+    public void release(String joinCode) {
+        mailboxes.computeIfPresent(joinCode, (key, mailbox) -> mailbox.isIdle() ? null : mailbox);
+    }
+
+    private final class Mailbox implements Runnable {
+
+        private final String joinCode;
+        private final Queue<Runnable> queue;
+        private final AtomicBoolean scheduled;
+
+        private Mailbox(String joinCode) {
+            this.joinCode = joinCode;
+            this.queue = new ConcurrentLinkedQueue<>();
+            this.scheduled = new AtomicBoolean(false);
+        }
+
+        private boolean isIdle() {
+            return !scheduled.get() && queue.isEmpty();
+        }
+
+        private void trySchedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                carrier.execute(this);
+            }
+        }
+
+        // 한 번에 MAX_BATCH_SIZE개까지만 처리하고 캐리어를 양보한다.
+        @Override
+        public void run() {
+            CURRENT_ROOM.set(joinCode);
+            try {
+                for (int i = 0; i < MAX_BATCH_SIZE; i++) {
+                    final Runnable command = queue.poll();
+                    if (command == null) {
+                        break;
+                    }
+                    runSafely(command);
+                }
+            } finally {
+                CURRENT_ROOM.remove();
+                scheduled.set(false);
+                if (!queue.isEmpty()) {
+                    trySchedule();
+                }
+            }
+        }
+
+        private void runSafely(Runnable command) {
+            try {
+                command.run();
+            } catch (Exception e) {
+                log.error("방 메일박스 명령 실행 실패: joinCode={}", joinCode, e);
+            }
+        }
+    }
+}
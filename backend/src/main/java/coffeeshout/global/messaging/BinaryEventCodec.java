@@ -0,0 +1,226 @@
+package coffeeshout.global.messaging;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/*
+    - pub/sub 이벤트 봉투: [magic 1B][version 1B][type tag 2B][payload]
+    - payload는 타입별로 등록한 ObjectReader/ObjectWriter로 Smile(바이너리 JSON) 인코딩한다.
+      default typing 메타데이터(@class)를 쓰지 않고, 헤더로 타입을 알기 때문에 본문은 한 번만 파싱한다.
+    - 타입 태그는 등록할 때 명시한 번호다. enum 상수 순서를 바꿔도 노드 간 호환이 깨지지 않는다.
+      한 번 쓴 번호는 다른 타입에 재사용하지 않는다.
+    - 롤링 배포 중 이전 버전 노드가 보낸 JSON('{'로 시작)도 읽는다.
+    - 발행 노드를 함께 보내야 하면 version 2 봉투를 쓴다: [magic 1B][version 1B][type tag 2B][origin 길이 1B][origin][payload]
+      구독 측은 origin만 보고 자기가 보낸 메시지를 본문 파싱 없이 걸러낼 수 있다.
+ */
+public class BinaryEventCodec<E extends Enum<E>, T> {
+
+    private static final byte MAGIC = (byte) 0xCE;
+    private static final byte VERSION = 1;
+    private static final byte VERSION_WITH_ORIGIN = 2;
+    private static final int HEADER_SIZE = 4;
+    private static final int MAX_ORIGIN_LENGTH = 255;
+    private static final byte JSON_OBJECT_START = '{';
+    private static final String LEGACY_TYPE_FIELD = "eventType";
+
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper smileMapper;
+    private final Class<E> eventTypeClass;
+    private final Function<T, E> eventTypeExtractor;
+    private final Map<E, Schema<E>> schemasByType;
+    private final Map<Short, Schema<E>> schemasByTag;
+
+    public BinaryEventCodec(ObjectMapper jsonMapper, Class<E> eventTypeClass, Function<T, E> eventTypeExtractor) {
+        this.jsonMapper = jsonMapper;
+        this.smileMapper = jsonMapper.copyWith(new SmileFactory());
+        this.eventTypeClass = eventTypeClass;
+        this.eventTypeExtractor = eventTypeExtractor;
+        this.schemasByType = new EnumMap<>(eventTypeClass);
+        this.schemasByTag = new HashMap<>();
+    }
+
+    public BinaryEventCodec<E, T> register(int tag, E eventType, Class<? extends T> eventClass) {
+        if (tag < 0 || tag > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("타입 태그는 0 ~ " + Short.MAX_VALUE + " 이어야 합니다: " + tag);
+        }
+        final Schema<E> schema = new Schema<>(
+                (short) tag,
+                eventType,
+                smileMapper.readerFor(eventClass),
+                smileMapper.writerFor(eventClass),
+                jsonMapper.readerFor(eventClass)
+        );
+        if (schemasByTag.putIfAbsent(schema.tag(), schema) != null) {
+            throw new IllegalStateException("이미 등록된 타입 태그입니다: " + tag);
+        }
+        if (schemasByType.putIfAbsent(eventType, schema) != null) {
+            throw new IllegalStateException("이미 등록된 이벤트 타입입니다: " + eventType);
+        }
+        return this;
+    }
+
+    public byte[] encode(T event) {
+        final Schema<E> schema = findSchema(event);
+        final byte[] payload = writePayload(schema, event);
+        return ByteBuffer.allocate(HEADER_SIZE + payload.length)
+                .put(MAGIC)
+                .put(VERSION)
+                .putShort(schema.tag())
+                .put(payload)
+                .array();
+    }
+
+    public byte[] encode(T event, String origin) {
+        final byte[] originBytes = origin.getBytes(StandardCharsets.UTF_8);
+        if (originBytes.length > MAX_ORIGIN_LENGTH) {
+            throw new IllegalArgumentException("origin은 " + MAX_ORIGIN_LENGTH + "바이트 이하여야 합니다: " + origin);
+        }
+        final Schema<E> schema = findSchema(event);
+        final byte[] payload = writePayload(schema, event);
+        return ByteBuffer.allocate(HEADER_SIZE + 1 + originBytes.length + payload.length)
+                .put(MAGIC)
+                .put(VERSION_WITH_ORIGIN)
+                .putShort(schema.tag())
+                .put((byte) originBytes.length)
+                .put(originBytes)
+                .put(payload)
+                .array();
+    }
+
+    /*
+        - 본문은 파싱하지 않고 헤더에서 발행 노드를 읽는다. origin 없이 인코딩했거나 레거시 JSON이면 비어 있다.
+     */
+    public Optional<String> peekOrigin(byte[] body) {
+        if (isLegacyJson(body)) {
+            return Optional.empty();
+        }
+        validateHeader(body);
+        if (body[1] != VERSION_WITH_ORIGIN) {
+            return Optional.empty();
+        }
+        return Optional.of(new String(body, HEADER_SIZE + 1, originLength(body), StandardCharsets.UTF_8));
+    }
+
+    /*
+        - 본문은 파싱하지 않고 헤더만 보고 타입을 돌려준다. 모르는 태그면 비어 있다.
+        - 레거시 JSON은 타입을 알기 위해 트리 파싱이 필요하므로 decode에서 함께 처리한다.
+     */
+    public Optional<E> peekType(byte[] body) {
+        if (isLegacyJson(body)) {
+            return Optional.ofNullable(readLegacyTree(body).get(LEGACY_TYPE_FIELD))
+                    .map(JsonNode::asText)
+                    .map(name -> Enum.valueOf(eventTypeClass, name));
+        }
+        return findSchema(body).map(Schema::eventType);
+    }
+
+    public T decode(byte[] body) {
+        if (isLegacyJson(body)) {
+            return decodeLegacyJson(body);
+        }
+        final Schema<E> schema = findSchema(body)
+                .orElseThrow(() -> new IllegalArgumentException("알 수 없는 타입 태그입니다: " + readTag(body)));
+        final int payloadOffset = payloadOffset(body);
+        try {
+            return schema.reader().readValue(body, payloadOffset, body.length - payloadOffset);
+        } catch (IOException e) {
+            throw new UncheckedIOException("이벤트 디코딩 실패: " + schema.eventType(), e);
+        }
+    }
+
+    private Schema<E> findSchema(T event) {
+        final Schema<E> schema = schemasByType.get(eventTypeExtractor.apply(event));
+        if (schema == null) {
+            throw new IllegalArgumentException("등록되지 않은 이벤트 타입입니다: " + eventTypeExtractor.apply(event));
+        }
+        return schema;
+    }
+
+    private byte[] writePayload(Schema<E> schema, T event) {
+        try {
+            return schema.writer().writeValueAsBytes(event);
+        } catch (IOException e) {
+            throw new UncheckedIOException("이벤트 인코딩 실패: " + schema.eventType(), e);
+        }
+    }
+
+    private Optional<Schema<E>> findSchema(byte[] body) {
+        validateHeader(body);
+        return Optional.ofNullable(schemasByTag.get(readTag(body)));
+    }
+
+    private void validateHeader(byte[] body) {
+        if (body.length < HEADER_SIZE || body[0] != MAGIC) {
+            throw new IllegalArgumentException("이벤트 봉투 형식이 아닙니다.");
+        }
+        if (body[1] != VERSION && body[1] != VERSION_WITH_ORIGIN) {
+            throw new IllegalArgumentException("지원하지 않는 봉투 버전입니다: " + body[1]);
+        }
+        if (body[1] == VERSION_WITH_ORIGIN
+                && (body.length <= HEADER_SIZE || body.length < HEADER_SIZE + 1 + originLength(body))) {
+            throw new IllegalArgumentException("origin 길이가 봉투보다 깁니다.");
+        }
+    }
+
+    private int originLength(byte[] body) {
+        return body[HEADER_SIZE] & 0xFF;
+    }
+
+    private int payloadOffset(byte[] body) {
+        if (body[1] == VERSION_WITH_ORIGIN) {
+            return HEADER_SIZE + 1 + originLength(body);
+        }
+        return HEADER_SIZE;
+    }
+
+    private short readTag(byte[] body) {
+        return (short) (((body[2] & 0xFF) << 8) | (body[3] & 0xFF));
+    }
+
+    private boolean isLegacyJson(byte[] body) {
+        return body.length > 0 && body[0] == JSON_OBJECT_START;
+    }
+
+    private T decodeLegacyJson(byte[] body) {
+        final JsonNode tree = readLegacyTree(body);
+        final E eventType = Enum.valueOf(eventTypeClass, tree.get(LEGACY_TYPE_FIELD).asText());
+        final Schema<E> schema = schemasByType.get(eventType);
+        if (schema == null) {
+            throw new IllegalArgumentException("등록되지 않은 이벤트 타입입니다: " + eventType);
+        }
+        try {
+            return schema.legacyReader().readValue(tree);
+        } catch (IOException e) {
+            throw new UncheckedIOException("레거시 이벤트 디코딩 실패: " + eventType, e);
+        }
+    }
+
+    private JsonNode readLegacyTree(byte[] body) {
+        try {
+            return jsonMapper.readTree(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException("레거시 이벤트 파싱 실패", e);
+        }
+    }
+
+    private record Schema<E>(
+            short tag,
+            E eventType,
+            ObjectReader reader,
+            ObjectWriter writer,
+            ObjectReader legacyReader
+    ) {
+    }
+}
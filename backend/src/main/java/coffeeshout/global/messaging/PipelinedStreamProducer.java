@@ -0,0 +1,186 @@
+package coffeeshout.global.messaging;
+
+import coffeeshout.global.config.properties.RedisStreamProperties;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.XAddArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.StringCodec;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/*
+    - 모든 스트림 프로듀서가 공유하는 XADD 파이프라인
+    - 자동 flush를 끈 전용 커넥션에 명령을 쌓아 두고, 커넥션마다 flushBatchSize개가 쌓이거나
+      flushInterval이 지나면 한 번에 내보낸다. 명령마다 write syscall을 하지 않는다.
+    - 같은 스트림 키는 항상 같은 커넥션으로 보내므로 키 안에서의 순서가 유지된다.
+    - 응답을 기다리는 XADD는 maxInFlight개로 제한한다. 가득 차면 acquireTimeout까지 기다리고,
+      그래도 자리가 없으면 RejectedExecutionException으로 거절한다. (Redis가 느릴 때 메모리에 무한히 쌓지 않는다)
+    - 지연 시간은 논리 스트림(샤드/파티션 접미사를 뺀 키)별 Timer로 기록한다.
+ */
+@Slf4j
+@Component
+public class PipelinedStreamProducer {
+
+    private static final String PAYLOAD_FIELD = "payload";
+
+    private final RedisClient redisClient;
+    private final RedisStreamProperties.Producer producerProperties;
+    private final XAddArgs xAddArgs;
+    private final MeterRegistry meterRegistry;
+    private final Semaphore inFlight;
+    private final Counter rejectedCounter;
+    private final Counter failedCounter;
+    private final Map<String, Timer> latencyTimers = new ConcurrentHashMap<>();
+
+    private final List<StatefulRedisConnection<String, String>> connections = new ArrayList<>();
+    private final List<AtomicInteger> unflushedCounts = new ArrayList<>();
+
+    private ScheduledExecutorService flushScheduler;
+
+    public PipelinedStreamProducer(
+            @Qualifier("streamProducerRedisClient") RedisClient redisClient,
+            RedisStreamProperties redisStreamProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.redisClient = redisClient;
+        this.producerProperties = redisStreamProperties.producer();
+        this.xAddArgs = new XAddArgs()
+                .maxlen(redisStreamProperties.maxLength())
+                .approximateTrimming();
+        this.meterRegistry = meterRegistry;
+        this.inFlight = new Semaphore(producerProperties.maxInFlight());
+        this.rejectedCounter = Counter.builder("redis.stream.xadd.rejected")
+                .description("in-flight 한도를 넘어 거절한 XADD 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("redis.stream.xadd.failed")
+                .description("실패한 XADD 수")
+                .register(meterRegistry);
+        Gauge.builder("redis.stream.xadd.inflight", inFlight,
+                        semaphore -> producerProperties.maxInFlight() - semaphore.availablePermits())
+                .description("응답을 기다리는 XADD 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        for (int i = 0; i < producerProperties.connections(); i++) {
+            final StatefulRedisConnection<String, String> connection = redisClient.connect(StringCodec.UTF8);
+            connection.setAutoFlushCommands(false);
+            connections.add(connection);
+            unflushedCounts.add(new AtomicInteger(0));
+        }
+
+        flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "stream-producer-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final long intervalMicros = producerProperties.flushInterval().toNanos() / 1_000;
+        flushScheduler.scheduleAtFixedRate(this::flushAll, intervalMicros, intervalMicros, TimeUnit.MICROSECONDS);
+
+        log.info("스트림 프로듀서 시작: 커넥션 {}개, flushBatchSize={}, flushInterval={}, maxInFlight={}",
+                connections.size(), producerProperties.flushBatchSize(), producerProperties.flushInterval(),
+                producerProperties.maxInFlight());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (flushScheduler != null) {
+            flushScheduler.shutdown();
+        }
+        for (StatefulRedisConnection<String, String> connection : connections) {
+            connection.flushCommands();
+            connection.closeAsync();
+        }
+    }
+
+    /*
+        - stream: 지표 태그로 쓰는 논리 스트림 이름, streamKey: 실제로 XADD 할 키
+        - 반환한 future는 Redis 응답(레코드 id)을 받으면 완료된다.
+     */
+    public CompletableFuture<String> add(String stream, String streamKey, String payload) {
+        return add(stream, streamKey, Map.of(PAYLOAD_FIELD, payload));
+    }
+
+    public CompletableFuture<String> add(String stream, String streamKey, Map<String, String> fields) {
+        acquire(stream);
+        final int index = Math.floorMod(streamKey.hashCode(), connections.size());
+        final StatefulRedisConnection<String, String> connection = connections.get(index);
+        final Timer timer = latencyTimer(stream);
+        final long startNanos = System.nanoTime();
+
+        final CompletableFuture<String> result;
+        try {
+            result = connection.async()
+                    .xadd(streamKey, xAddArgs, fields)
+                    .toCompletableFuture();
+        } catch (RuntimeException e) {
+            inFlight.release();
+            throw e;
+        }
+        result.whenComplete((recordId, throwable) -> {
+            inFlight.release();
+            timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            if (throwable != null) {
+                failedCounter.increment();
+                log.error("스트림 XADD 실패: streamKey={}", streamKey, throwable);
+            }
+        });
+
+        if (unflushedCounts.get(index).incrementAndGet() >= producerProperties.flushBatchSize()) {
+            flush(index);
+        }
+        return result;
+    }
+
+    private void acquire(String stream) {
+        try {
+            if (inFlight.tryAcquire(producerProperties.acquireTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        rejectedCounter.increment();
+        throw new RejectedExecutionException("스트림 발행 대기 한도를 넘었습니다: stream=" + stream);
+    }
+
+    private void flushAll() {
+        for (int index = 0; index < connections.size(); index++) {
+            if (unflushedCounts.get(index).get() > 0) {
+                flush(index);
+            }
+        }
+    }
+
+    private void flush(int index) {
+        unflushedCounts.get(index).set(0);
+        connections.get(index).flushCommands();
+    }
+
+    private Timer latencyTimer(String stream) {
+        return latencyTimers.computeIfAbsent(stream, key -> Timer.builder("redis.stream.xadd.latency")
+                .description("XADD 왕복 지연 시간")
+                .tag("stream", key)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,136 @@
+package coffeeshout.global.messaging;
+
+import coffeeshout.global.cluster.ClusterNode;
+import coffeeshout.global.config.properties.RedisStreamProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoStream;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/*
+    - 그룹 없이 모든 노드가 읽는 스트림(방 입장, 카드 선택)의 노드별 읽기 위치를 Redis 해시(stream:checkpoint:{nodeId})에 기록한다.
+    - 처리한 레코드 id는 메모리에만 갱신하고, interval마다 바뀐 키만 한 번에 기록한다. (레코드마다 HSET 하지 않는다)
+    - 시작 위치
+      - 체크포인트가 있으면 그 다음 레코드부터 읽는다. (같은 node-id로 재시작한 경우)
+      - 없으면 구독 시점의 마지막 레코드 id를 기준으로 삼는다. 방 상태는 스냅샷에서 가져오므로 지난 기록을 다시 반영하지 않는다.
+        ReadOffset.latest()와 달리 구독 직후 첫 폴링 전에 들어온 레코드도 놓치지 않는다.
+    - 체크포인트 키가 node-id이므로 켜져 있으면 cluster.node-id를 반드시 지정해야 한다. 지정하지 않으면 시작하지 않는다.
+      (임의 id로는 재시작 후 체크포인트를 찾지 못하고 키만 쌓인다)
+    - 꺼져 있으면 기록하지 않고 항상 구독 시점의 마지막 레코드부터 읽는다.
+ */
+@Slf4j
+@Component
+public class StreamCheckpointStore {
+
+    private static final String CHECKPOINT_KEY_PREFIX = "stream:checkpoint:";
+    private static final String EMPTY_STREAM_ID = "0-0";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final boolean enabled;
+    private final String checkpointKey;
+    private final Duration interval;
+    private final Duration ttl;
+    private final Map<String, String> pendingCheckpoints = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService flushScheduler;
+
+    public StreamCheckpointStore(
+            StringRedisTemplate stringRedisTemplate,
+            ClusterNode clusterNode,
+            RedisStreamProperties redisStreamProperties
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.enabled = redisStreamProperties.checkpoint().enabled();
+        if (enabled && !clusterNode.isStable()) {
+            throw new IllegalStateException(
+                    "스트림 체크포인트를 쓰려면 cluster.node-id(CLUSTER_NODE_ID)를 지정해야 합니다.");
+        }
+        this.checkpointKey = CHECKPOINT_KEY_PREFIX + clusterNode.getId();
+        this.interval = redisStreamProperties.checkpoint().interval();
+        this.ttl = redisStreamProperties.checkpoint().ttl();
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "stream-checkpoint-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final long intervalMillis = interval.toMillis();
+        flushScheduler.scheduleWithFixedDelay(this::flush, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (flushScheduler != null) {
+            flushScheduler.shutdown();
+        }
+        flush();
+    }
+
+    public ReadOffset startOffset(String streamKey) {
+        if (!enabled) {
+            return ReadOffset.from(lastRecordId(streamKey));
+        }
+        final Object checkpoint = stringRedisTemplate.opsForHash().get(checkpointKey, streamKey);
+        if (checkpoint != null) {
+            log.info("스트림 체크포인트에서 이어서 읽음: streamKey={}, recordId={}", streamKey, checkpoint);
+            return ReadOffset.from((String) checkpoint);
+        }
+        return ReadOffset.from(lastRecordId(streamKey));
+    }
+
+    public void record(String streamKey, RecordId recordId) {
+        if (!enabled) {
+            return;
+        }
+        pendingCheckpoints.put(streamKey, recordId.getValue());
+    }
+
+    void flush() {
+        if (pendingCheckpoints.isEmpty()) {
+            return;
+        }
+        final Map<String, String> checkpoints = new HashMap<>();
+        pendingCheckpoints.keySet().forEach(streamKey -> {
+            final String recordId = pendingCheckpoints.remove(streamKey);
+            if (recordId != null) {
+                checkpoints.put(streamKey, recordId);
+            }
+        });
+        try {
+            stringRedisTemplate.opsForHash().putAll(checkpointKey, checkpoints);
+            stringRedisTemplate.expire(checkpointKey, ttl);
+        } catch (Exception e) {
+            // 다음 주기에 다시 기록한다. 그 사이 더 최신 id가 들어왔다면 그 값을 남긴다.
+            checkpoints.forEach(pendingCheckpoints::putIfAbsent);
+            log.warn("스트림 체크포인트 기록 실패: key={}", checkpointKey, e);
+        }
+    }
+
+    private String lastRecordId(String streamKey) {
+        try {
+            final XInfoStream info = stringRedisTemplate.opsForStream().info(streamKey);
+            final String lastGeneratedId = info.lastGeneratedId();
+            return lastGeneratedId == null ? EMPTY_STREAM_ID : lastGeneratedId;
+        } catch (Exception e) {
+            log.warn("스트림 마지막 레코드 조회 실패, 처음부터 읽음: streamKey={}", streamKey, e);
+            return EMPTY_STREAM_ID;
+        }
+    }
+}
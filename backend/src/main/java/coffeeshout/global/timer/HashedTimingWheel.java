@@ -0,0 +1,197 @@
+package coffeeshout.global.timer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntConsumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.TaskScheduler;
+
+/*
+    - 지연 작업마다 스케줄러 태스크를 만드는 대신, tickDuration 간격으로 도는 버킷 배열(바퀴)에 작업을 걸어 둔다.
+    - schedule/cancel은 큐에 넣기만 하므로 O(1)이고, 버킷 이동과 만료 처리는 tick을 돌리는 스레드 하나에서만 일어난다.
+    - 한 바퀴보다 긴 지연은 deadline(절대 tick)으로 구분해 해당 바퀴가 올 때까지 버킷에 남겨 둔다.
+    - 만료된 작업은 tick마다 한 번에 모아 실행하며, 작업 하나의 예외가 다른 작업에 영향을 주지 않는다.
+    - tick마다 이번에 도는 버킷에 걸린 작업 수를 occupancyRecorder로 넘긴다. 한 바퀴를 돌면 모든 버킷이 한 번씩 기록된다.
+ */
+@Slf4j
+public class HashedTimingWheel {
+
+    private final String name;
+    private final long tickMillis;
+    private final int mask;
+    private final List<Set<Timeout>> buckets;
+    private final Queue<Timeout> pendingTimeouts;
+    private final Queue<Timeout> cancelledTimeouts;
+    private final AtomicInteger pendingCount;
+    private final AtomicReference<ScheduledFuture<?>> ticker;
+
+    private volatile long currentTick;
+    private volatile int largestBucketSize;
+    private volatile IntConsumer occupancyRecorder = size -> {
+    };
+
+    public HashedTimingWheel(String name, Duration tickDuration, int wheelSize) {
+        if (tickDuration.isNegative() || tickDuration.isZero()) {
+            throw new IllegalArgumentException("tick 간격은 양수여야 합니다.");
+        }
+        if (wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("바퀴 크기는 2의 거듭제곱이어야 합니다: " + wheelSize);
+        }
+        this.name = name;
+        this.tickMillis = tickDuration.toMillis();
+        this.mask = wheelSize - 1;
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new LinkedHashSet<>());
+        }
+        this.pendingTimeouts = new ConcurrentLinkedQueue<>();
+        this.cancelledTimeouts = new ConcurrentLinkedQueue<>();
+        this.pendingCount = new AtomicInteger();
+        this.ticker = new AtomicReference<>();
+    }
+
+    public void start(TaskScheduler taskScheduler) {
+        if (ticker.get() != null) {
+            return;
+        }
+        ticker.set(taskScheduler.scheduleAtFixedRate(this::tick, Duration.ofMillis(tickMillis)));
+        log.info("타이밍 휠 시작: name={}, tick={}ms, size={}", name, tickMillis, buckets.size());
+    }
+
+    public void stop() {
+        final ScheduledFuture<?> future = ticker.getAndSet(null);
+        if (future != null) {
+            future.cancel(false);
+        }
+    }
+
+    public void setOccupancyRecorder(IntConsumer occupancyRecorder) {
+        this.occupancyRecorder = occupancyRecorder;
+    }
+
+    public Timeout schedule(Runnable task, Duration delay) {
+        final long delayTicks = Math.max(1, (delay.toMillis() + tickMillis - 1) / tickMillis);
+        final Timeout timeout = new Timeout(this, task, currentTick + delayTicks);
+        pendingCount.incrementAndGet();
+        pendingTimeouts.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * 바퀴를 한 칸 돌리고, 해당 버킷에서 만료된 작업을 실행한다.
+     * <p>
+     * tick은 하나의 스레드에서만 호출되어야 한다.
+     * </p>
+     */
+    public void tick() {
+        final long tick = currentTick + 1;
+        removeCancelledTimeouts();
+        transferPendingTimeouts(tick);
+
+        final List<Timeout> expired = new ArrayList<>();
+        final Set<Timeout> bucket = buckets.get((int) (tick & mask));
+        occupancyRecorder.accept(bucket.size());
+        final Iterator<Timeout> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            final Timeout timeout = iterator.next();
+            if (timeout.deadline <= tick) {
+                iterator.remove();
+                expired.add(timeout);
+            }
+        }
+        currentTick = tick;
+
+        for (Timeout timeout : expired) {
+            timeout.expire();
+        }
+        largestBucketSize = buckets.stream().mapToInt(Set::size).max().orElse(0);
+    }
+
+    public int pendingCount() {
+        return pendingCount.get();
+    }
+
+    public int largestBucketSize() {
+        return largestBucketSize;
+    }
+
+    private void transferPendingTimeouts(long tick) {
+        Timeout timeout;
+        while ((timeout = pendingTimeouts.poll()) != null) {
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            // tick 사이에 등록된 작업이 이미 지난 버킷에 들어가지 않도록 최소 이번 tick으로 맞춘다.
+            timeout.deadline = Math.max(timeout.deadline, tick);
+            timeout.bucket = buckets.get((int) (timeout.deadline & mask));
+            timeout.bucket.add(timeout);
+        }
+    }
+
+    private void removeCancelledTimeouts() {
+        Timeout timeout;
+        while ((timeout = cancelledTimeouts.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    public static final class Timeout {
+
+        private static final int ST_INIT = 0;
+        private static final int ST_CANCELLED = 1;
+        private static final int ST_EXPIRED = 2;
+
+        private final HashedTimingWheel wheel;
+        private final Runnable task;
+        private final AtomicInteger state;
+        private long deadline;
+        private Set<Timeout> bucket;
+
+        private Timeout(HashedTimingWheel wheel, Runnable task, long deadline) {
+            this.wheel = wheel;
+            this.task = task;
+            this.deadline = deadline;
+            this.state = new AtomicInteger(ST_INIT);
+        }
+
+        public boolean cancel() {
+            if (!state.compareAndSet(ST_INIT, ST_CANCELLED)) {
+                return false;
+            }
+            wheel.pendingCount.decrementAndGet();
+            wheel.cancelledTimeouts.add(this);
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return state.get() == ST_CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return state.get() == ST_EXPIRED;
+        }
+
+        private void expire() {
+            if (!state.compareAndSet(ST_INIT, ST_EXPIRED)) {
+                return;
+            }
+            wheel.pendingCount.decrementAndGet();
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.error("타이밍 휠 작업 실행 중 예외 발생: wheel={}", wheel.name, e);
+            }
+        }
+    }
+}
@@ -1,13 +1,11 @@
 package coffeeshout.global.websocket;
 
+import coffeeshout.global.timer.HashedTimingWheel;
+import coffeeshout.global.timer.HashedTimingWheel.Timeout;
 import coffeeshout.room.application.RoomService;
 import java.time.Duration;
-import java.time.Instant;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledFuture;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -16,19 +14,19 @@ public class DelayedPlayerRemovalService {
 
     private static final Duration REMOVAL_DELAY = Duration.ofSeconds(15);
 
-    private final TaskScheduler taskScheduler;
+    private final HashedTimingWheel timingWheel;
     private final PlayerDisconnectionService playerDisconnectionService;
-    private final ConcurrentHashMap<String, ScheduledFuture<?>> scheduledTasks;
+    private final ConcurrentHashMap<String, Timeout> scheduledTasks;
     private final RoomService roomService;
     private final StompSessionManager stompSessionManager;
 
     public DelayedPlayerRemovalService(
-            @Qualifier("delayRemovalScheduler") TaskScheduler taskScheduler,
+            HashedTimingWheel timingWheel,
             PlayerDisconnectionService playerDisconnectionService,
             StompSessionManager stompSessionManager,
             RoomService roomService
     ) {
-        this.taskScheduler = taskScheduler;
+        this.timingWheel = timingWheel;
         this.playerDisconnectionService = playerDisconnectionService;
         this.scheduledTasks = new ConcurrentHashMap<>();
         this.roomService = roomService;
@@ -48,21 +46,20 @@ public class DelayedPlayerRemovalService {
         playerDisconnectionService.cancelReady(playerKey);
 
         // 새로운 스케줄 등록
-        final ScheduledFuture<?> future = taskScheduler.schedule(
+        final Timeout timeout = timingWheel.schedule(
                 () -> {
                     executePlayerRemoval(playerKey, sessionId, reason);
                     stompSessionManager.removeSessionInternal(sessionId);
                 },
-                Instant.now().plus(REMOVAL_DELAY)
+                REMOVAL_DELAY
         );
 
-        scheduledTasks.put(playerKey, future);
+        scheduledTasks.put(playerKey, timeout);
     }
 
     public void cancelScheduledRemoval(String playerKey) {
-        final ScheduledFuture<?> future = scheduledTasks.remove(playerKey);
-        if (future != null && !future.isDone()) {
-            future.cancel(false);
+        final Timeout timeout = scheduledTasks.remove(playerKey);
+        if (timeout != null && timeout.cancel()) {
             log.info("플레이어 지연 삭제 취소됨: playerKey={}", playerKey);
         }
     }
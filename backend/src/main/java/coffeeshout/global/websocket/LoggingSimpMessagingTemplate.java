@@ -4,8 +4,12 @@ import coffeeshout.global.ui.WebSocketResponse;
 import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
 
 @Component
 @Slf4j
@@ -19,6 +23,18 @@ public class LoggingSimpMessagingTemplate {
         messagingTemplate.convertAndSend(destination, payload);
     }
 
+    /*
+        - 이미 JSON으로 직렬화한 본문을 메시지 컨버터를 거치지 않고 그대로 보낸다.
+        - 브로커는 구독자마다 같은 byte[]를 공유하므로 발행 한 번에 직렬화도 한 번이다.
+     */
+    @Observed(name = "websocket.send.serialized")
+    public void sendSerialized(String destination, byte[] json) {
+        final SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        messagingTemplate.send(destination, MessageBuilder.createMessage(json, accessor.getMessageHeaders()));
+    }
+
     @Observed(name = "websocket.send.toUser")
     public void convertAndSendToUser(String sessionId, String destination, Object payload) {
         messagingTemplate.convertAndSendToUser(sessionId, destination, payload);
@@ -2,12 +2,21 @@ package coffeeshout.global.websocket;
 
 import static org.springframework.util.Assert.isTrue;
 
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+/*
+    - 플레이어 세션을 joinCode -> playerName -> PlayerSession 2단계로 관리한다.
+      방 단위 인원 수와 스냅샷은 그 방의 맵만 본다. (노드 전체 키를 훑지 않는다)
+    - "joinCode:playerName" 문자열 키는 Redis 이벤트와 주고받는 형식으로만 쓰고, 안에서는 PlayerSession을 들고 다닌다.
+    - 등록/해제는 rooms.compute 안에서 방 단위로 원자적으로 처리한다.
+      재연결로 세션이 바뀌면 이전 세션 매핑을 같은 compute 안에서 지우므로, 끊긴 이전 세션의 해제가 늦게 와도 새 세션을 지우지 않는다.
+ */
 @Slf4j
 @Component
 public class StompSessionManager {
@@ -19,30 +28,27 @@ public class StompSessionManager {
     private final Set<String> processedDisconnections = ConcurrentHashMap.newKeySet();
 
     // 플레이어 세션 매핑 관리
-    private final ConcurrentHashMap<String, String> playerSessionMap; // "joinCode:playerName" -> sessionId
-    private final ConcurrentHashMap<String, String> sessionPlayerMap; // sessionId -> "joinCode:playerName"
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, PlayerSession>> rooms; // joinCode -> playerName -> session
+    private final ConcurrentHashMap<String, PlayerSession> sessions; // sessionId -> session
 
     public StompSessionManager() {
-        this.playerSessionMap = new ConcurrentHashMap<>();
-        this.sessionPlayerMap = new ConcurrentHashMap<>();
+        this.rooms = new ConcurrentHashMap<>();
+        this.sessions = new ConcurrentHashMap<>();
+    }
+
+    public record PlayerSession(String joinCode, String playerName, String sessionId) {
+
+        public String playerKey() {
+            return joinCode + PLAYER_KEY_DELIMITER + playerName;
+        }
     }
 
     /**
      * 플레이어 세션 매핑 등록
      */
     public void registerPlayerSession(@NonNull String joinCode, @NonNull String playerName, @NonNull String sessionId) {
-        final String playerKey = createPlayerKey(joinCode, playerName);
-
-        // 기존 세션이 있으면 정리
-        final String oldSessionId = playerSessionMap.get(playerKey);
-        if (oldSessionId != null) {
-            log.info("기존 플레이어 세션 정리: playerKey={}, oldSessionId={}", playerKey, oldSessionId);
-            sessionPlayerMap.remove(oldSessionId);
-        }
-
-        playerSessionMap.put(playerKey, sessionId);
-        sessionPlayerMap.put(sessionId, playerKey);
-        log.info("플레이어 세션 매핑 등록: playerKey={}, sessionId={}", playerKey, sessionId);
+        createPlayerKey(joinCode, playerName); // 구분자 검증
+        register(new PlayerSession(joinCode, playerName, sessionId));
     }
 
     /**
@@ -50,55 +56,54 @@ public class StompSessionManager {
      */
     public void registerPlayerSessionInternal(@NonNull String playerKey, @NonNull String sessionId) {
         validatePlayerKey(playerKey);
-        
-        // 기존 세션이 있으면 정리
-        final String oldSessionId = playerSessionMap.get(playerKey);
-        if (oldSessionId != null) {
-            log.info("기존 플레이어 세션 정리: playerKey={}, oldSessionId={}", playerKey, oldSessionId);
-            sessionPlayerMap.remove(oldSessionId);
-        }
-
-        playerSessionMap.put(playerKey, sessionId);
-        sessionPlayerMap.put(sessionId, playerKey);
-        log.info("플레이어 세션 매핑 등록: playerKey={}, sessionId={}", playerKey, sessionId);
+        final String[] parts = playerKey.split(PLAYER_KEY_DELIMITER);
+        register(new PlayerSession(parts[0], parts[1], sessionId));
     }
 
     /**
      * 플레이어의 기존 세션 ID 조회
      */
     public boolean hasSessionId(@NonNull String joinCode, @NonNull String playerName) {
-        final String playerKey = createPlayerKey(joinCode, playerName);
-        return playerSessionMap.containsKey(playerKey);
+        return findPlayerSession(joinCode, playerName) != null;
     }
 
     /**
      * 플레이어 키 존재 여부 확인 (Internal)
      */
     public boolean hasPlayerKeyInternal(@NonNull String playerKey) {
-        return playerSessionMap.containsKey(playerKey);
+        if (!isValidPlayerKey(playerKey)) {
+            return false;
+        }
+        final String[] parts = playerKey.split(PLAYER_KEY_DELIMITER);
+        return findPlayerSession(parts[0], parts[1]) != null;
     }
 
     public String getSessionId(@NonNull String joinCode, @NonNull String playerName) {
-        final String playerKey = createPlayerKey(joinCode, playerName);
+        final PlayerSession session = findPlayerSession(joinCode, playerName);
 
-        isTrue(playerSessionMap.containsKey(playerKey),
+        isTrue(session != null,
                 "플레이어 세션이 존재하지 않습니다: joinCode=%s, playerName=%s".formatted(joinCode, playerName));
 
-        return playerSessionMap.get(playerKey);
+        return session.sessionId();
     }
 
     /**
      * 세션 ID로 플레이어 키 조회
      */
     public boolean hasPlayerKey(@NonNull String sessionId) {
-        return sessionPlayerMap.containsKey(sessionId);
+        return sessions.containsKey(sessionId);
     }
 
     public String getPlayerKey(@NonNull String sessionId) {
-        isTrue(sessionPlayerMap.containsKey(sessionId),
-                "세션 ID가 존재하지 않습니다: sessionId=%s".formatted(sessionId));
+        return getPlayerSession(sessionId).playerKey();
+    }
+
+    public PlayerSession getPlayerSession(@NonNull String sessionId) {
+        final PlayerSession session = sessions.get(sessionId);
+
+        isTrue(session != null, "세션 ID가 존재하지 않습니다: sessionId=%s".formatted(sessionId));
 
-        return sessionPlayerMap.get(sessionId);
+        return session;
     }
 
     /**
@@ -123,11 +128,7 @@ public class StompSessionManager {
      * 세션 매핑 제거
      */
     public void removeSession(@NonNull String sessionId) {
-        final String playerKey = sessionPlayerMap.remove(sessionId);
-        if (playerKey != null) {
-            playerSessionMap.remove(playerKey);
-            log.info("세션 매핑 제거: playerKey={}, sessionId={}", playerKey, sessionId);
-        }
+        unregister(sessionId);
 
         // 중복 disconnect 방지 세트 정리(메모리 누수 방지 목적)
         processedDisconnections.remove(sessionId);
@@ -137,11 +138,7 @@ public class StompSessionManager {
      * 세션 매핑 제거 (Internal - Redis 이벤트 핸들러용)
      */
     public void removeSessionInternal(@NonNull String sessionId) {
-        final String playerKey = sessionPlayerMap.remove(sessionId);
-        if (playerKey != null) {
-            playerSessionMap.remove(playerKey);
-            log.info("세션 매핑 제거: playerKey={}, sessionId={}", playerKey, sessionId);
-        }
+        unregister(sessionId);
 
         // 중복 disconnect 방지 세트 정리(메모리 누수 방지 목적)
         processedDisconnections.remove(sessionId);
@@ -158,16 +155,27 @@ public class StompSessionManager {
      * 특정 방의 연결된 플레이어 수 조회
      */
     public long getConnectedPlayerCountByJoinCode(@NonNull String joinCode) {
-        return playerSessionMap.keySet().stream()
-                .filter(playerKey -> playerKey.startsWith(joinCode + PLAYER_KEY_DELIMITER))
-                .count();
+        final Map<String, PlayerSession> players = rooms.get(joinCode);
+        return players == null ? 0 : players.size();
+    }
+
+    /**
+     * 특정 방의 플레이어 세션 스냅샷 조회 (playerName -> sessionId)
+     */
+    public Map<String, String> getPlayerSessions(@NonNull String joinCode) {
+        final Map<String, PlayerSession> players = rooms.get(joinCode);
+        if (players == null) {
+            return Map.of();
+        }
+        return players.values().stream()
+                .collect(Collectors.toUnmodifiableMap(PlayerSession::playerName, PlayerSession::sessionId));
     }
 
     /**
      * 현재 인스턴스에 연결된 전체 클라이언트 수 조회
      */
     public int getTotalConnectedClientCount() {
-        return sessionPlayerMap.size();
+        return sessions.size();
     }
 
     /**
@@ -192,6 +200,49 @@ public class StompSessionManager {
                 !parts[0].isEmpty() && !parts[1].isEmpty();
     }
 
+    private PlayerSession findPlayerSession(String joinCode, String playerName) {
+        final Map<String, PlayerSession> players = rooms.get(joinCode);
+        return players == null ? null : players.get(playerName);
+    }
+
+    private void register(PlayerSession session) {
+        final PlayerSession[] replaced = new PlayerSession[1];
+        rooms.compute(session.joinCode(), (joinCode, players) -> {
+            final ConcurrentHashMap<String, PlayerSession> roomPlayers = players == null ? new ConcurrentHashMap<>() : players;
+            final PlayerSession oldSession = roomPlayers.put(session.playerName(), session);
+            if (oldSession != null && !oldSession.sessionId().equals(session.sessionId())) {
+                log.info("기존 플레이어 세션 정리: playerKey={}, oldSessionId={}", session.playerKey(), oldSession.sessionId());
+                sessions.remove(oldSession.sessionId(), oldSession);
+            }
+            replaced[0] = sessions.put(session.sessionId(), session);
+            return roomPlayers;
+        });
+
+        // 같은 세션이 다른 플레이어로 다시 등록된 경우 이전 자리를 비운다. (다른 방일 수 있어 compute 밖에서 처리)
+        final PlayerSession previous = replaced[0];
+        if (previous != null && !previous.playerKey().equals(session.playerKey())) {
+            rooms.computeIfPresent(previous.joinCode(), (joinCode, players) -> {
+                players.remove(previous.playerName(), previous);
+                return players.isEmpty() ? null : players;
+            });
+        }
+        log.info("플레이어 세션 매핑 등록: playerKey={}, sessionId={}", session.playerKey(), session.sessionId());
+    }
+
+    private void unregister(String sessionId) {
+        final PlayerSession session = sessions.get(sessionId);
+        if (session == null) {
+            return;
+        }
+        rooms.computeIfPresent(session.joinCode(), (joinCode, players) -> {
+            if (sessions.remove(sessionId, session)) {
+                players.remove(session.playerName(), session);
+                log.info("세션 매핑 제거: playerKey={}, sessionId={}", session.playerKey(), sessionId);
+            }
+            return players.isEmpty() ? null : players;
+        });
+    }
+
     /**
      * 플레이어 키 유효성 검증 및 예외 발생
      */
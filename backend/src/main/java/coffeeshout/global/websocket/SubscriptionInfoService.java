@@ -1,90 +1,126 @@
 package coffeeshout.global.websocket;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+/*
+    - 세션 -> (subscriptionId -> destination) 역인덱스로 구독을 관리한다.
+      subscriptionId는 세션마다 따로 매기므로(sub-0, sub-1 ...) 세션 아래에 둔다.
+    - 연결이 끊기면 그 세션의 구독만 지운다. (노드 전체 구독을 훑지 않는다)
+    - destination별 구독 수는 세션 집합 대신 카운터로 센다. 0이 되면 항목을 지운다.
+    - 지표는 카디널리티가 낮은 것만 내보낸다.
+      - websocket.subscriptions{topic}: 방 목적지는 joinCode를 뺀 접미사(racing-game, gameState ...)로 묶는다.
+        접미사가 없는 /topic/room/{joinCode}는 room으로 센다.
+        종류가 MAX_TOPIC_TYPES개를 넘으면 나머지는 other로 센다.
+      - websocket.subscriptions.rooms.empty: 구독이 있었다가 모두 빠진 방 수. 방이 삭제되면(releaseRoom) 빠진다.
+        구독이 남은 채로 삭제된 방은 기억해 두었다가 마지막 구독이 빠질 때 항목을 지운다.
+        같은 코드로 다시 구독이 들어오면 새로 만들어진 방으로 보고 기억을 지운다.
+ */
 @Slf4j
 @Service
 public class SubscriptionInfoService {
 
-    // destination별 구독자 수를 직접 관리
-    private final ConcurrentMap<String, Set<String>> subscriptions = new ConcurrentHashMap<>();
+    private static final String ROOM_PREFIX = "/topic/room/";
+    private static final String ROOM_TOPIC = "room";
+    private static final String OTHER_TOPIC = "other";
+    private static final int MAX_TOPIC_TYPES = 32;
 
-    // subscriptionId -> destination 매핑 관리
-    private final ConcurrentMap<String, String> subscriptionToDestination = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentMap<String, ConcurrentMap<String, String>> sessionSubscriptions = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, AtomicInteger> destinationCounts = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, AtomicInteger> roomCounts = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, AtomicInteger> topicCounts = new ConcurrentHashMap<>();
+    private final Set<String> releasedRooms = ConcurrentHashMap.newKeySet();
+
+    public SubscriptionInfoService(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("websocket.subscriptions.rooms.empty", roomCounts, SubscriptionInfoService::countEmptyRooms)
+                .description("구독자가 모두 빠진 방 수")
+                .register(meterRegistry);
+    }
 
     /**
      * 구독 추가
      */
     public void addSubscription(String sessionId, String destination, String subscriptionId) {
-        subscriptions.computeIfAbsent(destination, k -> ConcurrentHashMap.newKeySet()).add(sessionId);
-        subscriptionToDestination.put(subscriptionId, destination);
+        final String[] previous = new String[1];
+        sessionSubscriptions.compute(sessionId, (key, subscriptions) -> {
+            final ConcurrentMap<String, String> bucket = subscriptions == null ? new ConcurrentHashMap<>() : subscriptions;
+            previous[0] = bucket.put(subscriptionId, destination);
+            return bucket;
+        });
+        if (previous[0] != null) {
+            decrement(previous[0]);
+        }
+        increment(destination);
         log.debug("구독 추가: sessionId={}, destination={}, subscriptionId={}, 현재 구독자수={}",
                 sessionId, destination, subscriptionId, getSubscriberCount(destination));
     }
 
     /**
-     * 구독 제거
+     * subscriptionId로 구독 제거
      */
-    public void removeSubscription(String sessionId, String destination) {
-        Set<String> sessions = subscriptions.get(destination);
-        if (sessions != null) {
-            sessions.remove(sessionId);
-            if (sessions.isEmpty()) {
-                subscriptions.remove(destination);
-            }
+    public void removeSubscription(String sessionId, String subscriptionId) {
+        final String[] removed = new String[1];
+        sessionSubscriptions.computeIfPresent(sessionId, (key, subscriptions) -> {
+            removed[0] = subscriptions.remove(subscriptionId);
+            return subscriptions.isEmpty() ? null : subscriptions;
+        });
+        if (removed[0] == null) {
+            log.debug("subscriptionId에 해당하는 구독이 없음: sessionId={}, subscriptionId={}", sessionId, subscriptionId);
+            return;
         }
+        decrement(removed[0]);
         log.debug("구독 제거: sessionId={}, destination={}, 현재 구독자수={}",
-                sessionId, destination, getSubscriberCount(destination));
+                sessionId, removed[0], getSubscriberCount(removed[0]));
     }
 
-//    /**
-//     * subscriptionId로 구독 제거
-//     */
-//    public void removeSubscriptionById(String sessionId, String subscriptionId) {
-//        String destination = subscriptionToDestination.remove(subscriptionId);
-//        if (destination != null) {
-//            removeSubscription(sessionId, destination);
-//        } else {
-//            log.warn("subscriptionId에 해당하는 destination을 찾을 수 없음: subscriptionId={}", subscriptionId);
-//        }
-//    }
-
     /**
      * 세션의 모든 구독 제거
      */
     public void removeAllSubscriptions(String sessionId) {
-        // subscriptionId -> destination 매핑에서 해당 세션 관련 항목들 제거
-        subscriptionToDestination.entrySet().removeIf(entry -> {
-            String destination = entry.getValue();
-            Set<String> sessions = subscriptions.get(destination);
-            return sessions != null && sessions.contains(sessionId);
-        });
+        final Map<String, String> subscriptions = sessionSubscriptions.remove(sessionId);
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::decrement);
+        }
+        log.debug("세션의 모든 구독 제거: sessionId={}, 구독 수={}",
+                sessionId, subscriptions == null ? 0 : subscriptions.size());
+    }
 
-        // destination별 구독에서 세션 제거
-        subscriptions.entrySet().removeIf(entry -> {
-            entry.getValue().remove(sessionId);
-            return entry.getValue().isEmpty();
+    /**
+     * 삭제된 방을 빈 방 지표에서 뺀다.
+     */
+    public void releaseRoom(String joinCode) {
+        roomCounts.computeIfPresent(joinCode, (key, count) -> {
+            if (count.get() <= 0) {
+                return null;
+            }
+            releasedRooms.add(key);
+            return count;
         });
-        log.debug("세션의 모든 구독 제거: sessionId={}", sessionId);
     }
 
     /**
      * 특정 destination의 구독자 수 조회
      */
     public int getSubscriberCount(String destination) {
-        Set<String> sessions = subscriptions.get(destination);
-        return sessions != null ? sessions.size() : 0;
+        final AtomicInteger count = destinationCounts.get(destination);
+        return count != null ? count.get() : 0;
     }
 
     /**
      * 특정 destination의 구독 정보 로깅
      */
     public void logSubscriptionInfo(String destination) {
-        int count = getSubscriberCount(destination);
+        final int count = getSubscriberCount(destination);
 
         if (count == 0) {
             log.info("구독자 없음: destination={}", destination);
@@ -92,13 +128,6 @@ public class SubscriptionInfoService {
         }
 
         log.info("구독 정보: destination={}, 구독자 수={}", destination, count);
-
-        Set<String> sessions = subscriptions.get(destination);
-        if (sessions != null) {
-            sessions.forEach(sessionId ->
-                    log.info("  - sessionId={}", sessionId)
-            );
-        }
     }
 
     /**
@@ -106,8 +135,88 @@ public class SubscriptionInfoService {
      */
     public void logAllSubscriptions() {
         log.info("=== 전체 구독 정보 ===");
-        subscriptions.forEach((destination, sessions) ->
-                log.info("destination={}, 구독자수={}", destination, sessions.size())
+        destinationCounts.forEach((destination, count) ->
+                log.info("destination={}, 구독자수={}", destination, count.get())
         );
     }
+
+    private void increment(String destination) {
+        destinationCounts.compute(destination, (key, count) -> {
+            final AtomicInteger counter = count == null ? new AtomicInteger() : count;
+            counter.incrementAndGet();
+            return counter;
+        });
+        topicCount(destination).incrementAndGet();
+        final String joinCode = joinCodeOf(destination);
+        if (joinCode != null) {
+            roomCounts.compute(joinCode, (key, count) -> {
+                releasedRooms.remove(key);
+                final AtomicInteger counter = count == null ? new AtomicInteger() : count;
+                counter.incrementAndGet();
+                return counter;
+            });
+        }
+    }
+
+    private void decrement(String destination) {
+        destinationCounts.computeIfPresent(destination,
+                (key, count) -> count.decrementAndGet() <= 0 ? null : count);
+        topicCount(destination).decrementAndGet();
+        final String joinCode = joinCodeOf(destination);
+        if (joinCode != null) {
+            roomCounts.computeIfPresent(joinCode, (key, count) -> {
+                if (count.decrementAndGet() <= 0 && releasedRooms.remove(key)) {
+                    return null;
+                }
+                return count;
+            });
+        }
+    }
+
+    private AtomicInteger topicCount(String destination) {
+        final String topic = topicOf(destination);
+        final AtomicInteger count = topicCounts.get(topic);
+        if (count != null) {
+            return count;
+        }
+        final String tag = topicCounts.size() < MAX_TOPIC_TYPES ? topic : OTHER_TOPIC;
+        return topicCounts.computeIfAbsent(tag, key -> {
+            final AtomicInteger counter = new AtomicInteger();
+            Gauge.builder("websocket.subscriptions", counter, AtomicInteger::get)
+                    .description("topic 종류별 구독 수")
+                    .tag("topic", key)
+                    .register(meterRegistry);
+            return counter;
+        });
+    }
+
+    private static String topicOf(String destination) {
+        final String joinCode = joinCodeOf(destination);
+        if (joinCode == null) {
+            return destination;
+        }
+        final int suffixStart = ROOM_PREFIX.length() + joinCode.length() + 1;
+        if (suffixStart >= destination.length()) {
+            return ROOM_TOPIC;
+        }
+        return destination.substring(suffixStart);
+    }
+
+    private static String joinCodeOf(String destination) {
+        if (destination == null || !destination.startsWith(ROOM_PREFIX)) {
+            return null;
+        }
+        final int slash = destination.indexOf('/', ROOM_PREFIX.length());
+        final int joinCodeEnd = slash < 0 ? destination.length() : slash;
+        if (joinCodeEnd == ROOM_PREFIX.length()) {
+            return null;
+        }
+        return destination.substring(ROOM_PREFIX.length(), joinCodeEnd);
+    }
+
+    private static double countEmptyRooms(Map<String, AtomicInteger> roomCounts) {
+        return roomCounts.values().stream()
+                .filter(count -> count.get() <= 0)
+                .count();
+    }
 }
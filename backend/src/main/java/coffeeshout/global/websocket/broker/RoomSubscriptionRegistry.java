@@ -0,0 +1,180 @@
+package coffeeshout.global.websocket.broker;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.broker.AbstractSubscriptionRegistry;
+import org.springframework.messaging.simp.broker.DefaultSubscriptionRegistry;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+/*
+    - SimpleBroker의 구독 저장소를 방 단위로 나눈다.
+      /topic/room/{joinCode}/{suffix} 구독은 joinCode -> suffix -> sessionId -> subscriptionId 로 저장하고,
+      발행 대상 조회는 해시 조회 두 번으로 끝난다. (전체 구독을 패턴 매칭하지 않는다)
+    - 구독/해지는 해당 방 버킷만 건드린다. 방 버킷 변경은 rooms.compute 안에서만 하므로 빈 버킷을 지우는 것과 새 구독이 엇갈리지 않는다.
+      발행 조회는 잠금 없이 읽는다. 세션별 역인덱스(sessionId -> subscriptionId -> 방 키)로
+      해지 메시지(구독 id만 있음)와 연결 종료를 처리한다.
+    - 방 목적지가 아니거나 와일드카드가 들어간 구독은 기존 DefaultSubscriptionRegistry에 맡긴다.
+      방 목적지 아래 와일드카드(*, ?, {}) 구독이 하나라도 있으면 그때만 방 발행에서도 함께 조회한다.
+      와일드카드가 없는 방 아래 목적지(/topic/room/ABCD/ 처럼 끝이 /인 것)는 fallback에만 두고 패턴으로 세지 않는다.
+ */
+public class RoomSubscriptionRegistry extends AbstractSubscriptionRegistry {
+
+    private static final String ROOM_PREFIX = "/topic/room/";
+
+    private final DefaultSubscriptionRegistry fallback = new DefaultSubscriptionRegistry();
+    private final Map<String, Map<String, Map<String, Set<String>>>> rooms = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, RoomKey>> sessions = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> roomPatternSubscriptions = new ConcurrentHashMap<>();
+    private final AtomicInteger roomPatternCount = new AtomicInteger();
+
+    @Override
+    protected void addSubscriptionInternal(
+            String sessionId,
+            String subscriptionId,
+            String destination,
+            Message<?> message
+    ) {
+        final RoomKey roomKey = RoomKey.parse(destination);
+        if (roomKey == null) {
+            if (destination.startsWith(ROOM_PREFIX) && RoomKey.isPattern(destination)) {
+                addRoomPattern(sessionId, subscriptionId);
+            }
+            fallback.registerSubscription(message);
+            return;
+        }
+
+        rooms.compute(roomKey.joinCode(), (joinCode, room) -> {
+            final Map<String, Map<String, Set<String>>> bucket = room == null ? new ConcurrentHashMap<>() : room;
+            bucket.computeIfAbsent(roomKey.suffix(), key -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(sessionId, key -> ConcurrentHashMap.newKeySet())
+                    .add(subscriptionId);
+            return bucket;
+        });
+        sessions.compute(sessionId, (key, subscriptions) -> {
+            final Map<String, RoomKey> bucket = subscriptions == null ? new ConcurrentHashMap<>() : subscriptions;
+            bucket.put(subscriptionId, roomKey);
+            return bucket;
+        });
+    }
+
+    @Override
+    protected void removeSubscriptionInternal(String sessionId, String subscriptionId, Message<?> message) {
+        final RoomKey[] removed = new RoomKey[1];
+        sessions.computeIfPresent(sessionId, (key, subscriptions) -> {
+            removed[0] = subscriptions.remove(subscriptionId);
+            return subscriptions.isEmpty() ? null : subscriptions;
+        });
+        if (removed[0] == null) {
+            removeRoomPattern(sessionId, subscriptionId);
+            fallback.unregisterSubscription(message);
+            return;
+        }
+        removeFromRoom(removed[0], sessionId, subscriptionId);
+    }
+
+    @Override
+    public void unregisterAllSubscriptions(String sessionId) {
+        final Map<String, RoomKey> sessionSubscriptions = sessions.remove(sessionId);
+        if (sessionSubscriptions != null) {
+            sessionSubscriptions.forEach((subscriptionId, roomKey) -> removeFromRoom(roomKey, sessionId, subscriptionId));
+        }
+        final Set<String> patterns = roomPatternSubscriptions.remove(sessionId);
+        if (patterns != null) {
+            roomPatternCount.addAndGet(-patterns.size());
+        }
+        fallback.unregisterAllSubscriptions(sessionId);
+    }
+
+    @Override
+    protected MultiValueMap<String, String> findSubscriptionsInternal(String destination, Message<?> message) {
+        final RoomKey roomKey = RoomKey.parse(destination);
+        if (roomKey == null) {
+            return fallback.findSubscriptions(message);
+        }
+
+        final MultiValueMap<String, String> result = new LinkedMultiValueMap<>();
+        final Map<String, Map<String, Set<String>>> room = rooms.get(roomKey.joinCode());
+        final Map<String, Set<String>> subscribers = room == null ? null : room.get(roomKey.suffix());
+        if (subscribers != null) {
+            subscribers.forEach((sessionId, subscriptionIds) -> result.addAll(sessionId, subscriptionIds.stream().toList()));
+        }
+        if (roomPatternCount.get() > 0) {
+            fallback.findSubscriptions(message).forEach(result::addAll);
+        }
+        return result;
+    }
+
+    int roomCount() {
+        return rooms.size();
+    }
+
+    int roomPatternCount() {
+        return roomPatternCount.get();
+    }
+
+    private void addRoomPattern(String sessionId, String subscriptionId) {
+        roomPatternSubscriptions.compute(sessionId, (key, subscriptionIds) -> {
+            final Set<String> bucket = subscriptionIds == null ? ConcurrentHashMap.newKeySet() : subscriptionIds;
+            if (bucket.add(subscriptionId)) {
+                roomPatternCount.incrementAndGet();
+            }
+            return bucket;
+        });
+    }
+
+    private void removeRoomPattern(String sessionId, String subscriptionId) {
+        roomPatternSubscriptions.computeIfPresent(sessionId, (key, subscriptionIds) -> {
+            if (subscriptionIds.remove(subscriptionId)) {
+                roomPatternCount.decrementAndGet();
+            }
+            return subscriptionIds.isEmpty() ? null : subscriptionIds;
+        });
+    }
+
+    private void removeFromRoom(RoomKey roomKey, String sessionId, String subscriptionId) {
+        rooms.computeIfPresent(roomKey.joinCode(), (joinCode, room) -> {
+            room.computeIfPresent(roomKey.suffix(), (suffix, subscribers) -> {
+                subscribers.computeIfPresent(sessionId, (key, subscriptionIds) -> {
+                    subscriptionIds.remove(subscriptionId);
+                    return subscriptionIds.isEmpty() ? null : subscriptionIds;
+                });
+                return subscribers.isEmpty() ? null : subscribers;
+            });
+            return room.isEmpty() ? null : room;
+        });
+    }
+
+    /*
+        - /topic/room/{joinCode}/{suffix} 형태의 리터럴 목적지만 방 키로 본다.
+        - 접미사가 없는 /topic/room/{joinCode}는 빈 접미사("")로 본다.
+     */
+    record RoomKey(String joinCode, String suffix) {
+
+        static RoomKey parse(String destination) {
+            if (!destination.startsWith(ROOM_PREFIX) || isPattern(destination)) {
+                return null;
+            }
+            final int joinCodeEnd = destination.indexOf('/', ROOM_PREFIX.length());
+            if (joinCodeEnd < 0) {
+                return destination.length() == ROOM_PREFIX.length()
+                        ? null
+                        : new RoomKey(destination.substring(ROOM_PREFIX.length()), "");
+            }
+            if (joinCodeEnd == ROOM_PREFIX.length() || joinCodeEnd == destination.length() - 1) {
+                return null;
+            }
+            return new RoomKey(
+                    destination.substring(ROOM_PREFIX.length(), joinCodeEnd),
+                    destination.substring(joinCodeEnd + 1)
+            );
+        }
+
+        static boolean isPattern(String destination) {
+            return destination.indexOf('*') >= 0 || destination.indexOf('?') >= 0 || destination.indexOf('{') >= 0;
+        }
+    }
+}
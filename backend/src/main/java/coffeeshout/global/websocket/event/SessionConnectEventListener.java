@@ -64,7 +64,7 @@ public class SessionConnectEventListener {
     private void processPlayerConnection(String sessionId, String joinCode, String playerName) {
         try {
             // 방 존재 확인
-            final Room room = roomQueryService.getByJoinCode(new JoinCode(joinCode));
+            final Room room = roomQueryService.getByJoinCode(JoinCode.of(joinCode));
 
             // 게임 중이면 연결 거부
 //            if (room.isPlayingState()) {
@@ -1,8 +1,12 @@
 package coffeeshout.global.websocket.infra;
 
+import coffeeshout.global.messaging.BinaryEventCodec;
 import coffeeshout.global.websocket.event.player.PlayerBaseEvent;
+import coffeeshout.global.websocket.event.player.PlayerEventType;
+import java.nio.charset.StandardCharsets;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.stereotype.Component;
@@ -14,10 +18,13 @@ public class PlayerEventPublisher {
 
     private final RedisTemplate<String, Object> redisTemplate;
     private final ChannelTopic playerEventTopic;
+    private final BinaryEventCodec<PlayerEventType, PlayerBaseEvent> playerEventCodec;
 
     public <T extends PlayerBaseEvent> void publishEvent(T event) {
         try {
-            redisTemplate.convertAndSend(playerEventTopic.getTopic(), event);
+            final byte[] channel = playerEventTopic.getTopic().getBytes(StandardCharsets.UTF_8);
+            final byte[] body = playerEventCodec.encode(event);
+            redisTemplate.execute((RedisCallback<Long>) connection -> connection.publish(channel, body));
             log.info("플레이어 이벤트 발행됨: eventType={}, eventId={}",
                     event.eventType(), event.eventId());
         } catch (Exception e) {
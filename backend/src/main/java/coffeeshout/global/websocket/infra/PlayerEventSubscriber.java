@@ -2,15 +2,13 @@ package coffeeshout.global.websocket.infra;
 
 import coffeeshout.global.exception.custom.InvalidArgumentException;
 import coffeeshout.global.exception.custom.InvalidStateException;
+import coffeeshout.global.messaging.BinaryEventCodec;
 import coffeeshout.global.websocket.event.player.PlayerBaseEvent;
-import coffeeshout.global.websocket.event.player.PlayerDisconnectedEvent;
 import coffeeshout.global.websocket.event.player.PlayerEventType;
-import coffeeshout.global.websocket.event.player.PlayerReconnectedEvent;
 import coffeeshout.global.websocket.infra.handler.PlayerEventHandler;
 import coffeeshout.global.websocket.infra.handler.PlayerEventHandlerFactory;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.PostConstruct;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.connection.Message;
@@ -24,7 +22,7 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class PlayerEventSubscriber implements MessageListener {
 
-    private final ObjectMapper objectMapper;
+    private final BinaryEventCodec<PlayerEventType, PlayerBaseEvent> playerEventCodec;
     private final RedisMessageListenerContainer redisMessageListenerContainer;
     private final ChannelTopic playerEventTopic;
     private final PlayerEventHandlerFactory handlerFactory;
@@ -37,37 +35,24 @@ public class PlayerEventSubscriber implements MessageListener {
 
     @Override
     public void onMessage(Message message, byte[] pattern) {
-        final String body = new String(message.getBody());
+        final byte[] body = message.getBody();
 
         try {
-            final PlayerEventType eventType = extractEventType(body);
+            final Optional<PlayerEventType> eventType = playerEventCodec.peekType(body);
 
-            if (!handlerFactory.canHandle(eventType)) {
-                log.warn("처리할 수 없는 플레이어 이벤트 타입: {}", eventType);
+            if (eventType.isEmpty() || !handlerFactory.canHandle(eventType.get())) {
+                log.warn("처리할 수 없는 플레이어 이벤트 타입: {}", eventType.map(Enum::name).orElse("UNKNOWN_TAG"));
                 return;
             }
 
-            final PlayerBaseEvent event = deserializeEvent(body, eventType);
-            final PlayerEventHandler<PlayerBaseEvent> handler = handlerFactory.getHandler(eventType);
+            final PlayerBaseEvent event = playerEventCodec.decode(body);
+            final PlayerEventHandler<PlayerBaseEvent> handler = handlerFactory.getHandler(eventType.get());
             handler.handle(event);
 
         } catch (InvalidStateException | InvalidArgumentException e) {
-            log.warn("플레이어 이벤트 처리 중 오류: message={}", body, e);
+            log.warn("플레이어 이벤트 처리 중 오류: bodySize={}", body.length, e);
         } catch (Exception e) {
-            log.error("플레이어 이벤트 처리 실패: message={}", body, e);
+            log.error("플레이어 이벤트 처리 실패: bodySize={}", body.length, e);
         }
     }
-
-    private PlayerEventType extractEventType(String body) throws Exception {
-        final JsonNode jsonNode = objectMapper.readTree(body);
-        final String eventTypeStr = jsonNode.get("eventType").asText();
-        return PlayerEventType.valueOf(eventTypeStr);
-    }
-
-    private PlayerBaseEvent deserializeEvent(String body, PlayerEventType eventType) throws Exception {
-        return switch (eventType) {
-            case PLAYER_DISCONNECTED -> objectMapper.readValue(body, PlayerDisconnectedEvent.class);
-            case PLAYER_RECONNECTED -> objectMapper.readValue(body, PlayerReconnectedEvent.class);
-        };
-    }
 }
@@ -1,8 +1,12 @@
 package coffeeshout.global.websocket.infra;
 
+import coffeeshout.global.messaging.BinaryEventCodec;
 import coffeeshout.global.websocket.event.session.SessionBaseEvent;
+import coffeeshout.global.websocket.event.session.SessionEventType;
+import java.nio.charset.StandardCharsets;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.stereotype.Component;
@@ -14,10 +18,13 @@ public class SessionEventPublisher {
 
     private final RedisTemplate<String, Object> redisTemplate;
     private final ChannelTopic sessionEventTopic;
+    private final BinaryEventCodec<SessionEventType, SessionBaseEvent> sessionEventCodec;
 
     public <T extends SessionBaseEvent> void publishEvent(T event) {
         try {
-            redisTemplate.convertAndSend(sessionEventTopic.getTopic(), event);
+            final byte[] channel = sessionEventTopic.getTopic().getBytes(StandardCharsets.UTF_8);
+            final byte[] body = sessionEventCodec.encode(event);
+            redisTemplate.execute((RedisCallback<Long>) connection -> connection.publish(channel, body));
             log.info("세션 이벤트 발행됨: eventType={}, eventId={}",
                     event.eventType(), event.eventId());
         } catch (Exception e) {
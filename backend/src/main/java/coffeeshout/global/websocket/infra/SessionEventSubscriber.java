@@ -1,14 +1,12 @@
 package coffeeshout.global.websocket.infra;
 
+import coffeeshout.global.messaging.BinaryEventCodec;
 import coffeeshout.global.websocket.event.session.SessionBaseEvent;
 import coffeeshout.global.websocket.event.session.SessionEventType;
-import coffeeshout.global.websocket.event.session.SessionRegisteredEvent;
-import coffeeshout.global.websocket.event.session.SessionRemovedEvent;
 import coffeeshout.global.websocket.infra.handler.SessionEventHandler;
 import coffeeshout.global.websocket.infra.handler.SessionEventHandlerFactory;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.PostConstruct;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.connection.Message;
@@ -22,7 +20,7 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class SessionEventSubscriber implements MessageListener {
 
-    private final ObjectMapper objectMapper;
+    private final BinaryEventCodec<SessionEventType, SessionBaseEvent> sessionEventCodec;
     private final RedisMessageListenerContainer redisMessageListenerContainer;
     private final ChannelTopic sessionEventTopic;
     private final SessionEventHandlerFactory handlerFactory;
@@ -36,33 +34,20 @@ public class SessionEventSubscriber implements MessageListener {
     @Override
     public void onMessage(Message message, byte[] pattern) {
         try {
-            final String body = new String(message.getBody());
-            final SessionEventType eventType = extractEventType(body);
+            final byte[] body = message.getBody();
+            final Optional<SessionEventType> eventType = sessionEventCodec.peekType(body);
 
-            if (!handlerFactory.canHandle(eventType)) {
-                log.warn("처리할 수 없는 세션 이벤트 타입: {}", eventType);
+            if (eventType.isEmpty() || !handlerFactory.canHandle(eventType.get())) {
+                log.warn("처리할 수 없는 세션 이벤트 타입: {}", eventType.map(Enum::name).orElse("UNKNOWN_TAG"));
                 return;
             }
 
-            final SessionBaseEvent event = deserializeEvent(body, eventType);
-            final SessionEventHandler<SessionBaseEvent> handler = handlerFactory.getHandler(eventType);
+            final SessionBaseEvent event = sessionEventCodec.decode(body);
+            final SessionEventHandler<SessionBaseEvent> handler = handlerFactory.getHandler(eventType.get());
             handler.handle(event);
 
         } catch (Exception e) {
-            log.error("세션 이벤트 처리 실패: message={}", new String(message.getBody()), e);
+            log.error("세션 이벤트 처리 실패: bodySize={}", message.getBody().length, e);
         }
     }
-
-    private SessionEventType extractEventType(String body) throws Exception {
-        final JsonNode jsonNode = objectMapper.readTree(body);
-        final String eventTypeStr = jsonNode.get("eventType").asText();
-        return SessionEventType.valueOf(eventTypeStr);
-    }
-
-    private SessionBaseEvent deserializeEvent(String body, SessionEventType eventType) throws Exception {
-        return switch (eventType) {
-            case SESSION_REGISTERED -> objectMapper.readValue(body, SessionRegisteredEvent.class);
-            case SESSION_REMOVED -> objectMapper.readValue(body, SessionRemovedEvent.class);
-        };
-    }
 }
@@ -0,0 +1,181 @@
+package coffeeshout.global.websocket.interceptor;
+
+import coffeeshout.global.config.properties.WebSocketRateLimitProperties;
+import coffeeshout.room.domain.JoinCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+/*
+    - inbound 채널 executor 큐에 넣기 전에(preSend, 수신 스레드) SEND 프레임을 세션별, 방별 토큰 버킷으로 거른다.
+      한 클라이언트나 한 방이 몰아서 보내도 큐를 채워 다른 방까지 밀리지 않게 한다.
+    - 방은 목적지 /app/room/{joinCode}/... 에서 joinCode를 읽는다. 방 목적지가 아니면 세션 버킷만 적용한다.
+      joinCode 형식이 아닌 값에는 방 버킷을 만들지 않는다. (클라이언트가 임의 값을 보내 버킷을 늘리지 못하게)
+    - 두 버킷을 모두 확인한 뒤에 소비한다. 방 버킷에서 거절된 프레임은 세션 토큰을 쓰지 않는다.
+    - 거절한 프레임은 버리고, websocket.inbound.rejected 카운터에 limit(session/room), destination(joinCode를 뺀 경로)별로 센다.
+    - 세션 버킷은 DISCONNECT 때 지우고, idleTtl 동안 쓰지 않은 버킷은 주기적으로 지운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InboundRateLimitInterceptor implements ChannelInterceptor {
+
+    private static final Pattern ROOM_DESTINATION = Pattern.compile("^/app/room/([^/]+)(/.*)?$");
+    private static final String JOIN_CODE_PLACEHOLDER = "{joinCode}";
+    private static final String OTHER_DESTINATION = "other";
+    private static final int MAX_DESTINATION_TAGS = 64;
+
+    private final WebSocketRateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, TokenBucket> sessionBuckets = new ConcurrentHashMap<>();
+    private final Map<String, TokenBucket> roomBuckets = new ConcurrentHashMap<>();
+    private final Map<String, Counter> rejectedCounters = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService evictionScheduler;
+
+    @PostConstruct
+    public void start() {
+        evictionScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "inbound-rate-limit-eviction");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final long idleTtlMillis = properties.idleTtl().toMillis();
+        evictionScheduler.scheduleWithFixedDelay(this::evictIdleBuckets, idleTtlMillis, idleTtlMillis,
+                TimeUnit.MILLISECONDS);
+        log.info("inbound 요청 제한 시작: enabled={}, session={}, room={}",
+                properties.enabled(), properties.session(), properties.room());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (evictionScheduler != null) {
+            evictionScheduler.shutdown();
+        }
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        final StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null) {
+            return message;
+        }
+
+        final StompCommand command = accessor.getCommand();
+        if (command == StompCommand.DISCONNECT && accessor.getSessionId() != null) {
+            sessionBuckets.remove(accessor.getSessionId());
+            return message;
+        }
+        if (command != StompCommand.SEND || !properties.enabled()) {
+            return message;
+        }
+
+        final String destination = accessor.getDestination();
+        final long now = System.nanoTime();
+        final String sessionId = accessor.getSessionId();
+        final TokenBucket sessionBucket = sessionId == null
+                ? null
+                : bucket(sessionBuckets, sessionId, properties.session(), now);
+        if (sessionBucket != null && !sessionBucket.hasToken(now)) {
+            return reject("session", destination, sessionId);
+        }
+
+        final String joinCode = roomJoinCodeOf(destination);
+        final TokenBucket roomBucket = joinCode == null ? null : bucket(roomBuckets, joinCode, properties.room(), now);
+        if (roomBucket != null && !roomBucket.tryConsume(now)) {
+            return reject("room", destination, sessionId);
+        }
+        // 확인과 소비 사이에 같은 세션의 다른 프레임이 토큰을 가져간 경우
+        if (sessionBucket != null && !sessionBucket.tryConsume(now)) {
+            if (roomBucket != null) {
+                roomBucket.refund();
+            }
+            return reject("session", destination, sessionId);
+        }
+        return message;
+    }
+
+    int sessionBucketCount() {
+        return sessionBuckets.size();
+    }
+
+    int roomBucketCount() {
+        return roomBuckets.size();
+    }
+
+    void evictIdleBuckets() {
+        final long threshold = System.nanoTime() - properties.idleTtl().toNanos();
+        sessionBuckets.values().removeIf(bucket -> bucket.isIdleSince(threshold));
+        roomBuckets.values().removeIf(bucket -> bucket.isIdleSince(threshold));
+    }
+
+    private static String roomJoinCodeOf(String destination) {
+        if (destination == null) {
+            return null;
+        }
+        final Matcher matcher = ROOM_DESTINATION.matcher(destination);
+        if (!matcher.matches() || !JoinCode.isValid(matcher.group(1))) {
+            return null;
+        }
+        return matcher.group(1);
+    }
+
+    private TokenBucket bucket(
+            Map<String, TokenBucket> buckets,
+            String key,
+            WebSocketRateLimitProperties.Bucket limit,
+            long now
+    ) {
+        return buckets.computeIfAbsent(key, ignored -> new TokenBucket(limit.capacity(), limit.refillPerSecond(), now));
+    }
+
+    private Message<?> reject(String limit, String destination, String sessionId) {
+        rejectedCounter(limit, normalize(destination)).increment();
+        log.debug("inbound 프레임 거절: limit={}, destination={}, sessionId={}", limit, destination, sessionId);
+        return null;
+    }
+
+    private String normalize(String destination) {
+        if (destination == null) {
+            return OTHER_DESTINATION;
+        }
+        final Matcher matcher = ROOM_DESTINATION.matcher(destination);
+        if (!matcher.matches()) {
+            return destination;
+        }
+        final String path = matcher.group(2) == null ? "" : matcher.group(2);
+        return "/app/room/" + JOIN_CODE_PLACEHOLDER + path;
+    }
+
+    private Counter rejectedCounter(String limit, String destination) {
+        final String key = limit + ":" + destination;
+        final Counter counter = rejectedCounters.get(key);
+        if (counter != null) {
+            return counter;
+        }
+        // 클라이언트가 임의 목적지를 보내도 태그 수가 끝없이 늘지 않게 한다.
+        final String tag = rejectedCounters.size() < MAX_DESTINATION_TAGS ? destination : OTHER_DESTINATION;
+        return rejectedCounters.computeIfAbsent(limit + ":" + tag, ignored -> Counter.builder("websocket.inbound.rejected")
+                .description("요청 제한으로 버린 inbound 프레임 수")
+                .tag("limit", limit)
+                .tag("destination", tag)
+                .register(meterRegistry));
+    }
+}
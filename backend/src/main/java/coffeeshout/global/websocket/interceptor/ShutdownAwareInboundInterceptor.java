@@ -0,0 +1,42 @@
+package coffeeshout.global.websocket.interceptor;
+
+import coffeeshout.global.websocket.lifecycle.WebSocketGracefulShutdownHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 종료 중 방 스냅샷을 뜨는 동안 STOMP SEND 프레임을 버리는 인터셉터
+ * <p>
+ * 스냅샷 이후에 들어온 입력은 복원되지 않으므로, 스냅샷 전에 입력을 막아 변경이 조용히 사라지지 않게 합니다.
+ * SUBSCRIBE, DISCONNECT 등 방을 바꾸지 않는 프레임은 그대로 통과시킵니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShutdownAwareInboundInterceptor implements ChannelInterceptor {
+
+    private final ObjectProvider<WebSocketGracefulShutdownHandler> shutdownHandlerProvider;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        final StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() != StompCommand.SEND) {
+            return message;
+        }
+        if (shutdownHandlerProvider.getObject().isRejectingInbound()) {
+            log.debug("🚫 STOMP SEND 거부: 서버 종료 중 (destination: {}, sessionId: {})",
+                    accessor.getDestination(), accessor.getSessionId());
+            return null;
+        }
+        return message;
+    }
+}
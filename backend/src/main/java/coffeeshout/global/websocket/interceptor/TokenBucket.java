@@ -0,0 +1,58 @@
+package coffeeshout.global.websocket.interceptor;
+
+/*
+    - 호출 시점(nowNanos)을 받아 그 사이 채워질 토큰을 계산하는 토큰 버킷
+    - 별도 스레드로 채우지 않으므로 버킷이 많아도 비용은 요청이 들어올 때만 든다.
+ */
+class TokenBucket {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private final int capacity;
+    private final double refillPerNano;
+
+    private double tokens;
+    private long lastRefillNanos;
+    private volatile long lastUsedNanos;
+
+    TokenBucket(int capacity, int refillPerSecond, long nowNanos) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / NANOS_PER_SECOND;
+        this.tokens = capacity;
+        this.lastRefillNanos = nowNanos;
+        this.lastUsedNanos = nowNanos;
+    }
+
+    synchronized boolean tryConsume(long nowNanos) {
+        lastUsedNanos = nowNanos;
+        refill(nowNanos);
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+
+    // 소비하지 않고 토큰이 있는지만 본다.
+    synchronized boolean hasToken(long nowNanos) {
+        lastUsedNanos = nowNanos;
+        refill(nowNanos);
+        return tokens >= 1;
+    }
+
+    // 소비한 뒤 다른 버킷에서 거절되면 되돌린다.
+    synchronized void refund() {
+        tokens = Math.min(capacity, tokens + 1);
+    }
+
+    private void refill(long nowNanos) {
+        if (nowNanos > lastRefillNanos) {
+            tokens = Math.min(capacity, tokens + (nowNanos - lastRefillNanos) * refillPerNano);
+            lastRefillNanos = nowNanos;
+        }
+    }
+
+    boolean isIdleSince(long thresholdNanos) {
+        return lastUsedNanos - thresholdNanos < 0;
+    }
+}
@@ -1,5 +1,6 @@
 package coffeeshout.global.websocket.lifecycle;
 
+import coffeeshout.room.application.RoomSnapshotService;
 import java.time.Duration;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
@@ -23,6 +24,10 @@ import org.springframework.web.socket.config.WebSocketMessageBrokerStats;
  * Spring Boot 애플리케이션 종료 시 활성 WebSocket 연결이 모두 종료될 때까지 대기합니다.
  * 설정된 시간까지 대기하며, 모든 연결이 종료되면 즉시 shutdown을 완료합니다.
  * </p>
+ * <p>
+ * 방 스냅샷이 기록되면 다음 인스턴스가 방을 복원하므로 연결 종료를 기다리지 않고 바로 종료합니다.
+ * 스냅샷 이후의 변경이 사라지지 않도록, 스냅샷 전에 먼저 새 Handshake와 STOMP SEND 프레임을 막습니다.
+ * </p>
  */
 @Slf4j
 @Component
@@ -33,20 +38,25 @@ public class WebSocketGracefulShutdownHandler implements SmartLifecycle {
     private final WebSocketMessageBrokerStats webSocketMessageBrokerStats;
     private final TaskScheduler taskScheduler;
     private final Duration shutdownWaitDuration;
+    private final RoomSnapshotService roomSnapshotService;
 
     private volatile boolean isRunning = false;
     @Getter
     private volatile boolean isShuttingDown = false;
+    @Getter
+    private volatile boolean isRejectingInbound = false;
     private final AtomicReference<CompletableFuture<Void>> shutdownFuture = new AtomicReference<>();
     private final AtomicReference<ScheduledFuture<?>> statusCheckTask = new AtomicReference<>();
 
     public WebSocketGracefulShutdownHandler(
             WebSocketMessageBrokerStats webSocketMessageBrokerStats,
             @Qualifier("delayRemovalScheduler") TaskScheduler taskScheduler,
-            @Value("${spring.lifecycle.timeout-per-shutdown-phase}") Duration shutdownWaitDuration) {
+            @Value("${spring.lifecycle.timeout-per-shutdown-phase}") Duration shutdownWaitDuration,
+            RoomSnapshotService roomSnapshotService) {
         this.webSocketMessageBrokerStats = webSocketMessageBrokerStats;
         this.taskScheduler = taskScheduler;
         this.shutdownWaitDuration = shutdownWaitDuration;
+        this.roomSnapshotService = roomSnapshotService;
     }
 
     @Override
@@ -70,7 +80,11 @@ public class WebSocketGracefulShutdownHandler implements SmartLifecycle {
 
         log.info("🛑 WebSocket Graceful Shutdown 시작");
 
+        // 새 연결과 방을 바꾸는 입력을 먼저 막은 뒤 스냅샷을 뜬다.
+        isShuttingDown = true;
+        isRejectingInbound = true;
         final int currentConnections = getWebSocketSessionCount();
+        final boolean snapshotWritten = roomSnapshotService.snapshotOnShutdown();
 
         // 활성 연결이 없으면 즉시 종료
         if (currentConnections == 0) {
@@ -80,8 +94,16 @@ public class WebSocketGracefulShutdownHandler implements SmartLifecycle {
             return;
         }
 
-        // Shutdown 모드 활성화
-        isShuttingDown = true;
+        // 방 스냅샷이 기록되면 다음 인스턴스가 복원하므로 즉시 종료
+        if (snapshotWritten) {
+            log.info("✅ 방 스냅샷 기록 완료. 활성 연결 {} 개를 기다리지 않고 즉시 종료", currentConnections);
+            isRunning = false;
+            callback.run();
+            return;
+        }
+
+        // 스냅샷이 없으면 남은 연결이 게임을 마칠 수 있도록 입력을 다시 받고, 새 연결만 막은 채 기다린다.
+        isRejectingInbound = false;
         shutdownFuture.set(new CompletableFuture<>());
 
         final long timeoutSeconds = shutdownWaitDuration.toSeconds();
@@ -149,6 +171,7 @@ public class WebSocketGracefulShutdownHandler implements SmartLifecycle {
     private void cleanup() {
         cancelStatusCheckTask();
         isShuttingDown = false;
+        isRejectingInbound = false;
         isRunning = false;
         shutdownFuture.set(null);
     }
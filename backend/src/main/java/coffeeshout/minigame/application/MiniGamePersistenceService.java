@@ -1,5 +1,6 @@
 package coffeeshout.minigame.application;
 
+import coffeeshout.global.lock.LockMode;
 import coffeeshout.global.lock.RedisLock;
 import coffeeshout.minigame.domain.MiniGameType;
 import coffeeshout.minigame.event.StartMiniGameCommandEvent;
@@ -31,11 +32,12 @@ public class MiniGamePersistenceService {
             lockPrefix = "event:lock:",
             donePrefix = "event:done:",
             waitTime = 0,
-            leaseTime = 5000
+            leaseTime = 5000,
+            mode = LockMode.CLAIM
     )
     @Transactional
     public void saveGameEntities(StartMiniGameCommandEvent event, MiniGameType miniGameType) {
-        final JoinCode roomJoinCode = new JoinCode(event.joinCode());
+        final JoinCode roomJoinCode = JoinCode.of(event.joinCode());
         final Room room = roomQueryService.getByJoinCode(roomJoinCode);
 
         final RoomEntity roomEntity = getRoomEntity(event.joinCode());
@@ -0,0 +1,33 @@
+package coffeeshout.minigame.event;
+
+import coffeeshout.minigame.event.dto.MiniGameFinishedEvent;
+import coffeeshout.room.domain.JoinCode;
+import coffeeshout.room.domain.service.RoomCommandService;
+import coffeeshout.room.domain.service.RoomQueryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/*
+    - 미니게임 결과(확률)가 반영된 방을 저장한다.
+    - 게임 진행 중의 탭/카드 선택은 저장하지 않고, 결과가 확정되는 종료 시점에 한 번만 저장한다.
+    - 종료 이벤트는 방 메일박스 안에서 발행되므로 같은 스레드에서 바로 저장한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MiniGameFinishedRoomSaveListener {
+
+    private final RoomQueryService roomQueryService;
+    private final RoomCommandService roomCommandService;
+
+    @EventListener
+    public void handle(MiniGameFinishedEvent event) {
+        try {
+            roomCommandService.save(roomQueryService.getByJoinCode(JoinCode.of(event.joinCode())));
+        } catch (Exception e) {
+            log.warn("미니게임 종료 후 방 저장 실패: joinCode={}", event.joinCode(), e);
+        }
+    }
+}
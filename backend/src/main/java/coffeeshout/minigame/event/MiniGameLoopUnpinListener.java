@@ -0,0 +1,23 @@
+package coffeeshout.minigame.event;
+
+import coffeeshout.global.cluster.RoomOwnership;
+import coffeeshout.minigame.event.dto.MiniGameFinishedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/*
+    - 미니게임 루프가 끝나면 루프를 시작할 때 잡은 파티션 고정을 푼다.
+    - 고정이 풀린 뒤에는 해시 링의 소유자가 다시 방을 소유한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MiniGameLoopUnpinListener {
+
+    private final RoomOwnership roomOwnership;
+
+    @EventListener
+    public void handle(MiniGameFinishedEvent event) {
+        roomOwnership.unpinLoop(event.joinCode());
+    }
+}
@@ -1,5 +1,6 @@
 package coffeeshout.minigame.event;
 
+import coffeeshout.global.lock.LockMode;
 import coffeeshout.global.lock.RedisLock;
 import coffeeshout.minigame.domain.MiniGameResult;
 import coffeeshout.minigame.domain.MiniGameScore;
@@ -43,7 +44,8 @@ public class MiniGameResultSaveEventListener {
             lockPrefix = "minigame:result:lock:",
             donePrefix = "minigame:result:done:",
             waitTime = 0,
-            leaseTime = 5000
+            leaseTime = 5000,
+            mode = LockMode.CLAIM
     )
     public void handle(MiniGameFinishedEvent event) {
         final RoomEntity roomEntity = roomJpaRepository.findFirstByJoinCodeOrderByCreatedAtDesc(event.joinCode())
@@ -54,7 +56,7 @@ public class MiniGameResultSaveEventListener {
                 .findByRoomSessionAndMiniGameType(roomEntity, miniGameType)
                 .orElseThrow(() -> new IllegalArgumentException("미니게임 엔티티가 존재하지 않습니다: " + event.joinCode()));
 
-        final Room room = roomQueryService.getByJoinCode(new JoinCode(event.joinCode()));
+        final Room room = roomQueryService.getByJoinCode(JoinCode.of(event.joinCode()));
         final Playable miniGame = room.findMiniGame(miniGameType);
 
         final MiniGameResult result = miniGame.getResult();
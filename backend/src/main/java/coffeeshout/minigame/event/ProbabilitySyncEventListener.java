@@ -0,0 +1,44 @@
+package coffeeshout.minigame.event;
+
+import coffeeshout.global.cluster.RoomOwnership;
+import coffeeshout.minigame.event.dto.MiniGameFinishedEvent;
+import coffeeshout.room.domain.JoinCode;
+import coffeeshout.room.domain.Room;
+import coffeeshout.room.domain.event.ProbabilitySyncEvent;
+import coffeeshout.room.domain.service.RoomQueryService;
+import coffeeshout.room.infra.messaging.RoomEventPublisher;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/*
+    - 소유권 분산 모드에서는 소유 노드만 미니게임 결과를 계산한다.
+    - 계산된 확률을 다른 노드의 방 복제본에 전파해 룰렛 화면이 어느 노드에서든 같게 보이도록 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProbabilitySyncEventListener {
+
+    private final RoomOwnership roomOwnership;
+    private final RoomQueryService roomQueryService;
+    private final RoomEventPublisher roomEventPublisher;
+
+    @EventListener
+    public void handle(MiniGameFinishedEvent event) {
+        if (!roomOwnership.isEnabled()) {
+            return;
+        }
+        final Room room = roomQueryService.getByJoinCode(JoinCode.of(event.joinCode()));
+        final Map<String, Integer> probabilities = room.getPlayers().stream()
+                .collect(Collectors.toMap(
+                        player -> player.getName().value(),
+                        player -> player.getProbability().value()
+                ));
+
+        roomEventPublisher.publishEvent(new ProbabilitySyncEvent(event.joinCode(), probabilities));
+    }
+}
@@ -1,8 +1,12 @@
 package coffeeshout.minigame.infra.messaging;
 
+import coffeeshout.global.messaging.BinaryEventCodec;
 import coffeeshout.minigame.event.MiniGameBaseEvent;
+import coffeeshout.minigame.event.MiniGameEventType;
+import java.nio.charset.StandardCharsets;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.stereotype.Component;
@@ -14,10 +18,13 @@ public class MiniGameEventPublisher {
 
     private final RedisTemplate<String, Object> redisTemplate;
     private final ChannelTopic miniGameEventTopic;
+    private final BinaryEventCodec<MiniGameEventType, MiniGameBaseEvent> miniGameEventCodec;
 
     public <T extends MiniGameBaseEvent> void publishEvent(T event) {
         try {
-            redisTemplate.convertAndSend(miniGameEventTopic.getTopic(), event);
+            final byte[] channel = miniGameEventTopic.getTopic().getBytes(StandardCharsets.UTF_8);
+            final byte[] body = miniGameEventCodec.encode(event);
+            redisTemplate.execute((RedisCallback<Long>) connection -> connection.publish(channel, body));
             log.info("미니게임 이벤트 발행됨: eventType={}, eventId={}",
                     event.eventType(), event.eventId());
         } catch (Exception e) {
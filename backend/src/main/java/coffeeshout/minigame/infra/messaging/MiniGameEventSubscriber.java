@@ -1,16 +1,14 @@
 package coffeeshout.minigame.infra.messaging;
 
-import coffeeshout.cardgame.domain.event.SelectCardCommandEvent;
+import coffeeshout.global.messaging.BinaryEventCodec;
 import coffeeshout.global.trace.TracerProvider;
 import coffeeshout.minigame.event.MiniGameBaseEvent;
 import coffeeshout.minigame.event.MiniGameEventType;
-import coffeeshout.minigame.event.StartMiniGameCommandEvent;
 import coffeeshout.minigame.infra.messaging.handler.MiniGameEventHandler;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.PostConstruct;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.connection.Message;
@@ -24,7 +22,7 @@ import org.springframework.stereotype.Component;
 public class MiniGameEventSubscriber implements MessageListener {
 
     private final Map<MiniGameEventType, MiniGameEventHandler<MiniGameBaseEvent>> handlers;
-    private final ObjectMapper objectMapper;
+    private final BinaryEventCodec<MiniGameEventType, MiniGameBaseEvent> miniGameEventCodec;
     private final RedisMessageListenerContainer redisMessageListenerContainer;
     private final ChannelTopic miniGameEventTopic;
     private final TracerProvider tracerProvider;
@@ -32,7 +30,7 @@ public class MiniGameEventSubscriber implements MessageListener {
     @SuppressWarnings("unchecked")
     public MiniGameEventSubscriber(
             List<MiniGameEventHandler<?>> handlers,
-            ObjectMapper objectMapper,
+            BinaryEventCodec<MiniGameEventType, MiniGameBaseEvent> miniGameEventCodec,
             RedisMessageListenerContainer redisMessageListenerContainer,
             ChannelTopic miniGameEventTopic,
             TracerProvider tracerProvider
@@ -42,7 +40,7 @@ public class MiniGameEventSubscriber implements MessageListener {
                         MiniGameEventHandler::getSupportedEventType,
                         handler -> (MiniGameEventHandler<MiniGameBaseEvent>) handler
                 ));
-        this.objectMapper = objectMapper;
+        this.miniGameEventCodec = miniGameEventCodec;
         this.redisMessageListenerContainer = redisMessageListenerContainer;
         this.miniGameEventTopic = miniGameEventTopic;
         this.tracerProvider = tracerProvider;
@@ -57,16 +55,16 @@ public class MiniGameEventSubscriber implements MessageListener {
     @Override
     public void onMessage(Message message, byte[] pattern) {
         try {
-            final String body = new String(message.getBody());
-            final MiniGameEventType eventType = extractEventType(body);
+            final byte[] body = message.getBody();
+            final Optional<MiniGameEventType> eventType = miniGameEventCodec.peekType(body);
 
-            if (!canHandle(eventType)) {
-                log.warn("처리할 수 없는 이벤트 타입: {}", eventType);
+            if (eventType.isEmpty() || !canHandle(eventType.get())) {
+                log.warn("처리할 수 없는 이벤트 타입: {}", eventType.map(Enum::name).orElse("UNKNOWN_TAG"));
                 return;
             }
 
-            final MiniGameBaseEvent event = deserializeEvent(body, eventType);
-            final MiniGameEventHandler<MiniGameBaseEvent> handler = handlers.get(eventType);
+            final MiniGameBaseEvent event = miniGameEventCodec.decode(body);
+            final MiniGameEventHandler<MiniGameBaseEvent> handler = handlers.get(eventType.get());
             tracerProvider.executeWithTraceContext(
                     event.traceInfo(),
                     () -> handler.handle(event),
@@ -74,24 +72,11 @@ public class MiniGameEventSubscriber implements MessageListener {
             );
 
         } catch (Exception e) {
-            log.error("미니게임 이벤트 처리 실패: message={}", new String(message.getBody()), e);
+            log.error("미니게임 이벤트 처리 실패: bodySize={}", message.getBody().length, e);
         }
     }
 
-    private MiniGameEventType extractEventType(String body) throws Exception {
-        final JsonNode jsonNode = objectMapper.readTree(body);
-        final String eventTypeStr = jsonNode.get("eventType").asText();
-        return MiniGameEventType.valueOf(eventTypeStr);
-    }
-
     private boolean canHandle(MiniGameEventType eventType) {
         return handlers.containsKey(eventType);
     }
-
-    private MiniGameBaseEvent deserializeEvent(String body, MiniGameEventType eventType) throws Exception {
-        return switch (eventType) {
-            case START_MINIGAME_COMMAND -> objectMapper.readValue(body, StartMiniGameCommandEvent.class);
-            case SELECT_CARD_COMMAND -> objectMapper.readValue(body, SelectCardCommandEvent.class);
-        };
-    }
 }
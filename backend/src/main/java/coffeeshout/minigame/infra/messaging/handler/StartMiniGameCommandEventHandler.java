@@ -1,6 +1,7 @@
 package coffeeshout.minigame.infra.messaging.handler;
 
 import coffeeshout.cardgame.domain.event.dto.MiniGameStartedEvent;
+import coffeeshout.global.mailbox.RoomMailboxExecutor;
 import coffeeshout.minigame.application.MiniGamePersistenceService;
 import coffeeshout.minigame.domain.MiniGameService;
 import coffeeshout.minigame.domain.MiniGameType;
@@ -9,6 +10,7 @@ import coffeeshout.minigame.event.StartMiniGameCommandEvent;
 import coffeeshout.room.domain.JoinCode;
 import coffeeshout.room.domain.Playable;
 import coffeeshout.room.domain.Room;
+import coffeeshout.room.domain.service.RoomCommandService;
 import coffeeshout.room.domain.service.RoomQueryService;
 import java.util.EnumMap;
 import java.util.List;
@@ -23,18 +25,24 @@ public class StartMiniGameCommandEventHandler implements MiniGameEventHandler<St
 
     private final Map<MiniGameType, MiniGameService> miniGameServiceMap;
     private final RoomQueryService roomQueryService;
+    private final RoomCommandService roomCommandService;
     private final ApplicationEventPublisher eventPublisher;
     private final MiniGamePersistenceService miniGamePersistenceService;
+    private final RoomMailboxExecutor roomMailboxExecutor;
 
     public StartMiniGameCommandEventHandler(
             RoomQueryService roomQueryService,
+            RoomCommandService roomCommandService,
             List<MiniGameService> miniGameServices,
             ApplicationEventPublisher eventPublisher,
-            MiniGamePersistenceService miniGamePersistenceService
+            MiniGamePersistenceService miniGamePersistenceService,
+            RoomMailboxExecutor roomMailboxExecutor
     ) {
         this.roomQueryService = roomQueryService;
+        this.roomCommandService = roomCommandService;
         this.eventPublisher = eventPublisher;
         this.miniGamePersistenceService = miniGamePersistenceService;
+        this.roomMailboxExecutor = roomMailboxExecutor;
         this.miniGameServiceMap = new EnumMap<>(MiniGameType.class);
         miniGameServices.forEach(miniGameService -> miniGameServiceMap.put(
                 miniGameService.getMiniGameType(),
@@ -57,10 +65,14 @@ public class StartMiniGameCommandEventHandler implements MiniGameEventHandler<St
     }
 
     private void updateRoomStateAndStartGame(StartMiniGameCommandEvent event) {
-        final Room room = roomQueryService.getByJoinCode(new JoinCode(event.joinCode()));
-        final Playable playable = room.startNextGame(event.hostName());
-        eventPublisher.publishEvent(new MiniGameStartedEvent(event.joinCode(), playable.getMiniGameType().name()));
-        miniGameServiceMap.get(playable.getMiniGameType()).start(event.joinCode(), event.hostName());
+        final Playable playable = roomMailboxExecutor.call(event.joinCode(), () -> {
+            final Room room = roomQueryService.getByJoinCode(JoinCode.of(event.joinCode()));
+            final Playable nextGame = room.startNextGame(event.hostName());
+            roomCommandService.save(room);
+            eventPublisher.publishEvent(new MiniGameStartedEvent(event.joinCode(), nextGame.getMiniGameType().name()));
+            miniGameServiceMap.get(nextGame.getMiniGameType()).start(event.joinCode(), event.hostName());
+            return nextGame;
+        });
         miniGamePersistenceService.saveGameEntities(event, playable.getMiniGameType());
         log.info("JoinCode[{}] 미니게임 시작됨 - MiniGameType : {}", event.joinCode(), playable.getMiniGameType());
     }
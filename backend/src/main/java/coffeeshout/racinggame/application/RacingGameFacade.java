@@ -1,19 +1,39 @@
 package coffeeshout.racinggame.application;
 
+import coffeeshout.racinggame.domain.event.KeyframeRequestCommandEvent;
 import coffeeshout.racinggame.domain.event.TapCommandEvent;
 import coffeeshout.racinggame.infra.messaging.RacingGameStreamProducer;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class RacingGameFacade {
 
     private final RacingGameStreamProducer racingGameStreamProducer;
+    private final TapCoalescer tapCoalescer;
+    private final boolean coalesceEnabled;
+
+    public RacingGameFacade(
+            RacingGameStreamProducer racingGameStreamProducer,
+            TapCoalescer tapCoalescer,
+            @Value("${racing-game.tap.coalesce:true}") boolean coalesceEnabled
+    ) {
+        this.racingGameStreamProducer = racingGameStreamProducer;
+        this.tapCoalescer = tapCoalescer;
+        this.coalesceEnabled = coalesceEnabled;
+    }
 
     public void tap(String joinCode, String hostName, int tapCount) {
-        racingGameStreamProducer.publishEvent(TapCommandEvent.create(joinCode, hostName, tapCount));
+        if (coalesceEnabled) {
+            tapCoalescer.add(joinCode, hostName, tapCount);
+            return;
+        }
+        racingGameStreamProducer.publishEvent(joinCode, TapCommandEvent.create(joinCode, hostName, tapCount));
+    }
+
+    public void requestKeyframe(String joinCode) {
+        racingGameStreamProducer.publishEvent(joinCode, KeyframeRequestCommandEvent.create(joinCode));
     }
 }
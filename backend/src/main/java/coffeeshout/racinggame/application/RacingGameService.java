@@ -1,5 +1,10 @@
 package coffeeshout.racinggame.application;
 
+import coffeeshout.global.cluster.RoomOwnership;
+import coffeeshout.global.exception.custom.InvalidArgumentException;
+import coffeeshout.global.exception.custom.InvalidStateException;
+import coffeeshout.global.mailbox.RoomBoundTaskScheduler;
+import coffeeshout.global.mailbox.RoomMailboxExecutor;
 import coffeeshout.minigame.domain.MiniGameService;
 import coffeeshout.minigame.domain.MiniGameType;
 import coffeeshout.minigame.event.dto.MiniGameFinishedEvent;
@@ -17,6 +22,7 @@ import coffeeshout.room.domain.service.RoomQueryService;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Map;
 import java.util.concurrent.ScheduledFuture;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -32,23 +38,34 @@ public class RacingGameService implements MiniGameService {
     private final TaskScheduler taskScheduler;
     private final ApplicationEventPublisher eventPublisher;
     private final SpeedCalculator speedCalculator;
+    private final RoomOwnership roomOwnership;
+    private final RoomMailboxExecutor roomMailboxExecutor;
 
     public RacingGameService(
             RoomQueryService roomQueryService,
             @Qualifier("racingGameScheduler") TaskScheduler taskScheduler,
             ApplicationEventPublisher eventPublisher,
-            SpeedCalculator speedCalculator
+            SpeedCalculator speedCalculator,
+            RoomOwnership roomOwnership,
+            RoomMailboxExecutor roomMailboxExecutor
     ) {
         this.roomQueryService = roomQueryService;
         this.taskScheduler = taskScheduler;
         this.eventPublisher = eventPublisher;
         this.speedCalculator = speedCalculator;
+        this.roomOwnership = roomOwnership;
+        this.roomMailboxExecutor = roomMailboxExecutor;
     }
 
     @Override
     public void start(String joinCode, String hostName) {
-        final Room room = roomQueryService.getByJoinCode(new JoinCode(joinCode));
+        if (!roomOwnership.isOwner(joinCode)) {
+            log.info("소유 노드가 아니므로 레이싱 게임 진행을 건너뜁니다: joinCode={}", joinCode);
+            return;
+        }
+        final Room room = roomQueryService.getByJoinCode(JoinCode.of(joinCode));
         final RacingGame racingGame = getRacingGame(room);
+        roomOwnership.pinLoop(joinCode);
 
         processDescription(joinCode, racingGame);
 
@@ -62,13 +79,56 @@ public class RacingGameService implements MiniGameService {
     }
 
     public void tap(String joinCode, String playerName, int tapCount) {
-        final Room room = roomQueryService.getByJoinCode(new JoinCode(joinCode));
-        final RacingGame racingGame = getRacingGame(room);
-        final Player player = room.findPlayer(new PlayerName(playerName));
-        racingGame.updateSpeed(player, tapCount, speedCalculator, Instant.now());
+        if (!roomOwnership.isOwner(joinCode)) {
+            return;
+        }
+        final Instant tappedAt = Instant.now();
+        // 탭은 응답이 필요 없으므로 메일박스에 넣고 바로 반환한다.
+        roomMailboxExecutor.execute(joinCode, () -> {
+            final Room room = roomQueryService.getByJoinCode(JoinCode.of(joinCode));
+            final RacingGame racingGame = getRacingGame(room);
+            final Player player = room.findPlayer(new PlayerName(playerName));
+            racingGame.updateSpeed(player, tapCount, speedCalculator, tappedAt);
+        });
 
     }
 
+    /*
+        - 윈도우 동안 합산된 방 하나의 탭을 메일박스 작업 한 번으로 반영한다.
+        - 이미 결승선을 넘었거나 방에 없는 플레이어는 건너뛰고 나머지는 계속 반영한다.
+     */
+    public void tapAll(String joinCode, Map<String, Integer> tapCounts) {
+        if (!roomOwnership.isOwner(joinCode)) {
+            return;
+        }
+        final Instant tappedAt = Instant.now();
+        roomMailboxExecutor.execute(joinCode, () -> {
+            final Room room = roomQueryService.getByJoinCode(JoinCode.of(joinCode));
+            final RacingGame racingGame = getRacingGame(room);
+            tapCounts.forEach((playerName, tapCount) -> {
+                try {
+                    final Player player = room.findPlayer(new PlayerName(playerName));
+                    racingGame.updateSpeed(player, tapCount, speedCalculator, tappedAt);
+                } catch (InvalidStateException | InvalidArgumentException e) {
+                    log.debug("탭 반영 생략: joinCode={}, playerName={}, reason={}", joinCode, playerName, e.getMessage());
+                }
+            });
+        });
+    }
+
+    /*
+        - 클라이언트가 sequence 공백을 발견하면 요청한다. 다음 위치 프레임을 키프레임으로 보낸다.
+     */
+    public void requestKeyframe(String joinCode) {
+        if (!roomOwnership.isOwner(joinCode)) {
+            return;
+        }
+        roomMailboxExecutor.execute(joinCode, () -> {
+            final Room room = roomQueryService.getByJoinCode(JoinCode.of(joinCode));
+            getRacingGame(room).requestKeyframe();
+        });
+    }
+
     private void startAutoMove(RacingGame racingGame, String joinCode) {
         racingGame.updateState(RacingGameState.PLAYING);
         eventPublisher.publishEvent(RaceStateChangedEvent.of(racingGame, joinCode));
@@ -79,7 +139,7 @@ public class RacingGameService implements MiniGameService {
 
     private void processDescription(String joinCode, RacingGame racingGame) {
         racingGame.updateState(RacingGameState.DESCRIPTION);
-        taskScheduler.schedule(() -> {
+        roomTaskScheduler(joinCode).schedule(() -> {
             processPrepare(racingGame, joinCode);
             eventPublisher.publishEvent(RaceStateChangedEvent.of(racingGame, joinCode));
         }, Instant.now().plus(racingGame.getState().getDuration(), ChronoUnit.MILLIS));
@@ -87,14 +147,14 @@ public class RacingGameService implements MiniGameService {
 
     private void processPrepare(RacingGame racingGame, String joinCode) {
         racingGame.updateState(RacingGameState.PREPARE);
-        eventPublisher.publishEvent(RunnersMovedEvent.of(racingGame, joinCode));
-        taskScheduler.schedule(() -> startAutoMove(racingGame, joinCode),
+        publishRunnersMoved(racingGame, joinCode);
+        roomTaskScheduler(joinCode).schedule(() -> startAutoMove(racingGame, joinCode),
                 Instant.now().plus(racingGame.getState().getDuration(), ChronoUnit.MILLIS));
     }
 
     private ScheduledFuture<?> scheduleAutoMoveTask(RacingGame racingGame, String joinCode) {
 //        return null;
-        return taskScheduler.scheduleAtFixedRate(() -> executeAutoMove(racingGame, joinCode),
+        return roomTaskScheduler(joinCode).scheduleAtFixedRate(() -> executeAutoMove(racingGame, joinCode),
                 Duration.ofMillis(RacingGame.MOVE_INTERVAL_MILLIS));
     }
 
@@ -110,15 +170,15 @@ public class RacingGameService implements MiniGameService {
                 handleRaceFinished(racingGame, joinCode);
             }
         } catch (Exception e) {
-            handleAutoMoveError(racingGame, e);
+            handleAutoMoveError(racingGame, joinCode, e);
         }
     }
 
     private void handleRaceFinished(RacingGame racingGame, String joinCode) {
         racingGame.updateState(RacingGameState.DONE);
-        final Room room = roomQueryService.getByJoinCode(new JoinCode(joinCode));
+        final Room room = roomQueryService.getByJoinCode(JoinCode.of(joinCode));
         room.applyMiniGameResult(racingGame.getResult());
-        taskScheduler.schedule(() -> eventPublisher.publishEvent(RaceFinishedEvent.of(racingGame, joinCode)),
+        roomTaskScheduler(joinCode).schedule(() -> eventPublisher.publishEvent(RaceFinishedEvent.of(racingGame, joinCode)),
                 Instant.now().plusSeconds(2));
         eventPublisher.publishEvent(new MiniGameFinishedEvent(joinCode, MiniGameType.RACING_GAME.name()));
         racingGame.stopAutoMove();
@@ -126,12 +186,18 @@ public class RacingGameService implements MiniGameService {
     }
 
     private void publishRunnersMoved(RacingGame racingGame, String joinCode) {
-        eventPublisher.publishEvent(RunnersMovedEvent.of(racingGame, joinCode));
+        racingGame.nextPositionFrame()
+                .ifPresent(frame -> eventPublisher.publishEvent(RunnersMovedEvent.of(joinCode, frame)));
     }
 
-    private void handleAutoMoveError(RacingGame racingGame, Exception e) {
+    private void handleAutoMoveError(RacingGame racingGame, String joinCode, Exception e) {
         log.error("자동 이동 중 오류 발생", e);
         racingGame.stopAutoMove();
+        roomOwnership.unpinLoop(joinCode);
+    }
+
+    private TaskScheduler roomTaskScheduler(String joinCode) {
+        return new RoomBoundTaskScheduler(taskScheduler, roomMailboxExecutor, joinCode);
     }
 
     private RacingGame getRacingGame(Room room) {
@@ -0,0 +1,104 @@
+package coffeeshout.racinggame.application;
+
+import coffeeshout.racinggame.domain.RacingGame;
+import coffeeshout.racinggame.domain.event.TapBatchCommandEvent;
+import coffeeshout.racinggame.infra.messaging.RacingGameStreamProducer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+/*
+    - 클라이언트 탭 프레임마다 XADD 하지 않고, (joinCode, playerName)별 tapCount를 윈도우 동안 합산한다.
+    - 윈도우는 RacingGame.MOVE_INTERVAL_MILLIS 경계에 맞춰 닫히고, 방마다 TapBatchCommandEvent 하나로 발행한다.
+    - 속도는 (마지막 갱신 이후 탭 수 / 경과 시간)이므로 한 윈도우의 탭을 합쳐서 한 번 반영해도 초당 탭 계산은 같다.
+    - 방별 누적 맵은 ConcurrentHashMap.compute 안에서만 수정하고, flush는 remove로 통째로 가져간다.
+      같은 키에 대한 compute와 remove는 원자적이므로 윈도우 경계에서 탭이 유실되지 않는다. (다음 윈도우로 넘어갈 뿐이다)
+ */
+@Slf4j
+@Component
+public class TapCoalescer {
+
+    private static final Duration WINDOW = Duration.ofMillis(RacingGame.MOVE_INTERVAL_MILLIS);
+
+    private final Map<String, Map<String, Integer>> pendingTaps = new ConcurrentHashMap<>();
+    private final RacingGameStreamProducer racingGameStreamProducer;
+    private final TaskScheduler taskScheduler;
+    private final Counter ingressCounter;
+    private final Counter batchCounter;
+
+    private ScheduledFuture<?> flushFuture;
+
+    public TapCoalescer(
+            RacingGameStreamProducer racingGameStreamProducer,
+            @Qualifier("racingGameScheduler") TaskScheduler taskScheduler,
+            MeterRegistry meterRegistry
+    ) {
+        this.racingGameStreamProducer = racingGameStreamProducer;
+        this.taskScheduler = taskScheduler;
+        this.ingressCounter = Counter.builder("racing.tap.ingress")
+                .description("수신한 탭 프레임 수")
+                .register(meterRegistry);
+        this.batchCounter = Counter.builder("racing.tap.batch")
+                .description("스트림에 발행한 탭 배치 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        flushFuture = taskScheduler.scheduleAtFixedRate(this::flush, nextWindowStart(), WINDOW);
+        log.info("탭 합산 시작: window={}ms", WINDOW.toMillis());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (flushFuture != null) {
+            flushFuture.cancel(false);
+        }
+        flush();
+    }
+
+    public void add(String joinCode, String playerName, int tapCount) {
+        ingressCounter.increment();
+        pendingTaps.compute(joinCode, (key, taps) -> {
+            final Map<String, Integer> roomTaps = taps == null ? new HashMap<>() : taps;
+            roomTaps.merge(playerName, tapCount, Integer::sum);
+            return roomTaps;
+        });
+    }
+
+    public void flush() {
+        for (String joinCode : pendingTaps.keySet()) {
+            final Map<String, Integer> taps = pendingTaps.remove(joinCode);
+            if (taps == null || taps.isEmpty()) {
+                continue;
+            }
+            try {
+                racingGameStreamProducer.publishEvent(joinCode, TapBatchCommandEvent.create(joinCode, taps));
+                batchCounter.increment();
+            } catch (Exception e) {
+                log.error("탭 배치 발행 실패: joinCode={}, players={}", joinCode, taps.size(), e);
+            }
+        }
+    }
+
+    public int pendingRoomCount() {
+        return pendingTaps.size();
+    }
+
+    private Instant nextWindowStart() {
+        final long windowMillis = WINDOW.toMillis();
+        final long now = System.currentTimeMillis();
+        return Instant.ofEpochMilli((now / windowMillis + 1) * windowMillis);
+    }
+}
@@ -10,6 +10,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ScheduledFuture;
 import java.util.stream.Collectors;
 import lombok.Getter;
@@ -26,10 +27,12 @@ public class RacingGame implements Playable {
     public static final int START_LINE = 0;
 
     public static final long MOVE_INTERVAL_MILLIS = 100L;
+    public static final int KEYFRAME_INTERVAL = 10;
 
     private Instant startTime;
     private Runners runners;
     private RacingGameState state;
+    private final RunnerPositionTracker positionTracker = new RunnerPositionTracker(KEYFRAME_INTERVAL);
 
     @Setter
     private ScheduledFuture<?> autoMoveFuture;
@@ -50,6 +53,19 @@ public class RacingGame implements Playable {
         runners.moveAll(Instant.now());
     }
 
+    public Optional<RunnerPositionFrame> nextPositionFrame() {
+        return positionTracker.next(runners.stream()
+                .map(runner -> new RunnerPosition(
+                        runner.getPlayer().getName().value(),
+                        runner.getPosition(),
+                        runner.getSpeed()
+                )).toList());
+    }
+
+    public void requestKeyframe() {
+        positionTracker.requestKeyframe();
+    }
+
     public boolean isStarted() {
         return state == RacingGameState.PLAYING;
     }
@@ -0,0 +1,11 @@
+package coffeeshout.racinggame.domain;
+
+import java.util.List;
+
+/*
+    - 한 번에 보낼 주자 위치 묶음
+    - keyframe이면 모든 주자를, 아니면 직전 프레임 이후 위치나 속도가 바뀐 주자만 담는다.
+    - sequence는 게임마다 1부터 빠짐없이 증가한다. 클라이언트는 번호가 건너뛰면 키프레임을 요청한다.
+ */
+public record RunnerPositionFrame(long sequence, boolean keyframe, List<RunnerPosition> positions) {
+}
@@ -0,0 +1,60 @@
+package coffeeshout.racinggame.domain;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/*
+    - 마지막으로 보낸 주자 위치를 기억했다가 바뀐 주자만 골라 델타 프레임을 만든다.
+    - keyframeInterval 프레임마다, 또는 키프레임 요청을 받으면 전체를 보낸다. 첫 프레임은 항상 키프레임이다.
+    - 바뀐 주자가 없으면 프레임을 만들지 않고 sequence도 늘리지 않는다.
+    - 방 메일박스 안에서만 호출하므로 동기화하지 않는다.
+ */
+public class RunnerPositionTracker {
+
+    private final int keyframeInterval;
+    private final Map<String, RunnerPosition> lastSent = new HashMap<>();
+
+    private long sequence;
+    private int framesSinceKeyframe;
+    private boolean keyframeRequested = true;
+
+    public RunnerPositionTracker(int keyframeInterval) {
+        if (keyframeInterval < 1) {
+            throw new IllegalArgumentException("keyframeInterval은 1 이상이어야 합니다: " + keyframeInterval);
+        }
+        this.keyframeInterval = keyframeInterval;
+    }
+
+    public Optional<RunnerPositionFrame> next(List<RunnerPosition> positions) {
+        if (keyframeRequested || framesSinceKeyframe + 1 >= keyframeInterval) {
+            return Optional.of(keyframe(positions));
+        }
+
+        final List<RunnerPosition> changed = new ArrayList<>();
+        for (RunnerPosition position : positions) {
+            if (!position.equals(lastSent.put(position.playerName(), position))) {
+                changed.add(position);
+            }
+        }
+        if (changed.isEmpty()) {
+            return Optional.empty();
+        }
+        framesSinceKeyframe++;
+        return Optional.of(new RunnerPositionFrame(++sequence, false, List.copyOf(changed)));
+    }
+
+    public void requestKeyframe() {
+        keyframeRequested = true;
+    }
+
+    private RunnerPositionFrame keyframe(List<RunnerPosition> positions) {
+        lastSent.clear();
+        positions.forEach(position -> lastSent.put(position.playerName(), position));
+        keyframeRequested = false;
+        framesSinceKeyframe = 0;
+        return new RunnerPositionFrame(++sequence, true, List.copyOf(positions));
+    }
+}
@@ -2,13 +2,12 @@ package coffeeshout.racinggame.domain;
 
 import coffeeshout.room.domain.player.Player;
 import java.time.Instant;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Stream;
 import lombok.Getter;
 
@@ -18,8 +17,7 @@ public class Runners {
     private final List<Runner> runners;
 
     public Runners(List<Player> players) {
-        this.runners = Collections.synchronizedList(new ArrayList<>());
-        players.forEach(player -> runners.add(new Runner(player)));
+        this.runners = new CopyOnWriteArrayList<>(players.stream().map(Runner::new).toList());
     }
 
     public void updateSpeed(Player player, int tapCount, SpeedCalculator speedCalculator, Instant now) {
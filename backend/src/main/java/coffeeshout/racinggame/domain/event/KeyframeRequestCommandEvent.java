@@ -0,0 +1,21 @@
+package coffeeshout.racinggame.domain.event;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record KeyframeRequestCommandEvent(
+        String eventId,
+        RacingGameEventType eventType,
+        String joinCode,
+        Instant timestamp
+) {
+
+    public static KeyframeRequestCommandEvent create(String joinCode) {
+        return new KeyframeRequestCommandEvent(
+                UUID.randomUUID().toString(),
+                RacingGameEventType.KEYFRAME_REQUEST_COMMAND,
+                joinCode,
+                Instant.now()
+        );
+    }
+}
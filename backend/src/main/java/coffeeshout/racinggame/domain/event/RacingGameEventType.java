@@ -3,5 +3,7 @@ package coffeeshout.racinggame.domain.event;
 public enum RacingGameEventType {
     START_RACING_GAME_COMMAND,
     TAP_COMMAND,
+    TAP_BATCH_COMMAND,
+    KEYFRAME_REQUEST_COMMAND,
     ;
 }
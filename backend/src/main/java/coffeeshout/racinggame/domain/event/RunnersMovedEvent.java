@@ -3,18 +3,24 @@ package coffeeshout.racinggame.domain.event;
 import coffeeshout.racinggame.domain.RacingGame;
 import coffeeshout.racinggame.domain.RacingRange;
 import coffeeshout.racinggame.domain.RunnerPosition;
+import coffeeshout.racinggame.domain.RunnerPositionFrame;
 import java.util.List;
 
-public record RunnersMovedEvent(String joinCode, RacingRange racingRange, List<RunnerPosition> runnerPositions) {
+/*
+    - 키프레임에만 racingRange를 담는다. 델타 프레임은 racingRange가 null이고 바뀐 주자만 담는다.
+ */
+public record RunnersMovedEvent(
+        String joinCode,
+        long sequence,
+        boolean keyframe,
+        RacingRange racingRange,
+        List<RunnerPosition> runnerPositions
+) {
 
-    public static RunnersMovedEvent of(RacingGame racingGame, String joinCode) {
-        final RacingRange distance = new RacingRange(RacingGame.START_LINE, RacingGame.FINISH_LINE);
-        final List<RunnerPosition> positions = racingGame.getRunners().stream()
-                .map(runner -> new RunnerPosition(
-                        runner.getPlayer().getName().value(),
-                        runner.getPosition(),
-                        runner.getSpeed()
-                )).toList();
-        return new RunnersMovedEvent(joinCode, distance, positions);
+    public static RunnersMovedEvent of(String joinCode, RunnerPositionFrame frame) {
+        final RacingRange distance = frame.keyframe()
+                ? new RacingRange(RacingGame.START_LINE, RacingGame.FINISH_LINE)
+                : null;
+        return new RunnersMovedEvent(joinCode, frame.sequence(), frame.keyframe(), distance, frame.positions());
     }
 }
@@ -0,0 +1,28 @@
+package coffeeshout.racinggame.domain.event;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+/*
+    - 한 방에서 한 윈도우(RacingGame.MOVE_INTERVAL_MILLIS) 동안 들어온 탭을 플레이어별로 합친 이벤트
+    - tapCounts: playerName -> 윈도우 안의 tapCount 합
+ */
+public record TapBatchCommandEvent(
+        String eventId,
+        RacingGameEventType eventType,
+        String joinCode,
+        Map<String, Integer> tapCounts,
+        Instant timestamp
+) {
+
+    public static TapBatchCommandEvent create(String joinCode, Map<String, Integer> tapCounts) {
+        return new TapBatchCommandEvent(
+                UUID.randomUUID().toString(),
+                RacingGameEventType.TAP_BATCH_COMMAND,
+                joinCode,
+                Map.copyOf(tapCounts),
+                Instant.now()
+        );
+    }
+}
@@ -1,7 +1,7 @@
 package coffeeshout.racinggame.infra.messaging;
 
+import coffeeshout.global.cluster.RoomBroadcastRelay;
 import coffeeshout.global.ui.WebSocketResponse;
-import coffeeshout.global.websocket.LoggingSimpMessagingTemplate;
 import coffeeshout.racinggame.domain.RacingGameState;
 import coffeeshout.racinggame.domain.event.RaceFinishedEvent;
 import coffeeshout.racinggame.domain.event.RaceStateChangedEvent;
@@ -19,7 +19,7 @@ public class RacingGameMessagePublisher {
 
     private static final String RACING_GAME_PLAYERS_POSITION_DESTINATION_FORMAT = "/topic/room/%s/racing-game";
     private static final String RACING_GAME_STATE_DESTINATION_FORMAT = "/topic/room/%s/racing-game/state";
-    private final LoggingSimpMessagingTemplate loggingSimpMessagingTemplate;
+    private final RoomBroadcastRelay roomBroadcastRelay;
 
     @EventListener
     @MessageResponse(
@@ -27,10 +27,13 @@ public class RacingGameMessagePublisher {
             returnType = RacingGameRunnersStateResponse.class
     )
     public void publishRunnersPosition(RunnersMovedEvent runnersMovedEvent) {
-        loggingSimpMessagingTemplate.convertAndSend(
+        roomBroadcastRelay.broadcast(
                 String.format(RACING_GAME_PLAYERS_POSITION_DESTINATION_FORMAT, runnersMovedEvent.joinCode()),
                 WebSocketResponse.success(new RacingGameRunnersStateResponse(
-                        runnersMovedEvent.racingRange(), runnersMovedEvent.runnerPositions()
+                        runnersMovedEvent.sequence(),
+                        runnersMovedEvent.keyframe(),
+                        runnersMovedEvent.racingRange(),
+                        runnersMovedEvent.runnerPositions()
                 ))
         );
     }
@@ -41,7 +44,7 @@ public class RacingGameMessagePublisher {
             returnType = RacingGameStateResponse.class
     )
     public void publishRacingGameStart(RaceStateChangedEvent raceStateChangedEvent) {
-        loggingSimpMessagingTemplate.convertAndSend(
+        roomBroadcastRelay.broadcast(
                 String.format(RACING_GAME_STATE_DESTINATION_FORMAT, raceStateChangedEvent.joinCode()),
                 WebSocketResponse.success(new RacingGameStateResponse(raceStateChangedEvent.state()))
         );
@@ -54,7 +57,7 @@ public class RacingGameMessagePublisher {
             genericType = RacingGameState.class
     )
     public void publishRacingGameFinish(RaceFinishedEvent raceFinishedEvent) {
-        loggingSimpMessagingTemplate.convertAndSend(
+        roomBroadcastRelay.broadcast(
                 String.format(RACING_GAME_STATE_DESTINATION_FORMAT, raceFinishedEvent.joinCode()),
                 WebSocketResponse.success(new RacingGameStateResponse(raceFinishedEvent.state()))
         );
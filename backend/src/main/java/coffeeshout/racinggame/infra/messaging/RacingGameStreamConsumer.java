@@ -1,44 +1,95 @@
 package coffeeshout.racinggame.infra.messaging;
 
+import coffeeshout.global.cluster.ClusterMembership;
+import coffeeshout.global.cluster.ClusterNode;
+import coffeeshout.global.cluster.RoomOwnership;
+import coffeeshout.global.cluster.RoomPartitions;
+import coffeeshout.global.config.properties.ClusterProperties;
 import coffeeshout.global.config.properties.RedisStreamProperties;
+import coffeeshout.global.config.redis.RedisStreamInitializer;
+import coffeeshout.racinggame.domain.event.KeyframeRequestCommandEvent;
 import coffeeshout.racinggame.domain.event.RacingGameEventType;
 import coffeeshout.racinggame.domain.event.StartRacingGameCommandEvent;
+import coffeeshout.racinggame.domain.event.TapBatchCommandEvent;
 import coffeeshout.racinggame.domain.event.TapCommandEvent;
 import coffeeshout.racinggame.infra.messaging.handler.RacingGameEventHandler;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
 import org.springframework.data.redis.connection.stream.Consumer;
 import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
 import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoConsumer;
 import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.stream.StreamListener;
 import org.springframework.data.redis.stream.StreamMessageListenerContainer;
+import org.springframework.data.redis.stream.Subscription;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Component;
 
+/*
+    - 레이싱 게임 스트림은 joinCode 기준으로 파티션(racingGame:broadcast:{partition})에 나뉘어 쌓인다.
+    - 소유권 분산이 켜져 있으면 racing-game-group 컨슈머 그룹으로 읽는다.
+      컨슈머 이름은 노드 id이고, 각 노드는 해시 링에서 자신이 소유한 파티션만 구독한다.
+      방 소유자와 파티션 소비자가 같으므로 한 방의 탭은 게임 루프를 실행하는 노드 하나에서만 처리된다.
+    - heartbeatInterval마다 소유 파티션을 다시 맞춘다. 잃은 파티션은 구독을 끊고, 새로 얻은 파티션은 구독한다.
+    - 처리 후 XACK 한다. 죽은 노드가 ACK 하지 못한 메시지는 reclaimMinIdle 이상 묵으면 새 소유자가 XCLAIM 해서 처리한다.
+    - 소유권 분산이 꺼져 있으면 모든 노드가 모든 방의 게임 루프를 실행하므로, 그룹 없이 모든 파티션을 읽는다. (기존 동작)
+ */
 @Slf4j
 @Component
 public class RacingGameStreamConsumer implements StreamListener<String, MapRecord<String, String, String>> {
 
-    private static final String CONSUMER_GROUP = "racing-game-group";
-    private static final String CONSUMER_NAME = "consumer-1";
+    private static final String CONSUMER_GROUP = RedisStreamInitializer.RACING_GAME_GROUP;
+    private static final int RECLAIM_BATCH_SIZE = 100;
 
     private final Map<RacingGameEventType, RacingGameEventHandler<?>> handlers;
     private final StreamMessageListenerContainer<String, MapRecord<String, String, String>> container;
     private final RedisStreamProperties redisStreamProperties;
     private final ObjectMapper objectMapper;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RoomOwnership roomOwnership;
+    private final RoomPartitions roomPartitions;
+    private final ClusterMembership clusterMembership;
+    private final ClusterNode clusterNode;
+    private final ClusterProperties clusterProperties;
+    private final TaskScheduler taskScheduler;
+    private final Duration reclaimMinIdle;
+
+    private final Map<Integer, Subscription> subscriptions = new ConcurrentHashMap<>();
+    private ScheduledFuture<?> reconcileFuture;
 
     public RacingGameStreamConsumer(
             final List<RacingGameEventHandler<?>> handlers,
             @Qualifier("racingGameStreamContainer")
             final StreamMessageListenerContainer<String, MapRecord<String, String, String>> container,
             final RedisStreamProperties redisStreamProperties,
-            final ObjectMapper objectMapper
+            final ObjectMapper objectMapper,
+            final StringRedisTemplate stringRedisTemplate,
+            final RoomOwnership roomOwnership,
+            final RoomPartitions roomPartitions,
+            final ClusterMembership clusterMembership,
+            final ClusterNode clusterNode,
+            final ClusterProperties clusterProperties,
+            @Qualifier("racingGameScheduler") final TaskScheduler taskScheduler,
+            @Value("${racing-game.stream.reclaim-min-idle:5s}") final Duration reclaimMinIdle
     ) {
         this.handlers = handlers.stream().collect(Collectors.toMap(
                 RacingGameEventHandler::getSupportedEventType,
@@ -47,17 +98,110 @@ public class RacingGameStreamConsumer implements StreamListener<String, MapRecor
         this.container = container;
         this.redisStreamProperties = redisStreamProperties;
         this.objectMapper = objectMapper;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.roomOwnership = roomOwnership;
+        this.roomPartitions = roomPartitions;
+        this.clusterMembership = clusterMembership;
+        this.clusterNode = clusterNode;
+        this.clusterProperties = clusterProperties;
+        this.taskScheduler = taskScheduler;
+        this.reclaimMinIdle = reclaimMinIdle;
     }
 
     @PostConstruct
     public void registerListener() {
-//        container.receiveAutoAck(
-//                Consumer.from(CONSUMER_GROUP, CONSUMER_NAME),
-//                StreamOffset.create(redisStreamProperties.racingGameKey(), ReadOffset.lastConsumed()),
-//                this
-//        );
-        log.info("레이싱 게임 스트림 리스너 등록 완료 (consumer group={}): {}",
-                CONSUMER_GROUP, redisStreamProperties.racingGameKey());
+        if (!roomOwnership.isEnabled()) {
+            roomPartitions.all().forEach(partition -> subscriptions.put(partition, container.receive(
+                    StreamOffset.create(streamKey(partition), ReadOffset.latest()),
+                    this
+            )));
+            log.info("레이싱 게임 스트림 리스너 등록 완료 (전체 구독, partitions={}): {}",
+                    roomPartitions.count(), redisStreamProperties.racingGameKey());
+            return;
+        }
+        reconcileFuture = taskScheduler.scheduleAtFixedRate(this::reconcile, clusterProperties.heartbeatInterval());
+        log.info("레이싱 게임 스트림 리스너 등록 완료 (consumer group={}, consumer={}): {}",
+                CONSUMER_GROUP, clusterNode.getId(), redisStreamProperties.racingGameKey());
+    }
+
+    @PreDestroy
+    public void unregisterListener() {
+        if (reconcileFuture != null) {
+            reconcileFuture.cancel(false);
+        }
+        subscriptions.values().forEach(container::remove);
+        subscriptions.clear();
+    }
+
+    /*
+        - 소유 파티션과 구독 중인 파티션을 맞추고, 소유 파티션의 오래된 pending 메시지를 가져온다.
+        - 에러로 취소된 구독(isActive == false)은 다시 구독한다.
+     */
+    void reconcile() {
+        try {
+            final Set<Integer> owned = roomOwnership.ownedPartitions();
+            subscriptions.keySet().stream()
+                    .filter(partition -> !owned.contains(partition))
+                    .toList()
+                    .forEach(this::unsubscribe);
+            owned.forEach(partition -> {
+                final Subscription subscription = subscriptions.get(partition);
+                if (subscription == null || !subscription.isActive()) {
+                    subscribe(partition);
+                }
+                reclaimPending(partition);
+            });
+        } catch (Exception e) {
+            log.warn("레이싱 게임 스트림 파티션 조정 실패: consumer={}", clusterNode.getId(), e);
+        }
+    }
+
+    private void subscribe(final int partition) {
+        final Subscription previous = subscriptions.put(partition, container.receive(
+                Consumer.from(CONSUMER_GROUP, clusterNode.getId()),
+                StreamOffset.create(streamKey(partition), ReadOffset.lastConsumed()),
+                this
+        ));
+        if (previous != null) {
+            container.remove(previous);
+        }
+        log.info("레이싱 게임 스트림 파티션 구독: partition={}, consumer={}", partition, clusterNode.getId());
+    }
+
+    private void unsubscribe(final int partition) {
+        final Subscription subscription = subscriptions.remove(partition);
+        if (subscription != null) {
+            container.remove(subscription);
+            log.info("레이싱 게임 스트림 파티션 구독 해제: partition={}, consumer={}", partition, clusterNode.getId());
+        }
+    }
+
+    private void reclaimPending(final int partition) {
+        final String key = streamKey(partition);
+        final StreamOperations<String, String, String> streamOperations = stringRedisTemplate.opsForStream();
+        final PendingMessages pendingMessages = streamOperations.pending(
+                key, CONSUMER_GROUP, Range.unbounded(), RECLAIM_BATCH_SIZE);
+
+        final RecordId[] staleIds = pendingMessages.stream()
+                .filter(pending -> pending.getElapsedTimeSinceLastDelivery().compareTo(reclaimMinIdle) >= 0)
+                .map(PendingMessage::getId)
+                .toArray(RecordId[]::new);
+        if (staleIds.length > 0) {
+            final List<MapRecord<String, String, String>> claimed = streamOperations.claim(
+                    key, CONSUMER_GROUP, clusterNode.getId(), reclaimMinIdle, staleIds);
+            log.info("레이싱 게임 스트림 pending 메시지 회수: partition={}, count={}", partition, claimed.size());
+            claimed.forEach(this::onMessage);
+        }
+        removeDeadConsumers(key, streamOperations);
+    }
+
+    private void removeDeadConsumers(final String key, final StreamOperations<String, String, String> streamOperations) {
+        final Set<String> aliveNodes = clusterMembership.getRing().getNodes();
+        streamOperations.consumers(key, CONSUMER_GROUP).stream()
+                .filter(consumer -> !aliveNodes.contains(consumer.consumerName()))
+                .filter(consumer -> consumer.pendingCount() == 0)
+                .map(XInfoConsumer::consumerName)
+                .forEach(name -> streamOperations.deleteConsumer(key, Consumer.from(CONSUMER_GROUP, name)));
     }
 
     @Override
@@ -81,14 +225,36 @@ public class RacingGameStreamConsumer implements StreamListener<String, MapRecor
         } catch (Exception e) {
             log.error("레이싱 게임 스트림 메시지 처리 실패: messageId={}, error={}",
                     message.getId(), e.getMessage(), e);
+        } finally {
+            acknowledge(message);
         }
     }
 
+    /*
+        - 처리에 실패한 메시지도 ACK 한다. 다시 전달해도 같은 이유로 실패하므로 pending에 남겨 두지 않는다.
+     */
+    private void acknowledge(final MapRecord<String, String, String> message) {
+        if (!roomOwnership.isEnabled()) {
+            return;
+        }
+        try {
+            stringRedisTemplate.opsForStream().acknowledge(message.getStream(), CONSUMER_GROUP, message.getId());
+        } catch (Exception e) {
+            log.warn("레이싱 게임 스트림 ACK 실패: messageId={}", message.getId(), e);
+        }
+    }
+
+    private String streamKey(final int partition) {
+        return RoomPartitions.streamKey(redisStreamProperties.racingGameKey(), partition);
+    }
+
     private Object deserializeEvent(final JsonNode jsonNode, final RacingGameEventType eventType)
             throws Exception {
         return switch (eventType) {
             case START_RACING_GAME_COMMAND -> objectMapper.treeToValue(jsonNode, StartRacingGameCommandEvent.class);
             case TAP_COMMAND -> objectMapper.treeToValue(jsonNode, TapCommandEvent.class);
+            case TAP_BATCH_COMMAND -> objectMapper.treeToValue(jsonNode, TapBatchCommandEvent.class);
+            case KEYFRAME_REQUEST_COMMAND -> objectMapper.treeToValue(jsonNode, KeyframeRequestCommandEvent.class);
         };
     }
 }
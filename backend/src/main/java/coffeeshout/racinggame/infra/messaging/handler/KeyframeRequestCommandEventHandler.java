@@ -0,0 +1,30 @@
+package coffeeshout.racinggame.infra.messaging.handler;
+
+import coffeeshout.racinggame.application.RacingGameService;
+import coffeeshout.racinggame.domain.event.KeyframeRequestCommandEvent;
+import coffeeshout.racinggame.domain.event.RacingGameEventType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KeyframeRequestCommandEventHandler implements RacingGameEventHandler<KeyframeRequestCommandEvent> {
+
+    private final RacingGameService racingGameService;
+
+    @Override
+    public void handle(KeyframeRequestCommandEvent event) {
+        try {
+            racingGameService.requestKeyframe(event.joinCode());
+        } catch (Exception e) {
+            log.warn("키프레임 요청 처리 실패: eventId={}, joinCode={}", event.eventId(), event.joinCode(), e);
+        }
+    }
+
+    @Override
+    public RacingGameEventType getSupportedEventType() {
+        return RacingGameEventType.KEYFRAME_REQUEST_COMMAND;
+    }
+}
@@ -0,0 +1,30 @@
+package coffeeshout.racinggame.infra.messaging.handler;
+
+import coffeeshout.racinggame.application.RacingGameService;
+import coffeeshout.racinggame.domain.event.RacingGameEventType;
+import coffeeshout.racinggame.domain.event.TapBatchCommandEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TapBatchCommandEventHandler implements RacingGameEventHandler<TapBatchCommandEvent> {
+
+    private final RacingGameService racingGameService;
+
+    @Override
+    public void handle(TapBatchCommandEvent event) {
+        try {
+            racingGameService.tapAll(event.joinCode(), event.tapCounts());
+        } catch (Exception e) {
+            log.warn("탭 배치 처리 실패: eventId={}, joinCode={}", event.eventId(), event.joinCode(), e);
+        }
+    }
+
+    @Override
+    public RacingGameEventType getSupportedEventType() {
+        return RacingGameEventType.TAP_BATCH_COMMAND;
+    }
+}
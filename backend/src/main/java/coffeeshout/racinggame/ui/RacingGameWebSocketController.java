@@ -3,6 +3,7 @@ package coffeeshout.racinggame.ui;
 import coffeeshout.racinggame.application.RacingGameFacade;
 import coffeeshout.racinggame.domain.event.RaceStateChangedEvent;
 import coffeeshout.racinggame.ui.request.TapCommand;
+import coffeeshout.racinggame.ui.response.RacingGameRunnersStateResponse;
 import generator.annotaions.MessageResponse;
 import generator.annotaions.Operation;
 import jakarta.validation.Valid;
@@ -32,4 +33,17 @@ public class RacingGameWebSocketController {
     public void tap(@DestinationVariable String joinCode, @Payload @Valid TapCommand command) {
         racingGameFacade.tap(joinCode, command.playerName(), command.tapCount());
     }
+
+    @MessageMapping("/room/{joinCode}/racing-game/keyframe")
+    @Operation(
+            summary = "레이싱 게임 위치 키프레임 요청",
+            description = "위치 메시지의 sequence가 건너뛰었을 때 전체 주자 위치를 다시 요청하는 웹소켓 요청입니다."
+    )
+    @MessageResponse(
+            path = "/topic/room/{joinCode}/racing-game",
+            returnType = RacingGameRunnersStateResponse.class
+    )
+    public void requestKeyframe(@DestinationVariable String joinCode) {
+        racingGameFacade.requestKeyframe(joinCode);
+    }
 }
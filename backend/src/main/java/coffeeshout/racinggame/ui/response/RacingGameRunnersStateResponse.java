@@ -2,8 +2,20 @@ package coffeeshout.racinggame.ui.response;
 
 import coffeeshout.racinggame.domain.RacingRange;
 import coffeeshout.racinggame.domain.RunnerPosition;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import java.util.List;
 
-public record RacingGameRunnersStateResponse (RacingRange distance, List<RunnerPosition> players) {
+/*
+    - keyframe이면 distance와 모든 주자를, 아니면 바뀐 주자만 담는다. (distance 생략)
+    - sequence가 이전에 받은 값 + 1이 아니면 /app/room/{joinCode}/racing-game/keyframe 으로 키프레임을 요청한다.
+ */
+@JsonInclude(Include.NON_NULL)
+public record RacingGameRunnersStateResponse(
+        long sequence,
+        boolean keyframe,
+        RacingRange distance,
+        List<RunnerPosition> players
+) {
 
 }
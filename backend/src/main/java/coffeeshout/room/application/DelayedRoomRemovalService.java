@@ -1,29 +1,27 @@
 package coffeeshout.room.application;
 
+import coffeeshout.global.timer.HashedTimingWheel;
 import coffeeshout.room.domain.JoinCode;
 import coffeeshout.room.domain.service.RoomCommandService;
 import java.time.Duration;
-import java.time.Instant;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Service;
 
 @Slf4j
 @Service
 public class DelayedRoomRemovalService {
 
-    private final TaskScheduler taskScheduler;
+    private final HashedTimingWheel timingWheel;
     private final Duration removeDuration;
     private final RoomCommandService roomCommandService;
 
     public DelayedRoomRemovalService(
-            @Qualifier("delayRemovalScheduler") TaskScheduler taskScheduler,
+            HashedTimingWheel timingWheel,
             @Value("${room.removalDelay}") Duration removalDelay,
             RoomCommandService roomCommandService) {
         validateRemovalDuration(removalDelay);
-        this.taskScheduler = taskScheduler;
+        this.timingWheel = timingWheel;
         this.removeDuration = removalDelay;
         this.roomCommandService = roomCommandService;
     }
@@ -39,7 +37,7 @@ public class DelayedRoomRemovalService {
             log.info("방 지연 삭제 스케줄링: joinCode={}, delay={}초",
                     joinCode.getValue(), removeDuration.getSeconds());
 
-            taskScheduler.schedule(() -> executeRoomRemoval(joinCode), Instant.now().plus(removeDuration));
+            timingWheel.schedule(() -> executeRoomRemoval(joinCode), removeDuration);
         } catch (Exception e) {
             log.error("방 제거 스케줄링 실패: joinCode={}", joinCode.getValue(), e);
         }
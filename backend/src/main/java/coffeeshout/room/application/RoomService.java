@@ -1,5 +1,7 @@
 package coffeeshout.room.application;
 
+import coffeeshout.global.cluster.RoomOwnership;
+import coffeeshout.global.mailbox.RoomMailboxExecutor;
 import coffeeshout.minigame.domain.MiniGameResult;
 import coffeeshout.minigame.domain.MiniGameScore;
 import coffeeshout.minigame.domain.MiniGameType;
@@ -60,6 +62,8 @@ public class RoomService {
     private final MenuCommandService menuCommandService;
     private final RoomEnterStreamProducer roomEnterStreamProducer;
     private final RoomJpaRepository roomJpaRepository;
+    private final RoomMailboxExecutor roomMailboxExecutor;
+    private final RoomOwnership roomOwnership;
 
     @Value("${room.event.timeout:PT5S}")
     private Duration eventTimeout;
@@ -103,6 +107,10 @@ public class RoomService {
     ) {
         final RoomJoinEvent event = new RoomJoinEvent(joinCode, guestName, selectedMenuRequest);
 
+        if (isAuthoritative(joinCode)) {
+            return enterRoomLocally(event);
+        }
+
         return processEventAsync(
                 event.eventId(),
                 () -> roomEnterStreamProducer.broadcastEnterRoom(event),
@@ -112,6 +120,36 @@ public class RoomService {
         );
     }
 
+    /*
+        - 소유권 분산이 켜져 있고 이 노드가 방의 소유자이면 스트림을 거치지 않고 바로 반영한다.
+        - 다른 노드에는 반영한 뒤에 스트림으로 전파하고, 응답은 전파를 기다리지 않는다.
+        - 소유권 분산이 꺼져 있으면 모든 노드가 같은 방을 가지므로, 스트림 순서로 반영해야 노드 간 상태가 어긋나지 않는다.
+     */
+    private boolean isAuthoritative(String joinCode) {
+        return roomOwnership.isEnabled() && roomOwnership.isOwner(joinCode);
+    }
+
+    private CompletableFuture<Room> enterRoomLocally(RoomJoinEvent event) {
+        final Room room;
+        try {
+            room = enterRoom(event.joinCode(), event.guestName(), event.selectedMenuRequest());
+        } catch (Exception e) {
+            log.warn("방 참가 처리 실패 (로컬): eventId={}, joinCode={}, guestName={}",
+                    event.eventId(), event.joinCode(), event.guestName(), e);
+            return CompletableFuture.failedFuture(e);
+        }
+
+        try {
+            roomEnterStreamProducer.replicateEnterRoom(event);
+        } catch (Exception e) {
+            log.error("방 참가 전파 실패: eventId={}, joinCode={}, guestName={}",
+                    event.eventId(), event.joinCode(), event.guestName(), e);
+        }
+        log.info("방 참가 처리 완료 (로컬): joinCode={}, guestName={}, eventId={}",
+                event.joinCode(), event.guestName(), event.eventId());
+        return CompletableFuture.completedFuture(room);
+    }
+
     private <T> CompletableFuture<T> processEventAsync(
             String eventId,
             Runnable eventPublisher,
@@ -146,18 +184,22 @@ public class RoomService {
     }
 
     public Winner spinRoulette(String joinCode, String hostName) {
-        final Room room = roomQueryService.getByJoinCode(new JoinCode(joinCode));
-        Player host = room.findPlayer(new PlayerName(hostName));
+        return roomMailboxExecutor.call(joinCode, () -> {
+            final Room room = roomQueryService.getByJoinCode(JoinCode.of(joinCode));
+            Player host = room.findPlayer(new PlayerName(hostName));
 
-        return room.spinRoulette(host, new Roulette(new RoulettePicker()));
+            final Winner winner = room.spinRoulette(host, new Roulette(new RoulettePicker()));
+            roomCommandService.save(room);
+            return winner;
+        });
     }
 
     public Room getRoomByJoinCode(String joinCode) {
-        return roomQueryService.getByJoinCode(new JoinCode(joinCode));
+        return roomQueryService.getByJoinCode(JoinCode.of(joinCode));
     }
 
     public List<Player> getPlayersInternal(String joinCode) {
-        final Room room = roomQueryService.getByJoinCode(new JoinCode(joinCode));
+        final Room room = roomQueryService.getByJoinCode(JoinCode.of(joinCode));
         return room.getPlayers();
     }
 
@@ -170,7 +212,7 @@ public class RoomService {
         Menu menu = menuCommandService.convertMenu(selectedMenuRequest.id(), selectedMenuRequest.customName());
 
         return roomCommandService.joinGuest(
-                new JoinCode(joinCode),
+                JoinCode.of(joinCode),
                 new PlayerName(guestName),
                 menu,
                 selectedMenuRequest.temperature()
@@ -178,51 +220,58 @@ public class RoomService {
     }
 
     public List<Player> changePlayerReadyStateInternal(String joinCode, String playerName, Boolean isReady) {
-        final Room room = roomQueryService.getByJoinCode(new JoinCode(joinCode));
-        final Player player = room.findPlayer(new PlayerName(playerName));
+        return roomMailboxExecutor.call(joinCode, () -> {
+            final Room room = roomQueryService.getByJoinCode(JoinCode.of(joinCode));
+            final Player player = room.findPlayer(new PlayerName(playerName));
 
-        if (player.getPlayerType() == PlayerType.HOST) {
-            return room.getPlayers();
-        }
+            if (player.getPlayerType() == PlayerType.HOST) {
+                return room.getPlayers();
+            }
 
-        player.updateReadyState(isReady);
-        roomCommandService.save(room);
-        return room.getPlayers();
+            player.updateReadyState(isReady);
+            roomCommandService.save(room);
+            return room.getPlayers();
+        });
     }
 
     public List<MiniGameType> updateMiniGamesInternal(String joinCode, String hostName,
                                                       List<MiniGameType> miniGameTypes) {
-        final Room room = roomQueryService.getByJoinCode(new JoinCode(joinCode));
-        room.clearMiniGames();
+        return roomMailboxExecutor.call(joinCode, () -> {
+            final Room room = roomQueryService.getByJoinCode(JoinCode.of(joinCode));
+            room.clearMiniGames();
 
-        miniGameTypes.forEach(miniGameType -> {
-            final Playable miniGame = miniGameType.createMiniGame(joinCode);
-            room.addMiniGame(new PlayerName(hostName), miniGame);
-        });
+            miniGameTypes.forEach(miniGameType -> {
+                final Playable miniGame = miniGameType.createMiniGame(joinCode);
+                room.addMiniGame(new PlayerName(hostName), miniGame);
+            });
 
-        roomCommandService.save(room);
+            roomCommandService.save(room);
 
-        return room.getAllMiniGame().stream()
-                .map(Playable::getMiniGameType)
-                .toList();
+            return room.getAllMiniGame().stream()
+                    .map(Playable::getMiniGameType)
+                    .toList();
+        });
     }
 
     // === 나머지 기존 메서드들 (변경 없음) ===
 
     public List<Player> getAllPlayers(String joinCode) {
-        final Room room = roomQueryService.getByJoinCode(new JoinCode(joinCode));
+        final Room room = roomQueryService.getByJoinCode(JoinCode.of(joinCode));
 
         return room.getPlayers();
     }
 
     public List<Player> selectMenu(String joinCode, String playerName, Long menuId) {
-        final Room room = roomQueryService.getByJoinCode(new JoinCode(joinCode));
         final Menu menu = menuQueryService.getById(menuId);
 
-        final Player player = room.findPlayer(new PlayerName(playerName));
-        player.selectMenu(new SelectedMenu(menu, MenuTemperature.ICE));
+        return roomMailboxExecutor.call(joinCode, () -> {
+            final Room room = roomQueryService.getByJoinCode(JoinCode.of(joinCode));
+            final Player player = room.findPlayer(new PlayerName(playerName));
+            player.selectMenu(new SelectedMenu(menu, MenuTemperature.ICE));
+            roomCommandService.save(room);
 
-        return room.getPlayers();
+            return room.getPlayers();
+        });
     }
 
     public List<MiniGameType> updateMiniGames(String joinCode, String hostName, List<MiniGameType> miniGameTypes) {
@@ -235,66 +284,74 @@ public class RoomService {
     }
 
     public boolean roomExists(String joinCode) {
-        return roomQueryService.existsByJoinCode(new JoinCode(joinCode));
+        return roomQueryService.existsByJoinCode(JoinCode.of(joinCode));
     }
 
     public boolean isGuestNameDuplicated(String joinCode, String guestName) {
-        final Room room = roomQueryService.getByJoinCode(new JoinCode(joinCode));
+        final Room room = roomQueryService.getByJoinCode(JoinCode.of(joinCode));
 
         return room.hasDuplicatePlayerName(new PlayerName(guestName));
     }
 
     public List<ProbabilityResponse> getProbabilities(String joinCode) {
-        final Room room = roomQueryService.getByJoinCode(new JoinCode(joinCode));
+        final Room room = roomQueryService.getByJoinCode(JoinCode.of(joinCode));
         return room.getPlayers().stream()
                 .map(ProbabilityResponse::from)
                 .toList();
     }
 
     public Map<Player, MiniGameScore> getMiniGameScores(String joinCode, MiniGameType miniGameType) {
-        final Room room = roomQueryService.getByJoinCode(new JoinCode(joinCode));
+        final Room room = roomQueryService.getByJoinCode(JoinCode.of(joinCode));
         final Playable miniGame = room.findMiniGame(miniGameType);
 
         return miniGame.getScores();
     }
 
     public MiniGameResult getMiniGameRanks(String joinCode, MiniGameType miniGameType) {
-        final Room room = roomQueryService.getByJoinCode(new JoinCode(joinCode));
+        final Room room = roomQueryService.getByJoinCode(JoinCode.of(joinCode));
         final Playable miniGame = room.findMiniGame(miniGameType);
 
         return miniGame.getResult();
     }
 
     public List<MiniGameType> getSelectedMiniGames(String joinCode) {
-        final Room room = roomQueryService.getByJoinCode(new JoinCode(joinCode));
+        final Room room = roomQueryService.getByJoinCode(JoinCode.of(joinCode));
         return room.getSelectedMiniGameTypes();
     }
 
     public boolean removePlayer(String joinCode, String playerName) {
-        final JoinCode code = new JoinCode(joinCode);
-        final Room room = roomQueryService.getByJoinCode(code);
-
-        boolean isRemoved = room.removePlayer(new PlayerName(playerName));
-        if (room.isEmpty()) {
-            roomCommandService.delete(code);
-        }
+        final boolean isRemoved = roomMailboxExecutor.call(joinCode, () -> {
+            final JoinCode code = JoinCode.of(joinCode);
+            final Room room = roomQueryService.getByJoinCode(code);
+
+            final boolean removed = room.removePlayer(new PlayerName(playerName));
+            if (room.isEmpty()) {
+                roomCommandService.delete(code);
+                return removed;
+            }
+            roomCommandService.save(room);
+            return removed;
+        });
+        roomMailboxExecutor.release(joinCode);
         return isRemoved;
     }
 
     public boolean isReadyState(String joinCode) {
-        final Room room = roomQueryService.getByJoinCode(new JoinCode(joinCode));
+        final Room room = roomQueryService.getByJoinCode(JoinCode.of(joinCode));
         return room.isReadyState();
     }
 
     public Room showRoulette(String joinCode) {
-        final Room room = roomQueryService.getByJoinCode(new JoinCode(joinCode));
-        room.showRoulette();
-        return room;
+        return roomMailboxExecutor.call(joinCode, () -> {
+            final Room room = roomQueryService.getByJoinCode(JoinCode.of(joinCode));
+            room.showRoulette();
+            return roomCommandService.save(room);
+        });
     }
 
     public QrCodeStatusResponse getQrCodeStatus(String joinCode) {
-        final Room room = roomQueryService.getByJoinCode(new JoinCode(joinCode));
-        final QrCode qrCode = room.getJoinCode().getQrCode();
+        final Room room = roomQueryService.getByJoinCode(JoinCode.of(joinCode));
+        final QrCode qrCode = room.getQrCode();
 
         QrCodeStatusResponse response = new QrCodeStatusResponse(qrCode.getStatus(), qrCode.getUrl());
 
@@ -314,12 +371,12 @@ public class RoomService {
     }
 
     private boolean hasPlayer(String joinCode, String playerName) {
-        final Room room = roomQueryService.getByJoinCode(new JoinCode(joinCode));
+        final Room room = roomQueryService.getByJoinCode(JoinCode.of(joinCode));
         return room.hasPlayer(new PlayerName(playerName));
     }
 
     public List<Playable> getRemainingMiniGames(String joinCode) {
-        final Room room = roomQueryService.getByJoinCode(new JoinCode(joinCode));
+        final Room room = roomQueryService.getByJoinCode(JoinCode.of(joinCode));
         return room.getMiniGames().stream().toList();
     }
 }
@@ -0,0 +1,171 @@
+package coffeeshout.room.application;
+
+import coffeeshout.global.mailbox.RoomMailboxExecutor;
+import coffeeshout.room.domain.Room;
+import coffeeshout.room.domain.repository.JoinCodeRepository;
+import coffeeshout.room.domain.repository.RoomRepository;
+import coffeeshout.room.domain.service.MenuQueryService;
+import coffeeshout.room.infra.snapshot.RoomSnapshot;
+import coffeeshout.room.infra.snapshot.RoomSnapshotBinaryCodec.DecodedSnapshots;
+import coffeeshout.room.infra.snapshot.RoomSnapshotFileStore;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+/*
+    - 종료 직전 메모리에 있는 방을 스냅샷 파일로 남기고, 다음 기동 시 WebSocket 연결을 받기 전에 복원한다.
+    - 재배포 동안 진행 중인 방이 사라지지 않게 하고, 종료 시 활성 연결이 모두 끊길 때까지 기다리지 않아도 되게 한다.
+    - removalDelay보다 오래된 스냅샷은 이미 만료된 방이므로 복원하지 않는다.
+    - 진행 중이던 미니게임은 대기열로 되돌려 복원한다. (RoomSnapshot 참고)
+    - 종료 시 스냅샷은 방마다 그 방의 메일박스 안에서 뜬다. 방을 바꾸는 명령과 겹치지 않고,
+      이미 메일박스에 들어온 명령이 반영된 뒤의 상태를 기록한다. (새 입력은 호출 전에 막혀 있어야 한다)
+ */
+@Slf4j
+@Service
+public class RoomSnapshotService implements SmartLifecycle {
+
+    // 웹 서버(WebServerStartStopLifecycle)보다 먼저 시작되어야 첫 연결 전에 방이 복원된다.
+    // 체크포인트부터 읽는 스트림 소비자는 이보다 뒤 phase에서 구독한다.
+    public static final int RESTORE_PHASE = 0;
+
+    private static final Duration SNAPSHOT_TIMEOUT = Duration.ofSeconds(10);
+
+    private final RoomRepository roomRepository;
+    private final JoinCodeRepository joinCodeRepository;
+    private final MenuQueryService menuQueryService;
+    private final DelayedRoomRemovalService delayedRoomRemovalService;
+    private final RoomMailboxExecutor roomMailboxExecutor;
+    private final RoomSnapshotFileStore fileStore;
+    private final boolean enabled;
+    private final Duration removalDelay;
+
+    private volatile boolean isRunning = false;
+
+    public RoomSnapshotService(
+            RoomRepository roomRepository,
+            JoinCodeRepository joinCodeRepository,
+            MenuQueryService menuQueryService,
+            DelayedRoomRemovalService delayedRoomRemovalService,
+            RoomMailboxExecutor roomMailboxExecutor,
+            @Value("${room.snapshot.enabled:false}") boolean enabled,
+            @Value("${room.snapshot.path:./data/room-snapshot.bin}") Path path,
+            @Value("${room.removalDelay}") Duration removalDelay
+    ) {
+        this.roomRepository = roomRepository;
+        this.joinCodeRepository = joinCodeRepository;
+        this.menuQueryService = menuQueryService;
+        this.delayedRoomRemovalService = delayedRoomRemovalService;
+        this.roomMailboxExecutor = roomMailboxExecutor;
+        this.fileStore = new RoomSnapshotFileStore(path);
+        this.enabled = enabled;
+        this.removalDelay = removalDelay;
+    }
+
+    @Override
+    public void start() {
+        isRunning = true;
+        if (enabled) {
+            restore();
+        }
+    }
+
+    @Override
+    public void stop() {
+        isRunning = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return isRunning;
+    }
+
+    @Override
+    public int getPhase() {
+        return RESTORE_PHASE;
+    }
+
+    /**
+     * 현재 방들을 스냅샷 파일로 기록한다.
+     *
+     * @return 스냅샷이 기록되었으면 true
+     */
+    public boolean snapshotOnShutdown() {
+        if (!enabled) {
+            return false;
+        }
+        try {
+            final List<CompletableFuture<RoomSnapshot>> futures = roomRepository.findAll().stream()
+                    .map(this::snapshotInMailbox)
+                    .toList();
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                    .get(SNAPSHOT_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            final List<RoomSnapshot> snapshots = futures.stream()
+                    .map(CompletableFuture::join)
+                    .filter(Objects::nonNull)
+                    .toList();
+            fileStore.write(snapshots, System.currentTimeMillis());
+            log.info("방 스냅샷 기록 완료: rooms={}", snapshots.size());
+            return true;
+        } catch (Exception e) {
+            log.error("방 스냅샷 기록 실패", e);
+            return false;
+        }
+    }
+
+    // 스냅샷을 뜨지 못한 방은 건너뛰고 나머지 방은 기록한다.
+    private CompletableFuture<RoomSnapshot> snapshotInMailbox(Room room) {
+        final String joinCode = room.getJoinCode().getValue();
+        return roomMailboxExecutor.submit(joinCode, () -> RoomSnapshot.from(room))
+                .exceptionally(e -> {
+                    log.warn("방 스냅샷 생성 실패: joinCode={}", joinCode, e);
+                    return null;
+                });
+    }
+
+    private void restore() {
+        try {
+            final Optional<DecodedSnapshots> decoded = fileStore.read();
+            if (decoded.isEmpty()) {
+                return;
+            }
+            final Instant createdAt = Instant.ofEpochMilli(decoded.get().createdAtMillis());
+            if (createdAt.plus(removalDelay).isBefore(Instant.now())) {
+                log.info("만료된 방 스냅샷을 건너뜀: createdAt={}", createdAt);
+            } else {
+                restoreRooms(decoded.get().rooms());
+            }
+            fileStore.delete();
+        } catch (Exception e) {
+            log.error("방 스냅샷 복원 실패", e);
+        }
+    }
+
+    private void restoreRooms(List<RoomSnapshot> snapshots) {
+        int restored = 0;
+        for (RoomSnapshot snapshot : snapshots) {
+            try {
+                final Room room = snapshot.toRoom(menuQueryService::getById);
+                if (roomRepository.existsByJoinCode(room.getJoinCode())) {
+                    continue;
+                }
+                // 스냅샷이 오래되어 코드 세대가 넘어갔을 수 있으므로 다시 점유 표시한다.
+                joinCodeRepository.save(room.getJoinCode());
+                roomRepository.save(room);
+                delayedRoomRemovalService.scheduleRemoveRoom(room.getJoinCode());
+                restored++;
+            } catch (Exception e) {
+                log.warn("방 스냅샷 복원 실패: joinCode={}", snapshot.joinCode(), e);
+            }
+        }
+        log.info("방 스냅샷 복원 완료: restored={}, total={}", restored, snapshots.size());
+    }
+}
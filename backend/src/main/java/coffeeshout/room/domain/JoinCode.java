@@ -1,40 +1,93 @@
 package coffeeshout.room.domain;
 
 import coffeeshout.global.exception.custom.InvalidArgumentException;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.Getter;
-import lombok.NonNull;
 
-@Getter
+/*
+    - 불변 값 객체라 여러 스레드에서 같은 인스턴스를 공유해도 안전하다. (QR 코드 상태는 Room이 가진다)
+    - 살아 있는 방의 코드는 정규 인스턴스로 등록해 두고, 메시지마다 들어오는 문자열은 of()로 검증 없이 바로 찾는다.
+    - 등록되지 않은 코드만 새로 검증해 만든다.
+    - 등록과 해제는 방을 보관하는 저장소가 맡는다. 저장소에 방을 넣을 때 intern하고, 삭제/무효화/용량 초과로 빠질 때 evict한다.
+      그래서 등록된 코드 수는 노드가 들고 있는 방 수를 넘지 않는다.
+ */
 public final class JoinCode {
 
     private static final String CHARSET = "ABCDFGHJKLMNPQRSTUVWXYZ346789";
     private static final int CODE_LENGTH = 4;
+    // 서로 다른 문자 4개로 만들 수 있는 코드 수(29P4). 각 코드는 사전순 번호(fromIndex/toIndex)를 가진다.
+    public static final int SPACE_SIZE = permutationCount(CHARSET.length(), CODE_LENGTH);
 
+    private static final Map<String, JoinCode> ACTIVE_CODES = new ConcurrentHashMap<>();
+
+    @Getter
     private final String value;
-    private QrCode qrCode;
+    private final int hash;
 
     public JoinCode(String value) {
         validate(value);
         this.value = value;
-        this.qrCode = QrCode.pending();
+        this.hash = value.hashCode();
+    }
+
+    public static JoinCode of(String value) {
+        final JoinCode activeCode = value == null ? null : ACTIVE_CODES.get(value);
+        if (activeCode != null) {
+            return activeCode;
+        }
+        return new JoinCode(value);
+    }
+
+    // 예외를 만들지 않고 형식만 확인한다. (클라이언트가 보낸 문자열을 키로 쓰기 전에 거르는 용도)
+    public static boolean isValid(String value) {
+        return value != null
+                && value.length() == CODE_LENGTH
+                && value.chars().allMatch(charCode -> CHARSET.indexOf(charCode) > -1);
+    }
+
+    public static JoinCode intern(JoinCode joinCode) {
+        final JoinCode activeCode = ACTIVE_CODES.putIfAbsent(joinCode.value, joinCode);
+        return activeCode == null ? joinCode : activeCode;
+    }
+
+    public static void evict(JoinCode joinCode) {
+        ACTIVE_CODES.remove(joinCode.value);
     }
 
-    public static JoinCode generate() {
-        final List<Integer> asciiCodes = convertAsciiList();
-        Collections.shuffle(asciiCodes);
-        return new JoinCode(asciiCodes.stream()
-                .limit(CODE_LENGTH)
-                .map(JoinCode::convertAsciiToString)
-                .collect(Collectors.joining()));
+    public static int activeCount() {
+        return ACTIVE_CODES.size();
     }
 
-    public void assignQrCode(@NonNull QrCode qrCode) {
-        this.qrCode = qrCode;
+    public static JoinCode fromIndex(int index) {
+        if (index < 0 || index >= SPACE_SIZE) {
+            throw new IllegalArgumentException("참여 코드 번호가 범위를 벗어났습니다: " + index);
+        }
+        final StringBuilder remaining = new StringBuilder(CHARSET);
+        final StringBuilder code = new StringBuilder(CODE_LENGTH);
+        int rest = index;
+        for (int position = 0; position < CODE_LENGTH; position++) {
+            final int weight = permutationCount(remaining.length() - 1, CODE_LENGTH - 1 - position);
+            final int charIndex = rest / weight;
+            rest %= weight;
+            code.append(remaining.charAt(charIndex));
+            remaining.deleteCharAt(charIndex);
+        }
+        return new JoinCode(code.toString());
+    }
+
+    public int toIndex() {
+        final StringBuilder remaining = new StringBuilder(CHARSET);
+        int index = 0;
+        for (int position = 0; position < CODE_LENGTH; position++) {
+            final int charIndex = remaining.indexOf(String.valueOf(value.charAt(position)));
+            if (charIndex < 0) {
+                throw new IllegalArgumentException("중복된 문자가 있는 코드는 번호를 매길 수 없습니다: " + value);
+            }
+            index += charIndex * permutationCount(remaining.length() - 1, CODE_LENGTH - 1 - position);
+            remaining.deleteCharAt(charIndex);
+        }
+        return index;
     }
 
     private void validate(String value) {
@@ -60,12 +113,12 @@ public final class JoinCode {
         }
     }
 
-    private static List<Integer> convertAsciiList() {
-        return JoinCode.CHARSET.chars().boxed().collect(Collectors.toCollection(ArrayList::new));
-    }
-
-    private static String convertAsciiToString(int asciiCode) {
-        return String.valueOf((char) asciiCode);
+    private static int permutationCount(int n, int r) {
+        int count = 1;
+        for (int i = 0; i < r; i++) {
+            count *= n - i;
+        }
+        return count;
     }
 
     private boolean isValidCharacter(int charCode) {
@@ -81,12 +134,12 @@ public final class JoinCode {
             return false;
         }
         var that = (JoinCode) obj;
-        return Objects.equals(this.value, that.value);
+        return this.hash == that.hash && this.value.equals(that.value);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(value);
+        return hash;
     }
 
     @Override
@@ -10,6 +10,7 @@ import coffeeshout.minigame.domain.MiniGameType;
 import coffeeshout.room.domain.menu.SelectedMenu;
 import coffeeshout.room.domain.player.Player;
 import coffeeshout.room.domain.player.PlayerName;
+import coffeeshout.room.domain.player.PlayerType;
 import coffeeshout.room.domain.player.Players;
 import coffeeshout.room.domain.player.Winner;
 import coffeeshout.room.domain.roulette.ProbabilityCalculator;
@@ -17,6 +18,7 @@ import coffeeshout.room.domain.roulette.Roulette;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
 import lombok.Getter;
 
@@ -33,9 +35,11 @@ public class Room {
 
     private Player host;
     private RoomState roomState;
+    private QrCode qrCode;
 
     public Room(JoinCode joinCode, PlayerName hostName, SelectedMenu selectedMenu) {
         this.joinCode = joinCode;
+        this.qrCode = QrCode.pending();
         this.host = Player.createHost(hostName, selectedMenu);
         this.players = new Players(joinCode.getValue());
         this.roomState = RoomState.READY;
@@ -45,6 +49,47 @@ public class Room {
         join(host);
     }
 
+    private Room(
+            JoinCode joinCode,
+            QrCode qrCode,
+            Player host,
+            Players players,
+            Queue<Playable> miniGames,
+            List<Playable> finishedGames,
+            RoomState roomState
+    ) {
+        this.joinCode = joinCode;
+        this.qrCode = qrCode;
+        this.host = host;
+        this.players = players;
+        this.miniGames = miniGames;
+        this.finishedGames = finishedGames;
+        this.roomState = roomState;
+    }
+
+    public static Room restore(
+            JoinCode joinCode,
+            QrCode qrCode,
+            List<Player> players,
+            List<Playable> miniGames,
+            List<Playable> finishedGames,
+            RoomState roomState
+    ) {
+        final Player host = players.stream()
+                .filter(player -> player.getPlayerType() == PlayerType.HOST)
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("호스트가 존재하지 않습니다: " + joinCode));
+        return new Room(
+                joinCode,
+                qrCode,
+                host,
+                Players.restore(joinCode.getValue(), players),
+                new LinkedList<>(miniGames),
+                new ArrayList<>(finishedGames),
+                roomState
+        );
+    }
+
     public static Room createNewRoom(JoinCode joinCode, PlayerName hostName, SelectedMenu selectedMenu) {
         return new Room(joinCode, hostName, selectedMenu);
     }
@@ -69,7 +114,7 @@ public class Room {
     }
 
     public void applyMiniGameResult(MiniGameResult miniGameResult) {
-        ProbabilityCalculator probabilityCalculator = new ProbabilityCalculator(
+        final ProbabilityCalculator probabilityCalculator = ProbabilityCalculator.of(
                 players.getPlayerCount(),
                 calculateMiniGameCount()
         );
@@ -77,6 +122,11 @@ public class Room {
         players.adjustProbabilities(miniGameResult, probabilityCalculator);
     }
 
+    public void syncMiniGameResult(Map<String, Integer> probabilities) {
+        this.roomState = RoomState.SCORE_BOARD;
+        players.syncProbabilities(probabilities);
+    }
+
     private int calculateMiniGameCount() {
         return miniGames.size() + finishedGames.size();
     }
@@ -202,7 +252,7 @@ public class Room {
                     "QR 코드는 null일 수 없습니다.");
         }
 
-        joinCode.assignQrCode(qrCode);
+        this.qrCode = qrCode;
     }
 
     public void showRoulette() {
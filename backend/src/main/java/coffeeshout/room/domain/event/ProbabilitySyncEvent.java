@@ -0,0 +1,34 @@
+package coffeeshout.room.domain.event;
+
+import coffeeshout.global.trace.TraceInfo;
+import coffeeshout.global.trace.TraceInfoExtractor;
+import coffeeshout.global.trace.Traceable;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+public record ProbabilitySyncEvent(
+        String eventId,
+        TraceInfo traceInfo,
+        Instant timestamp,
+        RoomEventType eventType,
+        String joinCode,
+        Map<String, Integer> probabilities
+) implements RoomBaseEvent, Traceable {
+
+    public ProbabilitySyncEvent(String joinCode, Map<String, Integer> probabilities) {
+        this(
+                UUID.randomUUID().toString(),
+                TraceInfoExtractor.extract(),
+                Instant.now(),
+                RoomEventType.PROBABILITY_SYNC,
+                joinCode,
+                probabilities
+        );
+    }
+
+    @Override
+    public TraceInfo getTraceInfo() {
+        return traceInfo;
+    }
+}
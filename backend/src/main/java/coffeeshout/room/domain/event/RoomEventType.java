@@ -10,4 +10,5 @@ public enum RoomEventType {
     ROULETTE_SHOW,
     ROULETTE_SPIN,
     QR_CODE_COMPLETE,
+    PROBABILITY_SYNC,
 }
@@ -36,10 +36,19 @@ public class ColorUsage {
         return colorIndex;
     }
 
+    public void occupy(int colorIndex) {
+        validateColorIndex(colorIndex);
+        colors.put(colorIndex, true);
+    }
+
     public void release(int colorIndex) {
+        validateColorIndex(colorIndex);
+        colors.put(colorIndex, false);
+    }
+
+    private void validateColorIndex(int colorIndex) {
         if (colorIndex < 0 || colorIndex >= COLOR_MAX_COUNT) {
             throw new InvalidArgumentException(ColorErrorCode.INVALID_COLOR_INDEX, "유효하지 않은 색깔 index입니다.");
         }
-        colors.put(colorIndex, false);
     }
 }
@@ -30,6 +30,20 @@ public class Player {
         return new Player(name, selectedMenu, false, PlayerType.GUEST);
     }
 
+    public static Player restore(
+            PlayerName name,
+            PlayerType playerType,
+            SelectedMenu selectedMenu,
+            Boolean isReady,
+            Integer colorIndex,
+            Probability probability
+    ) {
+        final Player player = new Player(name, selectedMenu, isReady, playerType);
+        player.colorIndex = colorIndex;
+        player.probability = probability;
+        return player;
+    }
+
     public void selectMenu(SelectedMenu selectedMenu) {
         this.selectedMenu = selectedMenu;
     }
@@ -5,12 +5,16 @@ import coffeeshout.minigame.domain.MiniGameResult;
 import coffeeshout.room.domain.RoomErrorCode;
 import coffeeshout.room.domain.roulette.Probability;
 import coffeeshout.room.domain.roulette.ProbabilityCalculator;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
 import lombok.Getter;
 
+/*
+    - 변경은 방 메일박스(RoomMailboxExecutor)에서 직렬로 실행된다.
+    - 메일박스 밖의 조회(REST, 브로드캐스트)가 안전하게 순회할 수 있도록 CopyOnWriteArrayList를 사용한다. (최대 9명)
+ */
 @Getter
 public class Players {
 
@@ -20,11 +24,20 @@ public class Players {
     private final ColorUsage colorUsage;
 
     public Players(String joinCode) {
-        this.players = Collections.synchronizedList(new ArrayList<>());
+        this.players = new CopyOnWriteArrayList<>();
         this.colorUsage = new ColorUsage(joinCode);
     }
 
-    public synchronized Player join(Player player) {
+    public static Players restore(String joinCode, List<Player> players) {
+        final Players restored = new Players(joinCode);
+        for (Player player : players) {
+            restored.colorUsage.occupy(player.getColorIndex());
+            restored.players.add(player);
+        }
+        return restored;
+    }
+
+    public Player join(Player player) {
         player.assignColorIndex(colorUsage.pickRandomOne());
         player.updateProbability(Probability.ZERO);
         this.players.add(player);
@@ -39,8 +52,19 @@ public class Players {
                     rank,
                     miniGameResult.getTieCountByRank(rank)
             );
-            final Probability adjustedProbability = player.getProbability().plus(probabilityChange);
-            player.updateProbability(adjustedProbability);
+            if (probabilityChange == 0) {
+                continue;
+            }
+            player.updateProbability(player.getProbability().plus(probabilityChange));
+        }
+    }
+
+    public void syncProbabilities(Map<String, Integer> probabilities) {
+        for (Player player : players) {
+            final Integer probability = probabilities.get(player.getName().value());
+            if (probability != null) {
+                player.updateProbability(new Probability(probability));
+            }
         }
     }
 
@@ -71,7 +95,7 @@ public class Players {
                 .allMatch(Player::getIsReady);
     }
 
-    public synchronized boolean removePlayer(PlayerName playerName) {
+    public boolean removePlayer(PlayerName playerName) {
         return players.removeIf(player -> {
             if (player.sameName(playerName)) {
                 colorUsage.release(player.getColorIndex());
@@ -1,8 +1,15 @@
 package coffeeshout.room.domain.repository;
 
 import coffeeshout.room.domain.JoinCode;
+import java.util.List;
 
 public interface JoinCodeRepository {
 
     boolean save(JoinCode joinCode);
+
+    List<JoinCode> reserve(int count);
+
+    void release(List<JoinCode> joinCodes);
+
+    long countOccupied();
 }
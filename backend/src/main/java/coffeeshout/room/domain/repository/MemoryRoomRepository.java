@@ -4,12 +4,15 @@ import static org.springframework.util.Assert.notNull;
 
 import coffeeshout.room.domain.JoinCode;
 import coffeeshout.room.domain.Room;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
 @Repository
+@ConditionalOnProperty(name = "room.repository.type", havingValue = "memory", matchIfMissing = true)
 public class MemoryRoomRepository implements RoomRepository {
 
     private final Map<JoinCode, Room> rooms;
@@ -30,6 +33,7 @@ public class MemoryRoomRepository implements RoomRepository {
 
     @Override
     public Room save(Room room) {
+        JoinCode.intern(room.getJoinCode());
         rooms.put(room.getJoinCode(), room);
         return rooms.get(room.getJoinCode());
     }
@@ -39,5 +43,11 @@ public class MemoryRoomRepository implements RoomRepository {
         notNull(joinCode, "JoinCode는 null일 수 없습니다.");
 
         rooms.remove(joinCode);
+        JoinCode.evict(joinCode);
+    }
+
+    @Override
+    public List<Room> findAll() {
+        return List.copyOf(rooms.values());
     }
 }
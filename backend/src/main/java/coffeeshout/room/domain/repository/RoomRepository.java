@@ -2,6 +2,7 @@ package coffeeshout.room.domain.repository;
 
 import coffeeshout.room.domain.JoinCode;
 import coffeeshout.room.domain.Room;
+import java.util.List;
 import java.util.Optional;
 
 public interface RoomRepository {
@@ -13,4 +14,6 @@ public interface RoomRepository {
     Room save(Room room);
 
     void deleteByJoinCode(JoinCode joinCode);
+
+    List<Room> findAll();
 }
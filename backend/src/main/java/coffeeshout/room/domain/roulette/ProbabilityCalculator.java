@@ -3,33 +3,58 @@ package coffeeshout.room.domain.roulette;
 import static org.springframework.util.Assert.isTrue;
 
 import coffeeshout.minigame.domain.MiniGameResultType;
-import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 /*
     등수별 확률 조정 정도를 계산하는 클래스
+    - 등수별 변화량과 (등수, 동점자 수)별 평균 변화량을 생성 시점에 int 배열로 모두 계산해 둔다.
+    - 실제 방에서 나올 수 있는 조합(2~9명, 1~6라운드)은 클래스 로딩 시 미리 만들어 두고 of()로 공유한다.
  */
 public class ProbabilityCalculator {
 
     protected static final double ADJUSTMENT_WEIGHT = 0.7;
 
-    private final Integer playerCount;
-    private final Integer roundCount;
-    private final Map<Integer, Integer> probabilityChangeRangeMap;
+    private static final int MIN_PLAYER_COUNT = 2;
+    private static final int MAX_PLAYER_COUNT = 9;
+    private static final int MIN_ROUND_COUNT = 1;
+    private static final int MAX_ROUND_COUNT = 6;
+    private static final ProbabilityCalculator[][] PRECOMPUTED = precompute();
+
+    private final int playerCount;
+    private final int roundCount;
+    // rankChanges[rank]: 해당 등수의 확률 변화량 (1-based)
+    private final int[] rankChanges;
+    // averageChanges[rank][tieCount]: rank부터 tieCount명이 동점일 때 한 명당 변화량
+    private final int[][] averageChanges;
 
     public ProbabilityCalculator(Integer playerCount, Integer roundCount) {
         validate(playerCount, roundCount);
         this.playerCount = playerCount;
         this.roundCount = roundCount;
-        this.probabilityChangeRangeMap = processProbabilityChangeRangeMap();
+        this.rankChanges = processRankChanges();
+        this.averageChanges = processAverageChanges();
+    }
+
+    public static ProbabilityCalculator of(int playerCount, int roundCount) {
+        if (playerCount < MIN_PLAYER_COUNT || playerCount > MAX_PLAYER_COUNT
+                || roundCount < MIN_ROUND_COUNT || roundCount > MAX_ROUND_COUNT) {
+            return new ProbabilityCalculator(playerCount, roundCount);
+        }
+        return PRECOMPUTED[playerCount][roundCount];
     }
 
     public int calculateProbabilityChange(int rank, int tieCount) {
+        if (rank >= 1 && tieCount >= 1 && rank + tieCount - 1 <= playerCount) {
+            return averageChanges[rank][tieCount];
+        }
+        return averageChange(rank, tieCount);
+    }
+
+    private int averageChange(int rank, int tieCount) {
         int sum = 0;
         for (int i = rank; i < rank + tieCount; i++) {
-            Integer probabilityChange = probabilityChangeRangeMap.getOrDefault(i, 0);
-            sum += probabilityChange;
+            if (i >= 1 && i <= playerCount) {
+                sum += rankChanges[i];
+            }
         }
         return sum / tieCount;
     }
@@ -59,21 +84,36 @@ public class ProbabilityCalculator {
         isTrue(roundCount > 0, "라운드 수는 양수여야 합니다.");
     }
 
-    private Map<Integer, Integer> processProbabilityChangeRangeMap() {
-        return IntStream.rangeClosed(1, playerCount)
-                .boxed()
-                .collect(Collectors.toMap(
-                        rank -> rank,
-                        this::processProbabilityChange
-                ));
+    private int[] processRankChanges() {
+        final Probability adjustmentStep = computeAdjustmentStep();
+        final int[] changes = new int[playerCount + 1];
+        for (int rank = 1; rank <= playerCount; rank++) {
+            final MiniGameResultType resultType = MiniGameResultType.of(playerCount, rank);
+            final Probability probability = resultType.adjustProbability(countAdjustableRanks(), relativeRank(rank),
+                    adjustmentStep);
+            changes[rank] = probability.getProbabilityChange(resultType);
+        }
+        return changes;
     }
 
+    private int[][] processAverageChanges() {
+        final int[][] changes = new int[playerCount + 1][];
+        for (int rank = 1; rank <= playerCount; rank++) {
+            changes[rank] = new int[playerCount - rank + 2];
+            for (int tieCount = 1; rank + tieCount - 1 <= playerCount; tieCount++) {
+                changes[rank][tieCount] = averageChange(rank, tieCount);
+            }
+        }
+        return changes;
+    }
 
-    private Integer processProbabilityChange(int rank) {
-        final MiniGameResultType resultType = MiniGameResultType.of(playerCount, rank);
-        final Probability probability = resultType.adjustProbability(countAdjustableRanks(), relativeRank(rank),
-                computeAdjustmentStep());
-
-        return probability.getProbabilityChange(resultType);
+    private static ProbabilityCalculator[][] precompute() {
+        final ProbabilityCalculator[][] table = new ProbabilityCalculator[MAX_PLAYER_COUNT + 1][MAX_ROUND_COUNT + 1];
+        for (int players = MIN_PLAYER_COUNT; players <= MAX_PLAYER_COUNT; players++) {
+            for (int rounds = MIN_ROUND_COUNT; rounds <= MAX_ROUND_COUNT; rounds++) {
+                table[players][rounds] = new ProbabilityCalculator(players, rounds);
+            }
+        }
+        return table;
     }
 }
@@ -1,13 +1,40 @@
 package coffeeshout.room.domain.roulette;
 
-import java.util.Random;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGenerator.SplittableGenerator;
+import java.util.random.RandomGeneratorFactory;
 
+/*
+    - 기본 생성자는 루트 SplittableGenerator에서 분할한 독립 스트림을 사용한다.
+      공유 Random 하나를 여러 스레드가 CAS로 경합하지 않고, 분할된 스트림끼리는 통계적으로 독립이다.
+    - 인스턴스는 한 스레드에서만 사용한다. (스핀마다 새로 만든다)
+    - 테스트나 시뮬레이션에서는 시드를 고정한 생성기를 주입할 수 있다.
+ */
 public class RoulettePicker implements RandomPicker {
 
-    private final Random random = new Random();
+    private static final String ALGORITHM = "L64X128MixRandom";
+    private static final SplittableGenerator ROOT = RandomGeneratorFactory.<SplittableGenerator>of(ALGORITHM).create();
+
+    private final RandomGenerator generator;
+
+    public RoulettePicker() {
+        this.generator = splitRoot();
+    }
+
+    public RoulettePicker(RandomGenerator generator) {
+        this.generator = generator;
+    }
+
+    public static SplittableGenerator seeded(long seed) {
+        return RandomGeneratorFactory.<SplittableGenerator>of(ALGORITHM).create(seed);
+    }
 
     @Override
     public int nextInt(int origin, int bound) {
-        return random.nextInt(origin, bound + 1);
+        return generator.nextInt(origin, bound + 1);
+    }
+
+    private static synchronized RandomGenerator splitRoot() {
+        return ROOT.split();
     }
 }
@@ -2,39 +2,55 @@ package coffeeshout.room.domain.roulette;
 
 import coffeeshout.room.domain.player.Player;
 import coffeeshout.room.domain.player.Players;
-import java.util.ArrayList;
 import java.util.List;
 
+/*
+    - 플레이어 순서대로 확률을 누적한 배열(prefix sum)을 만든다.
+    - i번째 플레이어는 (cumulativeEnds[i-1], cumulativeEnds[i]] 범위를 가진다. 확률이 0이면 빈 범위가 된다.
+    - 뽑힌 숫자는 이진 탐색으로 "끝값이 숫자 이상인 첫 번째 범위"를 찾는다.
+ */
 public class RouletteRanges {
 
-    private final List<RouletteRange> ranges;
+    private final Player[] players;
+    private final int[] cumulativeEnds;
 
     public RouletteRanges(Players players) {
-        this.ranges = new ArrayList<>();
-
-        players.getPlayers().forEach(player -> ranges.add(generateRange(
-                endValue() + 1,
-                player.getProbability().value(),
-                player
-        )));
+        final List<Player> joinedPlayers = players.getPlayers();
+        this.players = joinedPlayers.toArray(Player[]::new);
+        this.cumulativeEnds = new int[this.players.length];
+
+        int end = 0;
+        for (int i = 0; i < this.players.length; i++) {
+            end += this.players[i].getProbability().value();
+            cumulativeEnds[i] = end;
+        }
     }
 
     public Player pickPlayer(int number) {
-        return ranges.stream()
-                .filter(rouletteRange -> rouletteRange.isBetween(number))
-                .findFirst()
-                .orElseThrow(() -> new IllegalStateException("범위에 해당하지 않는 숫자입니다."))
-                .player();
+        if (number < 1 || number > endValue()) {
+            throw new IllegalStateException("범위에 해당하지 않는 숫자입니다.");
+        }
+        return players[findIndex(number)];
     }
 
     public int endValue() {
-        if (ranges.isEmpty()) {
+        if (cumulativeEnds.length == 0) {
             return 0;
         }
-        return ranges.getLast().end();
+        return cumulativeEnds[cumulativeEnds.length - 1];
     }
 
-    private RouletteRange generateRange(int start, int gap, Player player) {
-        return new RouletteRange(start, start + gap - 1, player);
+    private int findIndex(int number) {
+        int low = 0;
+        int high = cumulativeEnds.length - 1;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (cumulativeEnds[mid] < number) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
     }
 }
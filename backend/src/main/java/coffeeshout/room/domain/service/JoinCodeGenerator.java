@@ -3,51 +3,157 @@ package coffeeshout.room.domain.service;
 import coffeeshout.room.domain.JoinCode;
 import coffeeshout.room.domain.repository.JoinCodeRepository;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+/*
+    - 저장소에서 빈 코드를 reserveSize개씩 미리 선점해 두고, 생성 요청은 로컬 예약분에서 바로 꺼낸다.
+    - 예약분이 비었을 때만 저장소에 다시 요청하므로 방 생성마다 Redis 왕복이 생기지 않는다.
+    - 저장소는 선점한 코드를 2 * removalDelay 이상 보호하고, 방은 코드를 받은 뒤 removalDelay 남짓 살아 있다.
+      예약분을 오래 들고 있으면 그 여유를 다 써버리므로, 선점한 지 reservationLifetime(removalDelay보다 훨씬 짧게)이 지나면 반납 후 새로 선점한다.
+    - 사용 중인 코드 수(joinCode.occupancy)는 선점할 때와 occupancyRefreshInterval마다 다시 읽는다.
+      방이 삭제되어 코드가 반납되기만 하고 새 선점이 없어도 지표가 내려간다.
+ */
 @Slf4j
 @Service
 public class JoinCodeGenerator {
 
-    private static final int MAX_RETRY_COUNT = 100;
+    private static final int MAX_RESERVE_COUNT = 10;
 
     private final JoinCodeRepository joinCodeRepository;
+    private final int reserveSize;
+    private final Duration reservationLifetime;
+    private final Duration occupancyRefreshInterval;
+    private final Deque<JoinCode> reservedCodes;
+    private final AtomicLong occupiedCount;
     private final Counter generationSuccessCounter;
-    private final Counter duplicationCounter;
+    private final Counter reservationCounter;
     private final Counter maxRetryExceededCounter;
 
-    public JoinCodeGenerator(JoinCodeRepository joinCodeRepository, MeterRegistry meterRegistry) {
+    private Instant reservedAt = Instant.EPOCH;
+    private ScheduledExecutorService occupancyRefreshScheduler;
+
+    public JoinCodeGenerator(
+            JoinCodeRepository joinCodeRepository,
+            MeterRegistry meterRegistry,
+            @Value("${room.join-code.reserve-size:32}") int reserveSize,
+            @Value("${room.join-code.reservation-lifetime:5m}") Duration reservationLifetime,
+            @Value("${room.join-code.occupancy-refresh-interval:30s}") Duration occupancyRefreshInterval
+    ) {
         this.joinCodeRepository = joinCodeRepository;
+        this.reserveSize = reserveSize;
+        this.reservationLifetime = reservationLifetime;
+        this.occupancyRefreshInterval = occupancyRefreshInterval;
+        this.reservedCodes = new ArrayDeque<>();
+        this.occupiedCount = new AtomicLong();
         this.generationSuccessCounter = Counter.builder("joinCode.generation.success")
                 .description("JoinCode 생성 성공 횟수")
                 .register(meterRegistry);
-        this.duplicationCounter = Counter.builder("joinCode.generation.duplication")
-                .description("JoinCode 생성 중복 발생 횟수")
+        this.reservationCounter = Counter.builder("joinCode.reservation")
+                .description("JoinCode 예약분 선점 요청 횟수")
                 .register(meterRegistry);
         this.maxRetryExceededCounter = Counter.builder("joinCode.generation.max_retry_exceeded")
                 .description("JoinCode 생성 최대 재시도 횟수 초과")
                 .register(meterRegistry);
+        Gauge.builder("joinCode.occupancy", occupiedCount, count -> (double) count.get() / JoinCode.SPACE_SIZE)
+                .description("전체 JoinCode 공간 중 사용 중인 비율 (마지막 선점/주기 갱신 시점 기준)")
+                .register(meterRegistry);
+        Gauge.builder("joinCode.reserved", this, JoinCodeGenerator::reservedCount)
+                .description("로컬에 선점해 둔 JoinCode 수")
+                .register(meterRegistry);
+        Gauge.builder("joinCode.interned", JoinCode::activeCount)
+                .description("정규 인스턴스로 등록된 활성 JoinCode 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        occupancyRefreshScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "join-code-occupancy-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final long intervalMillis = occupancyRefreshInterval.toMillis();
+        occupancyRefreshScheduler.scheduleWithFixedDelay(this::refreshOccupancy, intervalMillis, intervalMillis,
+                TimeUnit.MILLISECONDS);
     }
 
-    public JoinCode generate() {
-        for (int attempt = 0; attempt < MAX_RETRY_COUNT; attempt++) {
-            final JoinCode joinCode = JoinCode.generate();
+    @PreDestroy
+    public void stop() {
+        if (occupancyRefreshScheduler != null) {
+            occupancyRefreshScheduler.shutdown();
+        }
+        releaseReservedCodes();
+    }
 
-            final boolean saved = joinCodeRepository.save(joinCode);
+    public synchronized JoinCode generate() {
+        if (isReservationExpired()) {
+            releaseReservedCodes();
+        }
 
-            if (saved) {
-                generationSuccessCounter.increment();
-                log.debug("JoinCode 생성 성공: {} (시도 횟수: {})", joinCode.getValue(), attempt + 1);
-                return joinCode;
-            }
+        for (int attempt = 0; attempt < MAX_RESERVE_COUNT && reservedCodes.isEmpty(); attempt++) {
+            reserve();
+        }
 
-            duplicationCounter.increment();
-            log.debug("JoinCode 중복 발생: {} (재시도 중... {}/{})", joinCode.getValue(), attempt + 1, MAX_RETRY_COUNT);
+        final JoinCode joinCode = reservedCodes.pollFirst();
+        if (joinCode == null) {
+            maxRetryExceededCounter.increment();
+            throw new IllegalStateException("입장 코드 생성이 실패했습니다. 최대 시도 횟수를 초과했습니다.");
         }
 
-        maxRetryExceededCounter.increment();
-        throw new IllegalStateException("입장 코드 생성이 실패했습니다. 최대 시도 횟수를 초과했습니다.");
+        generationSuccessCounter.increment();
+        log.debug("JoinCode 생성 성공: {} (남은 예약분: {})", joinCode.getValue(), reservedCodes.size());
+        return joinCode;
+    }
+
+    public synchronized void releaseReservedCodes() {
+        if (reservedCodes.isEmpty()) {
+            return;
+        }
+        try {
+            joinCodeRepository.release(List.copyOf(reservedCodes));
+        } catch (Exception e) {
+            log.warn("예약된 JoinCode 반납 실패: count={}", reservedCodes.size(), e);
+        }
+        reservedCodes.clear();
+    }
+
+    private void reserve() {
+        reservationCounter.increment();
+        reservedCodes.addAll(joinCodeRepository.reserve(reserveSize));
+        reservedAt = Instant.now();
+        refreshOccupancy();
+        log.debug("JoinCode 예약분 선점: {}개, 사용 중: {}/{}", reservedCodes.size(), occupiedCount.get(),
+                JoinCode.SPACE_SIZE);
+    }
+
+    void refreshOccupancy() {
+        try {
+            occupiedCount.set(joinCodeRepository.countOccupied());
+        } catch (Exception e) {
+            log.warn("사용 중인 JoinCode 수 조회 실패", e);
+        }
+    }
+
+    private boolean isReservationExpired() {
+        return !reservedCodes.isEmpty() && reservedAt.plus(reservationLifetime).isBefore(Instant.now());
+    }
+
+    private synchronized int reservedCount() {
+        return reservedCodes.size();
     }
 }
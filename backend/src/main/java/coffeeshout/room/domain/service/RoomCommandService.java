@@ -1,5 +1,7 @@
 package coffeeshout.room.domain.service;
 
+import coffeeshout.global.mailbox.RoomMailboxExecutor;
+import coffeeshout.global.websocket.SubscriptionInfoService;
 import coffeeshout.room.domain.JoinCode;
 import coffeeshout.room.domain.QrCode;
 import coffeeshout.room.domain.Room;
@@ -7,7 +9,9 @@ import coffeeshout.room.domain.menu.Menu;
 import coffeeshout.room.domain.menu.MenuTemperature;
 import coffeeshout.room.domain.menu.SelectedMenu;
 import coffeeshout.room.domain.player.PlayerName;
+import coffeeshout.room.domain.repository.JoinCodeRepository;
 import coffeeshout.room.domain.repository.RoomRepository;
+import java.util.List;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,7 +24,10 @@ import org.springframework.stereotype.Service;
 public class RoomCommandService {
 
     private final RoomRepository roomRepository;
+    private final JoinCodeRepository joinCodeRepository;
     private final RoomQueryService roomQueryService;
+    private final RoomMailboxExecutor roomMailboxExecutor;
+    private final SubscriptionInfoService subscriptionInfoService;
 
     public Room save(Room room) {
         return roomRepository.save(room);
@@ -28,15 +35,20 @@ public class RoomCommandService {
 
     public void delete(@NonNull JoinCode joinCode) {
         roomRepository.deleteByJoinCode(joinCode);
+        joinCodeRepository.release(List.of(joinCode));
+        roomMailboxExecutor.release(joinCode.getValue());
+        subscriptionInfoService.releaseRoom(joinCode.getValue());
     }
 
     public Room joinGuest(JoinCode joinCode, PlayerName playerName, Menu menu, MenuTemperature menuTemperature) {
         log.info("JoinCode[{}] 게스트 입장 - 게스트 이름: {}, 메뉴 정보: {}, 온도 : {} ", joinCode, playerName, menu, menuTemperature);
-        final Room room = roomQueryService.getByJoinCode(joinCode);
+        return roomMailboxExecutor.call(joinCode.getValue(), () -> {
+            final Room room = roomQueryService.getByJoinCode(joinCode);
 
-        room.joinGuest(playerName, new SelectedMenu(menu, menuTemperature));
+            room.joinGuest(playerName, new SelectedMenu(menu, menuTemperature));
 
-        return save(room);
+            return save(room);
+        });
     }
 
     public Room saveIfAbsentRoom(JoinCode joinCode, PlayerName hostName, Menu menu, MenuTemperature menuTemperature) {
@@ -53,8 +65,16 @@ public class RoomCommandService {
     }
 
     public void assignQrCode(JoinCode joinCode, String qrCodeUrl) {
+        roomMailboxExecutor.run(joinCode.getValue(), () -> assignQrCodeSuccess(joinCode, qrCodeUrl));
+    }
+
+    public void assignQrCodeError(JoinCode joinCode) {
+        roomMailboxExecutor.run(joinCode.getValue(), () -> assignQrCodeFailure(joinCode));
+    }
+
+    private void assignQrCodeSuccess(JoinCode joinCode, String qrCodeUrl) {
         final Room room = roomQueryService.getByJoinCode(joinCode);
-        final QrCode currentQrCode = room.getJoinCode().getQrCode();
+        final QrCode currentQrCode = room.getQrCode();
 
         // 이미 SUCCESS 상태이고 동일한 URL이면 중복 처리 방지 (멱등성)
         if (currentQrCode.isSuccess() && qrCodeUrl.equals(currentQrCode.getUrl())) {
@@ -74,9 +94,9 @@ public class RoomCommandService {
         log.info("QR 코드 SUCCESS 상태로 변경: joinCode={}, url={}", joinCode, qrCodeUrl);
     }
 
-    public void assignQrCodeError(JoinCode joinCode) {
+    private void assignQrCodeFailure(JoinCode joinCode) {
         final Room room = roomQueryService.getByJoinCode(joinCode);
-        final QrCode currentQrCode = room.getJoinCode().getQrCode();
+        final QrCode currentQrCode = room.getQrCode();
 
         // 이미 SUCCESS 상태면 ERROR로 다운그레이드 방지
         if (currentQrCode.isSuccess()) {
@@ -2,28 +2,204 @@ package coffeeshout.room.infra;
 
 import coffeeshout.room.domain.JoinCode;
 import coffeeshout.room.domain.repository.JoinCodeRepository;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
 import java.time.Duration;
-import lombok.RequiredArgsConstructor;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.connection.BitFieldSubCommands;
+import org.springframework.data.redis.connection.BitFieldSubCommands.BitFieldType;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Repository;
 
+/*
+    - 참여 코드 공간(29P4) 전체를 Redis 비트맵 하나로 관리한다. 비트 하나가 코드 하나의 사용 여부다.
+    - 비트맵은 2 * removalDelay 길이의 세대(epoch)별로 나누고, 코드는 현재/이전 세대 모두에서 비어 있을 때만 할당한다.
+      세대 끝 직전에 선점한 코드도 다음 세대가 끝날 때까지, 즉 최소 한 세대(2 * removalDelay) 동안 보호된다.
+      방은 예약 후 removalDelay와 타이머 지연만큼 살아 있으므로 그 사이 같은 코드가 다시 나가지 않는다.
+      세대 비트맵은 두 세대 뒤 만료되므로, 노드가 죽어 반납하지 못한 코드도 자동으로 회수된다.
+    - reserve는 임의의 64바이트 구간을 읽어 빈 비트를 BITFIELD SET으로 한 번에 선점한다. (이전 값이 0인 비트만 성공)
+    - 비트 위치와 코드 번호 사이에 곱셈 순열을 끼워, 같은 구간에서 선점한 코드끼리 사전순으로 이웃하지 않게 한다.
+ */
 @Repository
-@RequiredArgsConstructor
 public class RedisJoinCodeRepository implements JoinCodeRepository {
 
-    private static final String JOIN_CODE_KEY_PREFIX = "room:joinCode:";
+    private static final String BITMAP_KEY_PREFIX = "room:joinCode:bitmap:";
+    private static final int SEGMENT_BYTES = 64;
+    private static final int MAX_SEGMENT_ATTEMPTS = 8;
+    private static final int TOTAL_BYTES = (JoinCode.SPACE_SIZE + Byte.SIZE - 1) / Byte.SIZE;
+    private static final int SEGMENT_COUNT = (TOTAL_BYTES + SEGMENT_BYTES - 1) / SEGMENT_BYTES;
+    private static final long SCRAMBLE_MULTIPLIER = 314_159L;
+    private static final long SCRAMBLE_INVERSE = BigInteger.valueOf(SCRAMBLE_MULTIPLIER)
+            .modInverse(BigInteger.valueOf(JoinCode.SPACE_SIZE))
+            .longValue();
 
-    @Value("${room.removalDelay}")
-    private Duration ttl;
+    private static final int GENERATION_PER_REMOVAL_DELAY = 2;
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration generationDuration;
+    private final Clock clock;
+
+    @Autowired
+    public RedisJoinCodeRepository(
+            StringRedisTemplate stringRedisTemplate,
+            @Value("${room.removalDelay}") Duration removalDelay
+    ) {
+        this(stringRedisTemplate, removalDelay, Clock.systemUTC());
+    }
+
+    RedisJoinCodeRepository(StringRedisTemplate stringRedisTemplate, Duration removalDelay, Clock clock) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.generationDuration = removalDelay.multipliedBy(GENERATION_PER_REMOVAL_DELAY);
+        this.clock = clock;
+    }
 
     @Override
     public boolean save(JoinCode joinCode) {
-        final String key = JOIN_CODE_KEY_PREFIX + joinCode.getValue();
-        // SETNX 명령어로 원자적으로 저장 (키가 없을 때만 저장)
-        Boolean success = redisTemplate.opsForValue().setIfAbsent(key, "1", ttl);
-        return Boolean.TRUE.equals(success);
+        final int slot = toSlot(joinCode);
+        final long generation = currentGeneration();
+        if (Boolean.TRUE.equals(stringRedisTemplate.opsForValue().getBit(bitmapKey(generation - 1), slot))) {
+            return false;
+        }
+        return claim(generation, List.of(slot)).size() == 1;
+    }
+
+    @Override
+    public List<JoinCode> reserve(int count) {
+        final long generation = currentGeneration();
+        final List<JoinCode> reserved = new ArrayList<>(count);
+        for (int attempt = 0; attempt < MAX_SEGMENT_ATTEMPTS && reserved.size() < count; attempt++) {
+            final int segment = ThreadLocalRandom.current().nextInt(SEGMENT_COUNT);
+            final List<Integer> freeSlots = findFreeSlots(generation, segment);
+            Collections.shuffle(freeSlots);
+            final List<Integer> candidates = freeSlots.subList(0, Math.min(freeSlots.size(), count - reserved.size()));
+            if (candidates.isEmpty()) {
+                continue;
+            }
+            claim(generation, candidates).forEach(slot -> reserved.add(toJoinCode(slot)));
+        }
+        return reserved;
+    }
+
+    @Override
+    public void release(List<JoinCode> joinCodes) {
+        if (joinCodes.isEmpty()) {
+            return;
+        }
+        final long generation = currentGeneration();
+        final byte[] currentKey = bytes(bitmapKey(generation));
+        final byte[] previousKey = bytes(bitmapKey(generation - 1));
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (JoinCode joinCode : joinCodes) {
+                final int slot = toSlot(joinCode);
+                connection.stringCommands().setBit(currentKey, slot, false);
+                connection.stringCommands().setBit(previousKey, slot, false);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public long countOccupied() {
+        final long generation = currentGeneration();
+        final List<Object> counts = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().bitCount(bytes(bitmapKey(generation)));
+            connection.stringCommands().bitCount(bytes(bitmapKey(generation - 1)));
+            return null;
+        });
+        return counts.stream()
+                .mapToLong(count -> count == null ? 0L : (Long) count)
+                .sum();
+    }
+
+    private List<Integer> findFreeSlots(long generation, int segment) {
+        final long start = (long) segment * SEGMENT_BYTES;
+        final long end = start + SEGMENT_BYTES - 1;
+        final List<Object> ranges = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            readRange(connection, bitmapKey(generation), start, end);
+            readRange(connection, bitmapKey(generation - 1), start, end);
+            return null;
+        }, RedisSerializer.byteArray());
+        final byte[] current = toBytes(ranges.get(0));
+        final byte[] previous = toBytes(ranges.get(1));
+
+        final List<Integer> freeSlots = new ArrayList<>();
+        for (int offset = 0; offset < SEGMENT_BYTES; offset++) {
+            final int occupied = byteAt(current, offset) | byteAt(previous, offset);
+            for (int bit = 0; bit < Byte.SIZE; bit++) {
+                final int slot = (int) ((start + offset) * Byte.SIZE + bit);
+                // Redis 비트맵은 바이트의 최상위 비트가 offset 0이다.
+                if (slot < JoinCode.SPACE_SIZE && (occupied & (0x80 >>> bit)) == 0) {
+                    freeSlots.add(slot);
+                }
+            }
+        }
+        return freeSlots;
+    }
+
+    private List<Integer> claim(long generation, List<Integer> slots) {
+        BitFieldSubCommands commands = BitFieldSubCommands.create();
+        for (int slot : slots) {
+            commands = commands.set(BitFieldType.unsigned(1)).valueAt(slot).to(1);
+        }
+        final BitFieldSubCommands bitFieldCommands = commands;
+        final byte[] key = bytes(bitmapKey(generation));
+        final List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().bitField(key, bitFieldCommands);
+            connection.keyCommands().pExpire(key, generationDuration.multipliedBy(2).toMillis());
+            return null;
+        });
+
+        @SuppressWarnings("unchecked") final List<Long> previousValues = (List<Long>) results.get(0);
+        final List<Integer> claimed = new ArrayList<>(slots.size());
+        for (int i = 0; i < slots.size(); i++) {
+            if (previousValues.get(i) == 0L) {
+                claimed.add(slots.get(i));
+            }
+        }
+        return claimed;
+    }
+
+    private static void readRange(RedisConnection connection, String key, long start, long end) {
+        connection.stringCommands().getRange(bytes(key), start, end);
+    }
+
+    private static byte[] toBytes(Object range) {
+        if (range instanceof byte[] bytes) {
+            return bytes;
+        }
+        return new byte[0];
+    }
+
+    private static int byteAt(byte[] bytes, int offset) {
+        return offset < bytes.length ? bytes[offset] & 0xFF : 0;
+    }
+
+    private long currentGeneration() {
+        return clock.millis() / generationDuration.toMillis();
+    }
+
+    private static String bitmapKey(long generation) {
+        return BITMAP_KEY_PREFIX + generation;
+    }
+
+    private static byte[] bytes(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int toSlot(JoinCode joinCode) {
+        return (int) (Math.floorMod(joinCode.toIndex() * SCRAMBLE_INVERSE, (long) JoinCode.SPACE_SIZE));
+    }
+
+    private static JoinCode toJoinCode(int slot) {
+        return JoinCode.fromIndex((int) ((slot * SCRAMBLE_MULTIPLIER) % JoinCode.SPACE_SIZE));
     }
 }
@@ -0,0 +1,301 @@
+package coffeeshout.room.infra;
+
+import coffeeshout.global.cluster.ClusterNode;
+import coffeeshout.global.cluster.RoomOwnership;
+import coffeeshout.global.mailbox.RoomMailboxExecutor;
+import coffeeshout.room.domain.JoinCode;
+import coffeeshout.room.domain.Room;
+import coffeeshout.room.domain.repository.RoomRepository;
+import coffeeshout.room.domain.service.MenuQueryService;
+import coffeeshout.room.infra.RoomNearCache.CachedRoom;
+import coffeeshout.room.infra.snapshot.RoomSnapshot;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Repository;
+
+/*
+    - 방 스냅샷을 Redis 해시(room:snapshot:{joinCode})에 data/version 필드로 저장한다.
+    - 조회는 노드 로컬 near-cache에서 처리하고, 캐시에 없을 때만 Redis 스냅샷으로 복원한다.
+    - 저장할 때마다 version을 올리고 무효화 메시지를 발행해 다른 노드의 오래된 캐시를 내보낸다.
+    - save는 near-cache에 넣고 dirty로 표시만 한다. flushInterval마다 dirty 방만 소유 노드가 기록한다.
+      조회(탭, 카드 선택마다 호출)는 표시하지 않으므로 읽기 경로는 near-cache 안에서 끝난다.
+    - 직렬화와 기록은 그 방의 메일박스 안에서 한다. 방을 바꾸는 명령과 겹치지 않으므로 찢어진 스냅샷이나
+      컬렉션 동시 수정 예외가 생기지 않는다. 이미 기록이 예약된 방은 다음 주기에 다시 예약하지 않는다.
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(name = "room.repository.type", havingValue = "redis")
+public class RedisRoomRepository implements RoomRepository, MessageListener {
+
+    private static final String SNAPSHOT_KEY_PREFIX = "room:snapshot:";
+    private static final String VERSION_FIELD = "version";
+    private static final String DATA_FIELD = "data";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MenuQueryService menuQueryService;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ChannelTopic roomSnapshotInvalidationTopic;
+    private final ClusterNode clusterNode;
+    private final RoomOwnership roomOwnership;
+    private final RoomMailboxExecutor roomMailboxExecutor;
+    private final Duration ttl;
+    private final Duration flushInterval;
+    private final RoomNearCache nearCache;
+    private final Map<JoinCode, String> lastWrittenSnapshots;
+    private final Set<JoinCode> flushing;
+    private final Counter cacheHitCounter;
+    private final Counter cacheMissCounter;
+
+    private ScheduledExecutorService flushScheduler;
+
+    public RedisRoomRepository(
+            StringRedisTemplate stringRedisTemplate,
+            ObjectMapper objectMapper,
+            MenuQueryService menuQueryService,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            ChannelTopic roomSnapshotInvalidationTopic,
+            ClusterNode clusterNode,
+            RoomOwnership roomOwnership,
+            RoomMailboxExecutor roomMailboxExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${room.removalDelay}") Duration ttl,
+            @Value("${room.repository.near-cache-size:10000}") int nearCacheSize,
+            @Value("${room.repository.flush-interval:1s}") Duration flushInterval
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.menuQueryService = menuQueryService;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.roomSnapshotInvalidationTopic = roomSnapshotInvalidationTopic;
+        this.clusterNode = clusterNode;
+        this.roomOwnership = roomOwnership;
+        this.roomMailboxExecutor = roomMailboxExecutor;
+        this.ttl = ttl;
+        this.flushInterval = flushInterval;
+        this.nearCache = new RoomNearCache(nearCacheSize);
+        this.lastWrittenSnapshots = new ConcurrentHashMap<>();
+        this.flushing = ConcurrentHashMap.newKeySet();
+        this.cacheHitCounter = Counter.builder("room.nearCache.hit")
+                .description("방 near-cache 적중 횟수")
+                .register(meterRegistry);
+        this.cacheMissCounter = Counter.builder("room.nearCache.miss")
+                .description("방 near-cache 미스 횟수")
+                .register(meterRegistry);
+        Gauge.builder("room.nearCache.size", nearCache, RoomNearCache::size)
+                .description("방 near-cache 항목 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        redisMessageListenerContainer.addMessageListener(this, roomSnapshotInvalidationTopic);
+
+        flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "room-snapshot-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final long intervalMillis = flushInterval.toMillis();
+        flushScheduler.scheduleWithFixedDelay(this::flushChangedRooms, intervalMillis, intervalMillis,
+                TimeUnit.MILLISECONDS);
+        log.info("Redis 방 저장소 시작: flushInterval={}ms", intervalMillis);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (flushScheduler != null) {
+            flushScheduler.shutdown();
+        }
+        // 종료 중에는 기록이 끝날 때까지 기다린다.
+        nearCache.dirtyMarks().forEach((joinCode, mark) -> {
+            if (roomOwnership.isOwner(joinCode.getValue())) {
+                roomMailboxExecutor.run(joinCode.getValue(), () -> flushRoom(joinCode, mark));
+            }
+        });
+    }
+
+    @Override
+    public Optional<Room> findByJoinCode(JoinCode joinCode) {
+        final Optional<CachedRoom> cached = nearCache.get(joinCode);
+        if (cached.isPresent()) {
+            cacheHitCounter.increment();
+            return Optional.of(cached.get().room());
+        }
+        cacheMissCounter.increment();
+        return loadSnapshot(joinCode);
+    }
+
+    @Override
+    public boolean existsByJoinCode(JoinCode joinCode) {
+        if (nearCache.get(joinCode).isPresent()) {
+            return true;
+        }
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(snapshotKey(joinCode)));
+    }
+
+    @Override
+    public Room save(Room room) {
+        final long cachedVersion = nearCache.get(room.getJoinCode())
+                .map(CachedRoom::version)
+                .orElse(0L);
+        nearCache.put(room, cachedVersion);
+        nearCache.markDirty(room.getJoinCode());
+        return room;
+    }
+
+    @Override
+    public void deleteByJoinCode(JoinCode joinCode) {
+        nearCache.remove(joinCode);
+        lastWrittenSnapshots.remove(joinCode);
+        stringRedisTemplate.delete(snapshotKey(joinCode));
+        publishInvalidation(new RoomSnapshotInvalidation(joinCode.getValue(), 0, clusterNode.getId(), true));
+    }
+
+    @Override
+    public List<Room> findAll() {
+        return nearCache.snapshot().values().stream()
+                .map(CachedRoom::room)
+                .toList();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            final RoomSnapshotInvalidation invalidation = objectMapper.readValue(
+                    message.getBody(), RoomSnapshotInvalidation.class
+            );
+            if (clusterNode.isSelf(invalidation.originNodeId())) {
+                return;
+            }
+            final JoinCode joinCode = JoinCode.of(invalidation.joinCode());
+            if (invalidation.deleted()) {
+                nearCache.remove(joinCode);
+                return;
+            }
+            nearCache.invalidate(joinCode, invalidation.version());
+        } catch (Exception e) {
+            log.error("방 스냅샷 무효화 처리 실패: message={}", new String(message.getBody()), e);
+        }
+    }
+
+    private Optional<Room> loadSnapshot(JoinCode joinCode) {
+        final List<Object> values = stringRedisTemplate.opsForHash()
+                .multiGet(snapshotKey(joinCode), List.of(VERSION_FIELD, DATA_FIELD));
+        if (values.get(1) == null) {
+            return Optional.empty();
+        }
+        try {
+            final long version = Long.parseLong((String) values.get(0));
+            final RoomSnapshot snapshot = objectMapper.readValue((String) values.get(1), RoomSnapshot.class);
+            final Room room = snapshot.toRoom(menuQueryService::getById);
+            return Optional.of(nearCache.putIfAbsent(room, version));
+        } catch (JsonProcessingException e) {
+            log.error("방 스냅샷 복원 실패: joinCode={}", joinCode, e);
+            return Optional.empty();
+        }
+    }
+
+    private void flushChangedRooms() {
+        nearCache.dirtyMarks().forEach((joinCode, mark) -> {
+            if (!roomOwnership.isOwner(joinCode.getValue())) {
+                nearCache.markClean(joinCode, mark);
+                return;
+            }
+            if (flushing.add(joinCode)) {
+                roomMailboxExecutor.execute(joinCode.getValue(), () -> flushRoom(joinCode, mark));
+            }
+        });
+    }
+
+    // 방 메일박스 안에서 실행된다. 기록에 실패하면 dirty 표시가 남아 다음 주기에 다시 기록한다.
+    private void flushRoom(JoinCode joinCode, long mark) {
+        try {
+            nearCache.get(joinCode).ifPresent(cached -> {
+                writeSnapshot(cached.room());
+                nearCache.markClean(joinCode, mark);
+            });
+        } catch (Exception e) {
+            log.warn("방 스냅샷 기록 실패: joinCode={}", joinCode, e);
+        } finally {
+            flushing.remove(joinCode);
+        }
+    }
+
+    private void writeSnapshot(Room room) {
+        final JoinCode joinCode = room.getJoinCode();
+        final String data = serialize(room);
+        if (data.equals(lastWrittenSnapshots.get(joinCode))) {
+            return;
+        }
+
+        final String key = snapshotKey(joinCode);
+        final List<Object> results = stringRedisTemplate.execute(new SessionCallback<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public List<Object> execute(RedisOperations operations) throws DataAccessException {
+                final RedisOperations<String, String> redisOperations = operations;
+                redisOperations.multi();
+                redisOperations.opsForHash().increment(key, VERSION_FIELD, 1);
+                redisOperations.opsForHash().put(key, DATA_FIELD, data);
+                redisOperations.expire(key, ttl);
+                return redisOperations.exec();
+            }
+        });
+        final long version = (Long) results.getFirst();
+
+        lastWrittenSnapshots.put(joinCode, data);
+        nearCache.get(joinCode)
+                .filter(cached -> cached.room() == room)
+                .ifPresent(cached -> nearCache.put(room, version));
+        publishInvalidation(new RoomSnapshotInvalidation(joinCode.getValue(), version, clusterNode.getId(), false));
+    }
+
+    private String serialize(Room room) {
+        try {
+            return objectMapper.writeValueAsString(RoomSnapshot.from(room));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("방 스냅샷 직렬화 실패: " + room.getJoinCode(), e);
+        }
+    }
+
+    private void publishInvalidation(RoomSnapshotInvalidation invalidation) {
+        try {
+            stringRedisTemplate.convertAndSend(
+                    roomSnapshotInvalidationTopic.getTopic(),
+                    objectMapper.writeValueAsString(invalidation)
+            );
+        } catch (Exception e) {
+            log.warn("방 스냅샷 무효화 발행 실패: joinCode={}", invalidation.joinCode(), e);
+        }
+    }
+
+    private String snapshotKey(JoinCode joinCode) {
+        return SNAPSHOT_KEY_PREFIX + joinCode.getValue();
+    }
+}
@@ -0,0 +1,160 @@
+package coffeeshout.room.infra;
+
+import coffeeshout.room.domain.JoinCode;
+import coffeeshout.room.domain.Room;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/*
+    - 노드 로컬에 방 객체를 버전과 함께 보관하는 LRU 캐시다.
+    - 조회는 ConcurrentHashMap에서 잠금 없이 처리하고, 항목마다 마지막 접근 시각만 기록한다. (방끼리 경합하지 않는다)
+      용량을 넘었을 때만 한 스레드가 접근 시각 순으로 오래된 항목을 내보낸다. 다른 스레드는 기다리지 않고 지나간다.
+    - 다른 노드가 더 높은 버전을 저장하면 해당 항목을 무효화한다.
+    - 미니게임이 진행 중(PLAYING)인 방은 게임 루프가 객체를 직접 참조하므로 무효화/용량 초과 시에도 내보내지 않는다.
+    - 변경된 방(save)은 dirty로 표시한다. 표시할 때마다 번호를 올리고, 기록한 쪽은 기록 시작 시점의 번호로만 표시를 지운다.
+      기록 중에 다시 변경되면 번호가 달라 표시가 남으므로 다음 주기에 다시 기록된다.
+    - dirty 항목은 아직 Redis에 기록되지 않았으므로 용량을 넘어도 내보내지 않는다.
+    - 캐시에 들어온 방의 참여 코드를 JoinCode에 등록하고, 삭제/무효화/용량 초과로 빠지면 등록을 해제한다.
+ */
+public class RoomNearCache {
+
+    private final int maximumSize;
+    private final Map<JoinCode, Entry> entries;
+    private final Map<JoinCode, Long> dirtyMarks;
+    private final ReentrantLock evictionLock;
+
+    public RoomNearCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("캐시 크기는 양수여야 합니다.");
+        }
+        this.maximumSize = maximumSize;
+        this.entries = new ConcurrentHashMap<>();
+        this.dirtyMarks = new ConcurrentHashMap<>();
+        this.evictionLock = new ReentrantLock();
+    }
+
+    public Optional<CachedRoom> get(JoinCode joinCode) {
+        final Entry entry = entries.get(joinCode);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        entry.touch();
+        return Optional.of(entry.cached);
+    }
+
+    public void put(Room room, long version) {
+        JoinCode.intern(room.getJoinCode());
+        entries.put(room.getJoinCode(), new Entry(new CachedRoom(room, version)));
+        evictIfOverflow(room.getJoinCode());
+    }
+
+    public Room putIfAbsent(Room room, long version) {
+        final Entry existing = entries.putIfAbsent(room.getJoinCode(), new Entry(new CachedRoom(room, version)));
+        if (existing != null) {
+            existing.touch();
+            return existing.cached.room();
+        }
+        JoinCode.intern(room.getJoinCode());
+        evictIfOverflow(room.getJoinCode());
+        return room;
+    }
+
+    public void invalidate(JoinCode joinCode, long version) {
+        final boolean[] removed = new boolean[1];
+        entries.computeIfPresent(joinCode, (key, entry) -> {
+            final CachedRoom cached = entry.cached;
+            if (cached.version() >= version || cached.room().isPlayingState()) {
+                return entry;
+            }
+            removed[0] = true;
+            return null;
+        });
+        if (removed[0]) {
+            dirtyMarks.remove(joinCode);
+            JoinCode.evict(joinCode);
+        }
+    }
+
+    public void remove(JoinCode joinCode) {
+        entries.remove(joinCode);
+        dirtyMarks.remove(joinCode);
+        JoinCode.evict(joinCode);
+    }
+
+    public void markDirty(JoinCode joinCode) {
+        if (entries.containsKey(joinCode)) {
+            dirtyMarks.merge(joinCode, 1L, Long::sum);
+        }
+    }
+
+    // 기록할 방과 그 시점의 표시 번호. 기록이 끝나면 같은 번호로 markClean을 호출한다.
+    public Map<JoinCode, Long> dirtyMarks() {
+        return Map.copyOf(dirtyMarks);
+    }
+
+    public void markClean(JoinCode joinCode, long mark) {
+        dirtyMarks.remove(joinCode, mark);
+        evictIfOverflow(null);
+    }
+
+    public Map<JoinCode, CachedRoom> snapshot() {
+        return entries.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, entry -> entry.getValue().cached));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // retained: 방금 넣은 항목은 호출자가 바로 쓰므로 내보내지 않는다.
+    private void evictIfOverflow(JoinCode retained) {
+        if (entries.size() <= maximumSize || !evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            final int overflow = entries.size() - maximumSize;
+            // 정렬 중에 접근 시각이 바뀌지 않도록 먼저 값을 떠 둔다.
+            entries.entrySet().stream()
+                    .filter(entry -> isEvictable(entry.getKey(), entry.getValue(), retained))
+                    .map(entry -> new Candidate(entry.getKey(), entry.getValue(), entry.getValue().lastAccess))
+                    .sorted(Comparator.comparingLong(Candidate::lastAccess))
+                    .limit(overflow)
+                    .toList()
+                    .filter(candidate -> entries.remove(candidate.joinCode(), candidate.entry()))
+                    .forEach(candidate -> JoinCode.evict(candidate.joinCode()));
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private boolean isEvictable(JoinCode joinCode, Entry entry, JoinCode retained) {
+        return !joinCode.equals(retained)
+                && !entry.cached.room().isPlayingState()
+                && !dirtyMarks.containsKey(joinCode);
+    }
+
+    public record CachedRoom(Room room, long version) {
+    }
+
+    private record Candidate(JoinCode joinCode, Entry entry, long lastAccess) {
+    }
+
+    private static final class Entry {
+
+        private final CachedRoom cached;
+        private volatile long lastAccess;
+
+        private Entry(CachedRoom cached) {
+            this.cached = cached;
+            this.lastAccess = System.nanoTime();
+        }
+
+        private void touch() {
+            lastAccess = System.nanoTime();
+        }
+    }
+}
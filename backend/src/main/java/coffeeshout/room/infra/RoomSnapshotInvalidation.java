@@ -0,0 +1,9 @@
+package coffeeshout.room.infra;
+
+public record RoomSnapshotInvalidation(
+        String joinCode,
+        long version,
+        String originNodeId,
+        boolean deleted
+) {
+}
@@ -1,8 +1,11 @@
 package coffeeshout.room.infra.messaging;
 
+import coffeeshout.global.cluster.ClusterNode;
 import coffeeshout.global.config.properties.RedisStreamProperties;
 import coffeeshout.global.exception.custom.InvalidArgumentException;
 import coffeeshout.global.exception.custom.InvalidStateException;
+import coffeeshout.global.messaging.StreamCheckpointStore;
+import coffeeshout.room.application.RoomSnapshotService;
 import coffeeshout.room.domain.JoinCode;
 import coffeeshout.room.domain.Room;
 import coffeeshout.room.domain.event.RoomJoinEvent;
@@ -13,31 +16,38 @@ import coffeeshout.room.domain.service.RoomCommandService;
 import coffeeshout.room.ui.request.SelectedMenuRequest;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.data.redis.connection.stream.ObjectRecord;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.connection.stream.MapRecord;
 import org.springframework.data.redis.connection.stream.StreamOffset;
 import org.springframework.data.redis.stream.StreamListener;
 import org.springframework.data.redis.stream.StreamMessageListenerContainer;
+import org.springframework.data.redis.stream.Subscription;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
-public class RoomEnterStreamConsumer implements StreamListener<String, ObjectRecord<String, String>> {
+public class RoomEnterStreamConsumer implements StreamListener<String, MapRecord<String, String, String>>, SmartLifecycle {
 
     private final RoomCommandService roomCommandService;
     private final MenuCommandService menuCommandService;
     private final RoomEventWaitManager roomEventWaitManager;
-    private final StreamMessageListenerContainer<String, ObjectRecord<String, String>> roomEnterStreamContainer;
+    private final StreamMessageListenerContainer<String, MapRecord<String, String, String>> roomEnterStreamContainer;
     private final RedisStreamProperties redisStreamProperties;
     private final ObjectMapper objectMapper;
+    private final ClusterNode clusterNode;
+    private final StreamCheckpointStore streamCheckpointStore;
+    private final List<Subscription> subscriptions = new ArrayList<>();
 
     public RoomEnterStreamConsumer(
             RoomCommandService roomCommandService, MenuCommandService menuCommandService,
             RoomEventWaitManager roomEventWaitManager,
-            @Qualifier("roomEnterStreamContainer") StreamMessageListenerContainer<String, ObjectRecord<String, String>> roomEnterStreamContainer,
-            RedisStreamProperties redisStreamProperties, ObjectMapper objectMapper
+            @Qualifier("roomEnterStreamContainer") StreamMessageListenerContainer<String, MapRecord<String, String, String>> roomEnterStreamContainer,
+            RedisStreamProperties redisStreamProperties, ObjectMapper objectMapper,
+            ClusterNode clusterNode, StreamCheckpointStore streamCheckpointStore
     ) {
         this.roomCommandService = roomCommandService;
         this.menuCommandService = menuCommandService;
@@ -45,21 +55,53 @@ public class RoomEnterStreamConsumer implements StreamListener<String, ObjectRec
         this.roomEnterStreamContainer = roomEnterStreamContainer;
         this.redisStreamProperties = redisStreamProperties;
         this.objectMapper = objectMapper;
+        this.clusterNode = clusterNode;
+        this.streamCheckpointStore = streamCheckpointStore;
     }
 
-    @PostConstruct
-    public void registerListener() {
-        roomEnterStreamContainer.receive(
-                StreamOffset.fromStart(redisStreamProperties.roomJoinKey()),
+    // 방 스냅샷 복원(RoomSnapshotService) 뒤에 구독해야 체크포인트 이후 레코드가 복원된 방에 반영된다.
+    @Override
+    public synchronized void start() {
+        redisStreamProperties.roomJoinKeys().forEach(key -> subscriptions.add(roomEnterStreamContainer.receive(
+                StreamOffset.create(key, streamCheckpointStore.startOffset(key)),
                 this
-        );
+        )));
+
+        log.info("방 입장 스트림 리스너 등록 완료: {} (shards={})",
+                redisStreamProperties.roomJoinKey(), redisStreamProperties.shards());
+    }
+
+    @Override
+    public synchronized void stop() {
+        subscriptions.forEach(Subscription::cancel);
+        subscriptions.clear();
+    }
 
-        log.info("방 입장 스트림 리스너 등록 완료: {}", redisStreamProperties.roomJoinKey());
+    @Override
+    public synchronized boolean isRunning() {
+        return !subscriptions.isEmpty();
     }
 
     @Override
-    public void onMessage(ObjectRecord<String, String> message) {
+    public int getPhase() {
+        return RoomSnapshotService.RESTORE_PHASE + 1;
+    }
+
+    @Override
+    public void onMessage(MapRecord<String, String, String> message) {
+        try {
+            process(message);
+        } finally {
+            streamCheckpointStore.record(message.getStream(), message.getId());
+        }
+    }
+
+    private void process(MapRecord<String, String, String> message) {
         log.info("방 입장 메시지 수신: messageId={}", message.getId());
+        if (clusterNode.isSelf(message.getValue().get(RoomEnterStreamProducer.ORIGIN_FIELD))) {
+            // 이 노드가 소유자로서 먼저 반영하고 전파한 입장이다
+            return;
+        }
         final RoomJoinEvent event = parseEvent(message);
 
         log.info("방 입장 메시지 eventId={}, joinCode={}, guestName={}",
@@ -74,7 +116,7 @@ public class RoomEnterStreamConsumer implements StreamListener<String, ObjectRec
             );
 
             final Room room = roomCommandService.joinGuest(
-                    new JoinCode(event.joinCode()),
+                    JoinCode.of(event.joinCode()),
                     new PlayerName(event.guestName()),
                     menu, selectedMenuRequest.temperature()
             );
@@ -94,9 +136,9 @@ public class RoomEnterStreamConsumer implements StreamListener<String, ObjectRec
         }
     }
 
-    private RoomJoinEvent parseEvent(ObjectRecord<String, String> message) {
+    private RoomJoinEvent parseEvent(MapRecord<String, String, String> message) {
         try {
-            final String value = message.getValue();
+            final String value = message.getValue().get(RoomEnterStreamProducer.PAYLOAD_FIELD);
             return objectMapper.readValue(value, RoomJoinEvent.class);
         } catch (JsonProcessingException e) {
             log.error("RoomJoinEvent 파싱 실패: messageId={}, messageValue={}, error={}",
@@ -1,15 +1,15 @@
 package coffeeshout.room.infra.messaging;
 
+import coffeeshout.global.cluster.ClusterNode;
 import coffeeshout.global.config.properties.RedisStreamProperties;
+import coffeeshout.global.messaging.PipelinedStreamProducer;
 import coffeeshout.room.domain.event.RoomJoinEvent;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
-import org.springframework.data.redis.connection.stream.Record;
-import org.springframework.data.redis.connection.stream.StreamRecords;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -17,35 +17,63 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class RoomEnterStreamProducer {
 
-    private final StringRedisTemplate stringRedisTemplate;
+    static final String PAYLOAD_FIELD = "payload";
+    static final String ORIGIN_FIELD = "origin";
+
+    private final PipelinedStreamProducer pipelinedStreamProducer;
+    private final RoomEventWaitManager roomEventWaitManager;
     private final RedisStreamProperties redisStreamProperties;
+    private final ClusterNode clusterNode;
     private final ObjectMapper objectMapper;
 
     public void broadcastEnterRoom(RoomJoinEvent event) {
         log.info("방 입장 이벤트 발송 시작: eventId={}, joinCode={}, guestName={}",
                 event.eventId(), event.joinCode(), event.guestName());
 
+        add(event, Map.of(PAYLOAD_FIELD, serialize(event)))
+                .whenComplete((recordId, throwable) -> {
+                    if (throwable != null) {
+                        // 대기 중인 입장 요청이 타임아웃까지 기다리지 않도록 바로 실패시킨다
+                        roomEventWaitManager.notifyFailure(event.eventId(), throwable);
+                    }
+                });
+    }
+
+    /*
+        - 이 노드에서 이미 반영한 입장을 다른 노드에 전파한다.
+        - origin 필드로 자신이 보낸 메시지임을 표시하므로, 이 노드의 컨슈머는 다시 반영하지 않는다.
+     */
+    public void replicateEnterRoom(RoomJoinEvent event) {
+        add(event, Map.of(PAYLOAD_FIELD, serialize(event), ORIGIN_FIELD, clusterNode.getId()));
+    }
+
+    private CompletableFuture<String> add(RoomJoinEvent event, Map<String, String> fields) {
+        final String streamKey = redisStreamProperties.roomJoinKey(event.joinCode());
         try {
-            final String eventJson = objectMapper.writeValueAsString(event);
-            final Record<String, String> objectRecord = StreamRecords.newRecord()
-                    .in(redisStreamProperties.roomJoinKey())
-                    .ofObject(eventJson);
-
-            final var recordId = stringRedisTemplate.opsForStream().add(
-                    objectRecord,
-                    XAddOptions.maxlen(redisStreamProperties.maxLength()).approximateTrimming(true)
-            );
-
-            log.info("방 입장 이벤트 발송 성공: eventId={}, recordId={}, streamKey={}",
-                    event.eventId(), recordId, redisStreamProperties.roomJoinKey());
-        } catch (JsonProcessingException e){
-            log.error("이벤트 직렬화 실패: eventId={}, joinCode={}, guestName={}",
-                    event.eventId(), event.joinCode(), event.guestName(), e);
-            throw new RuntimeException("RoomJoinEvent 직렬화 실패: " + e.getMessage(), e);
+            return pipelinedStreamProducer.add(redisStreamProperties.roomJoinKey(), streamKey, fields)
+                    .whenComplete((recordId, throwable) -> {
+                        if (throwable != null) {
+                            log.error("방 입장 이벤트 발송 실패: eventId={}, joinCode={}, guestName={}",
+                                    event.eventId(), event.joinCode(), event.guestName(), throwable);
+                            return;
+                        }
+                        log.info("방 입장 이벤트 발송 성공: eventId={}, recordId={}, streamKey={}",
+                                event.eventId(), recordId, streamKey);
+                    });
         } catch (Exception e) {
             log.error("방 입장 이벤트 발송 실패: eventId={}, joinCode={}, guestName={}",
                     event.eventId(), event.joinCode(), event.guestName(), e);
             throw new RuntimeException("방 입장 이벤트 발송 실패: " + e.getMessage(), e);
         }
     }
+
+    private String serialize(RoomJoinEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            log.error("이벤트 직렬화 실패: eventId={}, joinCode={}, guestName={}",
+                    event.eventId(), event.joinCode(), event.guestName(), e);
+            throw new RuntimeException("RoomJoinEvent 직렬화 실패: " + e.getMessage(), e);
+        }
+    }
 }
@@ -1,12 +1,25 @@
 package coffeeshout.room.infra.messaging;
 
+import coffeeshout.global.cluster.ClusterNode;
+import coffeeshout.global.messaging.BinaryEventCodec;
 import coffeeshout.room.domain.event.RoomBaseEvent;
+import coffeeshout.room.domain.event.RoomEventType;
+import coffeeshout.room.infra.messaging.handler.RoomEventHandler;
+import coffeeshout.room.infra.messaging.handler.RoomEventHandlerFactory;
+import java.nio.charset.StandardCharsets;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.stereotype.Component;
 
+/*
+    - 발행한 노드는 Redis를 거쳐 돌아올 때까지 기다리지 않고 로컬 핸들러를 바로 실행한다.
+    - Redis 메시지에는 발행 노드 id를 실어 보내고, RoomEventSubscriber는 자기가 보낸 메시지를 건너뛴다. 다른 노드는 지금처럼 구독으로 처리한다.
+    - 핸들러 중 RoomService에 의존하는 것이 있어 팩토리는 처음 발행할 때 가져온다. (순환 의존 방지)
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -14,10 +27,16 @@ public class RoomEventPublisher {
 
     private final RedisTemplate<String, Object> redisTemplate;
     private final ChannelTopic roomEventTopic;
+    private final BinaryEventCodec<RoomEventType, RoomBaseEvent> roomEventCodec;
+    private final ObjectProvider<RoomEventHandlerFactory> handlerFactoryProvider;
+    private final ClusterNode clusterNode;
 
     public <T extends RoomBaseEvent> void publishEvent(T event) {
+        dispatchLocally(event);
         try {
-            redisTemplate.convertAndSend(roomEventTopic.getTopic(), event);
+            final byte[] channel = roomEventTopic.getTopic().getBytes(StandardCharsets.UTF_8);
+            final byte[] body = roomEventCodec.encode(event, clusterNode.getId());
+            redisTemplate.execute((RedisCallback<Long>) connection -> connection.publish(channel, body));
             log.info("이벤트 발행됨: eventType={}, eventId={}",
                     event.eventType(), event.eventId());
         } catch (Exception e) {
@@ -26,4 +45,19 @@ public class RoomEventPublisher {
             throw new RuntimeException("이벤트 발행 실패", e);
         }
     }
+
+    private void dispatchLocally(RoomBaseEvent event) {
+        final RoomEventHandlerFactory handlerFactory = handlerFactoryProvider.getObject();
+        if (!handlerFactory.canHandle(event.eventType())) {
+            return;
+        }
+        try {
+            final RoomEventHandler<RoomBaseEvent> handler = handlerFactory.getHandler(event.eventType());
+            handler.handle(event);
+        } catch (Exception e) {
+            // 로컬 처리 실패와 관계없이 다른 노드에는 전달한다.
+            log.error("로컬 이벤트 처리 실패: eventType={}, eventId={}",
+                    event.eventType(), event.eventId(), e);
+        }
+    }
 }
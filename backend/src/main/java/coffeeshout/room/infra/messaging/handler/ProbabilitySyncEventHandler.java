@@ -0,0 +1,48 @@
+package coffeeshout.room.infra.messaging.handler;
+
+import coffeeshout.global.cluster.RoomOwnership;
+import coffeeshout.global.mailbox.RoomMailboxExecutor;
+import coffeeshout.room.domain.JoinCode;
+import coffeeshout.room.domain.Room;
+import coffeeshout.room.domain.event.ProbabilitySyncEvent;
+import coffeeshout.room.domain.event.RoomEventType;
+import coffeeshout.room.domain.service.RoomCommandService;
+import coffeeshout.room.domain.service.RoomQueryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProbabilitySyncEventHandler implements RoomEventHandler<ProbabilitySyncEvent> {
+
+    private final RoomQueryService roomQueryService;
+    private final RoomCommandService roomCommandService;
+    private final RoomOwnership roomOwnership;
+    private final RoomMailboxExecutor roomMailboxExecutor;
+
+    @Override
+    public void handle(ProbabilitySyncEvent event) {
+        // 소유 노드는 게임 종료 시점에 이미 결과를 반영했다.
+        if (roomOwnership.isOwner(event.joinCode())) {
+            return;
+        }
+        try {
+            roomMailboxExecutor.run(event.joinCode(), () -> {
+                final Room room = roomQueryService.getByJoinCode(JoinCode.of(event.joinCode()));
+                room.syncMiniGameResult(event.probabilities());
+                roomCommandService.save(room);
+            });
+
+            log.info("확률 동기화 완료: eventId={}, joinCode={}", event.eventId(), event.joinCode());
+        } catch (Exception e) {
+            log.error("확률 동기화 실패: eventId={}, joinCode={}", event.eventId(), event.joinCode(), e);
+        }
+    }
+
+    @Override
+    public RoomEventType getSupportedEventType() {
+        return RoomEventType.PROBABILITY_SYNC;
+    }
+}
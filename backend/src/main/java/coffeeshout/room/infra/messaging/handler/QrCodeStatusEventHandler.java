@@ -49,7 +49,7 @@ public class QrCodeStatusEventHandler implements RoomEventHandler<QrCodeStatusEv
         log.info("QR 코드 완료 이벤트 처리 완료 (ERROR): eventId={}, joinCode={}",
                 event.eventId(), event.joinCode());
 
-        roomCommandService.assignQrCodeError(new JoinCode(event.joinCode()));
+        roomCommandService.assignQrCodeError(JoinCode.of(event.joinCode()));
 
         sendQrCode(event);
     }
@@ -58,7 +58,7 @@ public class QrCodeStatusEventHandler implements RoomEventHandler<QrCodeStatusEv
         log.info("QR 코드 완료 이벤트 처리 완료 (SUCCESS): eventId={}, joinCode={}, url={}",
                 event.eventId(), event.joinCode(), event.qrCodeUrl());
 
-        roomCommandService.assignQrCode(new JoinCode(event.joinCode()), event.qrCodeUrl());
+        roomCommandService.assignQrCode(JoinCode.of(event.joinCode()), event.qrCodeUrl());
 
         sendQrCode(event);
     }
@@ -36,7 +36,7 @@ public class RoomCreateEventHandler implements RoomEventHandler<RoomCreateEvent>
             final Menu menu = menuCommandService.convertMenu(selectedMenuRequest.id(), selectedMenuRequest.customName());
 
             final Room room = roomCommandService.saveIfAbsentRoom(
-                    new JoinCode(joinCode),
+                    JoinCode.of(joinCode),
                     new PlayerName(event.hostName()),
                     menu,
                     selectedMenuRequest.temperature()
@@ -48,7 +48,7 @@ public class RoomCreateEventHandler implements RoomEventHandler<RoomCreateEvent>
                     room.getJoinCode().getValue()
             );
 
-            delayedRoomRemovalService.scheduleRemoveRoom(new JoinCode(joinCode));
+            delayedRoomRemovalService.scheduleRemoveRoom(JoinCode.of(joinCode));
         } catch (Exception e) {
             log.error("방 생성 이벤트 처리 실패", e);
         }
@@ -1,5 +1,6 @@
 package coffeeshout.room.infra.messaging.handler;
 
+import coffeeshout.global.lock.LockMode;
 import coffeeshout.global.lock.RedisLock;
 import coffeeshout.room.application.RouletteService;
 import coffeeshout.room.domain.event.RouletteShowEvent;
@@ -20,7 +21,8 @@ public class RoulettePersistenceService {
             lockPrefix = "event:lock:",
             donePrefix = "event:done:",
             waitTime = 0,
-            leaseTime = 5000
+            leaseTime = 5000,
+            mode = LockMode.CLAIM
     )
     public void saveRoomStatus(RouletteShowEvent event) {
         rouletteService.updateRoomStatusToRoulette(event.joinCode());
@@ -32,7 +34,8 @@ public class RoulettePersistenceService {
             lockPrefix = "event:lock:",
             donePrefix = "event:done:",
             waitTime = 0,
-            leaseTime = 5000
+            leaseTime = 5000,
+            mode = LockMode.CLAIM
     )
     public void saveRouletteResult(RouletteSpinEvent event) {
         rouletteService.saveRouletteResult(event.joinCode(), event.winner());
@@ -0,0 +1,60 @@
+package coffeeshout.room.infra.snapshot;
+
+import coffeeshout.minigame.domain.MiniGameResult;
+import coffeeshout.minigame.domain.MiniGameScore;
+import coffeeshout.minigame.domain.MiniGameType;
+import coffeeshout.room.domain.Playable;
+import coffeeshout.room.domain.player.Player;
+import java.util.List;
+import java.util.Map;
+
+/*
+    - 스냅샷에서 복원한 종료된 미니게임이다.
+    - 진행 상태는 남아있지 않고 순위와 점수만 조회할 수 있다.
+ */
+public class RestoredMiniGame implements Playable {
+
+    private final MiniGameType miniGameType;
+    private final MiniGameResult result;
+    private final Map<Player, MiniGameScore> scores;
+
+    public RestoredMiniGame(MiniGameType miniGameType, MiniGameResult result, Map<Player, MiniGameScore> scores) {
+        this.miniGameType = miniGameType;
+        this.result = result;
+        this.scores = scores;
+    }
+
+    @Override
+    public MiniGameResult getResult() {
+        return result;
+    }
+
+    @Override
+    public Map<Player, MiniGameScore> getScores() {
+        return scores;
+    }
+
+    @Override
+    public MiniGameType getMiniGameType() {
+        return miniGameType;
+    }
+
+    @Override
+    public void setUp(List<Player> players) {
+        throw new IllegalStateException("이미 종료된 미니게임은 다시 시작할 수 없습니다.");
+    }
+
+    static class RestoredScore extends MiniGameScore {
+
+        private final long value;
+
+        RestoredScore(long value) {
+            this.value = value;
+        }
+
+        @Override
+        public long getValue() {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package coffeeshout.room.infra.snapshot;
+
+import coffeeshout.minigame.domain.MiniGameResult;
+import coffeeshout.minigame.domain.MiniGameScore;
+import coffeeshout.minigame.domain.MiniGameType;
+import coffeeshout.room.domain.JoinCode;
+import coffeeshout.room.domain.Playable;
+import coffeeshout.room.domain.QrCode;
+import coffeeshout.room.domain.QrCodeStatus;
+import coffeeshout.room.domain.Room;
+import coffeeshout.room.domain.RoomState;
+import coffeeshout.room.domain.menu.CustomMenu;
+import coffeeshout.room.domain.menu.Menu;
+import coffeeshout.room.domain.menu.MenuTemperature;
+import coffeeshout.room.domain.menu.ProvidedMenu;
+import coffeeshout.room.domain.menu.SelectedMenu;
+import coffeeshout.room.domain.player.Player;
+import coffeeshout.room.domain.player.PlayerName;
+import coffeeshout.room.domain.player.PlayerType;
+import coffeeshout.room.domain.roulette.Probability;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/*
+    - 방을 노드 재시작 후에도 복원할 수 있도록 필요한 값만 담는다.
+    - 종료된 미니게임은 순위와 점수만 남긴다.
+    - 진행 중(PLAYING)이던 미니게임은 복원할 수 없으므로 대기열 맨 앞으로 되돌리고, 방은 다시 시작 가능한 상태가 된다.
+ */
+public record RoomSnapshot(
+        String joinCode,
+        QrCodeStatus qrCodeStatus,
+        String qrCodeUrl,
+        RoomState roomState,
+        List<PlayerSnapshot> players,
+        List<MiniGameType> miniGames,
+        List<FinishedMiniGameSnapshot> finishedGames
+) {
+
+    public record PlayerSnapshot(
+            String name,
+            PlayerType playerType,
+            Long menuId,
+            String customMenuName,
+            String customMenuImageUrl,
+            MenuTemperature menuTemperature,
+            boolean ready,
+            int colorIndex,
+            int probability
+    ) {
+    }
+
+    public record FinishedMiniGameSnapshot(
+            MiniGameType miniGameType,
+            Map<String, Integer> ranks,
+            Map<String, Long> scores
+    ) {
+    }
+
+    public static RoomSnapshot from(Room room) {
+        final QrCode qrCode = room.getQrCode();
+        return new RoomSnapshot(
+                room.getJoinCode().getValue(),
+                qrCode.getStatus(),
+                qrCode.getUrl(),
+                room.getRoomState(),
+                room.getPlayers().stream().map(RoomSnapshot::toPlayerSnapshot).toList(),
+                room.getSelectedMiniGameTypes(),
+                toFinishedGameSnapshots(room)
+        );
+    }
+
+    public Room toRoom(Function<Long, ProvidedMenu> providedMenuFinder) {
+        final JoinCode code = new JoinCode(joinCode);
+
+        final List<Player> restoredPlayers = players.stream()
+                .map(player -> toPlayer(player, providedMenuFinder))
+                .toList();
+        final Map<String, Player> playersByName = restoredPlayers.stream()
+                .collect(Collectors.toMap(player -> player.getName().value(), Function.identity()));
+
+        final List<Playable> pendingGames = new ArrayList<>();
+        final List<Playable> restoredFinishedGames = new ArrayList<>();
+        for (FinishedMiniGameSnapshot finishedGame : finishedGames) {
+            if (finishedGame.ranks().isEmpty()) {
+                pendingGames.add(finishedGame.miniGameType().createMiniGame(joinCode));
+                continue;
+            }
+            restoredFinishedGames.add(toMiniGame(finishedGame, playersByName));
+        }
+        miniGames.forEach(type -> pendingGames.add(type.createMiniGame(joinCode)));
+
+        return Room.restore(code, toQrCode(), restoredPlayers, pendingGames, restoredFinishedGames,
+                restoreRoomState(restoredFinishedGames));
+    }
+
+    private RoomState restoreRoomState(List<Playable> restoredFinishedGames) {
+        if (roomState != RoomState.PLAYING) {
+            return roomState;
+        }
+        if (restoredFinishedGames.isEmpty()) {
+            return RoomState.READY;
+        }
+        return RoomState.ROULETTE;
+    }
+
+    private QrCode toQrCode() {
+        return switch (qrCodeStatus) {
+            case PENDING -> QrCode.pending();
+            case SUCCESS -> QrCode.success(qrCodeUrl);
+            case ERROR -> QrCode.error();
+        };
+    }
+
+    private static PlayerSnapshot toPlayerSnapshot(Player player) {
+        final SelectedMenu selectedMenu = player.getSelectedMenu();
+        final Menu menu = selectedMenu.menu();
+        final boolean isCustomMenu = menu instanceof CustomMenu;
+        return new PlayerSnapshot(
+                player.getName().value(),
+                player.getPlayerType(),
+                isCustomMenu ? null : menu.getId(),
+                isCustomMenu ? menu.getName() : null,
+                isCustomMenu ? menu.getCategoryImageUrl() : null,
+                selectedMenu.menuTemperature(),
+                player.getIsReady(),
+                player.getColorIndex(),
+                player.getProbability().value()
+        );
+    }
+
+    private static Player toPlayer(PlayerSnapshot snapshot, Function<Long, ProvidedMenu> providedMenuFinder) {
+        final Menu menu = snapshot.menuId() == null
+                ? new CustomMenu(snapshot.customMenuName(), snapshot.customMenuImageUrl())
+                : providedMenuFinder.apply(snapshot.menuId());
+        return Player.restore(
+                new PlayerName(snapshot.name()),
+                snapshot.playerType(),
+                new SelectedMenu(menu, snapshot.menuTemperature()),
+                snapshot.ready(),
+                snapshot.colorIndex(),
+                new Probability(snapshot.probability())
+        );
+    }
+
+    private static List<FinishedMiniGameSnapshot> toFinishedGameSnapshots(Room room) {
+        final List<Playable> finishedGames = room.getFinishedGames();
+        final List<FinishedMiniGameSnapshot> snapshots = new ArrayList<>();
+        for (int i = 0; i < finishedGames.size(); i++) {
+            final Playable game = finishedGames.get(i);
+            final boolean isPlaying = room.isPlayingState() && i == finishedGames.size() - 1;
+            if (isPlaying) {
+                snapshots.add(new FinishedMiniGameSnapshot(game.getMiniGameType(), Map.of(), Map.of()));
+                continue;
+            }
+            snapshots.add(toFinishedGameSnapshot(game));
+        }
+        return snapshots;
+    }
+
+    private static FinishedMiniGameSnapshot toFinishedGameSnapshot(Playable game) {
+        final Map<String, Integer> ranks = new HashMap<>();
+        game.getResult().getRank().forEach((player, rank) -> ranks.put(player.getName().value(), rank));
+
+        final Map<String, Long> scores = new HashMap<>();
+        game.getScores().forEach((player, score) -> scores.put(player.getName().value(), score.getValue()));
+
+        return new FinishedMiniGameSnapshot(game.getMiniGameType(), ranks, scores);
+    }
+
+    private static Playable toMiniGame(FinishedMiniGameSnapshot snapshot, Map<String, Player> playersByName) {
+        final Map<Player, Integer> ranks = new HashMap<>();
+        snapshot.ranks().forEach((name, rank) -> {
+            final Player player = playersByName.get(name);
+            if (player != null) {
+                ranks.put(player, rank);
+            }
+        });
+
+        final Map<Player, MiniGameScore> scores = new HashMap<>();
+        snapshot.scores().forEach((name, score) -> {
+            final Player player = playersByName.get(name);
+            if (player != null) {
+                scores.put(player, new RestoredMiniGame.RestoredScore(score));
+            }
+        });
+
+        return new RestoredMiniGame(snapshot.miniGameType(), new MiniGameResult(ranks), scores);
+    }
+}
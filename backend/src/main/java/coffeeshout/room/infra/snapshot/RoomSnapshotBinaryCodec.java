@@ -0,0 +1,199 @@
+package coffeeshout.room.infra.snapshot;
+
+import coffeeshout.minigame.domain.MiniGameType;
+import coffeeshout.room.domain.QrCodeStatus;
+import coffeeshout.room.domain.RoomState;
+import coffeeshout.room.domain.menu.MenuTemperature;
+import coffeeshout.room.domain.player.PlayerType;
+import coffeeshout.room.infra.snapshot.RoomSnapshot.FinishedMiniGameSnapshot;
+import coffeeshout.room.infra.snapshot.RoomSnapshot.PlayerSnapshot;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+    - 방 스냅샷 목록을 길이 접두사 기반의 바이너리로 변환한다.
+    - [MAGIC(int)][FORMAT_VERSION(short)][createdAt(long)][roomCount(int)][room...]
+    - 문자열은 [길이(short)][UTF-8], null은 길이 -1로 표현한다.
+    - enum은 배포 사이에 순서가 바뀌어도 안전하도록 ordinal 대신 이름으로 기록한다.
+ */
+public final class RoomSnapshotBinaryCodec {
+
+    static final int MAGIC = 0x43535231;
+    static final short FORMAT_VERSION = 1;
+
+    private RoomSnapshotBinaryCodec() {
+    }
+
+    public static byte[] encode(List<RoomSnapshot> rooms, long createdAtMillis) {
+        try (ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+             DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeShort(FORMAT_VERSION);
+            out.writeLong(createdAtMillis);
+            out.writeInt(rooms.size());
+            for (RoomSnapshot room : rooms) {
+                writeRoom(out, room);
+            }
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException("방 스냅샷 인코딩 실패", e);
+        }
+    }
+
+    public static DecodedSnapshots decode(ByteBuffer buffer) {
+        if (buffer.remaining() < Integer.BYTES || buffer.getInt() != MAGIC) {
+            throw new IllegalArgumentException("방 스냅샷 파일 형식이 아닙니다.");
+        }
+        final short version = buffer.getShort();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 방 스냅샷 버전입니다: " + version);
+        }
+        final long createdAtMillis = buffer.getLong();
+        final int roomCount = buffer.getInt();
+        final List<RoomSnapshot> rooms = new ArrayList<>(roomCount);
+        for (int i = 0; i < roomCount; i++) {
+            rooms.add(readRoom(buffer));
+        }
+        return new DecodedSnapshots(createdAtMillis, rooms);
+    }
+
+    private static void writeRoom(DataOutputStream out, RoomSnapshot room) throws IOException {
+        writeString(out, room.joinCode());
+        writeString(out, room.qrCodeStatus().name());
+        writeString(out, room.qrCodeUrl());
+        writeString(out, room.roomState().name());
+
+        out.writeByte(room.players().size());
+        for (PlayerSnapshot player : room.players()) {
+            writePlayer(out, player);
+        }
+
+        out.writeByte(room.miniGames().size());
+        for (MiniGameType miniGame : room.miniGames()) {
+            writeString(out, miniGame.name());
+        }
+
+        out.writeByte(room.finishedGames().size());
+        for (FinishedMiniGameSnapshot finishedGame : room.finishedGames()) {
+            writeFinishedGame(out, finishedGame);
+        }
+    }
+
+    private static RoomSnapshot readRoom(ByteBuffer buffer) {
+        final String joinCode = readString(buffer);
+        final QrCodeStatus qrCodeStatus = QrCodeStatus.valueOf(readString(buffer));
+        final String qrCodeUrl = readString(buffer);
+        final RoomState roomState = RoomState.valueOf(readString(buffer));
+
+        final int playerCount = buffer.get();
+        final List<PlayerSnapshot> players = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            players.add(readPlayer(buffer));
+        }
+
+        final int miniGameCount = buffer.get();
+        final List<MiniGameType> miniGames = new ArrayList<>(miniGameCount);
+        for (int i = 0; i < miniGameCount; i++) {
+            miniGames.add(MiniGameType.valueOf(readString(buffer)));
+        }
+
+        final int finishedCount = buffer.get();
+        final List<FinishedMiniGameSnapshot> finishedGames = new ArrayList<>(finishedCount);
+        for (int i = 0; i < finishedCount; i++) {
+            finishedGames.add(readFinishedGame(buffer));
+        }
+
+        return new RoomSnapshot(joinCode, qrCodeStatus, qrCodeUrl, roomState, players, miniGames, finishedGames);
+    }
+
+    private static void writePlayer(DataOutputStream out, PlayerSnapshot player) throws IOException {
+        writeString(out, player.name());
+        writeString(out, player.playerType().name());
+        out.writeBoolean(player.menuId() != null);
+        if (player.menuId() != null) {
+            out.writeLong(player.menuId());
+        }
+        writeString(out, player.customMenuName());
+        writeString(out, player.customMenuImageUrl());
+        writeString(out, player.menuTemperature().name());
+        out.writeBoolean(player.ready());
+        out.writeByte(player.colorIndex());
+        out.writeShort(player.probability());
+    }
+
+    private static PlayerSnapshot readPlayer(ByteBuffer buffer) {
+        final String name = readString(buffer);
+        final PlayerType playerType = PlayerType.valueOf(readString(buffer));
+        final Long menuId = buffer.get() != 0 ? buffer.getLong() : null;
+        final String customMenuName = readString(buffer);
+        final String customMenuImageUrl = readString(buffer);
+        final MenuTemperature menuTemperature = MenuTemperature.valueOf(readString(buffer));
+        final boolean ready = buffer.get() != 0;
+        final int colorIndex = buffer.get();
+        final int probability = buffer.getShort();
+        return new PlayerSnapshot(name, playerType, menuId, customMenuName, customMenuImageUrl, menuTemperature,
+                ready, colorIndex, probability);
+    }
+
+    private static void writeFinishedGame(DataOutputStream out, FinishedMiniGameSnapshot finishedGame)
+            throws IOException {
+        writeString(out, finishedGame.miniGameType().name());
+        out.writeByte(finishedGame.ranks().size());
+        for (Map.Entry<String, Integer> rank : finishedGame.ranks().entrySet()) {
+            writeString(out, rank.getKey());
+            out.writeByte(rank.getValue());
+        }
+        out.writeByte(finishedGame.scores().size());
+        for (Map.Entry<String, Long> score : finishedGame.scores().entrySet()) {
+            writeString(out, score.getKey());
+            out.writeLong(score.getValue());
+        }
+    }
+
+    private static FinishedMiniGameSnapshot readFinishedGame(ByteBuffer buffer) {
+        final MiniGameType miniGameType = MiniGameType.valueOf(readString(buffer));
+        final int rankCount = buffer.get();
+        final Map<String, Integer> ranks = new HashMap<>();
+        for (int i = 0; i < rankCount; i++) {
+            ranks.put(readString(buffer), (int) buffer.get());
+        }
+        final int scoreCount = buffer.get();
+        final Map<String, Long> scores = new HashMap<>();
+        for (int i = 0; i < scoreCount; i++) {
+            scores.put(readString(buffer), buffer.getLong());
+        }
+        return new FinishedMiniGameSnapshot(miniGameType, ranks, scores);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeShort(-1);
+            return;
+        }
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        final short length = buffer.getShort();
+        if (length < 0) {
+            return null;
+        }
+        final byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public record DecodedSnapshots(long createdAtMillis, List<RoomSnapshot> rooms) {
+    }
+}
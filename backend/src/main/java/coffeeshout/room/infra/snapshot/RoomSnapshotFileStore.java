@@ -0,0 +1,67 @@
+package coffeeshout.room.infra.snapshot;
+
+import coffeeshout.room.infra.snapshot.RoomSnapshotBinaryCodec.DecodedSnapshots;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+
+/*
+    - 방 스냅샷 파일을 메모리 매핑으로 읽고 쓴다.
+    - 쓰기는 임시 파일에 매핑 후 force 한 뒤 원자적으로 교체해, 종료 중 중단되어도 이전 파일이 깨지지 않는다.
+    - 읽기는 파일 전체를 READ_ONLY로 매핑해 별도의 힙 복사 없이 바로 디코딩한다.
+ */
+public class RoomSnapshotFileStore {
+
+    private final Path path;
+
+    public RoomSnapshotFileStore(Path path) {
+        this.path = path;
+    }
+
+    public void write(List<RoomSnapshot> rooms, long createdAtMillis) {
+        final byte[] bytes = RoomSnapshotBinaryCodec.encode(rooms, createdAtMillis);
+        final Path tempPath = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                final MappedByteBuffer buffer = channel.map(MapMode.READ_WRITE, 0, bytes.length);
+                buffer.put(bytes);
+                buffer.force();
+            }
+            Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("방 스냅샷 파일 쓰기 실패: " + path, e);
+        }
+    }
+
+    public Optional<DecodedSnapshots> read() {
+        if (!Files.exists(path)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final MappedByteBuffer buffer = channel.map(MapMode.READ_ONLY, 0, channel.size());
+            return Optional.of(RoomSnapshotBinaryCodec.decode(buffer));
+        } catch (IOException e) {
+            throw new UncheckedIOException("방 스냅샷 파일 읽기 실패: " + path, e);
+        }
+    }
+
+    public void delete() {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("방 스냅샷 파일 삭제 실패: " + path, e);
+        }
+    }
+}
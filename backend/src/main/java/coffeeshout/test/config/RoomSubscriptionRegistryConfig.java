@@ -0,0 +1,28 @@
+package coffeeshout.test.config;
+
+import coffeeshout.global.websocket.broker.RoomSubscriptionRegistry;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+
+/*
+    - enableSimpleBroker로 만든 SimpleBroker는 그대로 두고 구독 저장소만 방 단위 저장소로 바꾼다.
+    - MessageBrokerRegistry에는 저장소를 바꾸는 설정이 없어서 빈 생성 후에 교체한다. (브로커 시작 전)
+ */
+@Configuration
+public class RoomSubscriptionRegistryConfig {
+
+    @Bean
+    public static BeanPostProcessor roomSubscriptionRegistryPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof SimpleBrokerMessageHandler simpleBroker) {
+                    simpleBroker.setSubscriptionRegistry(new RoomSubscriptionRegistry());
+                }
+                return bean;
+            }
+        };
+    }
+}
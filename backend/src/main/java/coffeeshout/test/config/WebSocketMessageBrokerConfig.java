@@ -1,7 +1,9 @@
 package coffeeshout.test.config;
 
 
+import coffeeshout.global.websocket.interceptor.InboundRateLimitInterceptor;
 import coffeeshout.global.websocket.interceptor.ShutdownAwareHandshakeInterceptor;
+import coffeeshout.global.websocket.interceptor.ShutdownAwareInboundInterceptor;
 import coffeeshout.test.config.interceptor.WebSocketInboundMetricInterceptor;
 import coffeeshout.test.config.interceptor.WebSocketOutboundMetricInterceptor;
 import lombok.Getter;
@@ -25,6 +27,8 @@ public class WebSocketMessageBrokerConfig implements WebSocketMessageBrokerConfi
     private final WebSocketInboundMetricInterceptor webSocketInboundMetricInterceptor;
     private final WebSocketOutboundMetricInterceptor webSocketOutboundMetricInterceptor;
     private final ShutdownAwareHandshakeInterceptor shutdownAwareHandshakeInterceptor;
+    private final ShutdownAwareInboundInterceptor shutdownAwareInboundInterceptor;
+    private final InboundRateLimitInterceptor inboundRateLimitInterceptor;
 
     private ThreadPoolTaskExecutor outboundExecutor;
 
@@ -68,7 +72,12 @@ public class WebSocketMessageBrokerConfig implements WebSocketMessageBrokerConfi
             inboundExecutor.initialize();
             registration.executor(inboundExecutor);
         }
-        registration.interceptors(webSocketInboundMetricInterceptor);
+        // 제한에 걸린 프레임은 큐에 넣거나 측정하기 전에 버린다.
+        registration.interceptors(
+                shutdownAwareInboundInterceptor,
+                inboundRateLimitInterceptor,
+                webSocketInboundMetricInterceptor
+        );
     }
 
     @Override
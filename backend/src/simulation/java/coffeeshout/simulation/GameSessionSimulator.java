@@ -0,0 +1,186 @@
+package coffeeshout.simulation;
+
+import coffeeshout.cardgame.domain.CardGame;
+import coffeeshout.cardgame.domain.CardGameRound;
+import coffeeshout.cardgame.domain.card.CardGameRandomDeckGenerator;
+import coffeeshout.cardgame.domain.card.Deck;
+import coffeeshout.minigame.domain.MiniGameResult;
+import coffeeshout.minigame.domain.MiniGameResultType;
+import coffeeshout.minigame.domain.MiniGameType;
+import coffeeshout.racinggame.domain.RacingGame;
+import coffeeshout.racinggame.domain.RacingGameState;
+import coffeeshout.racinggame.domain.Runner;
+import coffeeshout.racinggame.domain.SpeedCalculator;
+import coffeeshout.racinggame.domain.TapPerSecondSpeedCalculator;
+import coffeeshout.room.domain.JoinCode;
+import coffeeshout.room.domain.Playable;
+import coffeeshout.room.domain.Room;
+import coffeeshout.room.domain.menu.CustomMenu;
+import coffeeshout.room.domain.menu.MenuTemperature;
+import coffeeshout.room.domain.menu.SelectedMenu;
+import coffeeshout.room.domain.player.Player;
+import coffeeshout.room.domain.player.PlayerName;
+import coffeeshout.room.domain.player.Winner;
+import coffeeshout.room.domain.roulette.Roulette;
+import coffeeshout.room.domain.roulette.RoulettePicker;
+import java.time.Instant;
+import java.util.List;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+
+/*
+    - 실제 Room / CardGame / RacingGame 도메인 객체로 방 하나의 게임 전체(입장 → 미니게임 → 룰렛)를 진행한다.
+    - 스케줄러 대신 가상 시계를 직접 넘긴다. 레이싱은 100ms마다 moveAll, 500ms마다 탭을 모아서 보낸다.
+    - 카드게임: 각 라운드마다 일부 플레이어는 시간 안에 고르지 못해 서버가 랜덤으로 배정한다.
+    - 레이싱: 플레이어마다 세션 단위의 초당 탭 속도(실력)를 뽑는다. 자리 번호와는 무관하다.
+    - 인스턴스는 한 스레드(리프 태스크)에서만 사용한다.
+ */
+public class GameSessionSimulator {
+
+    private static final SelectedMenu MENU = new SelectedMenu(new CustomMenu("아메리카노", ""), MenuTemperature.ICE);
+    private static final SpeedCalculator SPEED_CALCULATOR = new TapPerSecondSpeedCalculator();
+    private static final CardGameRandomDeckGenerator DECK_GENERATOR = new CardGameRandomDeckGenerator();
+
+    private static final double MISSED_SELECTION_RATE = 0.1;
+    private static final double MIN_TAPS_PER_SECOND = 4.0;
+    private static final double MAX_TAPS_PER_SECOND = 14.0;
+    private static final long TAP_INTERVAL_MILLIS = 500L;
+    private static final int MAX_RACE_TICKS = 10_000;
+
+    private final int playerCount;
+    private final List<MiniGameType> miniGameTypes;
+    private final RandomGenerator random;
+    private final List<PlayerName> playerNames;
+
+    public GameSessionSimulator(int playerCount, List<MiniGameType> miniGameTypes, RandomGenerator random) {
+        this.playerCount = playerCount;
+        this.miniGameTypes = miniGameTypes;
+        this.random = random;
+        this.playerNames = IntStream.range(0, playerCount)
+                .mapToObj(seat -> new PlayerName("player" + seat))
+                .toList();
+    }
+
+    public void run(long sessionIndex, SimulationTally tally) {
+        final JoinCode joinCode = JoinCode.fromIndex((int) (sessionIndex % JoinCode.SPACE_SIZE));
+        final Room room = Room.createNewRoom(joinCode, playerNames.getFirst(), MENU);
+        try {
+            playSession(room, tally);
+        } finally {
+            JoinCode.evict(room.getJoinCode());
+        }
+    }
+
+    private void playSession(Room room, SimulationTally tally) {
+        final PlayerName hostName = playerNames.getFirst();
+        for (PlayerName guestName : playerNames.subList(1, playerCount)) {
+            room.joinGuest(guestName, MENU);
+            room.findPlayer(guestName).updateReadyState(true);
+        }
+        for (MiniGameType miniGameType : miniGameTypes) {
+            room.addMiniGame(hostName, createMiniGame(miniGameType));
+        }
+
+        final int[] miniGameWins = new int[playerCount];
+        for (int i = 0; i < miniGameTypes.size(); i++) {
+            final Playable miniGame = room.startNextGame(hostName.value());
+            final MiniGameResult result = play(miniGame);
+            room.applyMiniGameResult(result);
+            countWinners(room, result, miniGameWins);
+            room.showRoulette();
+        }
+
+        final Winner winner = room.spinRoulette(room.getHost(), new Roulette(new RoulettePicker(random)));
+        for (int seat = 0; seat < playerCount; seat++) {
+            final Player player = room.findPlayer(playerNames.get(seat));
+            tally.recordPlayer(miniGameWins[seat], player.getProbability().value());
+            if (player.sameName(winner.name())) {
+                tally.recordRouletteWinner(seat, miniGameWins[seat]);
+            }
+        }
+    }
+
+    private Playable createMiniGame(MiniGameType miniGameType) {
+        return switch (miniGameType) {
+            case CARD_GAME -> new CardGame(DECK_GENERATOR, random.nextLong());
+            case RACING_GAME -> new RacingGame();
+        };
+    }
+
+    private MiniGameResult play(Playable miniGame) {
+        return switch (miniGame) {
+            case CardGame cardGame -> playCardGame(cardGame);
+            case RacingGame racingGame -> playRacingGame(racingGame);
+            default -> throw new IllegalStateException("시뮬레이션할 수 없는 미니게임입니다: " + miniGame.getMiniGameType());
+        };
+    }
+
+    private MiniGameResult playCardGame(CardGame cardGame) {
+        while (cardGame.getRound() != CardGameRound.SECOND) {
+            cardGame.startRound();
+            cardGame.updateDescription();
+            cardGame.startPlay();
+            for (PlayerName playerName : playerNames) {
+                if (random.nextDouble() < MISSED_SELECTION_RATE) {
+                    continue;
+                }
+                cardGame.selectCard(cardGame.findPlayerByName(playerName), pickRemainingIndex(cardGame.getDeck()));
+            }
+            cardGame.assignRandomCardsToUnselectedPlayers();
+            cardGame.changeScoreBoardState();
+        }
+        cardGame.changeDoneState();
+        return cardGame.getResult();
+    }
+
+    private int pickRemainingIndex(Deck deck) {
+        while (true) {
+            final int index = random.nextInt(deck.size());
+            if (!deck.getPickedCards().contains(deck.getCards().get(index))) {
+                return index;
+            }
+        }
+    }
+
+    private MiniGameResult playRacingGame(RacingGame racingGame) {
+        final double[] tapsPerSecond = new double[playerCount];
+        for (int seat = 0; seat < playerCount; seat++) {
+            tapsPerSecond[seat] = random.nextDouble(MIN_TAPS_PER_SECOND, MAX_TAPS_PER_SECOND);
+        }
+        final List<Runner> runners = racingGame.getRunners().getRunners();
+
+        racingGame.updateState(RacingGameState.PLAYING);
+        racingGame.setUpStart();
+        Instant now = racingGame.getStartTime();
+        final long ticksPerTap = TAP_INTERVAL_MILLIS / RacingGame.MOVE_INTERVAL_MILLIS;
+        for (int tick = 1; !racingGame.isAllStopped(); tick++) {
+            if (tick > MAX_RACE_TICKS) {
+                throw new IllegalStateException("레이스가 끝나지 않습니다. tick=" + tick);
+            }
+            now = now.plusMillis(RacingGame.MOVE_INTERVAL_MILLIS);
+            if (tick % ticksPerTap == 0) {
+                tap(racingGame, runners, tapsPerSecond, now);
+            }
+            racingGame.getRunners().moveAll(now);
+        }
+        racingGame.updateState(RacingGameState.DONE);
+        return racingGame.getResult();
+    }
+
+    private void tap(RacingGame racingGame, List<Runner> runners, double[] tapsPerSecond, Instant now) {
+        for (int seat = 0; seat < playerCount; seat++) {
+            final double expectedTaps = tapsPerSecond[seat] * TAP_INTERVAL_MILLIS / 1000.0;
+            final int tapCount = (int) Math.max(0, Math.round(expectedTaps + random.nextGaussian()));
+            racingGame.updateSpeed(runners.get(seat).getPlayer(), tapCount, SPEED_CALCULATOR, now);
+        }
+    }
+
+    private void countWinners(Room room, MiniGameResult result, int[] miniGameWins) {
+        for (int seat = 0; seat < playerCount; seat++) {
+            final int rank = result.getPlayerRank(room.findPlayer(playerNames.get(seat)));
+            if (MiniGameResultType.of(playerCount, rank) == MiniGameResultType.WINNER) {
+                miniGameWins[seat]++;
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package coffeeshout.simulation;
+
+import java.util.concurrent.RecursiveTask;
+import java.util.random.RandomGenerator.SplittableGenerator;
+
+/*
+    - [from, to) 구간의 세션을 batchSize 이하가 될 때까지 반으로 나눠 fork 한다.
+    - 생성기는 fork 직전에 부모 태스크가 split 해서 넘긴다. 분할 순서가 트리 모양으로 고정되므로
+      같은 seed / batchSize면 스레드 수와 스케줄링에 관계없이 같은 결과가 나온다.
+    - 리프마다 자기 집계(SimulationTally)를 만들고 join 하면서 합친다. 공유 상태가 없다.
+ */
+public class GameSimulationTask extends RecursiveTask<SimulationTally> {
+
+    private final SimulationOptions options;
+    private final SplittableGenerator random;
+    private final long from;
+    private final long to;
+
+    public GameSimulationTask(SimulationOptions options, SplittableGenerator random, long from, long to) {
+        this.options = options;
+        this.random = random;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected SimulationTally compute() {
+        if (to - from <= options.batchSize()) {
+            return simulateBatch();
+        }
+        final long middle = (from + to) >>> 1;
+        final GameSimulationTask left = new GameSimulationTask(options, random.split(), from, middle);
+        final GameSimulationTask right = new GameSimulationTask(options, random.split(), middle, to);
+        left.fork();
+        final SimulationTally rightTally = right.compute();
+        return left.join().merge(rightTally);
+    }
+
+    private SimulationTally simulateBatch() {
+        final SimulationTally tally = new SimulationTally(options.playerCount(), options.miniGameTypes().size());
+        final GameSessionSimulator simulator = new GameSessionSimulator(
+                options.playerCount(),
+                options.miniGameTypes(),
+                random
+        );
+        for (long session = from; session < to; session++) {
+            simulator.run(session, tally);
+        }
+        return tally;
+    }
+}
@@ -0,0 +1,60 @@
+package coffeeshout.simulation;
+
+import coffeeshout.room.domain.roulette.RoulettePicker;
+import java.io.PrintStream;
+import java.util.concurrent.ForkJoinPool;
+
+/*
+    - Spring 없이 도메인 계층만으로 게임 세션을 대량으로 돌려 룰렛 당첨 분포를 본다.
+    - ProbabilityCalculator.ADJUSTMENT_WEIGHT, MiniGameResultType 구간을 바꿨을 때 분포가 어떻게 변하는지 비교하는 용도다.
+    - 초당 세션 수를 함께 출력하므로 도메인 계층 처리량 벤치마크로도 쓴다.
+ */
+public class GameSimulator {
+
+    public static void main(String[] args) {
+        final SimulationOptions options = SimulationOptions.parse(args);
+        final SimulationTally tally = run(options);
+        printReport(options, tally, System.out);
+    }
+
+    public static SimulationTally run(SimulationOptions options) {
+        final ForkJoinPool pool = new ForkJoinPool(options.parallelism());
+        try {
+            final long startedAt = System.nanoTime();
+            final SimulationTally tally = pool.invoke(
+                    new GameSimulationTask(options, RoulettePicker.seeded(options.seed()), 0, options.sessions())
+            );
+            final double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+            System.out.printf("세션 %,d개 / %.2f초 / %,.0f 세션/초 (parallelism=%d)%n",
+                    tally.sessions(), elapsedSeconds, tally.sessions() / elapsedSeconds, options.parallelism());
+            return tally;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static void printReport(SimulationOptions options, SimulationTally tally, PrintStream out) {
+        out.printf("플레이어 %d명, 미니게임 %s, seed=%d%n",
+                options.playerCount(), options.miniGameTypes(), options.seed());
+
+        out.println();
+        out.println("[자리별 당첨률] 기대값 " + format(1.0 / tally.playerCount()));
+        for (int seat = 0; seat < tally.playerCount(); seat++) {
+            out.printf("  %d번 자리%s: %s%n", seat, seat == 0 ? "(호스트)" : "", format(tally.seatWinRate(seat)));
+        }
+
+        out.println();
+        out.println("[미니게임 승리 횟수별] 플레이어 수 / 평균 최종 확률 / 룰렛 당첨률");
+        for (int winCount = 0; winCount <= tally.maxWinCount(); winCount++) {
+            out.printf("  %d승: %,d명 / %.2f%% / %s%n",
+                    winCount,
+                    tally.playersWith(winCount),
+                    tally.averageProbability(winCount) / 100.0,
+                    format(tally.rouletteWinRate(winCount)));
+        }
+    }
+
+    private static String format(double rate) {
+        return String.format("%.4f%%", rate * 100);
+    }
+}
@@ -0,0 +1,71 @@
+package coffeeshout.simulation;
+
+import coffeeshout.minigame.domain.MiniGameType;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+    - ./gradlew simulate --args="sessions=1000000 players=5 games=CARD_GAME,RACING_GAME seed=42"
+    - 지정하지 않은 값은 기본값을 사용한다.
+ */
+public record SimulationOptions(
+        long sessions,
+        int playerCount,
+        List<MiniGameType> miniGameTypes,
+        long seed,
+        int batchSize,
+        int parallelism
+) {
+
+    private static final long DEFAULT_SESSIONS = 1_000_000L;
+    private static final int DEFAULT_PLAYER_COUNT = 5;
+    private static final int DEFAULT_BATCH_SIZE = 2_048;
+
+    public SimulationOptions {
+        if (sessions <= 0) {
+            throw new IllegalArgumentException("세션 수는 1 이상이어야 합니다: " + sessions);
+        }
+        if (playerCount < 2 || playerCount > 9) {
+            throw new IllegalArgumentException("플레이어 수는 2~9명이어야 합니다: " + playerCount);
+        }
+        if (miniGameTypes.isEmpty() || miniGameTypes.size() > 5) {
+            throw new IllegalArgumentException("미니게임은 1~5개여야 합니다: " + miniGameTypes);
+        }
+        if (miniGameTypes.stream().distinct().count() != miniGameTypes.size()) {
+            throw new IllegalArgumentException("같은 미니게임을 두 번 넣을 수 없습니다: " + miniGameTypes);
+        }
+        if (batchSize <= 0 || parallelism <= 0) {
+            throw new IllegalArgumentException("batch와 parallelism은 1 이상이어야 합니다.");
+        }
+        miniGameTypes = List.copyOf(miniGameTypes);
+    }
+
+    public static SimulationOptions parse(String[] args) {
+        final Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            final String[] pair = arg.split("=", 2);
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("key=value 형식이어야 합니다: " + arg);
+            }
+            values.put(pair[0].trim(), pair[1].trim());
+        }
+        return new SimulationOptions(
+                Long.parseLong(values.getOrDefault("sessions", String.valueOf(DEFAULT_SESSIONS))),
+                Integer.parseInt(values.getOrDefault("players", String.valueOf(DEFAULT_PLAYER_COUNT))),
+                parseMiniGameTypes(values.getOrDefault("games", "CARD_GAME,RACING_GAME")),
+                Long.parseLong(values.getOrDefault("seed", String.valueOf(System.nanoTime()))),
+                Integer.parseInt(values.getOrDefault("batch", String.valueOf(DEFAULT_BATCH_SIZE))),
+                Integer.parseInt(values.getOrDefault("parallelism",
+                        String.valueOf(Runtime.getRuntime().availableProcessors())))
+        );
+    }
+
+    private static List<MiniGameType> parseMiniGameTypes(String value) {
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .map(MiniGameType::valueOf)
+                .toList();
+    }
+}
@@ -0,0 +1,79 @@
+package coffeeshout.simulation;
+
+/*
+    - 한 배치(리프 태스크)가 단독으로 채우고, 포크-조인 트리를 올라가며 merge로 합친다. 동기화가 필요 없다.
+    - 승리 횟수: 세션 동안 MiniGameResultType.WINNER를 받은 미니게임 수 (0 ~ 미니게임 수)
+ */
+public class SimulationTally {
+
+    private final long[] winsBySeat;
+    private final long[] playersByWinCount;
+    private final long[] rouletteWinsByWinCount;
+    private final long[] probabilitySumByWinCount;
+    private long sessions;
+
+    public SimulationTally(int playerCount, int miniGameCount) {
+        this.winsBySeat = new long[playerCount];
+        this.playersByWinCount = new long[miniGameCount + 1];
+        this.rouletteWinsByWinCount = new long[miniGameCount + 1];
+        this.probabilitySumByWinCount = new long[miniGameCount + 1];
+    }
+
+    public void recordPlayer(int miniGameWinCount, int finalProbability) {
+        playersByWinCount[miniGameWinCount]++;
+        probabilitySumByWinCount[miniGameWinCount] += finalProbability;
+    }
+
+    public void recordRouletteWinner(int seat, int miniGameWinCount) {
+        sessions++;
+        winsBySeat[seat]++;
+        rouletteWinsByWinCount[miniGameWinCount]++;
+    }
+
+    public SimulationTally merge(SimulationTally other) {
+        sessions += other.sessions;
+        add(winsBySeat, other.winsBySeat);
+        add(playersByWinCount, other.playersByWinCount);
+        add(rouletteWinsByWinCount, other.rouletteWinsByWinCount);
+        add(probabilitySumByWinCount, other.probabilitySumByWinCount);
+        return this;
+    }
+
+    public long sessions() {
+        return sessions;
+    }
+
+    public int playerCount() {
+        return winsBySeat.length;
+    }
+
+    public int maxWinCount() {
+        return playersByWinCount.length - 1;
+    }
+
+    public double seatWinRate(int seat) {
+        return ratio(winsBySeat[seat], sessions);
+    }
+
+    public long playersWith(int miniGameWinCount) {
+        return playersByWinCount[miniGameWinCount];
+    }
+
+    public double rouletteWinRate(int miniGameWinCount) {
+        return ratio(rouletteWinsByWinCount[miniGameWinCount], playersByWinCount[miniGameWinCount]);
+    }
+
+    public double averageProbability(int miniGameWinCount) {
+        return ratio(probabilitySumByWinCount[miniGameWinCount], playersByWinCount[miniGameWinCount]);
+    }
+
+    private static void add(long[] target, long[] source) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] += source[i];
+        }
+    }
+
+    private static double ratio(long numerator, long denominator) {
+        return denominator == 0 ? 0 : (double) numerator / denominator;
+    }
+}
@@ -1,6 +1,15 @@
 package coffeeshout.fixture;
 
+import coffeeshout.room.domain.menu.MenuTemperature;
+import coffeeshout.room.domain.menu.SelectedMenu;
+import coffeeshout.room.domain.player.Player;
+import coffeeshout.room.domain.player.PlayerName;
+import coffeeshout.room.domain.player.PlayerType;
 import coffeeshout.room.domain.player.Players;
+import coffeeshout.room.domain.roulette.Probability;
+import coffeeshout.room.domain.roulette.ProbabilityCalculator;
+import java.util.ArrayList;
+import java.util.List;
 
 public final class PlayersFixture {
 
@@ -19,4 +28,22 @@ public final class PlayersFixture {
 
     private PlayersFixture() {
     }
+
+    // 첫 라운드 순위(1등부터)대로 확률을 조정한 플레이어들 (룰렛 공정성 테스트와 벤치마크가 함께 쓴다)
+    public static Players 확률_조정된_플레이어들(int playerCount, int roundCount) {
+        final ProbabilityCalculator calculator = ProbabilityCalculator.of(playerCount, roundCount);
+        final int initialProbability = Probability.TOTAL.divide(playerCount).value();
+        final List<Player> players = new ArrayList<>();
+        for (int rank = 1; rank <= playerCount; rank++) {
+            players.add(Player.restore(
+                    new PlayerName("플레이어" + rank),
+                    rank == 1 ? PlayerType.HOST : PlayerType.GUEST,
+                    new SelectedMenu(MenuFixture.아메리카노(), MenuTemperature.ICE),
+                    true,
+                    rank - 1,
+                    new Probability(initialProbability + calculator.calculateProbabilityChange(rank, 1))
+            ));
+        }
+        return Players.restore("ABCD", players);
+    }
 }
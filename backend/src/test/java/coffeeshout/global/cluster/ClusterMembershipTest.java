@@ -0,0 +1,81 @@
+package coffeeshout.global.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+import coffeeshout.global.config.properties.ClusterProperties;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+@ExtendWith(MockitoExtension.class)
+class ClusterMembershipTest {
+
+    private static final ClusterProperties CLUSTER_PROPERTIES = new ClusterProperties(
+            "node-a", true, 128, 16, Duration.ofMinutes(1), Duration.ofMinutes(3));
+
+    @Mock
+    StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    PartitionPins partitionPins;
+
+    ClusterMembership clusterMembership;
+    RoomOwnership roomOwnership;
+
+    @BeforeEach
+    void setUp() {
+        final ClusterNode clusterNode = new ClusterNode(CLUSTER_PROPERTIES);
+        clusterMembership = new ClusterMembership(stringRedisTemplate, clusterNode, CLUSTER_PROPERTIES);
+        roomOwnership = new RoomOwnership(
+                clusterMembership, clusterNode, CLUSTER_PROPERTIES, new RoomPartitions(CLUSTER_PROPERTIES),
+                partitionPins);
+    }
+
+    @AfterEach
+    void tearDown() {
+        clusterMembership.stop();
+    }
+
+    @Test
+    void 노드_목록을_읽기_전에는_어떤_파티션도_소유하지_않는다() {
+        // when & then
+        assertThat(clusterMembership.isReady()).isFalse();
+        assertThat(roomOwnership.ownedPartitions()).isEmpty();
+    }
+
+    @Test
+    void 시작할_때_살아있는_노드_목록을_동기로_읽는다() {
+        // given
+        given(stringRedisTemplate.opsForZSet()).willReturn(zSetOperations);
+        given(zSetOperations.add(anyString(), eq("node-a"), anyDouble())).willReturn(true);
+        given(zSetOperations.range("cluster:nodes", 0, -1))
+                .willReturn(new LinkedHashSet<>(List.of("node-a", "node-b")));
+        given(partitionPins.isReady()).willReturn(true);
+        given(partitionPins.holderOf(anyInt())).willReturn(Optional.empty());
+
+        // when
+        clusterMembership.start();
+
+        // then
+        assertThat(clusterMembership.isReady()).isTrue();
+        assertThat(clusterMembership.getRing().getNodes()).containsExactlyInAnyOrder("node-a", "node-b");
+        assertThat(roomOwnership.ownedPartitions()).isNotEmpty().hasSizeLessThan(16);
+    }
+}
@@ -0,0 +1,87 @@
+package coffeeshout.global.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class ConsistentHashRingTest {
+
+    private static final List<String> KEYS = IntStream.range(0, 10_000)
+            .mapToObj(i -> "room-" + i)
+            .toList();
+
+    @Test
+    void 노드가_없으면_소유자가_없다() {
+        // given
+        final ConsistentHashRing ring = new ConsistentHashRing(List.of(), 16);
+
+        // when & then
+        assertThat(ring.ownerOf("ABCD")).isEmpty();
+    }
+
+    @Test
+    void 같은_키는_항상_같은_노드가_소유한다() {
+        // given
+        final ConsistentHashRing ring = new ConsistentHashRing(List.of("node-a", "node-b", "node-c"), 64);
+        final ConsistentHashRing sameRing = new ConsistentHashRing(List.of("node-c", "node-a", "node-b"), 64);
+
+        // when & then
+        for (String key : KEYS) {
+            assertThat(ring.ownerOf(key)).isEqualTo(sameRing.ownerOf(key));
+        }
+    }
+
+    @Test
+    void 키가_노드들에_고르게_분산된다() {
+        // given
+        final ConsistentHashRing ring = new ConsistentHashRing(List.of("node-a", "node-b", "node-c"), 128);
+
+        // when
+        final Map<String, Integer> counts = new HashMap<>();
+        for (String key : KEYS) {
+            counts.merge(ring.ownerOf(key).orElseThrow(), 1, Integer::sum);
+        }
+
+        // then
+        assertThat(counts).hasSize(3);
+        assertThat(counts.values()).allSatisfy(count -> assertThat(count).isBetween(2_500, 4_200));
+    }
+
+    @Test
+    void 노드가_추가되면_새_노드로_옮겨지는_키만_소유자가_바뀐다() {
+        // given
+        final ConsistentHashRing before = new ConsistentHashRing(List.of("node-a", "node-b", "node-c"), 128);
+        final ConsistentHashRing after = new ConsistentHashRing(
+                List.of("node-a", "node-b", "node-c", "node-d"), 128
+        );
+
+        // when & then
+        for (String key : KEYS) {
+            final String newOwner = after.ownerOf(key).orElseThrow();
+            if (!newOwner.equals(before.ownerOf(key).orElseThrow())) {
+                assertThat(newOwner).isEqualTo("node-d");
+            }
+        }
+    }
+
+    @Test
+    void 같은_노드_구성인지_확인한다() {
+        // given
+        final ConsistentHashRing ring = new ConsistentHashRing(List.of("node-a", "node-b"), 16);
+
+        // when & then
+        assertThat(ring.hasSameNodes(List.of("node-b", "node-a"))).isTrue();
+        assertThat(ring.hasSameNodes(List.of("node-a"))).isFalse();
+    }
+
+    @Test
+    void 가상_노드_수는_양수여야_한다() {
+        assertThatThrownBy(() -> new ConsistentHashRing(List.of("node-a"), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,101 @@
+package coffeeshout.global.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import coffeeshout.global.websocket.LoggingSimpMessagingTemplate;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@ExtendWith(MockitoExtension.class)
+class RoomBroadcastRelaySubscriberTest {
+
+    private static final String DESTINATION = "/topic/room/ABCD/racing-game";
+    private static final byte[] CHANNEL = "room.broadcast.relay".getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Mock
+    LoggingSimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    ClusterNode clusterNode;
+
+    final ObjectMapper objectMapper = new ObjectMapper();
+
+    RoomBroadcastRelaySubscriber roomBroadcastRelaySubscriber;
+
+    @BeforeEach
+    void setUp() {
+        roomBroadcastRelaySubscriber = new RoomBroadcastRelaySubscriber(
+                objectMapper,
+                redisMessageListenerContainer,
+                new ChannelTopic("room.broadcast.relay"),
+                messagingTemplate,
+                clusterNode
+        );
+    }
+
+    @Test
+    void 다른_노드가_보낸_payload_바이트를_다시_직렬화하지_않고_보낸다() {
+        // given
+        final byte[] payload = "{\"success\":true,\"data\":{\"sequence\":3}}".getBytes(StandardCharsets.UTF_8);
+        final byte[] body = new RoomBroadcastMessage("node-2", DESTINATION, payload).encode();
+        given(clusterNode.isSelf("node-2")).willReturn(false);
+
+        // when
+        roomBroadcastRelaySubscriber.onMessage(new DefaultMessage(CHANNEL, body), null);
+
+        // then
+        final ArgumentCaptor<byte[]> captor = ArgumentCaptor.forClass(byte[].class);
+        verify(messagingTemplate).sendSerialized(eq(DESTINATION), captor.capture());
+        assertThat(captor.getValue()).isEqualTo(payload);
+    }
+
+    @Test
+    void 자기가_보낸_중계_메시지는_무시한다() {
+        // given
+        final byte[] body = new RoomBroadcastMessage("node-1", DESTINATION, "{}".getBytes(StandardCharsets.UTF_8))
+                .encode();
+        given(clusterNode.isSelf("node-1")).willReturn(true);
+
+        // when
+        roomBroadcastRelaySubscriber.onMessage(new DefaultMessage(CHANNEL, body), null);
+
+        // then
+        verify(messagingTemplate, never()).sendSerialized(anyString(), any(byte[].class));
+    }
+
+    @Test
+    void 이전_버전_노드가_보낸_JSON_중계_메시지도_처리한다() throws Exception {
+        // given
+        final Map<String, Object> payload = Map.of("success", true);
+        final byte[] body = objectMapper.writeValueAsBytes(
+                Map.of("originNodeId", "node-2", "destination", DESTINATION, "payload", payload));
+        given(clusterNode.isSelf("node-2")).willReturn(false);
+
+        // when
+        roomBroadcastRelaySubscriber.onMessage(new DefaultMessage(CHANNEL, body), null);
+
+        // then
+        final ArgumentCaptor<byte[]> captor = ArgumentCaptor.forClass(byte[].class);
+        verify(messagingTemplate).sendSerialized(eq(DESTINATION), captor.capture());
+        assertThat(objectMapper.readTree(captor.getValue())).isEqualTo(objectMapper.valueToTree(payload));
+    }
+}
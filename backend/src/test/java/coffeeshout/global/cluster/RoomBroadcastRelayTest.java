@@ -0,0 +1,100 @@
+package coffeeshout.global.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import coffeeshout.global.websocket.LoggingSimpMessagingTemplate;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+
+@ExtendWith(MockitoExtension.class)
+class RoomBroadcastRelayTest {
+
+    private static final String DESTINATION = "/topic/room/ABCD/racing-game";
+
+    @Mock
+    LoggingSimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    ClusterNode clusterNode;
+
+    @Mock
+    RoomOwnership roomOwnership;
+
+    @Mock
+    RedisConnection redisConnection;
+
+    final ObjectMapper objectMapper = new ObjectMapper();
+
+    RoomBroadcastRelay roomBroadcastRelay;
+
+    @BeforeEach
+    void setUp() {
+        roomBroadcastRelay = new RoomBroadcastRelay(
+                messagingTemplate,
+                redisTemplate,
+                new ChannelTopic("room.broadcast.relay"),
+                clusterNode,
+                roomOwnership,
+                objectMapper
+        );
+    }
+
+    @Test
+    void 직렬화한_본문을_로컬_구독자에게_보낸다() throws Exception {
+        // given
+        final Map<String, Object> payload = Map.of("success", true, "data", Map.of("sequence", 3));
+
+        // when
+        roomBroadcastRelay.broadcast(DESTINATION, payload);
+
+        // then
+        final ArgumentCaptor<byte[]> captor = ArgumentCaptor.forClass(byte[].class);
+        verify(messagingTemplate).sendSerialized(eq(DESTINATION), captor.capture());
+        assertThat(objectMapper.readTree(captor.getValue())).isEqualTo(objectMapper.valueToTree(payload));
+        verify(redisTemplate, never()).execute(any(RedisCallback.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 소유권_분산이_켜져_있으면_같은_본문을_중계_메시지에_그대로_담는다() throws Exception {
+        // given
+        final Map<String, Object> payload = Map.of("success", true, "data", Map.of("sequence", 3));
+        given(roomOwnership.isEnabled()).willReturn(true);
+        given(clusterNode.getId()).willReturn("node-1");
+
+        // when
+        roomBroadcastRelay.broadcast(DESTINATION, payload);
+
+        // then
+        final ArgumentCaptor<RedisCallback<Long>> callbackCaptor = ArgumentCaptor.forClass(RedisCallback.class);
+        verify(redisTemplate).execute(callbackCaptor.capture());
+        callbackCaptor.getValue().doInRedis(redisConnection);
+
+        final ArgumentCaptor<byte[]> bodyCaptor = ArgumentCaptor.forClass(byte[].class);
+        verify(redisConnection).publish(any(byte[].class), bodyCaptor.capture());
+        final ArgumentCaptor<byte[]> localCaptor = ArgumentCaptor.forClass(byte[].class);
+        verify(messagingTemplate).sendSerialized(eq(DESTINATION), localCaptor.capture());
+        final RoomBroadcastMessage relayed = RoomBroadcastMessage.decode(bodyCaptor.getValue());
+        assertThat(relayed.originNodeId()).isEqualTo("node-1");
+        assertThat(relayed.destination()).isEqualTo(DESTINATION);
+        assertThat(relayed.payload()).isEqualTo(localCaptor.getValue());
+    }
+}
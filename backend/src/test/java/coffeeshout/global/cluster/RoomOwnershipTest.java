@@ -0,0 +1,135 @@
+package coffeeshout.global.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+
+import coffeeshout.global.config.properties.ClusterProperties;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+@ExtendWith(MockitoExtension.class)
+class RoomOwnershipTest {
+
+    private static final ClusterProperties NODE_A_PROPERTIES = clusterProperties("node-a");
+    private static final ClusterProperties NODE_B_PROPERTIES = clusterProperties("node-b");
+
+    @Mock
+    StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    PartitionPins partitionPins;
+
+    ClusterMembership nodeAMembership;
+    ClusterMembership nodeBMembership;
+    RoomOwnership nodeA;
+    RoomOwnership nodeB;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        lenient().when(partitionPins.isReady()).thenReturn(true);
+        lenient().when(partitionPins.holderOf(anyInt())).thenReturn(Optional.empty());
+
+        final ClusterNode nodeANode = new ClusterNode(NODE_A_PROPERTIES);
+        final ClusterNode nodeBNode = new ClusterNode(NODE_B_PROPERTIES);
+        nodeAMembership = new ClusterMembership(stringRedisTemplate, nodeANode, NODE_A_PROPERTIES);
+        nodeBMembership = new ClusterMembership(stringRedisTemplate, nodeBNode, NODE_B_PROPERTIES);
+        nodeA = new RoomOwnership(
+                nodeAMembership, nodeANode, NODE_A_PROPERTIES, new RoomPartitions(NODE_A_PROPERTIES), partitionPins);
+        nodeB = new RoomOwnership(
+                nodeBMembership, nodeBNode, NODE_B_PROPERTIES, new RoomPartitions(NODE_B_PROPERTIES), partitionPins);
+    }
+
+    @Test
+    void 경주_도중_노드가_추가되어도_고정된_파티션은_루프를_실행하는_노드가_소유한다() {
+        // given
+        aliveNodes("node-a");
+        nodeAMembership.heartbeat();
+        final int partition = partitionOwnedByRing("node-b", "node-a", "node-b");
+        assertThat(nodeA.isPartitionOwner(partition)).isTrue();
+        given(partitionPins.holderOf(partition)).willReturn(Optional.of("node-a"));
+
+        // when
+        aliveNodes("node-a", "node-b");
+        nodeAMembership.heartbeat();
+        nodeBMembership.heartbeat();
+
+        // then
+        assertThat(nodeA.isPartitionOwner(partition)).isTrue();
+        assertThat(nodeB.isPartitionOwner(partition)).isFalse();
+        assertThat(nodeA.ownedPartitions()).contains(partition);
+        assertThat(nodeB.ownedPartitions()).doesNotContain(partition);
+    }
+
+    @Test
+    void 경주가_끝나_고정이_풀리면_링의_소유자가_파티션을_가져간다() {
+        // given
+        aliveNodes("node-a", "node-b");
+        nodeAMembership.heartbeat();
+        nodeBMembership.heartbeat();
+        final int partition = partitionOwnedByRing("node-b", "node-a", "node-b");
+        given(partitionPins.holderOf(partition)).willReturn(Optional.of("node-a"));
+        assertThat(nodeB.isPartitionOwner(partition)).isFalse();
+
+        // when
+        given(partitionPins.holderOf(partition)).willReturn(Optional.empty());
+
+        // then
+        assertThat(nodeA.isPartitionOwner(partition)).isFalse();
+        assertThat(nodeB.isPartitionOwner(partition)).isTrue();
+    }
+
+    @Test
+    void 고정한_노드가_링에서_사라지면_고정을_무시한다() {
+        // given
+        aliveNodes("node-a", "node-b");
+        nodeBMembership.heartbeat();
+        final int partition = partitionOwnedByRing("node-b", "node-a", "node-b");
+        given(partitionPins.holderOf(partition)).willReturn(Optional.of("node-c"));
+
+        // when & then
+        assertThat(nodeB.isPartitionOwner(partition)).isTrue();
+    }
+
+    @Test
+    void 고정_정보를_읽기_전에는_어떤_파티션도_소유하지_않는다() {
+        // given
+        aliveNodes("node-a", "node-b");
+        nodeAMembership.heartbeat();
+        given(partitionPins.isReady()).willReturn(false);
+
+        // when & then
+        assertThat(nodeA.ownedPartitions()).isEmpty();
+    }
+
+    private void aliveNodes(String... nodeIds) {
+        given(zSetOperations.range("cluster:nodes", 0, -1))
+                .willReturn(new LinkedHashSet<>(List.of(nodeIds)));
+    }
+
+    private int partitionOwnedByRing(String owner, String... nodeIds) {
+        final ConsistentHashRing ring = new ConsistentHashRing(List.of(nodeIds), NODE_A_PROPERTIES.virtualNodes());
+        return new RoomPartitions(NODE_A_PROPERTIES).all()
+                .filter(partition -> ring.ownerOf(RoomPartitions.ringKey(partition)).orElseThrow().equals(owner))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static ClusterProperties clusterProperties(String nodeId) {
+        return new ClusterProperties(nodeId, true, 128, 16, Duration.ofMinutes(1), Duration.ofMinutes(3));
+    }
+}
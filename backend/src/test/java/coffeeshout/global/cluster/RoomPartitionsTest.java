@@ -0,0 +1,69 @@
+package coffeeshout.global.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import coffeeshout.room.domain.JoinCode;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class RoomPartitionsTest {
+
+    private static final List<String> JOIN_CODES = IntStream.range(0, 10_000)
+            .mapToObj(i -> JoinCode.fromIndex(i * 53).getValue())
+            .toList();
+
+    private final RoomPartitions roomPartitions = new RoomPartitions(64);
+
+    @Test
+    void 파티션은_0부터_파티션_수_미만이다() {
+        // when & then
+        for (String joinCode : JOIN_CODES) {
+            assertThat(roomPartitions.partitionOf(joinCode)).isBetween(0, 63);
+        }
+    }
+
+    @Test
+    void 같은_방은_항상_같은_파티션에_속한다() {
+        // given
+        final RoomPartitions samePartitions = new RoomPartitions(64);
+
+        // when & then
+        for (String joinCode : JOIN_CODES) {
+            assertThat(roomPartitions.partitionOf(joinCode)).isEqualTo(samePartitions.partitionOf(joinCode));
+        }
+    }
+
+    @Test
+    void 방이_모든_파티션에_고르게_분산된다() {
+        // given
+        final Map<Integer, Integer> counts = new HashMap<>();
+
+        // when
+        for (String joinCode : JOIN_CODES) {
+            counts.merge(roomPartitions.partitionOf(joinCode), 1, Integer::sum);
+        }
+
+        // then
+        final double expected = (double) JOIN_CODES.size() / roomPartitions.count();
+        assertThat(counts).hasSize(64);
+        assertThat(counts.values()).allSatisfy(count ->
+                assertThat(count).isBetween((int) (expected * 0.5), (int) (expected * 1.5)));
+    }
+
+    @Test
+    void 파티션_키는_파티션_번호를_접미사로_붙인다() {
+        // when & then
+        assertThat(RoomPartitions.ringKey(3)).isEqualTo("partition-3");
+        assertThat(RoomPartitions.streamKey("racingGame:broadcast", 3)).isEqualTo("racingGame:broadcast:3");
+    }
+
+    @Test
+    void 파티션_수는_양수여야_한다() {
+        assertThatThrownBy(() -> new RoomPartitions(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -44,7 +44,7 @@ public class TestContainerConfig {
                     valkeyContainer = new GenericContainer<>(DockerImageName.parse("valkey/valkey:latest"))
                             .withExposedPorts(VALKEY_PORT)
                             .withCommand("valkey-server", "--appendonly", "yes")
-                            .withEnv("VALKEY_DISABLE_COMMANDS", "CONFIG,SHUTDOWN,DEBUG,EVAL,SCRIPT") // FLUSHALL 테스트용 허용
+                            .withEnv("VALKEY_DISABLE_COMMANDS", "CONFIG,SHUTDOWN,DEBUG") // FLUSHALL 테스트용 허용, EVAL은 RedisClaim 스크립트용 허용
                             .withReuse(true)
                             .waitingFor(Wait.forListeningPort())
                             .withLogConsumer(new Slf4jLogConsumer(logger).withPrefix("VALKEY"));
@@ -0,0 +1,46 @@
+package coffeeshout.global.config.properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class RedisStreamPropertiesTest {
+
+    private final RedisStreamProperties properties = new RedisStreamProperties(
+            "room:broadcast",
+            "cardGame:select:broadcast",
+            "racingGame:broadcast",
+            100,
+            4,
+            new RedisStreamProperties.Producer(1, 1, 64, Duration.ofMillis(2), 1000, Duration.ofMillis(50)),
+            new RedisStreamProperties.Checkpoint(true, Duration.ofSeconds(1), Duration.ofDays(1))
+    );
+
+    @Test
+    void 샤드마다_스트림_키를_만든다() {
+        // when & then
+        assertThat(properties.roomJoinKeys()).containsExactly(
+                "room:broadcast:0", "room:broadcast:1", "room:broadcast:2", "room:broadcast:3");
+        assertThat(properties.cardGameSelectKeys()).hasSize(4);
+    }
+
+    @Test
+    void 같은_방은_두_스트림에서_같은_번호의_샤드를_쓴다() {
+        // given
+        final String joinCode = "ABCD";
+        final int shard = properties.shardOf(joinCode);
+
+        // when & then
+        assertThat(properties.roomJoinKey(joinCode)).isEqualTo("room:broadcast:" + shard);
+        assertThat(properties.cardGameSelectKey(joinCode)).isEqualTo("cardGame:select:broadcast:" + shard);
+    }
+
+    @Test
+    void 샤드_키는_모든_샤드_키_목록에_포함된다() {
+        // when & then
+        for (String joinCode : new String[]{"ABCD", "WXYZ", "K3M9", "QRST"}) {
+            assertThat(properties.roomJoinKeys()).contains(properties.roomJoinKey(joinCode));
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package coffeeshout.global.lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import coffeeshout.global.ServiceTest;
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+class RedisClaimTest extends ServiceTest {
+
+    private static final String KEY = "claim:test:ABCD";
+    private static final Duration LEASE_TIME = Duration.ofSeconds(10);
+    private static final Duration DONE_TTL = Duration.ofMinutes(1);
+
+    @Autowired
+    RedisClaim redisClaim;
+
+    @Autowired
+    StringRedisTemplate stringRedisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        stringRedisTemplate.delete(KEY);
+    }
+
+    @Test
+    void 선점한_작업은_다른_곳에서_다시_선점할_수_없다() {
+        // given
+        final Optional<String> first = redisClaim.claim(KEY, LEASE_TIME);
+
+        // when
+        final Optional<String> second = redisClaim.claim(KEY, LEASE_TIME);
+
+        // then
+        assertThat(first).isPresent();
+        assertThat(second).isEmpty();
+        assertThat(stringRedisTemplate.getExpire(KEY)).isPositive();
+    }
+
+    @Test
+    void 완료한_작업은_다시_선점할_수_없다() {
+        // given
+        final String token = redisClaim.claim(KEY, LEASE_TIME).orElseThrow();
+
+        // when
+        final boolean completed = redisClaim.complete(KEY, token, DONE_TTL);
+
+        // then
+        assertThat(completed).isTrue();
+        assertThat(stringRedisTemplate.opsForValue().get(KEY)).isEqualTo(RedisClaim.DONE);
+        assertThat(redisClaim.claim(KEY, LEASE_TIME)).isEmpty();
+    }
+
+    @Test
+    void 선점을_해제하면_다시_선점할_수_있다() {
+        // given
+        final String token = redisClaim.claim(KEY, LEASE_TIME).orElseThrow();
+
+        // when
+        redisClaim.release(KEY, token);
+
+        // then
+        assertThat(redisClaim.claim(KEY, LEASE_TIME)).isPresent();
+    }
+
+    @Test
+    void 다른_토큰으로는_완료하거나_해제할_수_없다() {
+        // given
+        final String token = redisClaim.claim(KEY, LEASE_TIME).orElseThrow();
+
+        // when
+        final boolean completed = redisClaim.complete(KEY, "other-token", DONE_TTL);
+        redisClaim.release(KEY, "other-token");
+
+        // then
+        assertThat(completed).isFalse();
+        assertThat(stringRedisTemplate.opsForValue().get(KEY)).isEqualTo(token);
+    }
+}
@@ -0,0 +1,71 @@
+package coffeeshout.global.mailbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.context.ContextSnapshotFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ConcurrentTaskScheduler;
+
+class RoomBoundTaskSchedulerTest {
+
+    private ExecutorService carrier;
+    private ScheduledExecutorService timer;
+    private RoomMailboxExecutor mailboxExecutor;
+    private ConcurrentTaskScheduler delegate;
+
+    @BeforeEach
+    void setUp() {
+        carrier = Executors.newVirtualThreadPerTaskExecutor();
+        timer = Executors.newSingleThreadScheduledExecutor();
+        mailboxExecutor = new RoomMailboxExecutor(
+                carrier,
+                ContextSnapshotFactory.builder().build(),
+                new SimpleMeterRegistry()
+        );
+        delegate = new ConcurrentTaskScheduler(timer);
+    }
+
+    @AfterEach
+    void tearDown() {
+        timer.shutdownNow();
+        carrier.close();
+    }
+
+    @Test
+    void 방의_메일박스가_밀려_있어도_타이머_스레드는_기다리지_않는다() throws Exception {
+        // given
+        final CountDownLatch mailboxBlocked = new CountDownLatch(1);
+        final CountDownLatch roomTaskExecuted = new CountDownLatch(1);
+        final CountDownLatch otherTaskExecuted = new CountDownLatch(1);
+        mailboxExecutor.execute("ABCD", () -> await(mailboxBlocked));
+        final RoomBoundTaskScheduler roomScheduler = new RoomBoundTaskScheduler(delegate, mailboxExecutor, "ABCD");
+
+        // when
+        roomScheduler.schedule(roomTaskExecuted::countDown, Instant.now());
+        delegate.schedule(otherTaskExecuted::countDown, Instant.now());
+
+        // then
+        assertThat(otherTaskExecuted.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(roomTaskExecuted.getCount()).isEqualTo(1);
+
+        mailboxBlocked.countDown();
+        assertThat(roomTaskExecuted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
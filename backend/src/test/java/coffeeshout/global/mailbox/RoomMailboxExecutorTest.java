@@ -0,0 +1,129 @@
+package coffeeshout.global.mailbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.context.ContextSnapshotFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RoomMailboxExecutorTest {
+
+    private ExecutorService carrier;
+    private RoomMailboxExecutor mailboxExecutor;
+
+    @BeforeEach
+    void setUp() {
+        carrier = Executors.newVirtualThreadPerTaskExecutor();
+        mailboxExecutor = new RoomMailboxExecutor(
+                carrier,
+                ContextSnapshotFactory.builder().build(),
+                new SimpleMeterRegistry()
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        carrier.close();
+    }
+
+    @Test
+    void 같은_방의_명령은_들어온_순서대로_하나씩_실행된다() throws Exception {
+        // given
+        final List<Integer> executed = new ArrayList<>();
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final CountDownLatch latch = new CountDownLatch(1_000);
+
+        // when
+        for (int i = 0; i < 1_000; i++) {
+            final int order = i;
+            mailboxExecutor.execute("ABCD", () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                executed.add(order);
+                running.decrementAndGet();
+                latch.countDown();
+            });
+        }
+
+        // then
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(maxRunning.get()).isEqualTo(1);
+        assertThat(executed).isSorted().hasSize(1_000);
+    }
+
+    @Test
+    void call은_메일박스에서_실행한_결과를_반환한다() {
+        // when
+        final String result = mailboxExecutor.call("ABCD", () -> Thread.currentThread().isVirtual() ? "virtual" : "platform");
+
+        // then
+        assertThat(result).isEqualTo("virtual");
+    }
+
+    @Test
+    void 메일박스_안에서_같은_방을_다시_호출하면_즉시_실행한다() {
+        // when
+        final Integer result = mailboxExecutor.call("ABCD", () -> mailboxExecutor.call("ABCD", () -> 1) + 1);
+
+        // then
+        assertThat(result).isEqualTo(2);
+    }
+
+    @Test
+    void 명령에서_발생한_예외는_호출자에게_전달된다() {
+        assertThatThrownBy(() -> mailboxExecutor.run("ABCD", () -> {
+            throw new IllegalStateException("실패");
+        })).isInstanceOf(IllegalStateException.class)
+                .hasMessage("실패");
+    }
+
+    @Test
+    void 예외가_발생해도_다음_명령은_실행된다() {
+        // given
+        mailboxExecutor.execute("ABCD", () -> {
+            throw new IllegalStateException("실패");
+        });
+
+        // when
+        final String result = mailboxExecutor.call("ABCD", () -> "성공");
+
+        // then
+        assertThat(result).isEqualTo("성공");
+    }
+
+    @Test
+    void 명령을_넣는_중에_release가_끼어들어도_한_방의_명령은_동시에_실행되지_않는다() throws Exception {
+        // given
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final CountDownLatch latch = new CountDownLatch(10_000);
+        final ExecutorService producers = Executors.newFixedThreadPool(4);
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            producers.execute(() -> {
+                mailboxExecutor.execute("ABCD", () -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    running.decrementAndGet();
+                    latch.countDown();
+                });
+                mailboxExecutor.release("ABCD");
+            });
+        }
+
+        // then
+        assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(maxRunning.get()).isEqualTo(1);
+        producers.shutdown();
+    }
+}
@@ -0,0 +1,132 @@
+package coffeeshout.global.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import coffeeshout.global.trace.TraceInfo;
+import coffeeshout.room.domain.event.PlayerReadyEvent;
+import coffeeshout.room.domain.event.RoomBaseEvent;
+import coffeeshout.room.domain.event.RoomEventType;
+import coffeeshout.room.domain.event.RoomJoinEvent;
+import coffeeshout.room.domain.menu.MenuTemperature;
+import coffeeshout.room.ui.request.SelectedMenuRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+class BinaryEventCodecTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private final BinaryEventCodec<RoomEventType, RoomBaseEvent> codec =
+            new BinaryEventCodec<RoomEventType, RoomBaseEvent>(objectMapper, RoomEventType.class,
+                    RoomBaseEvent::eventType)
+                    .register(2, RoomEventType.ROOM_JOIN, RoomJoinEvent.class)
+                    .register(3, RoomEventType.PLAYER_READY, PlayerReadyEvent.class);
+
+    private final RoomJoinEvent joinEvent = new RoomJoinEvent(
+            "event-1",
+            new TraceInfo("trace", "span"),
+            Instant.now().truncatedTo(ChronoUnit.MILLIS),
+            RoomEventType.ROOM_JOIN,
+            "ABCD",
+            "게스트",
+            new SelectedMenuRequest(1L, null, MenuTemperature.ICE)
+    );
+
+    @Test
+    void 인코딩한_이벤트를_같은_타입으로_복원한다() {
+        // when
+        final RoomBaseEvent decoded = codec.decode(codec.encode(joinEvent));
+
+        // then
+        assertThat(decoded).isEqualTo(joinEvent);
+    }
+
+    @Test
+    void 본문을_파싱하지_않고_헤더로_타입을_읽는다() {
+        // given
+        final byte[] body = codec.encode(joinEvent);
+
+        // when & then
+        assertThat(codec.peekType(body)).contains(RoomEventType.ROOM_JOIN);
+    }
+
+    @Test
+    void 등록되지_않은_태그는_타입을_알_수_없다() {
+        // given
+        final BinaryEventCodec<RoomEventType, RoomBaseEvent> newerCodec =
+                new BinaryEventCodec<RoomEventType, RoomBaseEvent>(objectMapper, RoomEventType.class,
+                        RoomBaseEvent::eventType)
+                        .register(99, RoomEventType.ROOM_JOIN, RoomJoinEvent.class);
+        final byte[] body = newerCodec.encode(joinEvent);
+
+        // when & then
+        assertThat(codec.peekType(body)).isEmpty();
+        assertThatThrownBy(() -> codec.decode(body))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 이전_버전_노드가_보낸_JSON도_읽는다() {
+        // given
+        final byte[] legacyBody = new GenericJackson2JsonRedisSerializer(objectMapper).serialize(joinEvent);
+
+        // when & then
+        assertThat(codec.peekType(legacyBody)).contains(RoomEventType.ROOM_JOIN);
+        assertThat(codec.decode(legacyBody)).isEqualTo(joinEvent);
+    }
+
+    @Test
+    void 바이너리_봉투는_기존_JSON보다_작다() {
+        // given
+        final byte[] legacyBody = new GenericJackson2JsonRedisSerializer(objectMapper).serialize(joinEvent);
+
+        // when
+        final byte[] body = codec.encode(joinEvent);
+
+        // then
+        assertThat(body.length).isLessThan(legacyBody.length);
+    }
+
+    @Test
+    void 발행_노드를_담아_인코딩해도_같은_이벤트로_복원한다() {
+        // when
+        final byte[] body = codec.encode(joinEvent, "node-1");
+
+        // then
+        assertThat(codec.peekOrigin(body)).contains("node-1");
+        assertThat(codec.peekType(body)).contains(RoomEventType.ROOM_JOIN);
+        assertThat(codec.decode(body)).isEqualTo(joinEvent);
+    }
+
+    @Test
+    void 발행_노드_없이_인코딩했으면_발행_노드를_알_수_없다() {
+        // given
+        final byte[] legacyBody = new GenericJackson2JsonRedisSerializer(objectMapper).serialize(joinEvent);
+
+        // when & then
+        assertThat(codec.peekOrigin(codec.encode(joinEvent))).isEmpty();
+        assertThat(codec.peekOrigin(legacyBody)).isEmpty();
+    }
+
+    @Test
+    void 같은_태그를_두_번_등록할_수_없다() {
+        assertThatThrownBy(() -> codec.register(2, RoomEventType.ROOM_CREATE, RoomJoinEvent.class))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void 등록되지_않은_이벤트는_인코딩할_수_없다() {
+        // given
+        final BinaryEventCodec<RoomEventType, RoomBaseEvent> emptyCodec =
+                new BinaryEventCodec<>(objectMapper, RoomEventType.class, RoomBaseEvent::eventType);
+
+        // when & then
+        assertThatThrownBy(() -> emptyCodec.encode(joinEvent))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
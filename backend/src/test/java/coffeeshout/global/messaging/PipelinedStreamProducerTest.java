@@ -0,0 +1,60 @@
+package coffeeshout.global.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import coffeeshout.support.test.IntegrationTest;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@IntegrationTest
+class PipelinedStreamProducerTest {
+
+    @Autowired
+    PipelinedStreamProducer pipelinedStreamProducer;
+
+    @Autowired
+    StringRedisTemplate stringRedisTemplate;
+
+    @Test
+    void 배치_크기에_못_미쳐도_주기적으로_내보낸다() throws Exception {
+        // given
+        final String streamKey = "pipeline:test:single";
+
+        // when
+        final String recordId = pipelinedStreamProducer.add("pipeline:test", streamKey, "{\"seq\":1}")
+                .get(5, TimeUnit.SECONDS);
+
+        // then
+        final List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream()
+                .read(StreamOffset.fromStart(streamKey));
+        assertThat(records).hasSize(1);
+        assertThat(records.get(0).getId().getValue()).isEqualTo(recordId);
+        assertThat(records.get(0).getValue()).containsEntry("payload", "{\"seq\":1}");
+    }
+
+    @Test
+    void 여러_XADD를_순서대로_기록한다() {
+        // given
+        final String streamKey = "pipeline:test:many";
+
+        // when
+        final List<CompletableFuture<String>> futures = IntStream.range(0, 50)
+                .mapToObj(seq -> pipelinedStreamProducer.add("pipeline:test", streamKey, String.valueOf(seq)))
+                .toList();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        // then
+        final List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream()
+                .read(StreamOffset.fromStart(streamKey));
+        assertThat(records)
+                .extracting(record -> record.getValue().get("payload"))
+                .containsExactlyElementsOf(IntStream.range(0, 50).mapToObj(String::valueOf).toList());
+    }
+}
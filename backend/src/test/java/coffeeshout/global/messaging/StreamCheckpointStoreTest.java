@@ -0,0 +1,75 @@
+package coffeeshout.global.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import coffeeshout.global.cluster.ClusterNode;
+import coffeeshout.global.config.properties.ClusterProperties;
+import coffeeshout.global.config.properties.RedisStreamProperties;
+import coffeeshout.support.test.IntegrationTest;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@IntegrationTest
+class StreamCheckpointStoreTest {
+
+    @Autowired
+    StreamCheckpointStore streamCheckpointStore;
+
+    @Autowired
+    StringRedisTemplate stringRedisTemplate;
+
+    @Autowired
+    RedisStreamProperties redisStreamProperties;
+
+    @Test
+    void 체크포인트가_없으면_마지막_레코드_다음부터_읽는다() {
+        // given
+        final String streamKey = "checkpoint:test:tail";
+        add(streamKey, "1");
+        final RecordId lastId = add(streamKey, "2");
+
+        // when
+        final ReadOffset offset = streamCheckpointStore.startOffset(streamKey);
+
+        // then
+        assertThat(offset.getOffset()).isEqualTo(lastId.getValue());
+    }
+
+    @Test
+    void 기록한_체크포인트부터_이어서_읽는다() {
+        // given
+        final String streamKey = "checkpoint:test:resume";
+        final RecordId processedId = add(streamKey, "1");
+        add(streamKey, "2");
+
+        // when
+        streamCheckpointStore.record(streamKey, processedId);
+        streamCheckpointStore.flush();
+
+        // then
+        assertThat(streamCheckpointStore.startOffset(streamKey).getOffset()).isEqualTo(processedId.getValue());
+    }
+
+    @Test
+    void 체크포인트를_켜고_node_id를_지정하지_않으면_시작하지_않는다() {
+        // given
+        final ClusterNode unstableNode = new ClusterNode(
+                new ClusterProperties("", false, 128, 16, Duration.ofSeconds(2), Duration.ofSeconds(6)));
+
+        // when & then
+        assertThatThrownBy(() -> new StreamCheckpointStore(stringRedisTemplate, unstableNode, redisStreamProperties))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private RecordId add(String streamKey, String payload) {
+        return stringRedisTemplate.opsForStream()
+                .add(StreamRecords.newRecord().in(streamKey).ofMap(Map.of("payload", payload)));
+    }
+}
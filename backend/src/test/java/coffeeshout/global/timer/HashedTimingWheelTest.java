@@ -0,0 +1,129 @@
+package coffeeshout.global.timer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import coffeeshout.global.timer.HashedTimingWheel.Timeout;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class HashedTimingWheelTest {
+
+    private final HashedTimingWheel timingWheel = new HashedTimingWheel("test", Duration.ofSeconds(1), 4);
+
+    @Test
+    void 지연_시간만큼_tick이_지나면_작업이_실행된다() {
+        // given
+        final AtomicInteger executed = new AtomicInteger();
+        timingWheel.schedule(executed::incrementAndGet, Duration.ofSeconds(3));
+
+        // when
+        tick(2);
+        final int beforeDeadline = executed.get();
+        tick(1);
+
+        // then
+        assertThat(beforeDeadline).isZero();
+        assertThat(executed.get()).isEqualTo(1);
+        assertThat(timingWheel.pendingCount()).isZero();
+    }
+
+    @Test
+    void 바퀴_한_바퀴보다_긴_지연도_정확한_tick에_실행된다() {
+        // given
+        final List<Integer> executedTicks = new ArrayList<>();
+        final AtomicInteger currentTick = new AtomicInteger();
+        timingWheel.schedule(() -> executedTicks.add(currentTick.get()), Duration.ofSeconds(10));
+
+        // when
+        for (int i = 1; i <= 12; i++) {
+            currentTick.set(i);
+            timingWheel.tick();
+        }
+
+        // then
+        assertThat(executedTicks).containsExactly(10);
+    }
+
+    @Test
+    void 취소한_작업은_실행되지_않는다() {
+        // given
+        final AtomicInteger executed = new AtomicInteger();
+        final Timeout timeout = timingWheel.schedule(executed::incrementAndGet, Duration.ofSeconds(2));
+        tick(1);
+
+        // when
+        final boolean cancelled = timeout.cancel();
+        tick(3);
+
+        // then
+        assertThat(cancelled).isTrue();
+        assertThat(timeout.isCancelled()).isTrue();
+        assertThat(executed.get()).isZero();
+        assertThat(timingWheel.pendingCount()).isZero();
+    }
+
+    @Test
+    void 실행된_작업은_취소할_수_없다() {
+        // given
+        final Timeout timeout = timingWheel.schedule(() -> {
+        }, Duration.ofSeconds(1));
+        tick(1);
+
+        // when
+        final boolean cancelled = timeout.cancel();
+
+        // then
+        assertThat(cancelled).isFalse();
+        assertThat(timeout.isExpired()).isTrue();
+    }
+
+    @Test
+    void 작업에서_예외가_발생해도_같은_버킷의_다른_작업은_실행된다() {
+        // given
+        final AtomicInteger executed = new AtomicInteger();
+        timingWheel.schedule(() -> {
+            throw new IllegalStateException("실패");
+        }, Duration.ofSeconds(1));
+        timingWheel.schedule(executed::incrementAndGet, Duration.ofSeconds(1));
+
+        // when
+        tick(1);
+
+        // then
+        assertThat(executed.get()).isEqualTo(1);
+    }
+
+    @Test
+    void tick마다_도는_버킷의_작업_수를_기록한다() {
+        // given
+        final List<Integer> occupancies = new ArrayList<>();
+        timingWheel.setOccupancyRecorder(occupancies::add);
+        timingWheel.schedule(() -> {
+        }, Duration.ofSeconds(2));
+        timingWheel.schedule(() -> {
+        }, Duration.ofSeconds(2));
+
+        // when
+        tick(2);
+
+        // then
+        assertThat(occupancies).containsExactly(0, 2);
+    }
+
+    @Test
+    void 바퀴_크기는_2의_거듭제곱이어야_한다() {
+        // when & then
+        assertThatThrownBy(() -> new HashedTimingWheel("test", Duration.ofSeconds(1), 6))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void tick(int count) {
+        for (int i = 0; i < count; i++) {
+            timingWheel.tick();
+        }
+    }
+}
@@ -5,6 +5,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.never;
 
+import coffeeshout.global.timer.HashedTimingWheel;
 import coffeeshout.room.application.RoomService;
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
@@ -29,6 +30,7 @@ class DelayedPlayerRemovalServiceIntegrationTest {
     private RoomService roomService;
 
     private ThreadPoolTaskScheduler taskScheduler;
+    private HashedTimingWheel timingWheel;
     private DelayedPlayerRemovalService delayedPlayerRemovalService;
     private StompSessionManager stompSessionManager;
 
@@ -43,8 +45,10 @@ class DelayedPlayerRemovalServiceIntegrationTest {
         taskScheduler.setThreadNamePrefix("test-scheduler-");
         taskScheduler.initialize();
         stompSessionManager = new StompSessionManager();
+        timingWheel = new HashedTimingWheel("test", Duration.ofMillis(500), 64);
+        timingWheel.start(taskScheduler);
 
-        delayedPlayerRemovalService = new DelayedPlayerRemovalService(taskScheduler, playerDisconnectionService,
+        delayedPlayerRemovalService = new DelayedPlayerRemovalService(timingWheel, playerDisconnectionService,
                 stompSessionManager, roomService);
     }
 
@@ -163,11 +167,11 @@ class DelayedPlayerRemovalServiceIntegrationTest {
     private static class TestDelayedPlayerRemovalService extends DelayedPlayerRemovalService {
         private static final Duration TEST_REMOVAL_DELAY = Duration.ofMillis(500); // 500ms로 단축
 
-        public TestDelayedPlayerRemovalService(ThreadPoolTaskScheduler taskScheduler,
+        public TestDelayedPlayerRemovalService(HashedTimingWheel timingWheel,
                                                PlayerDisconnectionService playerDisconnectionService,
                                                StompSessionManager stompSessionManager,
                                                RoomService roomService) {
-            super(taskScheduler, playerDisconnectionService, stompSessionManager, roomService);
+            super(timingWheel, playerDisconnectionService, stompSessionManager, roomService);
         }
 
         // 테스트에서는 더 짧은 지연시간 사용하고 싶다면 이런 식으로 오버라이드 가능
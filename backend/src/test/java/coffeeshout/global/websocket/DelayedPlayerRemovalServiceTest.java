@@ -1,28 +1,26 @@
 package coffeeshout.global.websocket;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.times;
 
+import coffeeshout.global.timer.HashedTimingWheel;
 import coffeeshout.room.application.RoomService;
-import java.time.Instant;
-import java.util.concurrent.ScheduledFuture;
+import java.time.Duration;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.scheduling.TaskScheduler;
 
 @ExtendWith(MockitoExtension.class)
 class DelayedPlayerRemovalServiceTest {
 
-    @Mock
-    private TaskScheduler taskScheduler;
+    private HashedTimingWheel timingWheel;
 
     @Mock
     private PlayerDisconnectionService playerDisconnectionService;
@@ -33,10 +31,6 @@ class DelayedPlayerRemovalServiceTest {
     @Mock
     private StompSessionManager sessionManager;
 
-    @Mock
-    @SuppressWarnings("rawtypes")
-    private ScheduledFuture scheduledFuture;
-
     private DelayedPlayerRemovalService delayedPlayerRemovalService;
 
     private final String playerKey = "ABC23:김철수";
@@ -45,7 +39,9 @@ class DelayedPlayerRemovalServiceTest {
 
     @BeforeEach
     void setUp() {
-        delayedPlayerRemovalService = new DelayedPlayerRemovalService(taskScheduler, playerDisconnectionService,
+        // 15초 지연이 한 tick에 만료되도록 tick 간격을 지연 시간과 맞춘다.
+        timingWheel = new HashedTimingWheel("test", Duration.ofSeconds(15), 8);
+        delayedPlayerRemovalService = new DelayedPlayerRemovalService(timingWheel, playerDisconnectionService,
                 sessionManager, roomService);
     }
 
@@ -53,22 +49,18 @@ class DelayedPlayerRemovalServiceTest {
     class 플레이어_지연_삭제_스케줄링 {
 
         @Test
-        @SuppressWarnings("unchecked")
         void 정상적으로_지연_삭제를_스케줄링한다() {
             // given
             given(roomService.isReadyState("ABC23")).willReturn(true);
-            given(taskScheduler.schedule(any(Runnable.class), any(Instant.class)))
-                    .willReturn(scheduledFuture);
 
             // when
             delayedPlayerRemovalService.schedulePlayerRemoval(playerKey, sessionId, reason);
 
             // then
-            then(taskScheduler).should().schedule(any(Runnable.class), any(Instant.class));
+            assertThat(timingWheel.pendingCount()).isEqualTo(1);
         }
 
         @Test
-        @SuppressWarnings("unchecked")
         void 게임중이면_지연_삭제를_스케줄링_안한다() {
             // given
             given(roomService.isReadyState("ABC23")).willReturn(false);
@@ -77,26 +69,23 @@ class DelayedPlayerRemovalServiceTest {
             delayedPlayerRemovalService.schedulePlayerRemoval(playerKey, sessionId, reason);
 
             // then
-            then(taskScheduler).should(never()).schedule(any(Runnable.class), any(Instant.class));
+            assertThat(timingWheel.pendingCount()).isZero();
             then(playerDisconnectionService).should(never()).cancelReady(any());
         }
 
         @Test
-        @SuppressWarnings("unchecked")
         void 서로_다른_플레이어는_독립적으로_스케줄링된다() {
             // given
             String anotherPlayerKey = "DEF456:박영희";
             given(roomService.isReadyState("ABC23")).willReturn(true);
             given(roomService.isReadyState("DEF456")).willReturn(true);
-            given(taskScheduler.schedule(any(Runnable.class), any(Instant.class)))
-                    .willReturn(scheduledFuture);
 
             // when
             delayedPlayerRemovalService.schedulePlayerRemoval(playerKey, sessionId, reason);
             delayedPlayerRemovalService.schedulePlayerRemoval(anotherPlayerKey, "session-456", reason);
 
             // then
-            then(taskScheduler).should(times(2)).schedule(any(Runnable.class), any(Instant.class));
+            assertThat(timingWheel.pendingCount()).isEqualTo(2);
         }
     }
 
@@ -104,39 +93,32 @@ class DelayedPlayerRemovalServiceTest {
     class 지연_삭제_취소 {
 
         @Test
-        @SuppressWarnings("unchecked")
         void 스케줄된_삭제를_정상적으로_취소한다() {
             // given
             given(roomService.isReadyState("ABC23")).willReturn(true);
-            given(taskScheduler.schedule(any(Runnable.class), any(Instant.class)))
-                    .willReturn(scheduledFuture);
-            given(scheduledFuture.isDone()).willReturn(false);
-
             delayedPlayerRemovalService.schedulePlayerRemoval(playerKey, sessionId, reason);
 
             // when
             delayedPlayerRemovalService.cancelScheduledRemoval(playerKey);
+            timingWheel.tick();
 
             // then
-            then(scheduledFuture).should().cancel(false);
+            assertThat(timingWheel.pendingCount()).isZero();
+            then(playerDisconnectionService).should(never()).handlePlayerDisconnection(any(), any(), any());
         }
 
         @Test
-        @SuppressWarnings("unchecked")
         void 이미_완료된_스케줄은_취소하지_않는다() {
             // given
             given(roomService.isReadyState("ABC23")).willReturn(true);
-            given(taskScheduler.schedule(any(Runnable.class), any(Instant.class)))
-                    .willReturn(scheduledFuture);
-            given(scheduledFuture.isDone()).willReturn(true);
-
             delayedPlayerRemovalService.schedulePlayerRemoval(playerKey, sessionId, reason);
+            timingWheel.tick();
 
             // when
             delayedPlayerRemovalService.cancelScheduledRemoval(playerKey);
 
             // then
-            then(scheduledFuture).should(never()).cancel(false);
+            then(playerDisconnectionService).should().handlePlayerDisconnection(playerKey, sessionId, reason);
         }
 
         @Test
@@ -145,7 +127,7 @@ class DelayedPlayerRemovalServiceTest {
             delayedPlayerRemovalService.cancelScheduledRemoval("없는플레이어");
 
             // then - 예외 발생하지 않고 정상 처리
-            then(scheduledFuture).should(never()).cancel(false);
+            assertThat(timingWheel.pendingCount()).isZero();
         }
     }
 
@@ -154,20 +136,13 @@ class DelayedPlayerRemovalServiceTest {
     class 실제_삭제_실행_시뮬레이션 {
 
         @Test
-        @SuppressWarnings("unchecked")
         void PlayerDisconnectionService가_정상_호출된다() {
             // given
             given(roomService.isReadyState("ABC23")).willReturn(true);
-            given(taskScheduler.schedule(any(Runnable.class), any(Instant.class)))
-                    .willAnswer(invocation -> {
-                        Runnable task = invocation.getArgument(0);
-                        // 스케줄링된 태스크를 바로 실행
-                        task.run();
-                        return scheduledFuture;
-                    });
 
             // when
             delayedPlayerRemovalService.schedulePlayerRemoval(playerKey, sessionId, reason);
+            timingWheel.tick();
 
             // then
             then(playerDisconnectionService).should()
@@ -175,7 +150,6 @@ class DelayedPlayerRemovalServiceTest {
         }
 
         @Test
-        @SuppressWarnings("unchecked")
         void PlayerDisconnectionService에서_예외_발생해도_안전하게_처리한다() {
             // given
             given(roomService.isReadyState("ABC23")).willReturn(true);
@@ -183,16 +157,9 @@ class DelayedPlayerRemovalServiceTest {
                     .given(playerDisconnectionService)
                     .handlePlayerDisconnection(any(), any(), any());
 
-            given(taskScheduler.schedule(any(Runnable.class), any(Instant.class)))
-                    .willAnswer(invocation -> {
-                        Runnable task = invocation.getArgument(0);
-                        // 스케줄링된 태스크를 바로 실행
-                        task.run();
-                        return scheduledFuture;
-                    });
-
             // when & then - 예외가 터져도 프로그램이 죽지 않음
             delayedPlayerRemovalService.schedulePlayerRemoval(playerKey, sessionId, reason);
+            timingWheel.tick();
 
             then(playerDisconnectionService).should()
                     .handlePlayerDisconnection(playerKey, sessionId, reason);
@@ -203,20 +170,17 @@ class DelayedPlayerRemovalServiceTest {
     class 동시성_시나리오 {
 
         @Test
-        @SuppressWarnings("unchecked")
         void 스케줄링_중_취소_요청이_와도_안전하게_처리한다() {
             // given
             given(roomService.isReadyState("ABC23")).willReturn(true);
-            given(taskScheduler.schedule(any(Runnable.class), any(Instant.class)))
-                    .willReturn(scheduledFuture);
-            given(scheduledFuture.isDone()).willReturn(false);
 
             // when
             delayedPlayerRemovalService.schedulePlayerRemoval(playerKey, sessionId, reason);
             delayedPlayerRemovalService.cancelScheduledRemoval(playerKey);
+            timingWheel.tick();
 
             // then
-            then(scheduledFuture).should().cancel(false);
+            then(playerDisconnectionService).should(never()).handlePlayerDisconnection(any(), any(), any());
         }
     }
 }
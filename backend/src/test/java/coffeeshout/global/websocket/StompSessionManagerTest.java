@@ -3,6 +3,7 @@ package coffeeshout.global.websocket;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -169,4 +170,60 @@ class StompSessionManagerTest {
         // then
         assertThat(count).isEqualTo(2);
     }
+
+    @Test
+    void 재연결하면_이전_세션_매핑을_대체한다() {
+        // given
+        sessionManager.registerPlayerSession("ABC23", "player1", "session1");
+
+        // when
+        sessionManager.registerPlayerSession("ABC23", "player1", "session2");
+
+        // then
+        assertThat(sessionManager.getSessionId("ABC23", "player1")).isEqualTo("session2");
+        assertThat(sessionManager.hasPlayerKey("session1")).isFalse();
+        assertThat(sessionManager.getConnectedPlayerCountByJoinCode("ABC23")).isEqualTo(1);
+        assertThat(sessionManager.getTotalConnectedClientCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 이전_세션의_해제가_늦게_와도_새_세션은_유지된다() {
+        // given
+        sessionManager.registerPlayerSession("ABC23", "player1", "session1");
+        sessionManager.registerPlayerSession("ABC23", "player1", "session2");
+
+        // when
+        sessionManager.removeSession("session1");
+
+        // then
+        assertThat(sessionManager.getSessionId("ABC23", "player1")).isEqualTo("session2");
+        assertThat(sessionManager.getPlayerKey("session2")).isEqualTo("ABC23:player1");
+    }
+
+    @Test
+    void 마지막_세션이_해제되면_방_인원이_0이_된다() {
+        // given
+        sessionManager.registerPlayerSession("ABC23", "player1", "session1");
+
+        // when
+        sessionManager.removeSession("session1");
+
+        // then
+        assertThat(sessionManager.getConnectedPlayerCountByJoinCode("ABC23")).isZero();
+        assertThat(sessionManager.hasSessionId("ABC23", "player1")).isFalse();
+    }
+
+    @Test
+    void 특정_방의_플레이어_세션_스냅샷_조회() {
+        // given
+        sessionManager.registerPlayerSession("ABC23", "player1", "session1");
+        sessionManager.registerPlayerSessionInternal("ABC23:player2", "session2");
+        sessionManager.registerPlayerSession("XYZ789", "player3", "session3");
+
+        // when
+        final Map<String, String> playerSessions = sessionManager.getPlayerSessions("ABC23");
+
+        // then
+        assertThat(playerSessions).isEqualTo(Map.of("player1", "session1", "player2", "session2"));
+    }
 }
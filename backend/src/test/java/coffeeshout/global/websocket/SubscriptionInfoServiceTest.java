@@ -0,0 +1,143 @@
+package coffeeshout.global.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SubscriptionInfoServiceTest {
+
+    SimpleMeterRegistry meterRegistry;
+    SubscriptionInfoService subscriptionInfoService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        subscriptionInfoService = new SubscriptionInfoService(meterRegistry);
+    }
+
+    @Test
+    void subscriptionId로_구독을_제거한다() {
+        // given
+        subscriptionInfoService.addSubscription("session-1", "/topic/room/ABCD/gameState", "sub-0");
+        subscriptionInfoService.addSubscription("session-2", "/topic/room/ABCD/gameState", "sub-0");
+
+        // when
+        subscriptionInfoService.removeSubscription("session-1", "sub-0");
+
+        // then
+        assertThat(subscriptionInfoService.getSubscriberCount("/topic/room/ABCD/gameState")).isEqualTo(1);
+    }
+
+    @Test
+    void 연결이_끊긴_세션의_구독만_제거한다() {
+        // given
+        subscriptionInfoService.addSubscription("session-1", "/topic/room/ABCD/gameState", "sub-0");
+        subscriptionInfoService.addSubscription("session-1", "/topic/room/ABCD/racing-game", "sub-1");
+        subscriptionInfoService.addSubscription("session-2", "/topic/room/ABCD/gameState", "sub-0");
+
+        // when
+        subscriptionInfoService.removeAllSubscriptions("session-1");
+
+        // then
+        assertThat(subscriptionInfoService.getSubscriberCount("/topic/room/ABCD/gameState")).isEqualTo(1);
+        assertThat(subscriptionInfoService.getSubscriberCount("/topic/room/ABCD/racing-game")).isZero();
+    }
+
+    @Test
+    void 같은_subscriptionId로_다시_구독하면_이전_구독을_대체한다() {
+        // given
+        subscriptionInfoService.addSubscription("session-1", "/topic/room/ABCD/gameState", "sub-0");
+
+        // when
+        subscriptionInfoService.addSubscription("session-1", "/topic/room/WXYZ/gameState", "sub-0");
+
+        // then
+        assertThat(subscriptionInfoService.getSubscriberCount("/topic/room/ABCD/gameState")).isZero();
+        assertThat(subscriptionInfoService.getSubscriberCount("/topic/room/WXYZ/gameState")).isEqualTo(1);
+    }
+
+    @Test
+    void 방_목적지는_joinCode를_뺀_topic으로_집계한다() {
+        // given
+        subscriptionInfoService.addSubscription("session-1", "/topic/room/ABCD/gameState", "sub-0");
+        subscriptionInfoService.addSubscription("session-2", "/topic/room/WXYZ/gameState", "sub-0");
+
+        // when
+        final double count = meterRegistry.get("websocket.subscriptions")
+                .tag("topic", "gameState")
+                .gauge()
+                .value();
+
+        // then
+        assertThat(count).isEqualTo(2);
+    }
+
+    @Test
+    void 접미사가_없는_방_목적지는_room으로_집계하고_방_구독으로_센다() {
+        // given
+        subscriptionInfoService.addSubscription("session-1", "/topic/room/ABCD", "sub-0");
+        subscriptionInfoService.removeAllSubscriptions("session-1");
+
+        // when
+        final double count = meterRegistry.get("websocket.subscriptions")
+                .tag("topic", "room")
+                .gauge()
+                .value();
+        final double emptyRooms = meterRegistry.get("websocket.subscriptions.rooms.empty").gauge().value();
+
+        // then
+        assertThat(count).isZero();
+        assertThat(emptyRooms).isEqualTo(1);
+    }
+
+    @Test
+    void 구독자가_모두_빠진_방은_삭제될_때까지_빈_방으로_센다() {
+        // given
+        subscriptionInfoService.addSubscription("session-1", "/topic/room/ABCD/gameState", "sub-0");
+        subscriptionInfoService.addSubscription("session-2", "/topic/room/WXYZ/gameState", "sub-0");
+        subscriptionInfoService.removeAllSubscriptions("session-1");
+
+        // when
+        final double emptyRooms = meterRegistry.get("websocket.subscriptions.rooms.empty").gauge().value();
+        subscriptionInfoService.releaseRoom("ABCD");
+        final double releasedEmptyRooms = meterRegistry.get("websocket.subscriptions.rooms.empty").gauge().value();
+
+        // then
+        assertThat(emptyRooms).isEqualTo(1);
+        assertThat(releasedEmptyRooms).isZero();
+    }
+
+    @Test
+    void 구독이_남은_채로_삭제된_방은_마지막_구독이_빠지면_빈_방으로_세지_않는다() {
+        // given
+        subscriptionInfoService.addSubscription("session-1", "/topic/room/ABCD/gameState", "sub-0");
+        subscriptionInfoService.addSubscription("session-2", "/topic/room/ABCD", "sub-0");
+        subscriptionInfoService.releaseRoom("ABCD");
+
+        // when
+        subscriptionInfoService.removeAllSubscriptions("session-1");
+        subscriptionInfoService.removeSubscription("session-2", "sub-0");
+
+        // then
+        final double emptyRooms = meterRegistry.get("websocket.subscriptions.rooms.empty").gauge().value();
+        assertThat(emptyRooms).isZero();
+    }
+
+    @Test
+    void 삭제된_코드로_다시_만들어진_방은_구독이_빠지면_빈_방으로_센다() {
+        // given
+        subscriptionInfoService.addSubscription("session-1", "/topic/room/ABCD/gameState", "sub-0");
+        subscriptionInfoService.releaseRoom("ABCD");
+        subscriptionInfoService.addSubscription("session-2", "/topic/room/ABCD/gameState", "sub-0");
+
+        // when
+        subscriptionInfoService.removeAllSubscriptions("session-1");
+        subscriptionInfoService.removeAllSubscriptions("session-2");
+
+        // then
+        final double emptyRooms = meterRegistry.get("websocket.subscriptions.rooms.empty").gauge().value();
+        assertThat(emptyRooms).isEqualTo(1);
+    }
+}
@@ -0,0 +1,137 @@
+package coffeeshout.global.websocket.broker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MultiValueMap;
+
+class RoomSubscriptionRegistryTest {
+
+    private final RoomSubscriptionRegistry registry = new RoomSubscriptionRegistry();
+
+    @Test
+    void 방_목적지_구독자를_찾는다() {
+        // given
+        registry.registerSubscription(subscribe("session-1", "sub-0", "/topic/room/ABCD/racing-game"));
+        registry.registerSubscription(subscribe("session-2", "sub-0", "/topic/room/ABCD/racing-game"));
+        registry.registerSubscription(subscribe("session-2", "sub-1", "/topic/room/ABCD/racing-game/state"));
+        registry.registerSubscription(subscribe("session-3", "sub-0", "/topic/room/WXYZ/racing-game"));
+
+        // when
+        final MultiValueMap<String, String> subscriptions = registry.findSubscriptions(
+                message("/topic/room/ABCD/racing-game"));
+
+        // then
+        assertThat(subscriptions).hasSize(2);
+        assertThat(subscriptions.get("session-1")).containsExactly("sub-0");
+        assertThat(subscriptions.get("session-2")).containsExactly("sub-0");
+    }
+
+    @Test
+    void 구독을_해지하면_더_이상_찾지_않고_빈_방은_지운다() {
+        // given
+        registry.registerSubscription(subscribe("session-1", "sub-0", "/topic/room/ABCD/racing-game"));
+
+        // when
+        registry.unregisterSubscription(unsubscribe("session-1", "sub-0"));
+
+        // then
+        assertThat(registry.findSubscriptions(message("/topic/room/ABCD/racing-game"))).isEmpty();
+        assertThat(registry.roomCount()).isZero();
+    }
+
+    @Test
+    void 연결이_끊기면_세션의_모든_구독을_지운다() {
+        // given
+        registry.registerSubscription(subscribe("session-1", "sub-0", "/topic/room/ABCD/racing-game"));
+        registry.registerSubscription(subscribe("session-1", "sub-1", "/topic/room/ABCD/gameState"));
+        registry.registerSubscription(subscribe("session-1", "sub-2", "/queue/errors"));
+        registry.registerSubscription(subscribe("session-2", "sub-0", "/topic/room/ABCD/gameState"));
+
+        // when
+        registry.unregisterAllSubscriptions("session-1");
+
+        // then
+        assertThat(registry.findSubscriptions(message("/topic/room/ABCD/racing-game"))).isEmpty();
+        assertThat(registry.findSubscriptions(message("/queue/errors"))).isEmpty();
+        assertThat(registry.findSubscriptions(message("/topic/room/ABCD/gameState"))).containsOnlyKeys("session-2");
+    }
+
+    @Test
+    void 방_목적지가_아닌_구독은_기존_방식으로_찾는다() {
+        // given
+        registry.registerSubscription(subscribe("session-1", "sub-0", "/topic/notice"));
+
+        // when & then
+        assertThat(registry.findSubscriptions(message("/topic/notice"))).containsOnlyKeys("session-1");
+        assertThat(registry.roomCount()).isZero();
+    }
+
+    @Test
+    void 방_목적지_와일드카드_구독도_함께_찾는다() {
+        // given
+        registry.registerSubscription(subscribe("session-1", "sub-0", "/topic/room/ABCD/racing-game"));
+        registry.registerSubscription(subscribe("session-2", "sub-0", "/topic/room/ABCD/**"));
+
+        // when
+        final MultiValueMap<String, String> subscriptions = registry.findSubscriptions(
+                message("/topic/room/ABCD/racing-game"));
+
+        // then
+        assertThat(subscriptions).containsOnlyKeys("session-1", "session-2");
+    }
+
+    @Test
+    void 접미사가_없는_방_목적지도_방_단위로_저장한다() {
+        // given
+        registry.registerSubscription(subscribe("session-1", "sub-0", "/topic/room/ABCD"));
+        registry.registerSubscription(subscribe("session-2", "sub-0", "/topic/room/ABCD/racing-game"));
+
+        // when
+        final MultiValueMap<String, String> subscriptions = registry.findSubscriptions(message("/topic/room/ABCD"));
+
+        // then
+        assertThat(subscriptions).containsOnlyKeys("session-1");
+        assertThat(registry.roomCount()).isEqualTo(1);
+        assertThat(registry.roomPatternCount()).isZero();
+    }
+
+    @Test
+    void 와일드카드가_없는_방_아래_목적지는_패턴으로_세지_않는다() {
+        // given
+        registry.registerSubscription(subscribe("session-1", "sub-0", "/topic/room/ABCD/"));
+        registry.registerSubscription(subscribe("session-2", "sub-0", "/topic/room/ABCD/*"));
+
+        // when
+        registry.unregisterAllSubscriptions("session-2");
+
+        // then
+        assertThat(registry.roomPatternCount()).isZero();
+        assertThat(registry.findSubscriptions(message("/topic/room/ABCD/"))).containsOnlyKeys("session-1");
+    }
+
+    private Message<byte[]> subscribe(String sessionId, String subscriptionId, String destination) {
+        final SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private Message<byte[]> unsubscribe(String sessionId, String subscriptionId) {
+        final SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.UNSUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private Message<byte[]> message(String destination) {
+        final SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
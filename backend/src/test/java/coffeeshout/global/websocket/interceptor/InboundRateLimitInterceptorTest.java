@@ -0,0 +1,134 @@
+package coffeeshout.global.websocket.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import coffeeshout.global.config.properties.WebSocketRateLimitProperties;
+import coffeeshout.global.config.properties.WebSocketRateLimitProperties.Bucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+class InboundRateLimitInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void 세션_한도를_넘은_프레임은_버리고_목적지별로_센다() {
+        // given
+        final InboundRateLimitInterceptor interceptor = interceptor(new Bucket(2, 1), new Bucket(100, 1));
+
+        // when
+        interceptor.preSend(send("session-1", "/app/room/ABCD/racing-game/tap"), null);
+        interceptor.preSend(send("session-1", "/app/room/ABCD/racing-game/tap"), null);
+        final Message<?> rejected = interceptor.preSend(send("session-1", "/app/room/ABCD/racing-game/tap"), null);
+        final Message<?> otherSession = interceptor.preSend(send("session-2", "/app/room/ABCD/racing-game/tap"), null);
+
+        // then
+        assertThat(rejected).isNull();
+        assertThat(otherSession).isNotNull();
+        assertThat(meterRegistry.get("websocket.inbound.rejected")
+                .tag("limit", "session")
+                .tag("destination", "/app/room/{joinCode}/racing-game/tap")
+                .counter()
+                .count()).isEqualTo(1);
+    }
+
+    @Test
+    void 방_한도를_넘으면_다른_방의_프레임은_그대로_통과한다() {
+        // given
+        final InboundRateLimitInterceptor interceptor = interceptor(new Bucket(100, 1), new Bucket(1, 1));
+        interceptor.preSend(send("session-1", "/app/room/ABCD/update-ready"), null);
+
+        // when
+        final Message<?> sameRoom = interceptor.preSend(send("session-2", "/app/room/ABCD/update-ready"), null);
+        final Message<?> otherRoom = interceptor.preSend(send("session-3", "/app/room/WXYZ/update-ready"), null);
+
+        // then
+        assertThat(sameRoom).isNull();
+        assertThat(otherRoom).isNotNull();
+    }
+
+    @Test
+    void 방_한도로_거절된_프레임은_세션_토큰을_쓰지_않는다() {
+        // given
+        final InboundRateLimitInterceptor interceptor = interceptor(new Bucket(1, 1), new Bucket(1, 1));
+        interceptor.preSend(send("session-1", "/app/room/ABCD/update-ready"), null);
+
+        // when
+        final Message<?> roomRejected = interceptor.preSend(send("session-2", "/app/room/ABCD/update-ready"), null);
+        final Message<?> otherRoom = interceptor.preSend(send("session-2", "/app/room/WXYZ/update-ready"), null);
+
+        // then
+        assertThat(roomRejected).isNull();
+        assertThat(otherRoom).isNotNull();
+    }
+
+    @Test
+    void joinCode_형식이_아닌_목적지에는_방_버킷을_만들지_않는다() {
+        // given
+        final InboundRateLimitInterceptor interceptor = interceptor(new Bucket(100, 1), new Bucket(1, 1));
+
+        // when
+        interceptor.preSend(send("session-1", "/app/room/not-a-code/update-ready"), null);
+        interceptor.preSend(send("session-1", "/app/room/abcd/update-ready"), null);
+        final Message<?> message = interceptor.preSend(send("session-1", "/app/room/EEEE/update-ready"), null);
+
+        // then
+        assertThat(message).isNotNull();
+        assertThat(interceptor.roomBucketCount()).isZero();
+    }
+
+    @Test
+    void 연결이_끊기면_세션_버킷을_지운다() {
+        // given
+        final InboundRateLimitInterceptor interceptor = interceptor(new Bucket(10, 1), new Bucket(10, 1));
+        interceptor.preSend(send("session-1", "/app/room/ABCD/update-ready"), null);
+
+        // when
+        interceptor.preSend(frame(StompCommand.DISCONNECT, "session-1", null), null);
+
+        // then
+        assertThat(interceptor.sessionBucketCount()).isZero();
+        assertThat(interceptor.roomBucketCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 비활성화하면_제한하지_않는다() {
+        // given
+        final InboundRateLimitInterceptor interceptor = new InboundRateLimitInterceptor(
+                new WebSocketRateLimitProperties(false, new Bucket(1, 1), new Bucket(1, 1), Duration.ofMinutes(1)),
+                meterRegistry
+        );
+        interceptor.preSend(send("session-1", "/app/room/ABCD/update-ready"), null);
+
+        // when
+        final Message<?> message = interceptor.preSend(send("session-1", "/app/room/ABCD/update-ready"), null);
+
+        // then
+        assertThat(message).isNotNull();
+    }
+
+    private InboundRateLimitInterceptor interceptor(Bucket session, Bucket room) {
+        return new InboundRateLimitInterceptor(
+                new WebSocketRateLimitProperties(true, session, room, Duration.ofMinutes(1)),
+                meterRegistry
+        );
+    }
+
+    private Message<byte[]> send(String sessionId, String destination) {
+        return frame(StompCommand.SEND, sessionId, destination);
+    }
+
+    private Message<byte[]> frame(StompCommand command, String sessionId, String destination) {
+        final StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(sessionId);
+        if (destination != null) {
+            accessor.setDestination(destination);
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,75 @@
+package coffeeshout.global.websocket.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import coffeeshout.global.websocket.lifecycle.WebSocketGracefulShutdownHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+@ExtendWith(MockitoExtension.class)
+class ShutdownAwareInboundInterceptorTest {
+
+    @Mock
+    ObjectProvider<WebSocketGracefulShutdownHandler> shutdownHandlerProvider;
+
+    @Mock
+    WebSocketGracefulShutdownHandler shutdownHandler;
+
+    ShutdownAwareInboundInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new ShutdownAwareInboundInterceptor(shutdownHandlerProvider);
+    }
+
+    @Test
+    void 종료_중_입력을_막으면_SEND_프레임을_버린다() {
+        // given
+        given(shutdownHandlerProvider.getObject()).willReturn(shutdownHandler);
+        given(shutdownHandler.isRejectingInbound()).willReturn(true);
+
+        // when
+        final Message<?> result = interceptor.preSend(frame(StompCommand.SEND, "/app/room/ABCD/update-ready"), null);
+
+        // then
+        assertThat(result).isNull();
+    }
+
+    @Test
+    void 입력을_막지_않으면_SEND_프레임을_통과시킨다() {
+        // given
+        given(shutdownHandlerProvider.getObject()).willReturn(shutdownHandler);
+        given(shutdownHandler.isRejectingInbound()).willReturn(false);
+
+        // when
+        final Message<?> result = interceptor.preSend(frame(StompCommand.SEND, "/app/room/ABCD/update-ready"), null);
+
+        // then
+        assertThat(result).isNotNull();
+    }
+
+    @Test
+    void SEND가_아닌_프레임은_종료_중에도_통과시킨다() {
+        // when
+        final Message<?> result = interceptor.preSend(frame(StompCommand.SUBSCRIBE, "/topic/room/ABCD"), null);
+
+        // then
+        assertThat(result).isNotNull();
+    }
+
+    private Message<byte[]> frame(StompCommand command, String destination) {
+        final StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId("session-1");
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,61 @@
+package coffeeshout.global.websocket.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+    private static final long ONE_SECOND = 1_000_000_000L;
+
+    @Test
+    void 용량만큼_연속으로_소비할_수_있다() {
+        // given
+        final TokenBucket bucket = new TokenBucket(3, 1, 0);
+
+        // when & then
+        assertThat(bucket.tryConsume(0)).isTrue();
+        assertThat(bucket.tryConsume(0)).isTrue();
+        assertThat(bucket.tryConsume(0)).isTrue();
+        assertThat(bucket.tryConsume(0)).isFalse();
+    }
+
+    @Test
+    void 지난_시간만큼_토큰이_다시_채워진다() {
+        // given
+        final TokenBucket bucket = new TokenBucket(2, 2, 0);
+        bucket.tryConsume(0);
+        bucket.tryConsume(0);
+
+        // when & then
+        assertThat(bucket.tryConsume(ONE_SECOND / 2)).isTrue();
+        assertThat(bucket.tryConsume(ONE_SECOND / 2)).isFalse();
+    }
+
+    @Test
+    void 토큰을_확인만_하면_소비하지_않고_되돌린_토큰은_다시_쓸_수_있다() {
+        // given
+        final TokenBucket bucket = new TokenBucket(1, 1, 0);
+
+        // when & then
+        assertThat(bucket.hasToken(0)).isTrue();
+        assertThat(bucket.tryConsume(0)).isTrue();
+        assertThat(bucket.hasToken(0)).isFalse();
+        bucket.refund();
+        assertThat(bucket.tryConsume(0)).isTrue();
+    }
+
+    @Test
+    void 오래_쉬어도_용량보다_많이_채워지지_않는다() {
+        // given
+        final TokenBucket bucket = new TokenBucket(2, 10, 0);
+
+        // when
+        final long now = 60 * ONE_SECOND;
+
+        // then
+        assertThat(bucket.tryConsume(now)).isTrue();
+        assertThat(bucket.tryConsume(now)).isTrue();
+        assertThat(bucket.tryConsume(now)).isFalse();
+    }
+}
@@ -60,7 +60,7 @@ class CardSelectStreamProducerTest {
         roomRepository.save(room);
         joinCode = room.getJoinCode();
 
-        cardGameStreamKey = redisStreamProperties.cardGameSelectKey();
+        cardGameStreamKey = redisStreamProperties.cardGameSelectKey(joinCode.getValue());
 
     }
 
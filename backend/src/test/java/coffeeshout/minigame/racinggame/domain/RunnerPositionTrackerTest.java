@@ -0,0 +1,100 @@
+package coffeeshout.minigame.racinggame.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import coffeeshout.racinggame.domain.RunnerPosition;
+import coffeeshout.racinggame.domain.RunnerPositionFrame;
+import coffeeshout.racinggame.domain.RunnerPositionTracker;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class RunnerPositionTrackerTest {
+
+    private final List<RunnerPosition> start = List.of(
+            new RunnerPosition("한스", 0, 3),
+            new RunnerPosition("꾹이", 0, 3)
+    );
+
+    @Test
+    void 첫_프레임은_모든_주자를_담은_키프레임이다() {
+        // given
+        final RunnerPositionTracker tracker = new RunnerPositionTracker(10);
+
+        // when
+        final RunnerPositionFrame frame = tracker.next(start).orElseThrow();
+
+        // then
+        assertThat(frame.keyframe()).isTrue();
+        assertThat(frame.sequence()).isEqualTo(1);
+        assertThat(frame.positions()).isEqualTo(start);
+    }
+
+    @Test
+    void 키프레임_사이에는_바뀐_주자만_보낸다() {
+        // given
+        final RunnerPositionTracker tracker = new RunnerPositionTracker(10);
+        tracker.next(start);
+
+        // when
+        final RunnerPositionFrame frame = tracker.next(List.of(
+                new RunnerPosition("한스", 3, 3),
+                new RunnerPosition("꾹이", 0, 3)
+        )).orElseThrow();
+
+        // then
+        assertThat(frame.keyframe()).isFalse();
+        assertThat(frame.sequence()).isEqualTo(2);
+        assertThat(frame.positions()).containsExactly(new RunnerPosition("한스", 3, 3));
+    }
+
+    @Test
+    void 바뀐_주자가_없으면_프레임을_만들지_않고_번호도_늘리지_않는다() {
+        // given
+        final RunnerPositionTracker tracker = new RunnerPositionTracker(10);
+        tracker.next(start);
+
+        // when
+        final boolean emitted = tracker.next(start).isPresent();
+        final RunnerPositionFrame next = tracker.next(List.of(
+                new RunnerPosition("한스", 3, 3),
+                new RunnerPosition("꾹이", 0, 3)
+        )).orElseThrow();
+
+        // then
+        assertThat(emitted).isFalse();
+        assertThat(next.sequence()).isEqualTo(2);
+    }
+
+    @Test
+    void 정해진_간격마다_키프레임을_보낸다() {
+        // given
+        final RunnerPositionTracker tracker = new RunnerPositionTracker(3);
+        tracker.next(start);
+        tracker.next(List.of(new RunnerPosition("한스", 3, 3), new RunnerPosition("꾹이", 0, 3)));
+        tracker.next(List.of(new RunnerPosition("한스", 6, 3), new RunnerPosition("꾹이", 0, 3)));
+
+        // when
+        final RunnerPositionFrame frame = tracker.next(
+                List.of(new RunnerPosition("한스", 9, 3), new RunnerPosition("꾹이", 0, 3))
+        ).orElseThrow();
+
+        // then
+        assertThat(frame.keyframe()).isTrue();
+        assertThat(frame.positions()).hasSize(2);
+    }
+
+    @Test
+    void 키프레임을_요청하면_다음_프레임은_키프레임이다() {
+        // given
+        final RunnerPositionTracker tracker = new RunnerPositionTracker(10);
+        tracker.next(start);
+
+        // when
+        tracker.requestKeyframe();
+        final RunnerPositionFrame frame = tracker.next(start).orElseThrow();
+
+        // then
+        assertThat(frame.keyframe()).isTrue();
+        assertThat(frame.positions()).isEqualTo(start);
+    }
+}
@@ -0,0 +1,87 @@
+package coffeeshout.racinggame.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import coffeeshout.racinggame.domain.event.RacingGameEventType;
+import coffeeshout.racinggame.domain.event.TapBatchCommandEvent;
+import coffeeshout.racinggame.infra.messaging.RacingGameStreamProducer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+
+@ExtendWith(MockitoExtension.class)
+class TapCoalescerTest {
+
+    @Mock
+    RacingGameStreamProducer racingGameStreamProducer;
+
+    @Mock
+    TaskScheduler taskScheduler;
+
+    TapCoalescer tapCoalescer;
+
+    @BeforeEach
+    void setUp() {
+        tapCoalescer = new TapCoalescer(racingGameStreamProducer, taskScheduler, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void 윈도우_동안의_탭을_방마다_하나의_배치로_합친다() {
+        // given
+        tapCoalescer.add("ABCD", "루키", 3);
+        tapCoalescer.add("ABCD", "꾹이", 2);
+        tapCoalescer.add("ABCD", "루키", 4);
+        tapCoalescer.add("WXYZ", "한스", 5);
+
+        // when
+        tapCoalescer.flush();
+
+        // then
+        final ArgumentCaptor<TapBatchCommandEvent> captor = ArgumentCaptor.forClass(TapBatchCommandEvent.class);
+        verify(racingGameStreamProducer, times(2)).publishEvent(anyString(), captor.capture());
+        final List<TapBatchCommandEvent> batches = captor.getAllValues().stream()
+                .sorted(Comparator.comparing(TapBatchCommandEvent::joinCode))
+                .toList();
+
+        assertThat(batches.get(0).joinCode()).isEqualTo("ABCD");
+        assertThat(batches.get(0).tapCounts()).isEqualTo(Map.of("루키", 7, "꾹이", 2));
+        assertThat(batches.get(0).eventType()).isEqualTo(RacingGameEventType.TAP_BATCH_COMMAND);
+        assertThat(batches.get(1).tapCounts()).isEqualTo(Map.of("한스", 5));
+    }
+
+    @Test
+    void 발행한_탭은_다음_윈도우에_다시_발행되지_않는다() {
+        // given
+        tapCoalescer.add("ABCD", "루키", 3);
+        tapCoalescer.flush();
+
+        // when
+        tapCoalescer.flush();
+
+        // then
+        verify(racingGameStreamProducer, times(1)).publishEvent(anyString(), any());
+        assertThat(tapCoalescer.pendingRoomCount()).isZero();
+    }
+
+    @Test
+    void 탭이_없으면_발행하지_않는다() {
+        // when
+        tapCoalescer.flush();
+
+        // then
+        verify(racingGameStreamProducer, never()).publishEvent(anyString(), any());
+    }
+}
@@ -4,12 +4,14 @@ import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.doReturn;
 
 import coffeeshout.fixture.MenuFixture;
 import coffeeshout.fixture.MiniGameDummy;
 import coffeeshout.fixture.PlayerFixture;
 import coffeeshout.fixture.TestDataHelper;
 import coffeeshout.global.ServiceTest;
+import coffeeshout.global.cluster.RoomOwnership;
 import coffeeshout.global.exception.custom.InvalidArgumentException;
 import coffeeshout.global.exception.custom.InvalidStateException;
 import coffeeshout.global.exception.custom.NotExistElementException;
@@ -32,6 +34,7 @@ import coffeeshout.room.ui.response.ProbabilityResponse;
 import coffeeshout.room.ui.response.QrCodeStatusResponse;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -49,6 +52,9 @@ class RoomServiceTest extends ServiceTest {
     @MockitoSpyBean
     DelayedRoomRemovalService delayedRoomRemovalService;
 
+    @MockitoSpyBean
+    RoomOwnership roomOwnership;
+
     @Autowired
     JoinCodeGenerator joinCodeGenerator;
 
@@ -108,6 +114,41 @@ class RoomServiceTest extends ServiceTest {
         assertThat(room.getRoomState()).isEqualTo(RoomState.READY);
     }
 
+    @Test
+    void 방의_소유자_노드는_스트림을_기다리지_않고_바로_입장시킨다() {
+        // given
+        Room createdRoom = roomService.createRoom("호스트", new SelectedMenuRequest(1L, null, MenuTemperature.ICE));
+        String joinCode = createdRoom.getJoinCode().getValue();
+        doReturn(true).when(roomOwnership).isEnabled();
+        doReturn(true).when(roomOwnership).isOwner(joinCode);
+
+        // when
+        CompletableFuture<Room> future = roomService.enterRoomAsync(
+                joinCode, "게스트", new SelectedMenuRequest(2L, null, MenuTemperature.ICE));
+
+        // then
+        assertThat(future).isCompleted();
+        assertThat(future.join().getPlayers())
+                .extracting(player -> player.getName().value())
+                .containsExactlyInAnyOrder("호스트", "게스트");
+    }
+
+    @Test
+    void 방의_소유자_노드에서_입장이_실패하면_바로_실패한_결과를_돌려준다() {
+        // given
+        Room createdRoom = roomService.createRoom("호스트", new SelectedMenuRequest(1L, null, MenuTemperature.ICE));
+        String joinCode = createdRoom.getJoinCode().getValue();
+        doReturn(true).when(roomOwnership).isEnabled();
+        doReturn(true).when(roomOwnership).isOwner(joinCode);
+
+        // when
+        CompletableFuture<Room> future = roomService.enterRoomAsync(
+                joinCode, "호스트", new SelectedMenuRequest(2L, null, MenuTemperature.ICE));
+
+        // then
+        assertThat(future).isCompletedExceptionally();
+    }
+
     @Test
     void 존재하지_않는_조인코드로_입장하면_예외가_발생한다() {
         // given
@@ -527,7 +568,7 @@ class RoomServiceTest extends ServiceTest {
                 .pollInterval(500, java.util.concurrent.TimeUnit.MILLISECONDS)
                 .untilAsserted(() -> {
                     Room room = roomQueryService.getByJoinCode(joinCode);
-                    QrCodeStatus status = room.getJoinCode().getQrCode().getStatus();
+                    QrCodeStatus status = room.getQrCode().getStatus();
 
                     // SUCCESS 또는 ERROR 상태로 변경되었는지 확인
                     assertThat(status).isIn(QrCodeStatus.SUCCESS, QrCodeStatus.ERROR);
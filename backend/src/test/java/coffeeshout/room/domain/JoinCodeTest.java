@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import coffeeshout.global.exception.custom.InvalidArgumentException;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
@@ -27,4 +28,74 @@ class JoinCodeTest {
         assertThatThrownBy(() -> new JoinCode(address))
                 .isInstanceOf(InvalidArgumentException.class);
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"ABCDE", "A1LB2", "#ABCD", "EXSD", "abcd"})
+    void 규칙에_맞지_않는_코드는_예외_없이_형식_확인에서_걸러진다(String address) {
+        // when & then
+        assertThat(JoinCode.isValid(address)).isFalse();
+        assertThat(JoinCode.isValid("ABCD")).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 12345, JoinCode.SPACE_SIZE - 1})
+    void 코드_번호로_만든_코드는_같은_번호를_가진다(int index) {
+        // given
+        JoinCode joinCode = JoinCode.fromIndex(index);
+
+        // when & then
+        assertThat(joinCode.toIndex()).isEqualTo(index);
+    }
+
+    @Test
+    void 코드_공간은_서로_다른_문자_4개의_순열_개수다() {
+        // given
+        // when & then
+        assertThat(JoinCode.SPACE_SIZE).isEqualTo(29 * 28 * 27 * 26);
+        assertThat(JoinCode.fromIndex(0).getValue()).isEqualTo("ABCD");
+    }
+
+    @Test
+    void 중복된_문자가_있는_코드는_번호를_매길_수_없다() {
+        // given
+        JoinCode joinCode = new JoinCode("AABB");
+
+        // when & then
+        assertThatThrownBy(joinCode::toIndex)
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 방이_있는_코드는_같은_인스턴스를_돌려준다() {
+        // given
+        JoinCode joinCode = JoinCode.intern(new JoinCode("QRST"));
+
+        // when
+        JoinCode found = JoinCode.of("QRST");
+
+        // then
+        assertThat(found).isSameAs(joinCode);
+        JoinCode.evict(joinCode);
+    }
+
+    @Test
+    void 등록이_해제된_코드는_새로_만들어진다() {
+        // given
+        JoinCode joinCode = JoinCode.intern(new JoinCode("VWXY"));
+        JoinCode.evict(joinCode);
+
+        // when
+        JoinCode found = JoinCode.of("VWXY");
+
+        // then
+        assertThat(found).isNotSameAs(joinCode).isEqualTo(joinCode);
+    }
+
+    @Test
+    void 등록되지_않은_코드도_검증한다() {
+        // given
+        // when & then
+        assertThatThrownBy(() -> JoinCode.of("AB"))
+                .isInstanceOf(InvalidArgumentException.class);
+    }
 }
@@ -18,6 +18,7 @@ import coffeeshout.room.domain.player.Winner;
 import coffeeshout.room.domain.roulette.Roulette;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -356,4 +357,18 @@ class RoomTest {
         assertThat(room.getPlayers()).hasSize(1);
         assertThat(room.getHost().getName()).isEqualTo(호스트_한스);
     }
+
+    @Test
+    void 다른_노드의_미니게임_결과로_확률과_상태를_동기화한다() {
+        // given
+        room.joinGuest(게스트_루키, new SelectedMenu(MenuFixture.아메리카노(), MenuTemperature.ICE));
+
+        // when
+        room.syncMiniGameResult(Map.of("한스", 3000, "루키", 7000));
+
+        // then
+        assertThat(room.getRoomState()).isEqualTo(RoomState.SCORE_BOARD);
+        assertThat(room.findPlayer(호스트_한스).getProbability().value()).isEqualTo(3000);
+        assertThat(room.findPlayer(게스트_루키).getProbability().value()).isEqualTo(7000);
+    }
 }
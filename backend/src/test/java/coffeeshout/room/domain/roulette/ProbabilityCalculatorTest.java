@@ -6,6 +6,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
 class ProbabilityCalculatorTest {
@@ -86,4 +87,62 @@ class ProbabilityCalculatorTest {
         // then
         assertThat(totalChange).isZero(); // 전체 확률 변화의 합은 0이어야 함
     }
+
+    @Test
+    void 방에서_나올_수_있는_조합은_미리_계산된_인스턴스를_공유한다() {
+        // given & when
+        ProbabilityCalculator first = ProbabilityCalculator.of(5, 3);
+        ProbabilityCalculator second = ProbabilityCalculator.of(5, 3);
+
+        // then
+        assertThat(first).isSameAs(second);
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "2 | 1 | -3500,3500",
+            "4 | 3 | -582,-291,291,582",
+            "5 | 2 | -700,-350,0,350,700",
+            "9 | 6 | -128,-96,-64,-32,0,32,64,96,128"
+    })
+    void 등수별_변화량은_기존_계산_결과와_같다(int playerCount, int roundCount, String expectedChanges) {
+        // given
+        final ProbabilityCalculator calculator = ProbabilityCalculator.of(playerCount, roundCount);
+        final String[] expected = expectedChanges.split(",");
+
+        // when & then
+        SoftAssertions.assertSoftly(softly -> {
+            for (int rank = 1; rank <= playerCount; rank++) {
+                softly.assertThat(calculator.calculateProbabilityChange(rank, 1))
+                        .isEqualTo(Integer.parseInt(expected[rank - 1]));
+            }
+        });
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "4, 3, 1, 2, -436",
+            "5, 2, 1, 2, -525",
+            "5, 2, 2, 3, 0",
+            "9, 6, 1, 2, -112",
+            "9, 6, 2, 3, -64"
+    })
+    void 동점자의_변화량은_기존_계산_결과와_같다(int playerCount, int roundCount, int rank, int tieCount, int expected) {
+        // when
+        final int change = ProbabilityCalculator.of(playerCount, roundCount).calculateProbabilityChange(rank, tieCount);
+
+        // then
+        assertThat(change).isEqualTo(expected);
+    }
+
+    @Test
+    void 범위를_벗어난_조합은_새로_계산한다() {
+        // given & when
+        ProbabilityCalculator calculator = ProbabilityCalculator.of(4, 10);
+
+        // then
+        assertThat(calculator).isNotSameAs(ProbabilityCalculator.of(4, 10));
+        assertThat(calculator.calculateProbabilityChange(1, 1))
+                .isEqualTo(new ProbabilityCalculator(4, 10).calculateProbabilityChange(1, 1));
+    }
 }
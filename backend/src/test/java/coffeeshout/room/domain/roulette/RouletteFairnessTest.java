@@ -0,0 +1,93 @@
+package coffeeshout.room.domain.roulette;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import coffeeshout.fixture.PlayersFixture;
+import coffeeshout.room.domain.player.Player;
+import coffeeshout.room.domain.player.Players;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator.SplittableGenerator;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/*
+    - ProbabilityCalculator가 만든 확률 분포로 룰렛을 병렬 몬테카를로 시뮬레이션한다.
+    - 플레이어별 당첨 횟수를 카이제곱 검정(유의수준 0.001)으로 기대 확률과 비교한다.
+    - 시드를 고정하고 작업자마다 미리 분할한 생성기를 쓰므로 결과는 항상 같다.
+    - 경우마다 수백만 번 돌리므로 기본 test에서는 빼고 ./gradlew slowTest 로 실행한다.
+ */
+@Tag("slow")
+class RouletteFairnessTest {
+
+    private static final long SEED = 20250801L;
+    private static final int SPINS = 2_000_000;
+    private static final int WORKERS = 8;
+    private static final double[] CHI_SQUARE_CRITICAL_0_001 = {
+            0, 10.828, 13.816, 16.266, 18.467, 20.515, 22.458, 24.322, 26.124
+    };
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 3, 4, 5, 6, 7, 8, 9})
+    void 당첨_빈도가_확률_분포를_따른다(int playerCount) {
+        // given
+        final Players players = PlayersFixture.확률_조정된_플레이어들(playerCount, 3);
+        final RouletteRanges rouletteRanges = new RouletteRanges(players);
+        final List<Player> joinedPlayers = players.getPlayers();
+
+        // when
+        final long[] wins = simulate(rouletteRanges, joinedPlayers);
+
+        // then
+        assertThat(Arrays.stream(wins).sum()).isEqualTo(SPINS);
+        final double chiSquare = chiSquare(wins, joinedPlayers, rouletteRanges.endValue());
+        assertThat(chiSquare).isLessThan(CHI_SQUARE_CRITICAL_0_001[playerCount - 1]);
+    }
+
+    private long[] simulate(RouletteRanges rouletteRanges, List<Player> joinedPlayers) {
+        final Map<Player, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < joinedPlayers.size(); i++) {
+            indexes.put(joinedPlayers.get(i), i);
+        }
+
+        final SplittableGenerator root = RoulettePicker.seeded(SEED);
+        final List<SplittableGenerator> generators = new ArrayList<>();
+        for (int i = 0; i < WORKERS; i++) {
+            generators.add(root.split());
+        }
+
+        return IntStream.range(0, WORKERS)
+                .parallel()
+                .mapToObj(worker -> {
+                    final RoulettePicker picker = new RoulettePicker(generators.get(worker));
+                    final long[] localWins = new long[joinedPlayers.size()];
+                    for (int spin = 0; spin < SPINS / WORKERS; spin++) {
+                        final int number = picker.nextInt(1, rouletteRanges.endValue());
+                        localWins[indexes.get(rouletteRanges.pickPlayer(number))]++;
+                    }
+                    return localWins;
+                })
+                .reduce(new long[joinedPlayers.size()], (left, right) -> {
+                    final long[] merged = new long[left.length];
+                    for (int i = 0; i < left.length; i++) {
+                        merged[i] = left[i] + right[i];
+                    }
+                    return merged;
+                });
+    }
+
+    private double chiSquare(long[] wins, List<Player> joinedPlayers, int total) {
+        double chiSquare = 0;
+        for (int i = 0; i < wins.length; i++) {
+            final double expected = (double) SPINS * joinedPlayers.get(i).getProbability().value() / total;
+            final double diff = wins[i] - expected;
+            chiSquare += diff * diff / expected;
+        }
+        return chiSquare;
+    }
+}
@@ -86,4 +86,28 @@ class RouletteRangesTest {
         // then
         assertThat(result).isEqualTo(10000);
     }
+
+    @Test
+    void 확률이_0인_플레이어는_뽑히지_않는다() {
+        // given
+        Player player1 = PlayerFixture.호스트한스();
+        Player player2 = PlayerFixture.호스트꾹이();
+        Player player3 = PlayerFixture.호스트루키();
+
+        Players players = new Players("ABC23") {{
+            join(player1);
+            join(player2);
+            join(player3);
+        }};
+
+        player1.updateProbability(new Probability(4000));
+        player2.updateProbability(Probability.ZERO);
+        player3.updateProbability(new Probability(6000));
+
+        RouletteRanges rouletteRanges = new RouletteRanges(players);
+
+        // when & then
+        assertThat(rouletteRanges.pickPlayer(4000)).isEqualTo(player1);
+        assertThat(rouletteRanges.pickPlayer(4001)).isEqualTo(player3);
+    }
 }
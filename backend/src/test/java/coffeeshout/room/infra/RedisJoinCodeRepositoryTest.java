@@ -5,6 +5,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import coffeeshout.global.ServiceTest;
 import coffeeshout.room.domain.JoinCode;
 import coffeeshout.room.domain.service.JoinCodeGenerator;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -12,7 +16,9 @@ import java.util.stream.IntStream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 
 class RedisJoinCodeRepositoryTest extends ServiceTest {
 
@@ -25,12 +31,20 @@ class RedisJoinCodeRepositoryTest extends ServiceTest {
     @Autowired
     RedisTemplate<String, Object> redisTemplate;
 
+    @Autowired
+    StringRedisTemplate stringRedisTemplate;
+
+    @Value("${room.removalDelay}")
+    Duration removalDelay;
+
     private static final String JOIN_CODE_KEY_PREFIX = "room:joinCode:";
+    private static final String BITMAP_KEY_PATTERN = "room:joinCode:bitmap:*";
 
     JoinCode joinCode = new JoinCode("ABCD");
 
     @AfterEach
     void tearDown() {
+        joinCodeGenerator.releaseReservedCodes();
         // 각 테스트 후 Redis 데이터 정리 - 패턴 매칭으로 모든 조인코드 키 삭제
         Set<String> keys = redisTemplate.keys(JOIN_CODE_KEY_PREFIX + "*");
         if (!keys.isEmpty()) {
@@ -46,9 +60,8 @@ class RedisJoinCodeRepositoryTest extends ServiceTest {
 
         // then
         assertThat(saved).isTrue();
-        String key = JOIN_CODE_KEY_PREFIX + joinCode.getValue();
-        Boolean hasKey = redisTemplate.hasKey(key);
-        assertThat(hasKey).isTrue();
+        assertThat(redisTemplate.keys(BITMAP_KEY_PATTERN)).hasSize(1);
+        assertThat(redisJoinCodeRepository.countOccupied()).isEqualTo(1);
     }
 
     @Test
@@ -60,45 +73,67 @@ class RedisJoinCodeRepositoryTest extends ServiceTest {
         // when - 동일한 조인코드로 다시 저장 시도
         boolean secondSave = redisJoinCodeRepository.save(joinCode);
 
-        // then - 실패해야 함 (SETNX는 키가 이미 존재하면 false 반환)
+        // then - 실패해야 함 (이미 비트가 켜져 있으면 false 반환)
         assertThat(secondSave).isFalse();
     }
 
     @Test
-    void 각_조인코드마다_개별_TTL이_설정된다() {
+    void 생성한_조인코드는_서로_다르고_비트맵에_TTL이_설정된다() {
         // given
         JoinCode joinCode1 = joinCodeGenerator.generate();
         JoinCode joinCode2 = joinCodeGenerator.generate();
 
-        // when - generate()가 이미 저장까지 함
+        // when - generate()가 이미 선점까지 함
 
-        // then - 각 키마다 TTL이 설정되어 있어야 함
-        String key1 = JOIN_CODE_KEY_PREFIX + joinCode1.getValue();
-        String key2 = JOIN_CODE_KEY_PREFIX + joinCode2.getValue();
+        // then
+        assertThat(joinCode1).isNotEqualTo(joinCode2);
+        assertThat(redisJoinCodeRepository.save(joinCode1)).isFalse();
+        assertThat(redisJoinCodeRepository.save(joinCode2)).isFalse();
+        assertThat(redisTemplate.keys(BITMAP_KEY_PATTERN)).allSatisfy(key ->
+                assertThat(redisTemplate.getExpire(key)).isNotNull().isGreaterThan(0));
+    }
 
-        Long ttl1 = redisTemplate.getExpire(key1);
-        Long ttl2 = redisTemplate.getExpire(key2);
+    @Test
+    void 저장_시_TTL이_설정된다() {
+        // given
 
-        assertThat(ttl1).isNotNull().isGreaterThan(0);
-        assertThat(ttl2).isNotNull().isGreaterThan(0);
+        // when
+        redisJoinCodeRepository.save(joinCode);
+
+        // then
+        assertThat(redisTemplate.keys(BITMAP_KEY_PATTERN)).allSatisfy(key ->
+                assertThat(redisTemplate.getExpire(key)).isNotNull().isGreaterThan(0));
     }
 
     @Test
-    void 저장_시_TTL이_설정된다() {
+    void 여러_코드를_한번에_선점한다() {
         // given
+        int count = 32;
 
         // when
+        List<JoinCode> reserved = redisJoinCodeRepository.reserve(count);
+
+        // then
+        assertThat(reserved).hasSize(count).doesNotHaveDuplicates();
+        assertThat(redisJoinCodeRepository.countOccupied()).isEqualTo(count);
+        assertThat(reserved).allSatisfy(code -> assertThat(redisJoinCodeRepository.save(code)).isFalse());
+    }
+
+    @Test
+    void 반납한_코드는_다시_저장할_수_있다() {
+        // given
         redisJoinCodeRepository.save(joinCode);
 
+        // when
+        redisJoinCodeRepository.release(List.of(joinCode));
+
         // then
-        String key = JOIN_CODE_KEY_PREFIX + joinCode.getValue();
-        Long ttl = redisTemplate.getExpire(key);
-        assertThat(ttl).isNotNull()
-                .isGreaterThan(0);
+        assertThat(redisJoinCodeRepository.countOccupied()).isZero();
+        assertThat(redisJoinCodeRepository.save(joinCode)).isTrue();
     }
 
     @Test
-    void SETNX로_원자성이_보장된다() {
+    void 비트_선점으로_원자성이_보장된다() {
         // given
 
         // when - 동시에 저장 시도하는 것을 시뮬레이션
@@ -135,4 +170,26 @@ class RedisJoinCodeRepositoryTest extends ServiceTest {
 
         assertThat(successCount).isEqualTo(1);
     }
+
+    @Test
+    void 세대_경계_직전에_선점한_코드도_removalDelay의_두_배_동안_보호된다() {
+        // given - 세대가 끝나기 1ms 전에 선점
+        final long generationMillis = removalDelay.multipliedBy(2).toMillis();
+        final Instant claimedAt = Instant.ofEpochMilli(generationMillis * 1_000 + generationMillis - 1);
+        repositoryAt(claimedAt).save(joinCode);
+
+        // when
+        final boolean savedAfterBoundary = repositoryAt(claimedAt.plusMillis(1)).save(joinCode);
+        final boolean savedBeforeProtectionEnds = repositoryAt(claimedAt.plus(removalDelay.multipliedBy(2))).save(joinCode);
+        final boolean savedAfterTwoGenerations = repositoryAt(claimedAt.plusMillis(generationMillis + 1)).save(joinCode);
+
+        // then
+        assertThat(savedAfterBoundary).isFalse();
+        assertThat(savedBeforeProtectionEnds).isFalse();
+        assertThat(savedAfterTwoGenerations).isTrue();
+    }
+
+    private RedisJoinCodeRepository repositoryAt(Instant now) {
+        return new RedisJoinCodeRepository(stringRedisTemplate, removalDelay, Clock.fixed(now, ZoneOffset.UTC));
+    }
 }
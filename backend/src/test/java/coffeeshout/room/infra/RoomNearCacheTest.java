@@ -0,0 +1,196 @@
+package coffeeshout.room.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import coffeeshout.fixture.MenuFixture;
+import coffeeshout.minigame.domain.MiniGameType;
+import coffeeshout.room.domain.JoinCode;
+import coffeeshout.room.domain.Room;
+import coffeeshout.room.domain.menu.MenuTemperature;
+import coffeeshout.room.domain.menu.SelectedMenu;
+import coffeeshout.room.domain.player.PlayerName;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class RoomNearCacheTest {
+
+    @Test
+    void 더_높은_버전으로_무효화되면_캐시에서_제거된다() {
+        // given
+        final RoomNearCache cache = new RoomNearCache(10);
+        final Room room = 방("ABCD");
+        cache.put(room, 1);
+
+        // when
+        cache.invalidate(room.getJoinCode(), 2);
+
+        // then
+        assertThat(cache.get(room.getJoinCode())).isEmpty();
+    }
+
+    @Test
+    void 같거나_낮은_버전의_무효화는_무시한다() {
+        // given
+        final RoomNearCache cache = new RoomNearCache(10);
+        final Room room = 방("ABCD");
+        cache.put(room, 3);
+
+        // when
+        cache.invalidate(room.getJoinCode(), 3);
+
+        // then
+        assertThat(cache.get(room.getJoinCode())).isPresent();
+    }
+
+    @Test
+    void 게임_진행_중인_방은_무효화되지_않는다() {
+        // given
+        final RoomNearCache cache = new RoomNearCache(10);
+        final Room room = 방("ABCD");
+        room.findPlayer(new PlayerName("루키")).updateReadyState(true);
+        room.addMiniGame(new PlayerName("한스"), MiniGameType.CARD_GAME.createMiniGame("ABCD"));
+        room.startNextGame("한스");
+        cache.put(room, 1);
+
+        // when
+        cache.invalidate(room.getJoinCode(), 2);
+
+        // then
+        assertThat(cache.get(room.getJoinCode())).isPresent();
+    }
+
+    @Test
+    void 용량을_넘으면_가장_오래_사용하지_않은_방을_내보낸다() {
+        // given
+        final RoomNearCache cache = new RoomNearCache(2);
+        final Room first = 방("ABCD");
+        final Room second = 방("BCDF");
+        final Room third = 방("CDFG");
+        cache.put(first, 1);
+        cache.put(second, 1);
+        cache.get(first.getJoinCode());
+
+        // when
+        cache.put(third, 1);
+
+        // then
+        assertThat(cache.get(first.getJoinCode())).isPresent();
+        assertThat(cache.get(second.getJoinCode())).isEmpty();
+        assertThat(cache.get(third.getJoinCode())).isPresent();
+    }
+
+    @Test
+    void 기록되지_않은_변경이_있는_방은_용량을_넘어도_내보내지_않는다() {
+        // given
+        final RoomNearCache cache = new RoomNearCache(1);
+        final Room first = 방("ABCD");
+        final Room second = 방("BCDF");
+        cache.put(first, 1);
+        cache.markDirty(first.getJoinCode());
+
+        // when
+        cache.put(second, 1);
+
+        // then
+        assertThat(cache.get(first.getJoinCode())).isPresent();
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void dirty로_표시된_방만_기록_대상으로_가져온다() {
+        // given
+        final RoomNearCache cache = new RoomNearCache(10);
+        final Room dirty = 방("ABCD");
+        final Room clean = 방("BCDF");
+        cache.put(dirty, 1);
+        cache.put(clean, 1);
+        cache.markDirty(dirty.getJoinCode());
+
+        // when
+        final Map<JoinCode, Long> marks = cache.dirtyMarks();
+
+        // then
+        assertThat(marks).containsOnlyKeys(dirty.getJoinCode());
+    }
+
+    @Test
+    void 기록_중에_다시_변경된_방은_dirty로_남는다() {
+        // given
+        final RoomNearCache cache = new RoomNearCache(10);
+        final Room room = 방("ABCD");
+        cache.put(room, 1);
+        cache.markDirty(room.getJoinCode());
+        final long mark = cache.dirtyMarks().get(room.getJoinCode());
+        cache.markDirty(room.getJoinCode());
+
+        // when
+        cache.markClean(room.getJoinCode(), mark);
+
+        // then
+        assertThat(cache.dirtyMarks()).containsOnlyKeys(room.getJoinCode());
+    }
+
+    @Test
+    void 기록이_끝난_방은_다시_내보낼_수_있다() {
+        // given
+        final RoomNearCache cache = new RoomNearCache(1);
+        final Room first = 방("ABCD");
+        final Room second = 방("BCDF");
+        cache.put(first, 1);
+        cache.markDirty(first.getJoinCode());
+        cache.put(second, 1);
+        final long mark = cache.dirtyMarks().get(first.getJoinCode());
+
+        // when
+        cache.markClean(first.getJoinCode(), mark);
+
+        // then
+        assertThat(cache.dirtyMarks()).isEmpty();
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get(second.getJoinCode())).isPresent();
+    }
+
+    @Test
+    void 용량을_넘어_내보낸_방의_코드는_등록이_해제된다() {
+        // given
+        final RoomNearCache cache = new RoomNearCache(1);
+        final Room first = 방("KLMN");
+        final Room second = 방("LMNP");
+        cache.put(first, 1);
+
+        // when
+        cache.put(second, 1);
+
+        // then
+        assertThat(cache.get(first.getJoinCode())).isEmpty();
+        assertThat(JoinCode.of("KLMN")).isNotSameAs(first.getJoinCode());
+    }
+
+    @Test
+    void 삭제하거나_무효화한_방의_코드는_등록이_해제된다() {
+        // given
+        final RoomNearCache cache = new RoomNearCache(10);
+        final Room removed = 방("MNPQ");
+        final Room invalidated = 방("NPQR");
+        cache.put(removed, 1);
+        cache.put(invalidated, 1);
+
+        // when
+        cache.remove(removed.getJoinCode());
+        cache.invalidate(invalidated.getJoinCode(), 2);
+
+        // then
+        assertThat(JoinCode.of("MNPQ")).isNotSameAs(removed.getJoinCode());
+        assertThat(JoinCode.of("NPQR")).isNotSameAs(invalidated.getJoinCode());
+    }
+
+    private Room 방(String joinCode) {
+        final Room room = new Room(
+                new JoinCode(joinCode),
+                new PlayerName("한스"),
+                new SelectedMenu(MenuFixture.아메리카노(), MenuTemperature.ICE)
+        );
+        room.joinGuest(new PlayerName("루키"), new SelectedMenu(MenuFixture.라떼(), MenuTemperature.ICE));
+        return room;
+    }
+}
@@ -0,0 +1,57 @@
+package coffeeshout.room.infra.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import coffeeshout.minigame.domain.MiniGameType;
+import coffeeshout.room.domain.QrCodeStatus;
+import coffeeshout.room.domain.RoomState;
+import coffeeshout.room.domain.menu.MenuTemperature;
+import coffeeshout.room.domain.player.PlayerType;
+import coffeeshout.room.infra.snapshot.RoomSnapshot.FinishedMiniGameSnapshot;
+import coffeeshout.room.infra.snapshot.RoomSnapshot.PlayerSnapshot;
+import coffeeshout.room.infra.snapshot.RoomSnapshotBinaryCodec.DecodedSnapshots;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class RoomSnapshotBinaryCodecTest {
+
+    @Test
+    void 인코딩한_스냅샷을_그대로_디코딩한다() {
+        // given
+        final RoomSnapshot snapshot = new RoomSnapshot(
+                "ABCD",
+                QrCodeStatus.SUCCESS,
+                "https://qr.example",
+                RoomState.ROULETTE,
+                List.of(
+                        new PlayerSnapshot("한스", PlayerType.HOST, 1L, null, null, MenuTemperature.ICE, true, 0, 5000),
+                        new PlayerSnapshot("루키", PlayerType.GUEST, null, "밀크티", "image-url", MenuTemperature.HOT,
+                                false, 1, 5000)
+                ),
+                List.of(MiniGameType.RACING_GAME),
+                List.of(new FinishedMiniGameSnapshot(MiniGameType.CARD_GAME, Map.of("한스", 1, "루키", 2),
+                        Map.of("한스", 80L, "루키", -20L)))
+        );
+
+        // when
+        final byte[] encoded = RoomSnapshotBinaryCodec.encode(List.of(snapshot), 1234L);
+        final DecodedSnapshots decoded = RoomSnapshotBinaryCodec.decode(ByteBuffer.wrap(encoded));
+
+        // then
+        assertThat(decoded.createdAtMillis()).isEqualTo(1234L);
+        assertThat(decoded.rooms()).containsExactly(snapshot);
+    }
+
+    @Test
+    void 스냅샷_형식이_아니면_예외가_발생한다() {
+        // given
+        final ByteBuffer buffer = ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5, 6});
+
+        // when & then
+        assertThatThrownBy(() -> RoomSnapshotBinaryCodec.decode(buffer))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,80 @@
+package coffeeshout.room.infra.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import coffeeshout.fixture.MenuFixture;
+import coffeeshout.minigame.domain.MiniGameType;
+import coffeeshout.room.domain.JoinCode;
+import coffeeshout.room.domain.QrCode;
+import coffeeshout.room.domain.Room;
+import coffeeshout.room.domain.RoomState;
+import coffeeshout.room.domain.menu.CustomMenu;
+import coffeeshout.room.domain.menu.MenuTemperature;
+import coffeeshout.room.domain.menu.ProvidedMenu;
+import coffeeshout.room.domain.menu.SelectedMenu;
+import coffeeshout.room.domain.player.Player;
+import coffeeshout.room.domain.player.PlayerName;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RoomSnapshotTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final PlayerName 호스트_한스 = new PlayerName("한스");
+    private final PlayerName 게스트_루키 = new PlayerName("루키");
+
+    private Room room;
+
+    @BeforeEach
+    void setUp() {
+        room = new Room(new JoinCode("ABCD"), 호스트_한스, new SelectedMenu(MenuFixture.아메리카노(), MenuTemperature.ICE));
+        room.joinGuest(게스트_루키, new SelectedMenu(new CustomMenu("밀크티", "image-url"), MenuTemperature.HOT));
+    }
+
+    @Test
+    void 스냅샷으로_방의_플레이어와_상태를_복원한다() throws Exception {
+        // given
+        room.assignQrCode(QrCode.success("https://qr.example"));
+        room.addMiniGame(호스트_한스, MiniGameType.RACING_GAME.createMiniGame("ABCD"));
+
+        // when
+        final Room restored = roundTrip(room);
+
+        // then
+        assertThat(restored.getJoinCode()).isEqualTo(room.getJoinCode());
+        assertThat(restored.getQrCode().getUrl()).isEqualTo("https://qr.example");
+        assertThat(restored.getRoomState()).isEqualTo(RoomState.READY);
+        assertThat(restored.getHost().getName()).isEqualTo(호스트_한스);
+        assertThat(restored.getSelectedMiniGameTypes()).containsExactly(MiniGameType.RACING_GAME);
+
+        final Player 루키 = restored.findPlayer(게스트_루키);
+        final Player 원본_루키 = room.findPlayer(게스트_루키);
+        assertThat(루키.getSelectedMenu().menu().getName()).isEqualTo("밀크티");
+        assertThat(루키.getSelectedMenu().menuTemperature()).isEqualTo(MenuTemperature.HOT);
+        assertThat(루키.getColorIndex()).isEqualTo(원본_루키.getColorIndex());
+        assertThat(루키.getProbability()).isEqualTo(원본_루키.getProbability());
+    }
+
+    @Test
+    void 진행_중이던_미니게임은_대기열로_되돌린다() throws Exception {
+        // given
+        room.findPlayer(게스트_루키).updateReadyState(true);
+        room.addMiniGame(호스트_한스, MiniGameType.CARD_GAME.createMiniGame("ABCD"));
+        room.startNextGame(호스트_한스.value());
+
+        // when
+        final Room restored = roundTrip(room);
+
+        // then
+        assertThat(restored.getRoomState()).isEqualTo(RoomState.READY);
+        assertThat(restored.getFinishedGames()).isEmpty();
+        assertThat(restored.getSelectedMiniGameTypes()).containsExactly(MiniGameType.CARD_GAME);
+    }
+
+    private Room roundTrip(Room source) throws Exception {
+        final String json = objectMapper.writeValueAsString(RoomSnapshot.from(source));
+        final RoomSnapshot snapshot = objectMapper.readValue(json, RoomSnapshot.class);
+        return snapshot.toRoom(id -> (ProvidedMenu) MenuFixture.아메리카노());
+    }
+}